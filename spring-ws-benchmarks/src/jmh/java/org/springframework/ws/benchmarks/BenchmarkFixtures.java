@@ -0,0 +1,119 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.benchmarks.EchoPayloads.EchoRequest;
+import org.springframework.ws.benchmarks.EchoPayloads.EchoResponse;
+import org.springframework.ws.soap.axiom.AxiomSoapMessageFactory;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.xml.transform.StringSource;
+import org.springframework.xml.transform.TransformerHelper;
+
+/**
+ * Factory methods for the message factories and payloads used by the benchmarks.
+ *
+ * @author Stephane Nicoll
+ */
+final class BenchmarkFixtures {
+
+	/** Size of a single {@code item} element, including its tags. */
+	private static final int ITEM_SIZE = 100;
+
+	private static final String ITEM_PADDING = "x".repeat(ITEM_SIZE);
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * Create and initialize the message factory with the given name.
+	 * @param name either {@code saaj} or {@code axiom}
+	 * @return the initialized message factory
+	 * @throws Exception in case of initialization errors
+	 */
+	static WebServiceMessageFactory createMessageFactory(String name) throws Exception {
+		switch (name) {
+			case "saaj" -> {
+				SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+				messageFactory.afterPropertiesSet();
+				return messageFactory;
+			}
+			case "axiom" -> {
+				AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+				messageFactory.afterPropertiesSet();
+				return messageFactory;
+			}
+			default -> throw new IllegalArgumentException("Unknown message factory [" + name + "]");
+		}
+	}
+
+	/**
+	 * Create a JAXB marshaller for the {@link EchoPayloads}.
+	 * @return the initialized marshaller
+	 * @throws Exception in case of initialization errors
+	 */
+	static Jaxb2Marshaller createMarshaller() throws Exception {
+		Jaxb2Marshaller marshaller = new Jaxb2Marshaller();
+		marshaller.setClassesToBeBound(EchoRequest.class, EchoResponse.class);
+		marshaller.afterPropertiesSet();
+		return marshaller;
+	}
+
+	/**
+	 * Create the items of a payload of approximately the given size.
+	 * @param payloadSize the size of the payload, in bytes
+	 * @return the item values
+	 */
+	static List<String> createItems(int payloadSize) {
+		int itemCount = Math.max(1, payloadSize / ITEM_SIZE);
+		int valueLength = ITEM_SIZE - "<item></item>".length();
+		List<String> items = new ArrayList<>(itemCount);
+		for (int i = 0; i < itemCount; i++) {
+			String prefix = i + "-";
+			items.add(prefix + ITEM_PADDING.substring(0, valueLength - prefix.length()));
+		}
+		return items;
+	}
+
+	/**
+	 * Create a serialized request for the given endpoint style.
+	 * @param messageFactory the message factory to use
+	 * @param endpointStyle one of {@code dom}, {@code jaxb}, or {@code stax}
+	 * @param payloadSize the approximate size of the payload, in bytes
+	 * @return the serialized request
+	 * @throws Exception in case of errors
+	 */
+	static InMemoryMessage createRequest(WebServiceMessageFactory messageFactory, String endpointStyle,
+			int payloadSize) throws Exception {
+		StringBuilder payload = new StringBuilder(payloadSize + 256);
+		payload.append('<').append(endpointStyle).append("Request xmlns='").append(EchoPayloads.NAMESPACE_URI);
+		payload.append("'>");
+		for (String item : createItems(payloadSize)) {
+			payload.append("<item>").append(item).append("</item>");
+		}
+		payload.append("</").append(endpointStyle).append("Request>");
+		WebServiceMessage request = messageFactory.createWebServiceMessage();
+		new TransformerHelper().transform(new StringSource(payload.toString()), request.getPayloadResult());
+		return InMemoryMessage.from(request);
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmarks;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+
+import org.w3c.dom.Element;
+
+import org.springframework.ws.benchmarks.EchoPayloads.EchoRequest;
+import org.springframework.ws.benchmarks.EchoPayloads.EchoResponse;
+import org.springframework.ws.server.endpoint.annotation.Endpoint;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
+import org.springframework.ws.server.endpoint.annotation.RequestPayload;
+import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
+import org.springframework.xml.transform.StringSource;
+
+/**
+ * Echo endpoint exposing the same operation in DOM, JAXB, and StAX styles.
+ *
+ * @author Stephane Nicoll
+ */
+@Endpoint
+public class EchoEndpoint {
+
+	@PayloadRoot(namespace = EchoPayloads.NAMESPACE_URI, localPart = "domRequest")
+	@ResponsePayload
+	public Element dom(@RequestPayload Element request) {
+		return request;
+	}
+
+	@PayloadRoot(namespace = EchoPayloads.NAMESPACE_URI, localPart = "jaxbRequest")
+	@ResponsePayload
+	public EchoResponse jaxb(@RequestPayload EchoRequest request) {
+		return new EchoResponse(request.getItems());
+	}
+
+	@PayloadRoot(namespace = EchoPayloads.NAMESPACE_URI, localPart = "staxRequest")
+	@ResponsePayload
+	public Source stax(@RequestPayload XMLStreamReader request) throws XMLStreamException {
+		long length = 0;
+		while (request.hasNext()) {
+			if (request.next() == XMLStreamReader.CHARACTERS) {
+				length += request.getTextLength();
+			}
+		}
+		return new StringSource("<staxResponse xmlns='" + EchoPayloads.NAMESPACE_URI + "'>" + length
+				+ "</staxResponse>");
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * JAXB request and response payloads used by the benchmarks.
+ *
+ * @author Stephane Nicoll
+ */
+public final class EchoPayloads {
+
+	static final String NAMESPACE_URI = "http://springframework.org/spring-ws/benchmarks";
+
+	private EchoPayloads() {
+	}
+
+	@XmlRootElement(name = "jaxbRequest", namespace = NAMESPACE_URI)
+	@XmlAccessorType(XmlAccessType.FIELD)
+	public static class EchoRequest {
+
+		@XmlElement(name = "item", namespace = NAMESPACE_URI)
+		private List<String> items = new ArrayList<>();
+
+		public EchoRequest() {
+		}
+
+		public EchoRequest(List<String> items) {
+			this.items = items;
+		}
+
+		public List<String> getItems() {
+			return this.items;
+		}
+
+	}
+
+	@XmlRootElement(name = "jaxbResponse", namespace = NAMESPACE_URI)
+	@XmlAccessorType(XmlAccessType.FIELD)
+	public static class EchoResponse {
+
+		@XmlElement(name = "item", namespace = NAMESPACE_URI)
+		private List<String> items = new ArrayList<>();
+
+		public EchoResponse() {
+		}
+
+		public EchoResponse(List<String> items) {
+			this.items = items;
+		}
+
+		public List<String> getItems() {
+			return this.items;
+		}
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.transport.TransportInputStream;
+import org.springframework.ws.transport.TransportOutputStream;
+
+/**
+ * Serialized form of a {@link WebServiceMessage}, holding the bytes and the transport
+ * headers written by {@link WebServiceMessage#writeTo(OutputStream)}.
+ * <p>
+ * Used to move messages between client and server without a network, while still
+ * exercising the serialization and parsing done by a real transport.
+ *
+ * @author Stephane Nicoll
+ */
+final class InMemoryMessage {
+
+	private final byte[] content;
+
+	private final Map<String, List<String>> headers;
+
+	private InMemoryMessage(byte[] content, Map<String, List<String>> headers) {
+		this.content = content;
+		this.headers = headers;
+	}
+
+	/**
+	 * Serialize the given message.
+	 * @param message the message to serialize
+	 * @return the serialized message
+	 * @throws IOException in case of I/O errors
+	 */
+	static InMemoryMessage from(WebServiceMessage message) throws IOException {
+		CapturingOutputStream outputStream = new CapturingOutputStream();
+		message.writeTo(outputStream);
+		outputStream.flush();
+		return new InMemoryMessage(outputStream.buffer.toByteArray(), outputStream.headers);
+	}
+
+	/** Return the size of the serialized message, in bytes. */
+	int size() {
+		return this.content.length;
+	}
+
+	/**
+	 * Create a new message from the serialized content using the given factory.
+	 * @param messageFactory the factory to use
+	 * @return the parsed message
+	 * @throws IOException in case of I/O errors
+	 */
+	WebServiceMessage createMessage(WebServiceMessageFactory messageFactory) throws IOException {
+		return messageFactory.createWebServiceMessage(new ReplayingInputStream());
+	}
+
+	private static final class CapturingOutputStream extends TransportOutputStream {
+
+		private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+		private final Map<String, List<String>> headers = new LinkedHashMap<>();
+
+		@Override
+		public void addHeader(String name, String value) {
+			this.headers.computeIfAbsent(name, (key) -> new ArrayList<>()).add(value);
+		}
+
+		@Override
+		protected OutputStream createOutputStream() {
+			return this.buffer;
+		}
+
+	}
+
+	private final class ReplayingInputStream extends TransportInputStream {
+
+		@Override
+		protected InputStream createInputStream() {
+			return new ByteArrayInputStream(InMemoryMessage.this.content);
+		}
+
+		@Override
+		public Iterator<String> getHeaderNames() {
+			return InMemoryMessage.this.headers.keySet().iterator();
+		}
+
+		@Override
+		public Iterator<String> getHeaders(String name) {
+			for (Map.Entry<String, List<String>> entry : InMemoryMessage.this.headers.entrySet()) {
+				if (entry.getKey().equalsIgnoreCase(name)) {
+					return entry.getValue().iterator();
+				}
+			}
+			return Collections.emptyIterator();
+		}
+
+	}
+
+}
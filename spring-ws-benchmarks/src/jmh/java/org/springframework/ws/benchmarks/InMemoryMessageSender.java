@@ -0,0 +1,122 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.WebServiceConnection;
+import org.springframework.ws.transport.WebServiceMessageReceiver;
+import org.springframework.ws.transport.WebServiceMessageSender;
+
+/**
+ * {@link WebServiceMessageSender} that hands requests to a
+ * {@link WebServiceMessageReceiver} in the same JVM.
+ * <p>
+ * Both the request and the response are serialized and parsed again, so that the
+ * benchmarks include the cost of the message factories without any network I/O.
+ *
+ * @author Stephane Nicoll
+ */
+class InMemoryMessageSender implements WebServiceMessageSender {
+
+	static final String SCHEME = "in-memory";
+
+	private final WebServiceMessageReceiver receiver;
+
+	private final WebServiceMessageFactory serverMessageFactory;
+
+	InMemoryMessageSender(WebServiceMessageReceiver receiver, WebServiceMessageFactory serverMessageFactory) {
+		Assert.notNull(receiver, "'receiver' must not be null");
+		Assert.notNull(serverMessageFactory, "'serverMessageFactory' must not be null");
+		this.receiver = receiver;
+		this.serverMessageFactory = serverMessageFactory;
+	}
+
+	@Override
+	public WebServiceConnection createConnection(URI uri) {
+		return new InMemoryConnection(uri);
+	}
+
+	@Override
+	public boolean supports(URI uri, UriSource uriSource) {
+		return SCHEME.equals(uri.getScheme());
+	}
+
+	private final class InMemoryConnection implements WebServiceConnection {
+
+		private final URI uri;
+
+		private @Nullable InMemoryMessage response;
+
+		private InMemoryConnection(URI uri) {
+			this.uri = uri;
+		}
+
+		@Override
+		public void send(WebServiceMessage message) throws IOException {
+			InMemoryMessage request = InMemoryMessage.from(message);
+			MessageContext messageContext = new DefaultMessageContext(
+					request.createMessage(InMemoryMessageSender.this.serverMessageFactory),
+					InMemoryMessageSender.this.serverMessageFactory);
+			try {
+				InMemoryMessageSender.this.receiver.receive(messageContext);
+			}
+			catch (IOException ex) {
+				throw ex;
+			}
+			catch (Exception ex) {
+				throw new IOException(ex);
+			}
+			this.response = messageContext.hasResponse() ? InMemoryMessage.from(messageContext.getResponse()) : null;
+		}
+
+		@Override
+		public @Nullable WebServiceMessage receive(WebServiceMessageFactory messageFactory) throws IOException {
+			return (this.response != null) ? this.response.createMessage(messageFactory) : null;
+		}
+
+		@Override
+		public URI getUri() {
+			return this.uri;
+		}
+
+		@Override
+		public boolean hasError() {
+			return false;
+		}
+
+		@Override
+		public @Nullable String getErrorMessage() {
+			return null;
+		}
+
+		@Override
+		public void close() {
+			this.response = null;
+		}
+
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.MessageDispatcher;
+import org.springframework.ws.soap.server.SoapMessageDispatcher;
+
+/**
+ * Benchmarks {@link MessageDispatcher#receive(MessageContext)} from a serialized request
+ * to a serialized response, for every combination of message factory, payload size, and
+ * endpoint style.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageDispatcherBenchmark {
+
+	@Benchmark
+	public void receive(DispatcherState state, Blackhole blackhole) throws Exception {
+		MessageContext messageContext = new DefaultMessageContext(state.request.createMessage(state.messageFactory),
+				state.messageFactory);
+		state.dispatcher.receive(messageContext);
+		blackhole.consume(InMemoryMessage.from(messageContext.getResponse()).size());
+	}
+
+	@State(Scope.Benchmark)
+	public static class DispatcherState {
+
+		@Param({ "message", "soap" })
+		String dispatcherType;
+
+		@Param({ "saaj", "axiom" })
+		String messageFactoryName;
+
+		@Param({ "1024", "102400", "10485760" })
+		int payloadSize;
+
+		@Param({ "dom", "jaxb", "stax" })
+		String endpointStyle;
+
+		@SuppressWarnings("NullAway.Init")
+		AnnotationConfigApplicationContext context;
+
+		@SuppressWarnings("NullAway.Init")
+		WebServiceMessageFactory messageFactory;
+
+		@SuppressWarnings("NullAway.Init")
+		MessageDispatcher dispatcher;
+
+		@SuppressWarnings("NullAway.Init")
+		InMemoryMessage request;
+
+		@Setup(Level.Trial)
+		public void setUp() throws Exception {
+			this.context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+			this.messageFactory = BenchmarkFixtures.createMessageFactory(this.messageFactoryName);
+			this.dispatcher = "soap".equals(this.dispatcherType) ? new SoapMessageDispatcher()
+					: new MessageDispatcher();
+			this.dispatcher.setApplicationContext(this.context);
+			this.request = BenchmarkFixtures.createRequest(this.messageFactory, this.endpointStyle, this.payloadSize);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.context.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamSource;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.support.PayloadRootUtils;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.TransformerHelper;
+
+/**
+ * Benchmarks {@link PayloadRootUtils#getPayloadRootQName} for the payload sources
+ * returned by the SAAJ and Axiom message factories, and for a plain stream source.
+ * <p>
+ * As a message has to be parsed before its payload source can be obtained,
+ * {@link #parseMessage(PayloadRootState)} measures the parsing alone.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayloadRootUtilsBenchmark {
+
+	@Benchmark
+	public @Nullable Object parseMessage(PayloadRootState state) throws Exception {
+		if (state.messageFactory == null) {
+			return new StreamSource(new ByteArrayInputStream(state.payload));
+		}
+		return state.request.createMessage(state.messageFactory).getPayloadSource();
+	}
+
+	@Benchmark
+	public @Nullable QName getPayloadRootQName(PayloadRootState state) throws Exception {
+		if (state.messageFactory == null) {
+			return PayloadRootUtils.getPayloadRootQName(new StreamSource(new ByteArrayInputStream(state.payload)),
+					state.transformerHelper);
+		}
+		WebServiceMessage message = state.request.createMessage(state.messageFactory);
+		return PayloadRootUtils.getPayloadRootQName(message.getPayloadSource(), state.transformerHelper);
+	}
+
+	@State(Scope.Benchmark)
+	public static class PayloadRootState {
+
+		@Param({ "saaj", "axiom", "stream" })
+		String sourceType;
+
+		@Param({ "1024", "102400", "10485760" })
+		int payloadSize;
+
+		final TransformerHelper transformerHelper = new TransformerHelper(TransformerFactory.newInstance());
+
+		@Nullable WebServiceMessageFactory messageFactory;
+
+		@SuppressWarnings("NullAway.Init")
+		InMemoryMessage request;
+
+		@SuppressWarnings("NullAway.Init")
+		byte[] payload;
+
+		@Setup(Level.Trial)
+		public void setUp() throws Exception {
+			WebServiceMessageFactory factory = BenchmarkFixtures
+				.createMessageFactory("stream".equals(this.sourceType) ? "saaj" : this.sourceType);
+			this.request = BenchmarkFixtures.createRequest(factory, "dom", this.payloadSize);
+			StringResult payloadResult = new StringResult();
+			this.transformerHelper.transform(this.request.createMessage(factory).getPayloadSource(), payloadResult);
+			this.payload = payloadResult.toString().getBytes(StandardCharsets.UTF_8);
+			this.messageFactory = "stream".equals(this.sourceType) ? null : factory;
+		}
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.benchmarks.EchoPayloads.EchoRequest;
+import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.ws.soap.server.SoapMessageDispatcher;
+
+/**
+ * Benchmarks {@link WebServiceTemplate#marshalSendAndReceive(Object)} against a
+ * {@link SoapMessageDispatcher} running in the same JVM, covering client-side
+ * marshalling, the in-memory round trip, server-side dispatch, and unmarshalling of the
+ * response.
+ *
+ * @author Stephane Nicoll
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WebServiceTemplateBenchmark {
+
+	@Benchmark
+	public Object marshalSendAndReceive(TemplateState state) {
+		return state.template.marshalSendAndReceive(state.request);
+	}
+
+	@State(Scope.Benchmark)
+	public static class TemplateState {
+
+		@Param({ "saaj", "axiom" })
+		String messageFactoryName;
+
+		@Param({ "1024", "102400", "10485760" })
+		int payloadSize;
+
+		@SuppressWarnings("NullAway.Init")
+		AnnotationConfigApplicationContext context;
+
+		@SuppressWarnings("NullAway.Init")
+		WebServiceTemplate template;
+
+		@SuppressWarnings("NullAway.Init")
+		EchoRequest request;
+
+		@Setup(Level.Trial)
+		public void setUp() throws Exception {
+			this.context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+			SoapMessageDispatcher dispatcher = new SoapMessageDispatcher();
+			dispatcher.setApplicationContext(this.context);
+			WebServiceMessageFactory messageFactory = BenchmarkFixtures.createMessageFactory(this.messageFactoryName);
+			Jaxb2Marshaller marshaller = BenchmarkFixtures.createMarshaller();
+			this.template = new WebServiceTemplate(messageFactory);
+			this.template.setMarshaller(marshaller);
+			this.template.setUnmarshaller(marshaller);
+			this.template.setMessageSender(new InMemoryMessageSender(dispatcher, messageFactory));
+			this.template.setDefaultUri(InMemoryMessageSender.SCHEME + ":echo");
+			List<String> items = BenchmarkFixtures.createItems(this.payloadSize);
+			this.request = new EchoRequest(items);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.context.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.client.core;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ws.transport.AsyncWebServiceConnection;
+
+/**
+ * Specifies a basic set of asynchronous Web service operations. Implemented by
+ * {@link WebServiceTemplate}.
+ * <p>
+ * The returned {@link CompletableFuture} completes once the response has been received
+ * and processed. When the connection is an {@link AsyncWebServiceConnection}, no thread
+ * is blocked while waiting for the response, and the response is processed by a
+ * bounded executor, shared by all templates unless configured otherwise, see
+ * {@link WebServiceTemplate#setAsyncExecutor}. Otherwise, the exchange is
+ * performed on the calling thread.
+ * <p>
+ * Errors are reported by completing the future exceptionally with the exception that the
+ * equivalent {@link WebServiceOperations} method would have thrown.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see WebServiceTemplate
+ * @see WebServiceOperations
+ */
+public interface AsyncWebServiceOperations {
+
+	/**
+	 * Sends a web service message that can be manipulated with the given callback,
+	 * reading the result with a {@code WebServiceMessageExtractor}.
+	 * <p>
+	 * This will only work with a default uri specified!
+	 * @param requestCallback the requestCallback to be used for manipulating the request
+	 * message
+	 * @param responseExtractor object that will extract results
+	 * @return a future with an arbitrary result object, as returned by the
+	 * {@code WebServiceMessageExtractor}
+	 */
+	<T> CompletableFuture<@Nullable T> sendAndReceiveAsync(@Nullable WebServiceMessageCallback requestCallback,
+			WebServiceMessageExtractor<T> responseExtractor);
+
+	/**
+	 * Sends a web service message that can be manipulated with the given callback,
+	 * reading the result with a {@code WebServiceMessageExtractor}.
+	 * @param uri the URI to send the message to
+	 * @param requestCallback the requestCallback to be used for manipulating the request
+	 * message
+	 * @param responseExtractor object that will extract results
+	 * @return a future with an arbitrary result object, as returned by the
+	 * {@code WebServiceMessageExtractor}
+	 */
+	<T> CompletableFuture<@Nullable T> sendAndReceiveAsync(String uri,
+			@Nullable WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor);
+
+	/**
+	 * Sends a web service message that contains the given payload, marshalled by the
+	 * configured {@code Marshaller}. Returns the unmarshalled payload of the response
+	 * message, if any.
+	 * <p>
+	 * This will only work with a default uri specified!
+	 * @param requestPayload the object to marshal into the request message payload
+	 * @return a future with the unmarshalled payload of the response message, or
+	 * {@code null} if no response is given
+	 * @see WebServiceTemplate#setMarshaller(org.springframework.oxm.Marshaller)
+	 * @see WebServiceTemplate#setUnmarshaller(org.springframework.oxm.Unmarshaller)
+	 */
+	CompletableFuture<@Nullable Object> marshalSendAndReceiveAsync(Object requestPayload);
+
+	/**
+	 * Sends a web service message that contains the given payload, marshalled by the
+	 * configured {@code Marshaller}. Returns the unmarshalled payload of the response
+	 * message, if any.
+	 * @param uri the URI to send the message to
+	 * @param requestPayload the object to marshal into the request message payload
+	 * @return a future with the unmarshalled payload of the response message, or
+	 * {@code null} if no response is given
+	 * @see WebServiceTemplate#setMarshaller(org.springframework.oxm.Marshaller)
+	 * @see WebServiceTemplate#setUnmarshaller(org.springframework.oxm.Unmarshaller)
+	 */
+	CompletableFuture<@Nullable Object> marshalSendAndReceiveAsync(String uri, Object requestPayload);
+
+	/**
+	 * Sends a web service message that contains the given payload, marshalled by the
+	 * configured {@code Marshaller}. Returns the unmarshalled payload of the response
+	 * message, if any. The given callback allows changing of the request message after
+	 * the payload has been marshalled to it.
+	 * <p>
+	 * This will only work with a default uri specified!
+	 * @param requestPayload the object to marshal into the request message payload
+	 * @param requestCallback callback to change message, can be {@code null}
+	 * @return a future with the unmarshalled payload of the response message, or
+	 * {@code null} if no response is given
+	 * @see WebServiceTemplate#setMarshaller(org.springframework.oxm.Marshaller)
+	 * @see WebServiceTemplate#setUnmarshaller(org.springframework.oxm.Unmarshaller)
+	 */
+	CompletableFuture<@Nullable Object> marshalSendAndReceiveAsync(Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback);
+
+	/**
+	 * Sends a web service message that contains the given payload, marshalled by the
+	 * configured {@code Marshaller}. Returns the unmarshalled payload of the response
+	 * message, if any. The given callback allows changing of the request message after
+	 * the payload has been marshalled to it.
+	 * @param uri the URI to send the message to
+	 * @param requestPayload the object to marshal into the request message payload
+	 * @param requestCallback callback to change message, can be {@code null}
+	 * @return a future with the unmarshalled payload of the response message, or
+	 * {@code null} if no response is given
+	 * @see WebServiceTemplate#setMarshaller(org.springframework.oxm.Marshaller)
+	 * @see WebServiceTemplate#setUnmarshaller(org.springframework.oxm.Unmarshaller)
+	 */
+	CompletableFuture<@Nullable Object> marshalSendAndReceiveAsync(String uri, Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback);
+
+}
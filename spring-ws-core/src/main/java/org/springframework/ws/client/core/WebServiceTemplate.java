@@ -21,13 +21,22 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.QName;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
@@ -35,6 +44,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.oxm.Marshaller;
 import org.springframework.oxm.Unmarshaller;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.ws.FaultAwareWebServiceMessage;
@@ -49,9 +59,18 @@ import org.springframework.ws.client.support.destination.DestinationProvider;
 import org.springframework.ws.client.support.interceptor.ClientInterceptor;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.observation.ClientRequestObservationContext;
+import org.springframework.ws.observation.ClientRequestObservationConvention;
+import org.springframework.ws.observation.DefaultClientRequestObservationConvention;
+import org.springframework.ws.observation.ObservationUtils;
+import org.springframework.ws.observation.WebServiceObservationDocumentation;
+import org.springframework.ws.observation.WebServicePhase;
 import org.springframework.ws.soap.client.core.SoapFaultMessageResolver;
+import org.springframework.ws.support.AsyncPayloadLogger;
 import org.springframework.ws.support.DefaultStrategiesHelper;
 import org.springframework.ws.support.MarshallingUtils;
+import org.springframework.ws.support.PayloadRootUtils;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
 import org.springframework.ws.transport.TransportException;
 import org.springframework.ws.transport.WebServiceConnection;
@@ -61,6 +80,7 @@ import org.springframework.ws.transport.context.TransportContext;
 import org.springframework.ws.transport.context.TransportContextHolder;
 import org.springframework.ws.transport.http.HttpUrlConnectionMessageSender;
 import org.springframework.ws.transport.support.TransportUtils;
+import org.springframework.xml.transform.TransformerHelper;
 
 /**
  * <strong>The central class for client-side Web services.</strong> It provides a
@@ -117,11 +137,18 @@ import org.springframework.ws.transport.support.TransportUtils;
  * </ul>
  * <li>Call to {@link WebServiceConnection#close() close} on the connection.</li>
  * </ol>
+ * <p>
+ * The {@linkplain AsyncWebServiceOperations asynchronous operations} use the same
+ * algorithm. If the connection is an {@link AsyncWebServiceConnection}, the message is
+ * sent without waiting for the response, and the remaining steps are executed on the
+ * {@linkplain #setAsyncExecutor(Executor) async executor} once the response has been
+ * received.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
  */
-public class WebServiceTemplate extends WebServiceAccessor implements WebServiceOperations {
+public class WebServiceTemplate extends WebServiceAccessor
+		implements WebServiceOperations, AsyncWebServiceOperations {
 
 	/** Log category to use for message tracing. */
 	public static final String MESSAGE_TRACING_LOG_CATEGORY = "org.springframework.ws.client.MessageTracing";
@@ -148,6 +175,16 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 
 	private @Nullable DestinationProvider destinationProvider;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private ClientRequestObservationConvention observationConvention = new DefaultClientRequestObservationConvention();
+
+	private final TransformerHelper transformerHelper = new TransformerHelper();
+
+	private @Nullable AsyncPayloadLogger payloadLogger;
+
+	private Executor asyncExecutor = DefaultAsyncExecutor.INSTANCE;
+
 	/** Creates a new {@code WebServiceTemplate} using default settings. */
 	public WebServiceTemplate() {
 		initDefaultStrategies();
@@ -360,6 +397,69 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 		this.interceptors = interceptors;
 	}
 
+	/**
+	 * Set the {@link ObservationRegistry} to use to observe the requests sent by this
+	 * template. Tracing context is propagated as request headers, if the connection
+	 * {@linkplain org.springframework.ws.transport.HeadersAwareSenderWebServiceConnection
+	 * supports them}.
+	 * <p>
+	 * Default is {@link ObservationRegistry#NOOP}.
+	 * @param observationRegistry the observation registry to use
+	 * @since 5.1.0
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "'observationRegistry' must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Set a custom {@link ClientRequestObservationConvention} to use for the observation
+	 * of requests. By default, a {@link DefaultClientRequestObservationConvention} is
+	 * used.
+	 * @param observationConvention the observation convention to use
+	 * @since 5.1.0
+	 */
+	public void setObservationConvention(ClientRequestObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "'observationConvention' must not be null");
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Set the {@link AsyncPayloadLogger} to use to trace the payloads of requests and
+	 * responses. When set, a bounded prefix of each payload is captured as the
+	 * connection writes or reads it, and logged asynchronously to the
+	 * {@linkplain #MESSAGE_TRACING_LOG_CATEGORY message tracing} categories at trace
+	 * level, instead of being serialized in full on the calling thread.
+	 * <p>
+	 * Only applies to connections that extend
+	 * {@link org.springframework.ws.transport.AbstractWebServiceConnection}.
+	 * @param payloadLogger the payload logger to use
+	 * @since 5.1.0
+	 */
+	public void setPayloadLogger(@Nullable AsyncPayloadLogger payloadLogger) {
+		this.payloadLogger = payloadLogger;
+	}
+
+	/**
+	 * Set the {@link Executor} to use to process the response of
+	 * {@linkplain AsyncWebServiceOperations asynchronous operations}, once it has been
+	 * received. This keeps the response handling, interceptors and extractor off the
+	 * thread that completes the send, typically an I/O thread of the underlying HTTP
+	 * client. If the response is already available when the request has been sent, it
+	 * is processed on the calling thread.
+	 * <p>
+	 * Default is an executor that is shared by all templates, with at most as many
+	 * daemon threads as there are available processors. Its threads are prefixed with
+	 * {@code ws-client-} and are stopped when idle for a minute. Responses that cannot be
+	 * processed right away are queued.
+	 * @param asyncExecutor the executor to use
+	 * @since 5.1.0
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		Assert.notNull(asyncExecutor, "'asyncExecutor' must not be null");
+		this.asyncExecutor = asyncExecutor;
+	}
+
 	/**
 	 * Initialize the default implementations for the template's strategies:
 	 * {@link SoapFaultMessageResolver},
@@ -423,7 +523,38 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 	@Override
 	public @Nullable Object marshalSendAndReceive(String uri, final @Nullable Object requestPayload,
 			final @Nullable WebServiceMessageCallback requestCallback) {
-		return sendAndReceive(uri, new WebServiceMessageCallback() {
+		return sendAndReceive(uri, createMarshallingCallback(requestPayload, requestCallback),
+				createUnmarshallingExtractor());
+	}
+
+	@Override
+	public CompletableFuture<@Nullable Object> marshalSendAndReceiveAsync(Object requestPayload) {
+		return marshalSendAndReceiveAsync(requestPayload, null);
+	}
+
+	@Override
+	public CompletableFuture<@Nullable Object> marshalSendAndReceiveAsync(String uri, Object requestPayload) {
+		return marshalSendAndReceiveAsync(uri, requestPayload, null);
+	}
+
+	@Override
+	public CompletableFuture<@Nullable Object> marshalSendAndReceiveAsync(Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback) {
+		String defaultUri = getDefaultUri();
+		Assert.notNull(defaultUri, "'defaultUri' must not be null");
+		return marshalSendAndReceiveAsync(defaultUri, requestPayload, requestCallback);
+	}
+
+	@Override
+	public CompletableFuture<@Nullable Object> marshalSendAndReceiveAsync(String uri, Object requestPayload,
+			@Nullable WebServiceMessageCallback requestCallback) {
+		return sendAndReceiveAsync(uri, createMarshallingCallback(requestPayload, requestCallback),
+				createUnmarshallingExtractor());
+	}
+
+	private WebServiceMessageCallback createMarshallingCallback(final @Nullable Object requestPayload,
+			final @Nullable WebServiceMessageCallback requestCallback) {
+		return new WebServiceMessageCallback() {
 
 			public void doWithMessage(WebServiceMessage request) throws IOException, TransformerException {
 				if (requestPayload != null) {
@@ -438,7 +569,11 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 					requestCallback.doWithMessage(request);
 				}
 			}
-		}, new WebServiceMessageExtractor<>() {
+		};
+	}
+
+	private WebServiceMessageExtractor<Object> createUnmarshallingExtractor() {
+		return new WebServiceMessageExtractor<>() {
 
 			public @Nullable Object extractData(WebServiceMessage response) throws IOException {
 				Unmarshaller unmarshaller = getUnmarshaller();
@@ -448,7 +583,7 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 				}
 				return MarshallingUtils.unmarshal(unmarshaller, response);
 			}
-		});
+		};
 	}
 
 	//
@@ -584,8 +719,19 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 			connection = createConnection(URI.create(uriString));
 			TransportContextHolder.setTransportContext(new DefaultTransportContext(connection));
 			MessageContext messageContext = new DefaultMessageContext(getMessageFactory());
+			enablePayloadTracing(connection, messageContext);
 
-			return doSendAndReceive(messageContext, connection, requestCallback, responseExtractor);
+			Observation observation = createObservation(connection, messageContext).start();
+			try (Observation.Scope scope = observation.openScope()) {
+				return doSendAndReceive(messageContext, connection, requestCallback, responseExtractor);
+			}
+			catch (RuntimeException | IOException ex) {
+				observation.error(ex);
+				throw ex;
+			}
+			finally {
+				observation.stop();
+			}
 		}
 		catch (TransportException ex) {
 			throw new WebServiceTransportException("Could not use transport: " + ex.getMessage(), ex);
@@ -601,6 +747,69 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<@Nullable T> sendAndReceiveAsync(
+			@Nullable WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor) {
+		String defaultUri = getDefaultUri();
+		Assert.notNull(defaultUri, "'defaultUri' must not be null");
+		return sendAndReceiveAsync(defaultUri, requestCallback, responseExtractor);
+	}
+
+	@Override
+	public <T> CompletableFuture<@Nullable T> sendAndReceiveAsync(String uriString,
+			@Nullable WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor) {
+		Assert.notNull(responseExtractor, "'responseExtractor' must not be null");
+		Assert.hasLength(uriString, "'uri' must not be empty");
+		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
+		WebServiceConnection connection = null;
+		try {
+			connection = createConnection(URI.create(uriString));
+			TransportContextHolder.setTransportContext(new DefaultTransportContext(connection));
+			MessageContext messageContext = new DefaultMessageContext(getMessageFactory());
+			enablePayloadTracing(connection, messageContext);
+
+			Observation observation = createObservation(connection, messageContext).start();
+			CompletableFuture<@Nullable T> result;
+			try (Observation.Scope scope = observation.openScope()) {
+				result = doSendAndReceiveAsync(messageContext, connection, requestCallback, responseExtractor);
+			}
+			catch (RuntimeException | IOException ex) {
+				observation.error(ex);
+				observation.stop();
+				throw ex;
+			}
+			// closed once the exchange has completed
+			connection = null;
+			return result.whenComplete((value, failure) -> {
+				if (failure != null) {
+					observation.error(failure);
+				}
+				observation.stop();
+			});
+		}
+		catch (RuntimeException | IOException ex) {
+			return CompletableFuture.failedFuture(translateException(ex));
+		}
+		finally {
+			if (connection != null) {
+				TransportUtils.closeConnection(connection);
+			}
+			TransportContextHolder.setTransportContext(previousTransportContext);
+		}
+	}
+
+	private void enablePayloadTracing(WebServiceConnection connection, MessageContext messageContext) {
+		if (this.payloadLogger != null && TransportUtils.enablePayloadTracing(connection, this.payloadLogger,
+				sentMessageTracingLogger, receivedMessageTracingLogger)) {
+			messageContext.setProperty(TransportUtils.PAYLOAD_TRACED_PROPERTY, Boolean.TRUE);
+		}
+	}
+
+	private Observation createObservation(WebServiceConnection connection, MessageContext messageContext) {
+		return WebServiceObservationDocumentation.CLIENT_REQUEST.observation(null, this.observationConvention,
+				() -> new ClientRequestObservationContext(connection, messageContext), this.observationRegistry);
+	}
+
 	/**
 	 * Sends and receives a {@link MessageContext}. Sends the
 	 * {@link MessageContext#getRequest() request message}, and received to the
@@ -617,72 +826,208 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 	 * message
 	 * @throws IOException in case of I/O errors
 	 */
-	@SuppressWarnings("unchecked")
 	protected <T> @Nullable T doSendAndReceive(MessageContext messageContext, WebServiceConnection connection,
 			@Nullable WebServiceMessageCallback requestCallback, WebServiceMessageExtractor<T> responseExtractor)
 			throws IOException {
-		int interceptorIndex = -1;
+		ClientExchange exchange = new ClientExchange(messageContext, connection,
+				this.observationRegistry.getCurrentObservation());
 		try {
-			if (requestCallback != null) {
-				requestCallback.doWithMessage(messageContext.getRequest());
-			}
-			// Apply handleRequest of registered interceptors
-			boolean intercepted = false;
-			if (this.interceptors != null) {
-				for (int i = 0; i < this.interceptors.length; i++) {
-					interceptorIndex = i;
-					if (!this.interceptors[i].handleRequest(messageContext)) {
-						intercepted = true;
-						break;
-					}
-				}
+			boolean send = handleRequest(exchange, requestCallback);
+			if (send) {
+				traceRequest(messageContext);
+				ObservationUtils.observe(this.observationRegistry, WebServicePhase.SEND,
+						() -> connection.send(messageContext.getRequest()));
 			}
-			// no send/receive if an interceptor has set a response or if the chain
-			// has been interrupted
-			if (!messageContext.hasResponse() && !intercepted) {
-				sendRequest(connection, messageContext.getRequest());
-				if (hasError(connection, messageContext.getRequest())) {
-					Object fallback = handleError(connection, messageContext.getRequest());
-					triggerAfterCompletion(interceptorIndex, messageContext, null);
-					return (T) fallback;
-				}
-				WebServiceMessage response = connection.receive(getMessageFactory());
-				messageContext.setResponse(response);
-			}
-			logResponse(messageContext);
-			if (messageContext.hasResponse()) {
-				if (!hasFault(connection, messageContext.getResponse())) {
-					triggerHandleResponse(interceptorIndex, messageContext);
-					T result = responseExtractor.extractData(messageContext.getResponse());
-					triggerAfterCompletion(interceptorIndex, messageContext, null);
-					return result;
-				}
-				else {
-					triggerHandleFault(interceptorIndex, messageContext);
-					Object fallback = handleFault(connection, messageContext);
-					triggerAfterCompletion(interceptorIndex, messageContext, null);
-					return (T) fallback;
-				}
+			return handleResponse(exchange, send, responseExtractor);
+		}
+		catch (TransformerException ex) {
+			triggerAfterCompletion(exchange.interceptorIndex, messageContext, ex);
+			throw new WebServiceTransformerException("Transformation error: " + ex.getMessage(), ex);
+		}
+		catch (RuntimeException | IOException ex) {
+			// Trigger after-completion for thrown exception.
+			triggerAfterCompletion(exchange.interceptorIndex, messageContext, ex);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Asynchronous variant of
+	 * {@link #doSendAndReceive(MessageContext, WebServiceConnection, WebServiceMessageCallback, WebServiceMessageExtractor)}.
+	 * The given connection is closed once the exchange has completed.
+	 */
+	private <T> CompletableFuture<@Nullable T> doSendAndReceiveAsync(MessageContext messageContext,
+			WebServiceConnection connection, @Nullable WebServiceMessageCallback requestCallback,
+			WebServiceMessageExtractor<T> responseExtractor) throws IOException {
+		ClientExchange exchange = new ClientExchange(messageContext, connection,
+				this.observationRegistry.getCurrentObservation());
+		boolean send;
+		CompletableFuture<Void> sent;
+		try {
+			send = handleRequest(exchange, requestCallback);
+			if (!send) {
+				sent = CompletableFuture.completedFuture(null);
+			}
+			else if (connection instanceof AsyncWebServiceConnection asyncConnection) {
+				traceRequest(messageContext);
+				sent = asyncConnection.sendAsync(messageContext.getRequest());
 			}
 			else {
-				triggerAfterCompletion(interceptorIndex, messageContext, null);
-				return null;
+				traceRequest(messageContext);
+				ObservationUtils.observe(this.observationRegistry, WebServicePhase.SEND,
+						() -> connection.send(messageContext.getRequest()));
+				sent = CompletableFuture.completedFuture(null);
 			}
 		}
 		catch (TransformerException ex) {
-			triggerAfterCompletion(interceptorIndex, messageContext, ex);
+			triggerAfterCompletion(exchange.interceptorIndex, messageContext, ex);
 			throw new WebServiceTransformerException("Transformation error: " + ex.getMessage(), ex);
 		}
 		catch (RuntimeException | IOException ex) {
 			// Trigger after-completion for thrown exception.
-			triggerAfterCompletion(interceptorIndex, messageContext, ex);
+			triggerAfterCompletion(exchange.interceptorIndex, messageContext, ex);
 			throw ex;
 		}
+		if (sent.isDone()) {
+			return sent.handle((ignored, failure) -> completeExchange(exchange, send, failure, responseExtractor));
+		}
+		return sent.handleAsync((ignored, failure) -> completeExchange(exchange, send, failure, responseExtractor),
+				this.asyncExecutor);
+	}
+
+	/**
+	 * Complete an asynchronous exchange once the request has been sent, processing the
+	 * response on the current thread and closing the connection.
+	 */
+	private <T> @Nullable T completeExchange(ClientExchange exchange, boolean sent, @Nullable Throwable sendFailure,
+			WebServiceMessageExtractor<T> responseExtractor) {
+		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
+		TransportContextHolder.setTransportContext(new DefaultTransportContext(exchange.connection));
+		Observation.Scope scope = (exchange.observation != null) ? exchange.observation.openScope() : null;
+		try {
+			if (sendFailure != null) {
+				Throwable cause = (sendFailure instanceof CompletionException) ? sendFailure.getCause()
+						: sendFailure;
+				IOException ex = (cause instanceof IOException ioException) ? ioException
+						: new IOException(cause);
+				triggerAfterCompletion(exchange.interceptorIndex, exchange.messageContext, ex);
+				throw ex;
+			}
+			try {
+				return handleResponse(exchange, sent, responseExtractor);
+			}
+			catch (TransformerException ex) {
+				triggerAfterCompletion(exchange.interceptorIndex, exchange.messageContext, ex);
+				throw new WebServiceTransformerException("Transformation error: " + ex.getMessage(), ex);
+			}
+			catch (RuntimeException | IOException ex) {
+				// Trigger after-completion for thrown exception.
+				triggerAfterCompletion(exchange.interceptorIndex, exchange.messageContext, ex);
+				throw ex;
+			}
+		}
+		catch (RuntimeException | IOException ex) {
+			throw translateException(ex);
+		}
+		finally {
+			if (scope != null) {
+				scope.close();
+			}
+			TransportUtils.closeConnection(exchange.connection);
+			TransportContextHolder.setTransportContext(previousTransportContext);
+		}
+	}
+
+	/**
+	 * Applies the request callback and the {@code handleRequest} of registered
+	 * interceptors.
+	 * @return whether the request should be sent, i.e. no interceptor has set a response
+	 * or interrupted the chain
+	 */
+	private boolean handleRequest(ClientExchange exchange, @Nullable WebServiceMessageCallback requestCallback)
+			throws IOException, TransformerException {
+		MessageContext messageContext = exchange.messageContext;
+		if (requestCallback != null) {
+			requestCallback.doWithMessage(messageContext.getRequest());
+		}
+		// Apply handleRequest of registered interceptors
+		boolean intercepted = false;
+		if (this.interceptors != null) {
+			for (int i = 0; i < this.interceptors.length; i++) {
+				exchange.interceptorIndex = i;
+				if (!this.interceptors[i].handleRequest(messageContext)) {
+					intercepted = true;
+					break;
+				}
+			}
+		}
+		ClientRequestObservationContext observationContext = exchange.getObservationContext();
+		if (observationContext != null) {
+			observationContext.setPayloadRoot(getPayloadRoot(messageContext));
+		}
+		// no send/receive if an interceptor has set a response or if the chain
+		// has been interrupted
+		return !messageContext.hasResponse() && !intercepted;
+	}
+
+	/**
+	 * Receives the response, if the request has been sent, and processes it.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> @Nullable T handleResponse(ClientExchange exchange, boolean sent,
+			WebServiceMessageExtractor<T> responseExtractor) throws IOException, TransformerException {
+		MessageContext messageContext = exchange.messageContext;
+		WebServiceConnection connection = exchange.connection;
+		int interceptorIndex = exchange.interceptorIndex;
+		if (sent) {
+			if (hasError(connection, messageContext.getRequest())) {
+				Object fallback = handleError(connection, messageContext.getRequest());
+				triggerAfterCompletion(interceptorIndex, messageContext, null);
+				return (T) fallback;
+			}
+			WebServiceMessage response = ObservationUtils.observe(this.observationRegistry, WebServicePhase.RECEIVE,
+					() -> connection.receive(getMessageFactory()));
+			messageContext.setResponse(response);
+		}
+		logResponse(messageContext);
+		if (messageContext.hasResponse()) {
+			if (!hasFault(connection, messageContext.getResponse())) {
+				triggerHandleResponse(interceptorIndex, messageContext);
+				T result = responseExtractor.extractData(messageContext.getResponse());
+				triggerAfterCompletion(interceptorIndex, messageContext, null);
+				return result;
+			}
+			else {
+				ClientRequestObservationContext observationContext = exchange.getObservationContext();
+				if (observationContext != null
+						&& messageContext.getResponse() instanceof FaultAwareWebServiceMessage faultResponse) {
+					observationContext.setFaultCode(faultResponse.getFaultCode());
+				}
+				triggerHandleFault(interceptorIndex, messageContext);
+				Object fallback = handleFault(connection, messageContext);
+				triggerAfterCompletion(interceptorIndex, messageContext, null);
+				return (T) fallback;
+			}
+		}
+		else {
+			triggerAfterCompletion(interceptorIndex, messageContext, null);
+			return null;
+		}
+	}
+
+	private @Nullable QName getPayloadRoot(MessageContext messageContext) {
+		try {
+			return PayloadRootUtils.getPayloadRootQName(messageContext, this.transformerHelper);
+		}
+		catch (TransformerException ex) {
+			return null;
+		}
 	}
 
-	/** Sends the request in the given message context over the connection. */
-	private void sendRequest(WebServiceConnection connection, WebServiceMessage request) throws IOException {
-		if (sentMessageTracingLogger.isTraceEnabled()) {
+	/** Logs the request that is about to be sent. */
+	private void traceRequest(MessageContext messageContext) throws IOException {
+		WebServiceMessage request = messageContext.getRequest();
+		if (sentMessageTracingLogger.isTraceEnabled() && !TransportUtils.isPayloadTraced(messageContext)) {
 			ByteArrayOutputStream os = new ByteArrayOutputStream();
 			request.writeTo(os);
 			sentMessageTracingLogger.trace("Sent request [" + os.toString(StandardCharsets.UTF_8) + "]");
@@ -690,7 +1035,20 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 		else if (sentMessageTracingLogger.isDebugEnabled()) {
 			sentMessageTracingLogger.debug("Sent request [" + request + "]");
 		}
-		connection.send(request);
+	}
+
+	/**
+	 * Translates the given exception as {@link #sendAndReceive(String,
+	 * WebServiceMessageCallback, WebServiceMessageExtractor) sendAndReceive} does.
+	 */
+	private RuntimeException translateException(Exception ex) {
+		if (ex instanceof TransportException transportException) {
+			return new WebServiceTransportException("Could not use transport: " + ex.getMessage(), transportException);
+		}
+		if (ex instanceof IOException ioException) {
+			return new WebServiceIOException("I/O error: " + ex.getMessage(), ioException);
+		}
+		return (ex instanceof RuntimeException runtimeException) ? runtimeException : new IllegalStateException(ex);
 	}
 
 	/**
@@ -735,7 +1093,7 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 
 	private void logResponse(MessageContext messageContext) throws IOException {
 		if (messageContext.hasResponse()) {
-			if (receivedMessageTracingLogger.isTraceEnabled()) {
+			if (receivedMessageTracingLogger.isTraceEnabled() && !TransportUtils.isPayloadTraced(messageContext)) {
 				ByteArrayOutputStream requestStream = new ByteArrayOutputStream();
 				messageContext.getRequest().writeTo(requestStream);
 				ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
@@ -909,4 +1267,56 @@ public class WebServiceTemplate extends WebServiceAccessor implements WebService
 
 	}
 
+	/**
+	 * State of an exchange, shared by the request and response processing steps.
+	 */
+	private static final class ClientExchange {
+
+		private final MessageContext messageContext;
+
+		private final WebServiceConnection connection;
+
+		/** The observation of the exchange, if any. */
+		private final @Nullable Observation observation;
+
+		/** Index of the last interceptor that was called. */
+		private int interceptorIndex = -1;
+
+		ClientExchange(MessageContext messageContext, WebServiceConnection connection,
+				@Nullable Observation observation) {
+			this.messageContext = messageContext;
+			this.connection = connection;
+			this.observation = observation;
+		}
+
+		@Nullable ClientRequestObservationContext getObservationContext() {
+			if (this.observation != null
+					&& this.observation.getContext() instanceof ClientRequestObservationContext context) {
+				return context;
+			}
+			return null;
+		}
+
+	}
+
+	/**
+	 * Holder for the default {@linkplain #setAsyncExecutor(Executor) async executor},
+	 * created on first use.
+	 */
+	private static final class DefaultAsyncExecutor {
+
+		static final Executor INSTANCE = create();
+
+		private static Executor create() {
+			int poolSize = Runtime.getRuntime().availableProcessors();
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ws-client-");
+			threadFactory.setDaemon(true);
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), threadFactory);
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+
+	}
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.observation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+
+import javax.xml.namespace.QName;
+
+import io.micrometer.observation.transport.Kind;
+import io.micrometer.observation.transport.SenderContext;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.HeadersAwareSenderWebServiceConnection;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * Context that holds information for metadata collection regarding
+ * {@linkplain WebServiceObservationDocumentation#CLIENT_REQUEST client requests}.
+ * <p>
+ * The outgoing {@link WebServiceConnection} is the carrier: tracing context is
+ * propagated as request headers, if it is {@linkplain HeadersAwareSenderWebServiceConnection
+ * aware of headers}.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public class ClientRequestObservationContext extends SenderContext<WebServiceConnection> {
+
+	private final @Nullable URI uri;
+
+	private final MessageContext messageContext;
+
+	private @Nullable QName payloadRoot;
+
+	private @Nullable QName faultCode;
+
+	/**
+	 * Create a new instance for the given outgoing connection.
+	 * @param connection the outgoing connection
+	 * @param messageContext the message context of the exchange
+	 */
+	public ClientRequestObservationContext(WebServiceConnection connection, MessageContext messageContext) {
+		super(ClientRequestObservationContext::addRequestHeader, Kind.CLIENT);
+		setCarrier(connection);
+		this.uri = ObservationUtils.getUri(connection);
+		this.messageContext = messageContext;
+		if (this.uri != null) {
+			setRemoteServiceAddress(this.uri.toString());
+		}
+	}
+
+	private static void addRequestHeader(@Nullable WebServiceConnection connection, String name, String value) {
+		if (connection instanceof HeadersAwareSenderWebServiceConnection headersAwareConnection) {
+			try {
+				headersAwareConnection.addRequestHeader(name, value);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+	}
+
+	/**
+	 * Return the URI of the connection, if it could be determined.
+	 */
+	public @Nullable URI getUri() {
+		return this.uri;
+	}
+
+	/**
+	 * Return the message context of the exchange.
+	 */
+	public MessageContext getMessageContext() {
+		return this.messageContext;
+	}
+
+	/**
+	 * Return the qualified name of the root element of the request payload, if any.
+	 */
+	public @Nullable QName getPayloadRoot() {
+		return this.payloadRoot;
+	}
+
+	public void setPayloadRoot(@Nullable QName payloadRoot) {
+		this.payloadRoot = payloadRoot;
+	}
+
+	/**
+	 * Return the fault code of the response, if any.
+	 */
+	public @Nullable QName getFaultCode() {
+		return this.faultCode;
+	}
+
+	public void setFaultCode(@Nullable QName faultCode) {
+		this.faultCode = faultCode;
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.observation;
+
+import java.net.URI;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.ws.observation.WebServiceObservationDocumentation.ClientHighCardinalityKeyNames;
+import org.springframework.ws.observation.WebServiceObservationDocumentation.ClientLowCardinalityKeyNames;
+
+/**
+ * Default {@link ClientRequestObservationConvention}.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public class DefaultClientRequestObservationConvention implements ClientRequestObservationConvention {
+
+	private static final String DEFAULT_NAME = "spring.ws.client.requests";
+
+	private final String name;
+
+	/**
+	 * Create a convention with the default name {@code spring.ws.client.requests}.
+	 */
+	public DefaultClientRequestObservationConvention() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a convention with a custom name.
+	 * @param name the observation name
+	 */
+	public DefaultClientRequestObservationConvention(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String getContextualName(ClientRequestObservationContext context) {
+		return ObservationUtils.getContextualName("ws client", context.getPayloadRoot());
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ClientRequestObservationContext context) {
+		return KeyValues.of(payloadRoot(context), soapAction(context), faultCode(context), transportScheme(context),
+				exception(context));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(ClientRequestObservationContext context) {
+		return KeyValues.of(uri(context));
+	}
+
+	protected KeyValue payloadRoot(ClientRequestObservationContext context) {
+		return ClientLowCardinalityKeyNames.PAYLOAD_ROOT
+			.withValue(ObservationUtils.getQNameValue(context.getPayloadRoot()));
+	}
+
+	protected KeyValue soapAction(ClientRequestObservationContext context) {
+		return ClientLowCardinalityKeyNames.SOAP_ACTION
+			.withValue(ObservationUtils.getSoapAction(context.getMessageContext().getRequest()));
+	}
+
+	protected KeyValue faultCode(ClientRequestObservationContext context) {
+		return ClientLowCardinalityKeyNames.FAULT_CODE
+			.withValue(ObservationUtils.getFaultCodeValue(context.getFaultCode()));
+	}
+
+	protected KeyValue transportScheme(ClientRequestObservationContext context) {
+		return ClientLowCardinalityKeyNames.TRANSPORT_SCHEME
+			.withValue(ObservationUtils.getSchemeValue(context.getUri()));
+	}
+
+	protected KeyValue exception(ClientRequestObservationContext context) {
+		return ClientLowCardinalityKeyNames.EXCEPTION
+			.withValue(ObservationUtils.getExceptionValue(context.getError()));
+	}
+
+	protected KeyValue uri(ClientRequestObservationContext context) {
+		URI uri = context.getUri();
+		return ClientHighCardinalityKeyNames.URI.withValue((uri != null) ? uri.toString() : KeyValue.NONE_VALUE);
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.observation;
+
+import javax.xml.namespace.QName;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.observation.WebServiceObservationDocumentation.ServerLowCardinalityKeyNames;
+
+/**
+ * Default {@link ServerRequestObservationConvention}.
+ * <p>
+ * The payload root and the SOAP action are provided by the client. To keep their
+ * cardinality bounded, they are only recorded once the request has been mapped to an
+ * endpoint.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public class DefaultServerRequestObservationConvention implements ServerRequestObservationConvention {
+
+	private static final String DEFAULT_NAME = "spring.ws.server.requests";
+
+	private final String name;
+
+	/**
+	 * Create a convention with the default name {@code spring.ws.server.requests}.
+	 */
+	public DefaultServerRequestObservationConvention() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Create a convention with a custom name.
+	 * @param name the observation name
+	 */
+	public DefaultServerRequestObservationConvention(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public String getContextualName(ServerRequestObservationContext context) {
+		return ObservationUtils.getContextualName("ws server", context.getPayloadRoot());
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+		return KeyValues.of(payloadRoot(context), soapAction(context), endpoint(context), faultCode(context),
+				transportScheme(context), exception(context));
+	}
+
+	protected KeyValue payloadRoot(ServerRequestObservationContext context) {
+		QName payloadRoot = (context.getEndpoint() != null) ? context.getPayloadRoot() : null;
+		return ServerLowCardinalityKeyNames.PAYLOAD_ROOT.withValue(ObservationUtils.getQNameValue(payloadRoot));
+	}
+
+	protected KeyValue soapAction(ServerRequestObservationContext context) {
+		MessageContext messageContext = context.getMessageContext();
+		String soapAction = (messageContext != null && context.getEndpoint() != null)
+				? ObservationUtils.getSoapAction(messageContext.getRequest()) : KeyValue.NONE_VALUE;
+		return ServerLowCardinalityKeyNames.SOAP_ACTION.withValue(soapAction);
+	}
+
+	protected KeyValue endpoint(ServerRequestObservationContext context) {
+		return ServerLowCardinalityKeyNames.ENDPOINT
+			.withValue(ObservationUtils.getEndpointValue(context.getEndpoint(), context.getEndpointName()));
+	}
+
+	protected KeyValue faultCode(ServerRequestObservationContext context) {
+		return ServerLowCardinalityKeyNames.FAULT_CODE
+			.withValue(ObservationUtils.getFaultCodeValue(context.getFaultCode()));
+	}
+
+	protected KeyValue transportScheme(ServerRequestObservationContext context) {
+		return ServerLowCardinalityKeyNames.TRANSPORT_SCHEME
+			.withValue(ObservationUtils.getSchemeValue(context.getUri()));
+	}
+
+	protected KeyValue exception(ServerRequestObservationContext context) {
+		return ServerLowCardinalityKeyNames.EXCEPTION
+			.withValue(ObservationUtils.getExceptionValue(context.getError()));
+	}
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.observation;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import javax.xml.namespace.QName;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.observation.WebServiceObservationDocumentation.PhaseLowCardinalityKeyNames;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * Generic utility methods for observing Web service exchanges. Mainly for internal use
+ * within the framework.
+ * <p>
+ * The server-side transport binds its {@link ObservationRegistry} and
+ * {@link ServerRequestObservationContext} to the {@link MessageContext} of each
+ * exchange, so that the components that handle the request, such as the
+ * {@link org.springframework.ws.server.MessageDispatcher}, can observe their
+ * {@linkplain WebServicePhase phases} without being configured separately.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public abstract class ObservationUtils {
+
+	private static final String OBSERVATION_REGISTRY_PROPERTY = ObservationUtils.class.getName()
+			+ ".OBSERVATION_REGISTRY";
+
+	private static final String SERVER_OBSERVATION_CONTEXT_PROPERTY = ObservationUtils.class.getName()
+			+ ".SERVER_OBSERVATION_CONTEXT";
+
+	private ObservationUtils() {
+	}
+
+	/**
+	 * Bind the given registry and server observation context to the given message
+	 * context.
+	 * @param messageContext the message context of the exchange
+	 * @param registry the registry to use to observe the phases of the exchange
+	 * @param observationContext the context of the server request observation
+	 */
+	public static void bindServerObservation(MessageContext messageContext, ObservationRegistry registry,
+			ServerRequestObservationContext observationContext) {
+		messageContext.setProperty(OBSERVATION_REGISTRY_PROPERTY, registry);
+		messageContext.setProperty(SERVER_OBSERVATION_CONTEXT_PROPERTY, observationContext);
+	}
+
+	/**
+	 * Return the {@link ObservationRegistry} bound to the given message context.
+	 * @param messageContext the message context of the exchange
+	 * @return the bound registry, or {@link ObservationRegistry#NOOP} if none is bound
+	 */
+	public static ObservationRegistry getObservationRegistry(MessageContext messageContext) {
+		return (messageContext.getProperty(OBSERVATION_REGISTRY_PROPERTY) instanceof ObservationRegistry registry)
+				? registry : ObservationRegistry.NOOP;
+	}
+
+	/**
+	 * Return the {@link ServerRequestObservationContext} bound to the given message
+	 * context.
+	 * @param messageContext the message context of the exchange
+	 * @return the bound context, or {@code null} if the exchange is not observed
+	 */
+	public static @Nullable ServerRequestObservationContext getServerObservationContext(
+			MessageContext messageContext) {
+		Object context = messageContext.getProperty(SERVER_OBSERVATION_CONTEXT_PROPERTY);
+		return (context instanceof ServerRequestObservationContext observationContext) ? observationContext : null;
+	}
+
+	/**
+	 * Observe the given phase of the exchange bound to the given message context.
+	 * @param messageContext the message context of the exchange
+	 * @param phase the phase to observe
+	 * @param callable the callback that performs the phase
+	 * @return the result of the callback
+	 * @throws E if the callback fails
+	 * @see #getObservationRegistry(MessageContext)
+	 */
+	public static <T extends @Nullable Object, E extends Throwable> T observe(MessageContext messageContext,
+			WebServicePhase phase, Observation.CheckedCallable<T, E> callable) throws E {
+		return observe(getObservationRegistry(messageContext), phase, callable);
+	}
+
+	/**
+	 * Observe the given phase of the exchange bound to the given message context.
+	 * @param messageContext the message context of the exchange
+	 * @param phase the phase to observe
+	 * @param runnable the callback that performs the phase
+	 * @throws E if the callback fails
+	 * @see #getObservationRegistry(MessageContext)
+	 */
+	public static <E extends Throwable> void observe(MessageContext messageContext, WebServicePhase phase,
+			Observation.CheckedRunnable<E> runnable) throws E {
+		observe(getObservationRegistry(messageContext), phase, runnable);
+	}
+
+	/**
+	 * Observe the given phase of an exchange, as a child of the current observation.
+	 * @param registry the registry to use
+	 * @param phase the phase to observe
+	 * @param runnable the callback that performs the phase
+	 * @throws E if the callback fails
+	 */
+	public static <E extends Throwable> void observe(ObservationRegistry registry, WebServicePhase phase,
+			Observation.CheckedRunnable<E> runnable) throws E {
+		observe(registry, phase, () -> {
+			runnable.run();
+			return phase;
+		});
+	}
+
+	/**
+	 * Observe the given phase of an exchange, as a child of the current observation.
+	 * @param registry the registry to use
+	 * @param phase the phase to observe
+	 * @param callable the callback that performs the phase
+	 * @return the result of the callback
+	 * @throws E if the callback fails
+	 */
+	public static <T extends @Nullable Object, E extends Throwable> T observe(ObservationRegistry registry,
+			WebServicePhase phase, Observation.CheckedCallable<T, E> callable) throws E {
+		if (registry.isNoop()) {
+			return callable.call();
+		}
+		Observation observation = WebServiceObservationDocumentation.PHASE
+			.observation(registry, Observation.Context::new)
+			.lowCardinalityKeyValue(PhaseLowCardinalityKeyNames.PHASE.withValue(phase.getValue()))
+			.start();
+		try (Observation.Scope scope = observation.openScope()) {
+			return callable.call();
+		}
+		catch (Throwable ex) {
+			observation.error(ex);
+			throw ex;
+		}
+		finally {
+			observation.stop();
+		}
+	}
+
+	static @Nullable URI getUri(WebServiceConnection connection) {
+		try {
+			return connection.getUri();
+		}
+		catch (URISyntaxException ex) {
+			return null;
+		}
+	}
+
+	static String getContextualName(String prefix, @Nullable QName payloadRoot) {
+		return (payloadRoot != null) ? prefix + " " + payloadRoot.getLocalPart() : prefix;
+	}
+
+	static String getQNameValue(@Nullable QName name) {
+		return (name != null) ? name.toString() : KeyValue.NONE_VALUE;
+	}
+
+	static String getSoapAction(WebServiceMessage message) {
+		if (message instanceof SoapMessage soapMessage) {
+			String soapAction = StringUtils.trimTrailingCharacter(
+					StringUtils.trimLeadingCharacter(soapMessage.getSoapAction(), '"'), '"');
+			if (StringUtils.hasText(soapAction)) {
+				return soapAction;
+			}
+		}
+		return KeyValue.NONE_VALUE;
+	}
+
+	static String getEndpointValue(@Nullable Object endpoint, @Nullable String endpointName) {
+		if (endpointName != null) {
+			return endpointName;
+		}
+		if (endpoint == null) {
+			return KeyValue.NONE_VALUE;
+		}
+		return ClassUtils.getUserClass(endpoint).getSimpleName();
+	}
+
+	static String getFaultCodeValue(@Nullable QName faultCode) {
+		return (faultCode != null) ? faultCode.getLocalPart() : KeyValue.NONE_VALUE;
+	}
+
+	static String getSchemeValue(@Nullable URI uri) {
+		return (uri != null && uri.getScheme() != null) ? uri.getScheme() : KeyValue.NONE_VALUE;
+	}
+
+	static String getExceptionValue(@Nullable Throwable error) {
+		if (error == null) {
+			return KeyValue.NONE_VALUE;
+		}
+		String simpleName = error.getClass().getSimpleName();
+		return StringUtils.hasText(simpleName) ? simpleName : error.getClass().getName();
+	}
+
+}
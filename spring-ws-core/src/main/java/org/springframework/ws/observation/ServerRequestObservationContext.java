@@ -0,0 +1,145 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.observation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Iterator;
+
+import javax.xml.namespace.QName;
+
+import io.micrometer.observation.transport.Kind;
+import io.micrometer.observation.transport.ReceiverContext;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.HeadersAwareReceiverWebServiceConnection;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * Context that holds information for metadata collection regarding
+ * {@linkplain WebServiceObservationDocumentation#SERVER_REQUEST server requests}.
+ * <p>
+ * The incoming {@link WebServiceConnection} is the carrier: tracing context is extracted
+ * from its request headers, if it is {@linkplain HeadersAwareReceiverWebServiceConnection
+ * aware of headers}.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public class ServerRequestObservationContext extends ReceiverContext<WebServiceConnection> {
+
+	private final @Nullable URI uri;
+
+	private @Nullable MessageContext messageContext;
+
+	private @Nullable QName payloadRoot;
+
+	private @Nullable Object endpoint;
+
+	private @Nullable String endpointName;
+
+	private @Nullable QName faultCode;
+
+	/**
+	 * Create a new instance for the given incoming connection.
+	 * @param connection the incoming connection
+	 */
+	public ServerRequestObservationContext(WebServiceConnection connection) {
+		super(ServerRequestObservationContext::getRequestHeader, Kind.SERVER);
+		setCarrier(connection);
+		this.uri = ObservationUtils.getUri(connection);
+	}
+
+	private static @Nullable String getRequestHeader(WebServiceConnection connection, String name) {
+		if (connection instanceof HeadersAwareReceiverWebServiceConnection headersAwareConnection) {
+			try {
+				Iterator<String> values = headersAwareConnection.getRequestHeaders(name);
+				return (values.hasNext()) ? values.next() : null;
+			}
+			catch (IOException ex) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the URI of the connection, if it could be determined.
+	 */
+	public @Nullable URI getUri() {
+		return this.uri;
+	}
+
+	/**
+	 * Return the message context of the exchange, once the request has been received.
+	 */
+	public @Nullable MessageContext getMessageContext() {
+		return this.messageContext;
+	}
+
+	public void setMessageContext(@Nullable MessageContext messageContext) {
+		this.messageContext = messageContext;
+	}
+
+	/**
+	 * Return the qualified name of the root element of the request payload, if the
+	 * request has been mapped to an endpoint.
+	 */
+	public @Nullable QName getPayloadRoot() {
+		return this.payloadRoot;
+	}
+
+	public void setPayloadRoot(@Nullable QName payloadRoot) {
+		this.payloadRoot = payloadRoot;
+	}
+
+	/**
+	 * Return the endpoint the request has been mapped to, if any.
+	 */
+	public @Nullable Object getEndpoint() {
+		return this.endpoint;
+	}
+
+	public void setEndpoint(@Nullable Object endpoint) {
+		this.endpoint = endpoint;
+	}
+
+	/**
+	 * Return the name of the endpoint the request has been mapped to, if it differs from
+	 * the simple name of its class. For instance, {@code Type#method} for method
+	 * endpoints.
+	 */
+	public @Nullable String getEndpointName() {
+		return this.endpointName;
+	}
+
+	public void setEndpointName(@Nullable String endpointName) {
+		this.endpointName = endpointName;
+	}
+
+	/**
+	 * Return the fault code of the response, if any.
+	 */
+	public @Nullable QName getFaultCode() {
+		return this.faultCode;
+	}
+
+	public void setFaultCode(@Nullable QName faultCode) {
+		this.faultCode = faultCode;
+	}
+
+}
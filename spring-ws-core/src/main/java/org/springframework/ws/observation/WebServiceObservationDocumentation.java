@@ -0,0 +1,243 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Documented {@link io.micrometer.common.KeyValue KeyValues} for the observations of Web
+ * service exchanges.
+ * <p>
+ * This class is used by automated tools to document KeyValues attached to the
+ * observations.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public enum WebServiceObservationDocumentation implements ObservationDocumentation {
+
+	/**
+	 * Web service requests handled on the server side.
+	 */
+	SERVER_REQUEST {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultServerRequestObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return ServerLowCardinalityKeyNames.values();
+		}
+
+	},
+
+	/**
+	 * Web service requests sent on the client side.
+	 */
+	CLIENT_REQUEST {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultClientRequestObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return ClientLowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return ClientHighCardinalityKeyNames.values();
+		}
+
+	},
+
+	/**
+	 * Individual {@linkplain WebServicePhase phases} of a Web service exchange.
+	 */
+	PHASE {
+		@Override
+		public String getName() {
+			return "spring.ws.phase";
+		}
+
+		@Override
+		public String getContextualName() {
+			return "ws phase";
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return PhaseLowCardinalityKeyNames.values();
+		}
+
+	};
+
+	public enum ServerLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Qualified name of the root element of the request payload, once the request
+		 * has been mapped to an endpoint.
+		 */
+		PAYLOAD_ROOT {
+			@Override
+			public String asString() {
+				return "payload.root";
+			}
+		},
+
+		/**
+		 * SOAP action of the request, if any, once the request has been mapped to an
+		 * endpoint.
+		 */
+		SOAP_ACTION {
+			@Override
+			public String asString() {
+				return "soap.action";
+			}
+		},
+
+		/**
+		 * Endpoint that handled the request, as {@code Type#method} for method endpoints.
+		 */
+		ENDPOINT {
+			@Override
+			public String asString() {
+				return "endpoint";
+			}
+		},
+
+		/**
+		 * Fault code of the response, if any.
+		 */
+		FAULT_CODE {
+			@Override
+			public String asString() {
+				return "fault.code";
+			}
+		},
+
+		/**
+		 * Scheme of the URI of the connection, for instance {@code http} or
+		 * {@code jms}.
+		 */
+		TRANSPORT_SCHEME {
+			@Override
+			public String asString() {
+				return "transport.scheme";
+			}
+		},
+
+		/**
+		 * Name of the exception thrown during the exchange, if any.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		}
+
+	}
+
+	public enum ClientLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Qualified name of the root element of the request payload.
+		 */
+		PAYLOAD_ROOT {
+			@Override
+			public String asString() {
+				return "payload.root";
+			}
+		},
+
+		/**
+		 * SOAP action of the request, if any.
+		 */
+		SOAP_ACTION {
+			@Override
+			public String asString() {
+				return "soap.action";
+			}
+		},
+
+		/**
+		 * Fault code of the response, if any.
+		 */
+		FAULT_CODE {
+			@Override
+			public String asString() {
+				return "fault.code";
+			}
+		},
+
+		/**
+		 * Scheme of the URI of the connection, for instance {@code http} or
+		 * {@code jms}.
+		 */
+		TRANSPORT_SCHEME {
+			@Override
+			public String asString() {
+				return "transport.scheme";
+			}
+		},
+
+		/**
+		 * Name of the exception thrown during the exchange, if any.
+		 */
+		EXCEPTION {
+			@Override
+			public String asString() {
+				return "exception";
+			}
+		}
+
+	}
+
+	public enum ClientHighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * URI of the connection.
+		 */
+		URI {
+			@Override
+			public String asString() {
+				return "uri";
+			}
+		}
+
+	}
+
+	public enum PhaseLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Name of the {@linkplain WebServicePhase phase}.
+		 */
+		PHASE {
+			@Override
+			public String asString() {
+				return "phase";
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.observation;
+
+/**
+ * The phases of a Web service exchange that are observed individually, as children of
+ * the {@linkplain WebServiceObservationDocumentation#SERVER_REQUEST server} or
+ * {@linkplain WebServiceObservationDocumentation#CLIENT_REQUEST client} request
+ * observation.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see WebServiceObservationDocumentation#PHASE
+ */
+public enum WebServicePhase {
+
+	/**
+	 * Receiving, and parsing, a message from the transport.
+	 */
+	RECEIVE("receive"),
+
+	/**
+	 * Mapping the request to an endpoint.
+	 */
+	ENDPOINT_MAPPING("endpoint.mapping"),
+
+	/**
+	 * Applying the endpoint interceptors, either before or after the invocation.
+	 */
+	INTERCEPTORS("interceptors"),
+
+	/**
+	 * Invoking the endpoint through its adapter. Includes the
+	 * {@link #UNMARSHALLING}, {@link #METHOD_INVOCATION}, and {@link #MARSHALLING}
+	 * phases of method endpoints.
+	 */
+	ENDPOINT_INVOCATION("endpoint.invocation"),
+
+	/**
+	 * Resolving the arguments of an endpoint method, typically unmarshalling the
+	 * request payload.
+	 */
+	UNMARSHALLING("unmarshalling"),
+
+	/**
+	 * Invoking the endpoint method itself.
+	 */
+	METHOD_INVOCATION("method.invocation"),
+
+	/**
+	 * Handling the return value of an endpoint method, typically marshalling the
+	 * response payload.
+	 */
+	MARSHALLING("marshalling"),
+
+	/**
+	 * Sending a message to the transport.
+	 */
+	SEND("send");
+
+	private final String value;
+
+	WebServicePhase(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Return the value of the phase, as used in key values.
+	 * @return the value of the phase
+	 */
+	public String getValue() {
+		return this.value;
+	}
+
+}
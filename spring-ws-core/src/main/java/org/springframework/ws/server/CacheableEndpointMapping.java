@@ -0,0 +1,46 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.server;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ws.context.MessageContext;
+
+/**
+ * Extension of the {@link EndpointMapping} interface for mappings whose ability to map a
+ * request only depends on a single {@linkplain RequestDiscriminator discriminator} of the
+ * request.
+ * <p>
+ * Implementations must either return an endpoint from
+ * {@link #getEndpoint(MessageContext) getEndpoint} for all requests with the same
+ * discriminator value, or for none of them. This allows the
+ * {@link MessageDispatcher#setCacheEndpointResolution(boolean) MessageDispatcher} to
+ * remember which mapping handles a given kind of request and to skip the mappings that
+ * are known not to.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public interface CacheableEndpointMapping extends EndpointMapping {
+
+	/**
+	 * Returns the part of the request the mapping decision depends on.
+	 * @return the discriminator, or {@code null} if the decision cannot be cached in
+	 * the current configuration
+	 */
+	@Nullable RequestDiscriminator getDiscriminator();
+
+}
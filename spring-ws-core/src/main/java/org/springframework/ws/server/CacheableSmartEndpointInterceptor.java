@@ -0,0 +1,44 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server;
+
+import org.springframework.ws.context.MessageContext;
+
+/**
+ * Extension of the {@link SmartEndpointInterceptor} interface for interceptors whose
+ * {@link #shouldIntercept(MessageContext, Object) shouldIntercept} decision only depends
+ * on the endpoint and on a single {@linkplain RequestDiscriminator discriminator} of the
+ * request.
+ * <p>
+ * Implementations must return the same result from {@code shouldIntercept} for any two
+ * requests that target the same endpoint and have the same discriminator value. This
+ * allows endpoint mappings to build an
+ * {@link org.springframework.ws.server.endpoint.mapping.AbstractEndpointMapping#setCacheInvocationChains(boolean)
+ * invocation chain once} and reuse it for subsequent requests.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public interface CacheableSmartEndpointInterceptor extends SmartEndpointInterceptor {
+
+	/**
+	 * Returns the part of the request the interception decision depends on.
+	 * @return the discriminator
+	 */
+	RequestDiscriminator getDiscriminator();
+
+}
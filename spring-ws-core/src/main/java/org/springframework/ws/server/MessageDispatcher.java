@@ -18,10 +18,18 @@ package org.springframework.ws.server;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.TransformerException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,13 +48,20 @@ import org.springframework.ws.FaultAwareWebServiceMessage;
 import org.springframework.ws.NoEndpointFoundException;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.observation.ObservationUtils;
+import org.springframework.ws.observation.ServerRequestObservationContext;
+import org.springframework.ws.observation.WebServicePhase;
 import org.springframework.ws.server.endpoint.MessageEndpoint;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
 import org.springframework.ws.server.endpoint.PayloadEndpoint;
 import org.springframework.ws.server.endpoint.adapter.MessageEndpointAdapter;
 import org.springframework.ws.server.endpoint.adapter.PayloadEndpointAdapter;
 import org.springframework.ws.soap.server.SoapMessageDispatcher;
 import org.springframework.ws.support.DefaultStrategiesHelper;
+import org.springframework.ws.support.PayloadRootUtils;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
+import org.springframework.ws.transport.support.TransportUtils;
+import org.springframework.xml.transform.TransformerHelper;
 
 /**
  * Central dispatcher for use within Spring-WS, dispatching Web service messages to
@@ -70,6 +85,10 @@ import org.springframework.ws.transport.WebServiceMessageReceiver;
  * Faults. Default is none. Additional exception resolvers can be added through the
  * {@link #setEndpointExceptionResolvers(List) endpointExceptionResolvers} property.</li>
  * </ul>
+ * <p>
+ * Endpoint resolution can be {@linkplain #setCacheEndpointResolution(boolean) cached}
+ * so that requests skip the {@link CacheableEndpointMapping endpoint mappings} that are
+ * known not to map them, and reuse the adapter of their endpoint.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
@@ -101,6 +120,9 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	protected static final Log receivedMessageTracingLogger = LogFactory
 		.getLog(MessageDispatcher.MESSAGE_TRACING_LOG_CATEGORY + ".received");
 
+	/** Maximum number of endpoint resolutions, and of endpoint adapters, cached. */
+	private static final int ENDPOINT_RESOLUTION_CACHE_LIMIT = 1024;
+
 	private final DefaultStrategiesHelper defaultStrategiesHelper;
 
 	/** The registered bean name for this dispatcher. */
@@ -119,9 +141,19 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	@SuppressWarnings("NullAway.Init")
 	private List<EndpointMapping> endpointMappings;
 
+	private boolean cacheEndpointResolution = false;
+
+	private final Map<Map<RequestDiscriminator, @Nullable Object>, EndpointResolution> endpointResolutions;
+
+	private final Map<Object, EndpointAdapter> endpointAdapterCache;
+
+	private final TransformerHelper transformerHelper = new TransformerHelper();
+
 	/** Initializes a new instance of the {@code MessageDispatcher}. */
 	public MessageDispatcher() {
 		this.defaultStrategiesHelper = new DefaultStrategiesHelper(getClass());
+		this.endpointResolutions = new LruMap<>();
+		this.endpointAdapterCache = new LruMap<>();
 	}
 
 	/** Returns the {@code EndpointAdapter}s to use by this {@code MessageDispatcher}. */
@@ -132,6 +164,7 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	/** Sets the {@code EndpointAdapter}s to use by this {@code MessageDispatcher}. */
 	public void setEndpointAdapters(List<EndpointAdapter> endpointAdapters) {
 		this.endpointAdapters = endpointAdapters;
+		clearEndpointResolutionCache();
 	}
 
 	/**
@@ -158,6 +191,46 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	/** Sets the {@code EndpointMapping}s to use by this {@code MessageDispatcher}. */
 	public void setEndpointMappings(List<EndpointMapping> endpointMappings) {
 		this.endpointMappings = endpointMappings;
+		clearEndpointResolutionCache();
+	}
+
+	/**
+	 * Sets whether to cache the outcome of endpoint resolution and reuse it for
+	 * subsequent requests.
+	 * <p>
+	 * When enabled, the values of the {@linkplain CacheableEndpointMapping#getDiscriminator()
+	 * discriminators} of all {@link CacheableEndpointMapping} instances are extracted once
+	 * per request. Requests with the same values then skip the cacheable mappings that did
+	 * not map the first one, and go straight to the mapping that did. Other mappings are
+	 * still asked in order. Requests that no mapping maps are not cached. The
+	 * {@link EndpointAdapter} of an endpoint is cached as well. Up to 1024 resolutions are
+	 * cached, the least recently used being evicted first, and the cache is reset when the
+	 * mappings or adapters change.
+	 * <p>
+	 * Default is {@code false}.
+	 * @param cacheEndpointResolution whether to cache endpoint resolution
+	 * @since 5.1.0
+	 * @see #clearEndpointResolutionCache()
+	 */
+	public void setCacheEndpointResolution(boolean cacheEndpointResolution) {
+		this.cacheEndpointResolution = cacheEndpointResolution;
+		clearEndpointResolutionCache();
+	}
+
+	/**
+	 * Clear the endpoint resolution cache. Should be called if the endpoints registered
+	 * with the endpoint mappings, or the endpoints supported by the endpoint adapters,
+	 * change at runtime.
+	 * @since 5.1.0
+	 * @see #setCacheEndpointResolution(boolean)
+	 */
+	public void clearEndpointResolutionCache() {
+		synchronized (this.endpointResolutions) {
+			this.endpointResolutions.clear();
+		}
+		synchronized (this.endpointAdapterCache) {
+			this.endpointAdapterCache.clear();
+		}
 	}
 
 	@Override
@@ -174,13 +247,16 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 
 	@Override
 	public void receive(MessageContext messageContext) throws Exception {
+		// Payloads traced by the connection are logged as they are read and written
+		boolean traceContent = !TransportUtils.isPayloadTraced(messageContext);
 		// Let's keep a reference to the request content as it came in, it might be
 		// changed by interceptors in dispatch()
 		String requestContent = "";
-		if (receivedMessageTracingLogger.isTraceEnabled() || sentMessageTracingLogger.isTraceEnabled()) {
+		if (traceContent
+				&& (receivedMessageTracingLogger.isTraceEnabled() || sentMessageTracingLogger.isTraceEnabled())) {
 			requestContent = getMessageContent(messageContext.getRequest());
 		}
-		if (receivedMessageTracingLogger.isTraceEnabled()) {
+		if (traceContent && receivedMessageTracingLogger.isTraceEnabled()) {
 			receivedMessageTracingLogger.trace("Received request [" + requestContent + "]");
 		}
 		else if (receivedMessageTracingLogger.isDebugEnabled()) {
@@ -189,7 +265,7 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		dispatch(messageContext);
 		if (messageContext.hasResponse()) {
 			WebServiceMessage response = messageContext.getResponse();
-			if (sentMessageTracingLogger.isTraceEnabled()) {
+			if (traceContent && sentMessageTracingLogger.isTraceEnabled()) {
 				String responseContent = getMessageContent(response);
 				sentMessageTracingLogger
 					.trace("Sent response [" + responseContent + "] for request [" + requestContent + "]");
@@ -223,10 +299,23 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		try {
 			try {
 				// Determine endpoint for the current context
-				mappedEndpoint = getEndpoint(messageContext);
+				mappedEndpoint = ObservationUtils.observe(messageContext, WebServicePhase.ENDPOINT_MAPPING,
+						() -> getEndpoint(messageContext));
 				if (mappedEndpoint == null || mappedEndpoint.getEndpoint() == null) {
 					throw new NoEndpointFoundException(messageContext.getRequest());
 				}
+				Object endpoint = mappedEndpoint.getEndpoint();
+				ServerRequestObservationContext observationContext = ObservationUtils
+					.getServerObservationContext(messageContext);
+				if (observationContext != null) {
+					observationContext.setEndpoint(endpoint);
+					if (endpoint instanceof MethodEndpoint methodEndpoint) {
+						Method method = methodEndpoint.getMethod();
+						observationContext
+							.setEndpointName(method.getDeclaringClass().getSimpleName() + "#" + method.getName());
+					}
+					observationContext.setPayloadRoot(getPayloadRoot(messageContext));
+				}
 				if (!handleRequest(mappedEndpoint, messageContext)) {
 					return;
 				}
@@ -235,7 +324,8 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 					for (int i = 0; i < mappedEndpoint.getInterceptors().length; i++) {
 						EndpointInterceptor interceptor = mappedEndpoint.getInterceptors()[i];
 						interceptorIndex = i;
-						if (!interceptor.handleRequest(messageContext, mappedEndpoint.getEndpoint())) {
+						if (!ObservationUtils.observe(messageContext, WebServicePhase.INTERCEPTORS,
+								() -> interceptor.handleRequest(messageContext, endpoint))) {
 							triggerHandleResponse(messageContext, mappedEndpoint, interceptorIndex);
 							triggerAfterCompletion(messageContext, mappedEndpoint, interceptorIndex, null);
 							return;
@@ -243,8 +333,9 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 					}
 				}
 				// Actually invoke the endpoint
-				EndpointAdapter endpointAdapter = getEndpointAdapter(mappedEndpoint.getEndpoint());
-				endpointAdapter.invoke(messageContext, mappedEndpoint.getEndpoint());
+				EndpointAdapter endpointAdapter = getEndpointAdapter(endpoint);
+				ObservationUtils.observe(messageContext, WebServicePhase.ENDPOINT_INVOCATION,
+						() -> endpointAdapter.invoke(messageContext, endpoint));
 
 				// Apply handleResponse methods of registered interceptors
 				triggerHandleResponse(messageContext, mappedEndpoint, interceptorIndex);
@@ -279,33 +370,147 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 	 * be found.
 	 */
 	protected @Nullable EndpointInvocationChain getEndpoint(MessageContext messageContext) throws Exception {
-		for (EndpointMapping endpointMapping : getEndpointMappings()) {
-			EndpointInvocationChain endpoint = endpointMapping.getEndpoint(messageContext);
+		List<EndpointMapping> endpointMappings = getEndpointMappings();
+		if (this.cacheEndpointResolution) {
+			Map<RequestDiscriminator, @Nullable Object> key = getEndpointResolutionKey(messageContext,
+					endpointMappings);
+			if (key != null) {
+				return getEndpoint(messageContext, endpointMappings, key);
+			}
+		}
+		for (EndpointMapping endpointMapping : endpointMappings) {
+			EndpointInvocationChain endpoint = getEndpoint(endpointMapping, messageContext);
 			if (endpoint != null) {
-				if (this.logger.isDebugEnabled()) {
-					this.logger.debug("Endpoint mapping [" + endpointMapping + "] maps request to endpoint ["
-							+ endpoint.getEndpoint() + "]");
+				return endpoint;
+			}
+		}
+		return null;
+	}
+
+	private @Nullable QName getPayloadRoot(MessageContext messageContext) {
+		try {
+			return PayloadRootUtils.getPayloadRootQName(messageContext, this.transformerHelper);
+		}
+		catch (TransformerException ex) {
+			return null;
+		}
+	}
+
+	private @Nullable EndpointInvocationChain getEndpoint(MessageContext messageContext,
+			List<EndpointMapping> endpointMappings, Map<RequestDiscriminator, @Nullable Object> key)
+			throws Exception {
+		EndpointResolution resolution;
+		synchronized (this.endpointResolutions) {
+			resolution = this.endpointResolutions.get(key);
+		}
+		if (resolution != null && resolution.endpointMappings().equals(endpointMappings)) {
+			for (EndpointMapping endpointMapping : resolution.candidates()) {
+				EndpointInvocationChain endpoint = getEndpoint(endpointMapping, messageContext);
+				if (endpoint != null) {
+					return endpoint;
+				}
+			}
+		}
+		// Ask all mappings, remembering the ones that need to be asked for similar requests
+		List<EndpointMapping> candidates = new ArrayList<>();
+		for (EndpointMapping endpointMapping : endpointMappings) {
+			EndpointInvocationChain endpoint = getEndpoint(endpointMapping, messageContext);
+			boolean cacheable = getDiscriminator(endpointMapping) != null;
+			if (endpoint != null) {
+				if (cacheable) {
+					candidates.add(endpointMapping);
+					cacheEndpointResolution(key, new EndpointResolution(endpointMappings, candidates));
 				}
 				return endpoint;
 			}
-			else if (this.logger.isDebugEnabled()) {
-				this.logger.debug("Endpoint mapping [" + endpointMapping + "] has no mapping for request");
+			if (!cacheable) {
+				candidates.add(endpointMapping);
 			}
 		}
+		// Unmapped requests are not cached, as their keys are controlled by clients
 		return null;
 	}
 
+	private @Nullable EndpointInvocationChain getEndpoint(EndpointMapping endpointMapping,
+			MessageContext messageContext) throws Exception {
+		EndpointInvocationChain endpoint = endpointMapping.getEndpoint(messageContext);
+		if (endpoint != null) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Endpoint mapping [" + endpointMapping + "] maps request to endpoint ["
+						+ endpoint.getEndpoint() + "]");
+			}
+		}
+		else if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Endpoint mapping [" + endpointMapping + "] has no mapping for request");
+		}
+		return endpoint;
+	}
+
+	/**
+	 * Extract the values of the discriminators the given mappings depend on, or return
+	 * {@code null} if resolution cannot be cached for this request.
+	 */
+	private @Nullable Map<RequestDiscriminator, @Nullable Object> getEndpointResolutionKey(
+			MessageContext messageContext, List<EndpointMapping> endpointMappings) {
+		Set<RequestDiscriminator> discriminators = EnumSet.noneOf(RequestDiscriminator.class);
+		for (EndpointMapping endpointMapping : endpointMappings) {
+			RequestDiscriminator discriminator = getDiscriminator(endpointMapping);
+			if (discriminator != null) {
+				discriminators.add(discriminator);
+			}
+		}
+		if (discriminators.isEmpty()) {
+			return null;
+		}
+		Map<RequestDiscriminator, @Nullable Object> key = new EnumMap<>(RequestDiscriminator.class);
+		for (RequestDiscriminator discriminator : discriminators) {
+			try {
+				key.put(discriminator, discriminator.getValue(messageContext));
+			}
+			catch (Exception ex) {
+				// Let the mappings deal with the request
+				return null;
+			}
+		}
+		return key;
+	}
+
+	private static @Nullable RequestDiscriminator getDiscriminator(EndpointMapping endpointMapping) {
+		return (endpointMapping instanceof CacheableEndpointMapping cacheable) ? cacheable.getDiscriminator() : null;
+	}
+
+	private void cacheEndpointResolution(Map<RequestDiscriminator, @Nullable Object> key,
+			EndpointResolution resolution) {
+		synchronized (this.endpointResolutions) {
+			this.endpointResolutions.put(key, resolution);
+		}
+	}
+
 	/**
 	 * Returns the {@code EndpointAdapter} for the given endpoint.
 	 * @param endpoint the endpoint to find an adapter for
 	 * @return the adapter
 	 */
 	protected EndpointAdapter getEndpointAdapter(Object endpoint) {
+		if (this.cacheEndpointResolution) {
+			EndpointAdapter endpointAdapter;
+			synchronized (this.endpointAdapterCache) {
+				endpointAdapter = this.endpointAdapterCache.get(endpoint);
+			}
+			if (endpointAdapter != null) {
+				return endpointAdapter;
+			}
+		}
 		for (EndpointAdapter endpointAdapter : getEndpointAdapters()) {
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug("Testing endpoint adapter [" + endpointAdapter + "]");
 			}
 			if (endpointAdapter.supports(endpoint)) {
+				if (this.cacheEndpointResolution) {
+					synchronized (this.endpointAdapterCache) {
+						this.endpointAdapterCache.put(endpoint, endpointAdapter);
+					}
+				}
 				return endpointAdapter;
 			}
 		}
@@ -366,21 +571,23 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 			int interceptorIndex) throws Exception {
 		if (mappedEndpoint != null && messageContext.hasResponse()
 				&& !ObjectUtils.isEmpty(mappedEndpoint.getInterceptors())) {
-			boolean hasFault = false;
+			EndpointInterceptor[] interceptors = mappedEndpoint.getInterceptors();
+			Object endpoint = mappedEndpoint.getEndpoint();
 			WebServiceMessage response = messageContext.getResponse();
-			if (response instanceof FaultAwareWebServiceMessage) {
-				hasFault = ((FaultAwareWebServiceMessage) response).hasFault();
-			}
-			boolean resume = true;
-			for (int i = interceptorIndex; resume && i >= 0; i--) {
-				EndpointInterceptor interceptor = mappedEndpoint.getInterceptors()[i];
-				if (!hasFault) {
-					resume = interceptor.handleResponse(messageContext, mappedEndpoint.getEndpoint());
-				}
-				else {
-					resume = interceptor.handleFault(messageContext, mappedEndpoint.getEndpoint());
+			boolean hasFault = (response instanceof FaultAwareWebServiceMessage faultResponse)
+					&& faultResponse.hasFault();
+			ObservationUtils.observe(messageContext, WebServicePhase.INTERCEPTORS, () -> {
+				boolean resume = true;
+				for (int i = interceptorIndex; resume && i >= 0; i--) {
+					EndpointInterceptor interceptor = interceptors[i];
+					if (!hasFault) {
+						resume = interceptor.handleResponse(messageContext, endpoint);
+					}
+					else {
+						resume = interceptor.handleFault(messageContext, endpoint);
+					}
 				}
-			}
+			});
 		}
 	}
 
@@ -486,4 +693,35 @@ public class MessageDispatcher implements WebServiceMessageReceiver, BeanNameAwa
 		}
 	}
 
+	/**
+	 * Outcome of the resolution of a mapped request: the mappings to ask for similar
+	 * requests, in order, the last one being the mapping that mapped it.
+	 */
+	private record EndpointResolution(List<EndpointMapping> endpointMappings, List<EndpointMapping> candidates) {
+
+		EndpointResolution {
+			endpointMappings = List.copyOf(endpointMappings);
+			candidates = List.copyOf(candidates);
+		}
+
+	}
+
+	/**
+	 * Access-ordered map that evicts its least recently used entry once it holds more
+	 * than {@value #ENDPOINT_RESOLUTION_CACHE_LIMIT} entries. Must be synchronized on.
+	 */
+	@SuppressWarnings("serial")
+	private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+		LruMap() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > ENDPOINT_RESOLUTION_CACHE_LIMIT;
+		}
+
+	}
+
 }
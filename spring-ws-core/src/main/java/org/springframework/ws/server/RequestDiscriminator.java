@@ -0,0 +1,156 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.server;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapHeader;
+import org.springframework.ws.soap.SoapHeaderElement;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.addressing.version.Addressing10;
+import org.springframework.ws.soap.addressing.version.Addressing200408;
+import org.springframework.ws.soap.addressing.version.AddressingVersion;
+import org.springframework.ws.support.PayloadRootUtils;
+import org.springframework.ws.transport.WebServiceConnection;
+import org.springframework.ws.transport.context.TransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+import org.springframework.xml.transform.TransformerHelper;
+
+/**
+ * Parts of a request that routing and interception decisions can depend on. Used by
+ * {@link CacheableSmartEndpointInterceptor} and {@link CacheableEndpointMapping} to
+ * declare that a decision can be cached for a given value.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public enum RequestDiscriminator {
+
+	/**
+	 * The qualified name of the payload root element.
+	 */
+	PAYLOAD_ROOT_QNAME {
+
+		@Override
+		public @Nullable Object getValue(MessageContext messageContext) throws Exception {
+			return PayloadRootUtils.getPayloadRootQName(messageContext, transformerHelper);
+		}
+
+	},
+
+	/**
+	 * The {@code SOAPAction} of a SOAP request.
+	 */
+	SOAP_ACTION {
+
+		@Override
+		public @Nullable Object getValue(MessageContext messageContext) {
+			return (messageContext.getRequest() instanceof SoapMessage request) ? request.getSoapAction() : null;
+		}
+
+	},
+
+	/**
+	 * The WS-Addressing {@code Action} and {@code To} headers of a SOAP request, for
+	 * each of the {@link Addressing200408} and {@link Addressing10} versions it uses.
+	 * Only those headers are read, the other addressing headers are left to the
+	 * mappings.
+	 */
+	WS_ADDRESSING_ACTION {
+
+		@Override
+		public @Nullable Object getValue(MessageContext messageContext) {
+			if (!(messageContext.getRequest() instanceof SoapMessage request)) {
+				return null;
+			}
+			SoapHeader header = request.getSoapHeader();
+			if (header == null) {
+				return null;
+			}
+			Map<String, List<String>> value = new HashMap<>();
+			for (Iterator<SoapHeaderElement> iterator = header.examineAllHeaderElements(); iterator.hasNext();) {
+				SoapHeaderElement headerElement = iterator.next();
+				if (isAddressingHeader(headerElement)) {
+					QName name = headerElement.getName();
+					List<String> headers = value.computeIfAbsent(name.getNamespaceURI(), (key) -> new ArrayList<>());
+					if (ACTION.equals(name.getLocalPart()) || TO.equals(name.getLocalPart())) {
+						headers.add(name.getLocalPart() + "=" + headerElement.getText());
+					}
+				}
+			}
+			return (!value.isEmpty()) ? value : null;
+		}
+
+		private boolean isAddressingHeader(SoapHeaderElement headerElement) {
+			for (AddressingVersion version : addressingVersions) {
+				if (version.understands(headerElement)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	},
+
+	/**
+	 * The URI of the connection the request was received on.
+	 */
+	REQUEST_URI {
+
+		@Override
+		public @Nullable Object getValue(MessageContext messageContext) throws Exception {
+			TransportContext transportContext = TransportContextHolder.getTransportContext();
+			if (transportContext != null) {
+				WebServiceConnection connection = transportContext.getConnection();
+				if (connection != null) {
+					URI connectionUri = connection.getUri();
+					return (connectionUri != null) ? connectionUri.toString() : null;
+				}
+			}
+			return null;
+		}
+
+	};
+
+	private static final TransformerHelper transformerHelper = new TransformerHelper();
+
+	private static final AddressingVersion[] addressingVersions = { new Addressing200408(), new Addressing10() };
+
+	private static final String ACTION = "Action";
+
+	private static final String TO = "To";
+
+	/**
+	 * Extract the value of this discriminator from the request of the given message
+	 * context. Two requests with equal values are considered equivalent as far as this
+	 * discriminator is concerned.
+	 * @param messageContext the message context
+	 * @return the value, or {@code null} if the request does not define one
+	 * @throws Exception in case of errors
+	 */
+	public abstract @Nullable Object getValue(MessageContext messageContext) throws Exception;
+
+}
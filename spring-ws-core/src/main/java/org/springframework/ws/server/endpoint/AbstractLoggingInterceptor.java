@@ -32,6 +32,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.support.AsyncPayloadLogger;
+import org.springframework.ws.support.PayloadCapture;
 import org.springframework.xml.transform.TransformerObjectSupport;
 
 /**
@@ -55,6 +57,8 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 
 	private boolean logResponse = true;
 
+	private @Nullable AsyncPayloadLogger payloadLogger;
+
 	/** Indicates whether the request should be logged. Default is {@code true}. */
 	public final void setLogRequest(boolean logRequest) {
 		this.logRequest = logRequest;
@@ -65,6 +69,18 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 		this.logResponse = logResponse;
 	}
 
+	/**
+	 * Set the {@link AsyncPayloadLogger} to use. When set, only a bounded prefix of each
+	 * payload is kept, and the log message is built and written on a background thread
+	 * rather than on the thread that handles the request. Default is {@code null}, which
+	 * logs the whole payload synchronously.
+	 * @param payloadLogger the payload logger to use
+	 * @since 5.1.0
+	 */
+	public void setPayloadLogger(@Nullable AsyncPayloadLogger payloadLogger) {
+		this.payloadLogger = payloadLogger;
+	}
+
 	/**
 	 * Set the name of the logger to use. The name will be passed to the underlying logger
 	 * implementation through Commons Logging, getting interpreted as log category
@@ -142,13 +158,20 @@ public abstract class AbstractLoggingInterceptor extends TransformerObjectSuppor
 	 * prefix.
 	 * <p>
 	 * By default, this message creates a string representation of the given source, and
-	 * delegates to {@link #logMessage(String)}.
+	 * delegates to {@link #logMessage(String)}. If an {@link AsyncPayloadLogger} is set,
+	 * a bounded prefix of the source is handed over to it instead.
 	 * @param logMessage the log message
 	 * @param source the source to be logged
 	 * @throws TransformerException in case of errors
 	 */
 	protected void logMessageSource(String logMessage, @Nullable Source source) throws TransformerException {
-		if (source != null) {
+		if (source != null && this.payloadLogger != null) {
+			Transformer transformer = createNonIndentingTransformer();
+			PayloadCapture capture = this.payloadLogger.createCapture();
+			transformer.transform(source, new StreamResult(capture));
+			this.payloadLogger.log(this::logMessage, logMessage, capture);
+		}
+		else if (source != null) {
 			Transformer transformer = createNonIndentingTransformer();
 			StringWriter writer = new StringWriter();
 			transformer.transform(source, new StreamResult(writer));
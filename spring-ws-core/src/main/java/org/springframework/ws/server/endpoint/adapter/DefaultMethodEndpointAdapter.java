@@ -29,6 +29,8 @@ import org.springframework.core.MethodParameter;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.observation.ObservationUtils;
+import org.springframework.ws.observation.WebServicePhase;
 import org.springframework.ws.server.endpoint.MethodEndpoint;
 import org.springframework.ws.server.endpoint.adapter.method.MessageContextMethodArgumentResolver;
 import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResolver;
@@ -251,13 +253,15 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 
 	@Override
 	protected final void invokeInternal(MessageContext messageContext, MethodEndpoint methodEndpoint) throws Exception {
-		@Nullable Object[] args = getMethodArguments(messageContext, methodEndpoint);
+		@Nullable Object[] args = ObservationUtils.observe(messageContext, WebServicePhase.UNMARSHALLING,
+				() -> getMethodArguments(messageContext, methodEndpoint));
 
 		if (this.logger.isTraceEnabled()) {
 			this.logger.trace("Invoking [" + methodEndpoint + "] with arguments " + Arrays.asList(args));
 		}
 
-		Object returnValue = methodEndpoint.invoke(args);
+		Object returnValue = ObservationUtils.observe(messageContext, WebServicePhase.METHOD_INVOCATION,
+				() -> methodEndpoint.invoke(args));
 
 		if (this.logger.isTraceEnabled()) {
 			this.logger.trace("Method [" + methodEndpoint + "] returned [" + returnValue + "]");
@@ -265,7 +269,8 @@ public class DefaultMethodEndpointAdapter extends AbstractMethodEndpointAdapter
 
 		Class<?> returnType = methodEndpoint.getMethod().getReturnType();
 		if (!Void.TYPE.equals(returnType)) {
-			handleMethodReturnValue(messageContext, returnValue, methodEndpoint);
+			ObservationUtils.observe(messageContext, WebServicePhase.MARSHALLING,
+					() -> handleMethodReturnValue(messageContext, returnValue, methodEndpoint));
 		}
 	}
 
@@ -17,13 +17,17 @@
 package org.springframework.ws.server.endpoint.adapter.method;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMResult;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
@@ -37,9 +41,11 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.endpoint.annotation.XPathParam;
 import org.springframework.ws.server.endpoint.support.NamespaceUtils;
+import org.springframework.ws.support.InstancePool;
 import org.springframework.xml.transform.TransformerHelper;
 
 /**
@@ -52,14 +58,27 @@ import org.springframework.xml.transform.TransformerHelper;
  * double}, {@link String}, {@link Node}, or {@link NodeList}), or a type that is
  * {@linkplain ConversionService#canConvert(Class, Class) supported} by the
  * {@link ConversionService}.
+ * <p>
+ * As {@link XPathExpression} is not thread-safe, compiled expressions are kept in a
+ * bounded pool per parameter, and an expression is only compiled when none is available.
+ * The request payload is transformed to a DOM once per request, and shared by all
+ * {@code @XPathParam} parameters of the invoked method through a
+ * {@linkplain MessageContext#getProperty(String) message context property}.
  *
  * @author Arjen Poutsma
  * @since 2.0
  */
 public class XPathParamMethodArgumentResolver implements MethodArgumentResolver {
 
+	private static final String PAYLOAD_ELEMENT_PROPERTY = XPathParamMethodArgumentResolver.class.getName()
+			+ ".PAYLOAD_ELEMENT";
+
 	private final XPathFactory xpathFactory = createXPathFactory();
 
+	private final Map<MethodParameter, InstancePool<XPathExpression>> expressionPools = new ConcurrentHashMap<>();
+
+	private final int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+
 	private TransformerHelper transformerHelper = new TransformerHelper();
 
 	private ConversionService conversionService = new DefaultConversionService();
@@ -106,17 +125,26 @@ public class XPathParamMethodArgumentResolver implements MethodArgumentResolver
 			evaluationReturnType = XPathConstants.STRING;
 			useConversionService = true;
 		}
-		XPath xpath = createXPath();
-		xpath.setNamespaceContext(NamespaceUtils.getNamespaceContext(method));
+		Element rootElement = getRootElement(messageContext);
+		InstancePool<XPathExpression> pool = this.expressionPools.computeIfAbsent(parameter,
+				(key) -> new InstancePool<>(this.poolSize));
+		XPathExpression expression = pool.acquire();
+		if (expression == null) {
+			expression = compileXPathExpression(parameter, method);
+		}
+		Object result = expression.evaluate(rootElement, evaluationReturnType);
+		pool.release(expression);
+		return (useConversionService) ? this.conversionService.convert(result, parameterType) : result;
+	}
 
-		Source payloadSource = messageContext.getRequest().getPayloadSource();
-		Assert.notNull(payloadSource, "No payload source available");
-		Element rootElement = getRootElement(payloadSource);
+	private XPathExpression compileXPathExpression(MethodParameter parameter, Method method)
+			throws XPathExpressionException {
 		XPathParam annotation = parameter.getParameterAnnotation(XPathParam.class);
 		Assert.state(annotation != null, "No @XPathParam annotation found");
-		String expression = annotation.value();
-		Object result = xpath.evaluate(expression, rootElement, evaluationReturnType);
-		return (useConversionService) ? this.conversionService.convert(result, parameterType) : result;
+		NamespaceContext namespaceContext = NamespaceUtils.getNamespaceContext(method);
+		XPath xpath = createXPath();
+		xpath.setNamespaceContext(namespaceContext);
+		return xpath.compile(annotation.value());
 	}
 
 	private @Nullable QName getReturnType(Class<?> parameterType) {
@@ -146,11 +174,20 @@ public class XPathParamMethodArgumentResolver implements MethodArgumentResolver
 		}
 	}
 
-	private Element getRootElement(Source source) throws TransformerException {
+	private Element getRootElement(MessageContext messageContext) throws TransformerException {
+		WebServiceMessage request = messageContext.getRequest();
+		if (messageContext.getProperty(PAYLOAD_ELEMENT_PROPERTY) instanceof PayloadElement payloadElement
+				&& payloadElement.request == request) {
+			return payloadElement.element;
+		}
+		Source payloadSource = request.getPayloadSource();
+		Assert.notNull(payloadSource, "No payload source available");
 		DOMResult domResult = new DOMResult();
-		this.transformerHelper.transform(source, domResult);
+		this.transformerHelper.transform(payloadSource, domResult);
 		Document document = (Document) domResult.getNode();
-		return document.getDocumentElement();
+		Element element = document.getDocumentElement();
+		messageContext.setProperty(PAYLOAD_ELEMENT_PROPERTY, new PayloadElement(request, element));
+		return element;
 	}
 
 	/**
@@ -165,4 +202,20 @@ public class XPathParamMethodArgumentResolver implements MethodArgumentResolver
 		return XPathFactory.newInstance();
 	}
 
+	/**
+	 * Payload of a request, transformed to a DOM.
+	 */
+	private static final class PayloadElement {
+
+		private final WebServiceMessage request;
+
+		private final Element element;
+
+		private PayloadElement(WebServiceMessage request, Element element) {
+			this.request = request;
+			this.element = element;
+		}
+
+	}
+
 }
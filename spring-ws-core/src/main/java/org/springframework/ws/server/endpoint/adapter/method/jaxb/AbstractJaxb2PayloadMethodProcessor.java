@@ -58,6 +58,7 @@ import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.endpoint.adapter.method.AbstractPayloadMethodProcessor;
 import org.springframework.ws.stream.StreamingPayload;
 import org.springframework.ws.stream.StreamingWebServiceMessage;
+import org.springframework.ws.support.InstancePool;
 import org.springframework.xml.transform.TraxUtils;
 
 /**
@@ -71,6 +72,10 @@ import org.springframework.xml.transform.TraxUtils;
  * marshalling} and
  * {@linkplain #unmarshalFromRequestPayload(org.springframework.ws.context.MessageContext, Class)
  * unmarshalling} methods.
+ * <p>
+ * {@link Marshaller} and {@link Unmarshaller} instances are not thread-safe, but are
+ * expensive to create. This class keeps a bounded pool of them per class, see
+ * {@link #setPoolSize(int)}, and caches the root element name of marshalled classes.
  *
  * @author Arjen Poutsma
  * @since 2.0
@@ -79,6 +84,29 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 	private final ConcurrentMap<Class<?>, JAXBContext> jaxbContexts = new ConcurrentHashMap<>();
 
+	private final ConcurrentMap<Class<?>, InstancePool<Marshaller>> marshallerPools = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, InstancePool<Unmarshaller>> unmarshallerPools = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Class<?>, QName> rootElementNames = new ConcurrentHashMap<>();
+
+	private int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+	/**
+	 * Sets the maximum number of idle {@link Marshaller} and {@link Unmarshaller}
+	 * instances to keep per class. Instances are only returned to the pool after a
+	 * successful operation.
+	 * <p>
+	 * Defaults to twice the number of available processors. Setting this to {@code 0}
+	 * disables pooling, creating new instances for every request.
+	 * @param poolSize the maximum number of pooled instances per class
+	 * @since 5.1.0
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isTrue(poolSize >= 0, "'poolSize' must not be negative");
+		this.poolSize = poolSize;
+	}
+
 	@Override
 	public final void handleReturnValue(MessageContext messageContext, MethodParameter returnType,
 			@Nullable Object returnValue) throws Exception {
@@ -115,8 +143,9 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		else {
 			Result responsePayload = response.getPayloadResult();
 			try {
-				Jaxb2ResultCallback callback = new Jaxb2ResultCallback(clazz, jaxbElement);
-				TraxUtils.doWithResult(responsePayload, callback);
+				Marshaller marshaller = acquireMarshaller(clazz);
+				TraxUtils.doWithResult(responsePayload, new Jaxb2ResultCallback(marshaller, jaxbElement));
+				releaseMarshaller(clazz, marshaller);
 			}
 			catch (Exception ex) {
 				throw convertToJaxbException(ex);
@@ -138,8 +167,10 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 			return null;
 		}
 		try {
-			Jaxb2SourceCallback callback = new Jaxb2SourceCallback(clazz);
+			Unmarshaller unmarshaller = acquireUnmarshaller(clazz);
+			Jaxb2SourceCallback callback = new Jaxb2SourceCallback(unmarshaller);
 			TraxUtils.doWithSource(requestPayload, callback);
+			releaseUnmarshaller(clazz, unmarshaller);
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug("Unmarshalled payload request to [" + callback.result + "]");
 			}
@@ -164,8 +195,10 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 			return null;
 		}
 		try {
-			JaxbElementSourceCallback<T> callback = new JaxbElementSourceCallback<>(clazz);
+			Unmarshaller unmarshaller = acquireUnmarshaller(clazz);
+			JaxbElementSourceCallback<T> callback = new JaxbElementSourceCallback<>(unmarshaller, clazz);
 			TraxUtils.doWithSource(requestPayload, callback);
+			releaseUnmarshaller(clazz, unmarshaller);
 			if (this.logger.isDebugEnabled()) {
 				this.logger.debug("Unmarshalled payload request to [" + callback.result + "]");
 			}
@@ -193,6 +226,8 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 	 * Creates a new {@link Marshaller} to be used for marshalling objects to XML.
 	 * Defaults to {@link jakarta.xml.bind.JAXBContext#createMarshaller()}, but can be
 	 * overridden in subclasses for further customization.
+	 * <p>
+	 * The returned marshaller may be pooled and reused for subsequent requests.
 	 * @param jaxbContext the JAXB context to create a marshaller for
 	 * @return the marshaller
 	 * @throws JAXBException in case of JAXB errors
@@ -201,14 +236,32 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		return jaxbContext.createMarshaller();
 	}
 
-	private Marshaller createMarshaller(Class<?> clazz) throws JAXBException {
-		return createMarshaller(getJaxbContext(clazz));
+	private Marshaller acquireMarshaller(Class<?> clazz) throws JAXBException {
+		InstancePool<Marshaller> pool = getMarshallerPool(clazz);
+		Marshaller marshaller = (pool != null) ? pool.acquire() : null;
+		return (marshaller != null) ? marshaller : createMarshaller(getJaxbContext(clazz));
+	}
+
+	private void releaseMarshaller(Class<?> clazz, Marshaller marshaller) {
+		InstancePool<Marshaller> pool = getMarshallerPool(clazz);
+		if (pool != null) {
+			pool.release(marshaller);
+		}
+	}
+
+	private @Nullable InstancePool<Marshaller> getMarshallerPool(Class<?> clazz) {
+		if (this.poolSize == 0) {
+			return null;
+		}
+		return this.marshallerPools.computeIfAbsent(clazz, (key) -> new InstancePool<>(this.poolSize));
 	}
 
 	/**
 	 * Creates a new {@link Unmarshaller} to be used for unmarshalling XML to objects.
 	 * Defaults to {@link jakarta.xml.bind.JAXBContext#createUnmarshaller()}, but can be
 	 * overridden in subclasses for further customization.
+	 * <p>
+	 * The returned unmarshaller may be pooled and reused for subsequent requests.
 	 * @param jaxbContext the JAXB context to create a unmarshaller for
 	 * @return the unmarshaller
 	 * @throws JAXBException in case of JAXB errors
@@ -217,8 +270,24 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		return jaxbContext.createUnmarshaller();
 	}
 
-	private Unmarshaller createUnmarshaller(Class<?> clazz) throws JAXBException {
-		return createUnmarshaller(getJaxbContext(clazz));
+	private Unmarshaller acquireUnmarshaller(Class<?> clazz) throws JAXBException {
+		InstancePool<Unmarshaller> pool = getUnmarshallerPool(clazz);
+		Unmarshaller unmarshaller = (pool != null) ? pool.acquire() : null;
+		return (unmarshaller != null) ? unmarshaller : createUnmarshaller(getJaxbContext(clazz));
+	}
+
+	private void releaseUnmarshaller(Class<?> clazz, Unmarshaller unmarshaller) {
+		InstancePool<Unmarshaller> pool = getUnmarshallerPool(clazz);
+		if (pool != null) {
+			pool.release(unmarshaller);
+		}
+	}
+
+	private @Nullable InstancePool<Unmarshaller> getUnmarshallerPool(Class<?> clazz) {
+		if (this.poolSize == 0) {
+			return null;
+		}
+		return this.unmarshallerPools.computeIfAbsent(clazz, (key) -> new InstancePool<>(this.poolSize));
 	}
 
 	private JAXBContext getJaxbContext(Class<?> clazz) throws JAXBException {
@@ -231,6 +300,21 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		return jaxbContext;
 	}
 
+	private QName getElementName(Class<?> clazz, Object jaxbElement) throws JAXBException {
+		if (jaxbElement instanceof JAXBElement<?> element) {
+			return element.getName();
+		}
+		QName name = this.rootElementNames.get(jaxbElement.getClass());
+		if (name == null) {
+			JAXBIntrospector introspector = getJaxbContext(clazz).createJAXBIntrospector();
+			name = introspector.getElementName(jaxbElement);
+			if (name != null) {
+				this.rootElementNames.putIfAbsent(jaxbElement.getClass(), name);
+			}
+		}
+		return name;
+	}
+
 	// Callbacks
 
 	private final class Jaxb2SourceCallback implements TraxUtils.SourceCallback {
@@ -239,8 +323,8 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 		private @Nullable Object result;
 
-		Jaxb2SourceCallback(Class<?> clazz) throws JAXBException {
-			this.unmarshaller = createUnmarshaller(clazz);
+		Jaxb2SourceCallback(Unmarshaller unmarshaller) {
+			this.unmarshaller = unmarshaller;
 		}
 
 		@Override
@@ -309,8 +393,8 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 		private @Nullable JAXBElement<T> result;
 
-		JaxbElementSourceCallback(Class<T> declaredType) throws JAXBException {
-			this.unmarshaller = createUnmarshaller(declaredType);
+		JaxbElementSourceCallback(Unmarshaller unmarshaller, Class<T> declaredType) {
+			this.unmarshaller = unmarshaller;
 			this.declaredType = declaredType;
 		}
 
@@ -357,8 +441,8 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 		private final Object jaxbElement;
 
-		private Jaxb2ResultCallback(Class<?> clazz, Object jaxbElement) throws JAXBException {
-			this.marshaller = createMarshaller(clazz);
+		private Jaxb2ResultCallback(Marshaller marshaller, Object jaxbElement) {
+			this.marshaller = marshaller;
 			this.jaxbElement = jaxbElement;
 		}
 
@@ -401,19 +485,16 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 
 	private final class JaxbStreamingPayload implements StreamingPayload {
 
-		private final Object jaxbElement;
+		private final Class<?> clazz;
 
-		private final Marshaller marshaller;
+		private final Object jaxbElement;
 
 		private final QName name;
 
 		private JaxbStreamingPayload(Class<?> clazz, Object jaxbElement) throws JAXBException {
-			JAXBContext jaxbContext = getJaxbContext(clazz);
-			this.marshaller = jaxbContext.createMarshaller();
-			this.marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+			this.clazz = clazz;
 			this.jaxbElement = jaxbElement;
-			JAXBIntrospector introspector = jaxbContext.createJAXBIntrospector();
-			this.name = introspector.getElementName(jaxbElement);
+			this.name = getElementName(clazz, jaxbElement);
 		}
 
 		@Override
@@ -424,7 +505,12 @@ public abstract class AbstractJaxb2PayloadMethodProcessor extends AbstractPayloa
 		@Override
 		public void writeTo(XMLStreamWriter streamWriter) throws XMLStreamException {
 			try {
-				this.marshaller.marshal(this.jaxbElement, streamWriter);
+				Marshaller marshaller = acquireMarshaller(this.clazz);
+				boolean fragment = Boolean.TRUE.equals(marshaller.getProperty(Marshaller.JAXB_FRAGMENT));
+				marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+				marshaller.marshal(this.jaxbElement, streamWriter);
+				marshaller.setProperty(Marshaller.JAXB_FRAGMENT, fragment);
+				releaseMarshaller(this.clazz, marshaller);
 			}
 			catch (JAXBException ex) {
 				throw new XMLStreamException("Could not marshal [" + this.jaxbElement + "]: " + ex.getMessage(), ex);
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indicates that the responses of an endpoint method only depend on the request payload,
+ * so that they can be cached and returned for identical requests without invoking the
+ * method again. Typically used next to {@link PayloadRoot @PayloadRoot} on lookup
+ * operations. When declared on an endpoint class, applies to all of its methods.
+ * <p>
+ * Responses are cached by a
+ * {@link org.springframework.ws.server.endpoint.interceptor.ResponseCachingInterceptor}.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see org.springframework.ws.server.endpoint.interceptor.ResponseCachingInterceptor
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheableResponse {
+
+	/**
+	 * Signifies how long a response is cached, in the {@link #timeUnit() time unit}. A
+	 * negative value, the default, uses the time to live of the interceptor.
+	 */
+	long timeToLive() default -1;
+
+	/**
+	 * Signifies the {@link TimeUnit} of the {@link #timeToLive() time to live}. Default
+	 * is seconds.
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.interceptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.mime.MimeMessage;
+import org.springframework.ws.server.CacheableSmartEndpointInterceptor;
+import org.springframework.ws.server.RequestDiscriminator;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
+import org.springframework.ws.server.endpoint.annotation.CacheableResponse;
+import org.springframework.ws.soap.SoapHeader;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.stream.StreamingWebServiceMessage;
+import org.springframework.xml.transform.TransformerObjectSupport;
+
+/**
+ * Interceptor that caches the responses of endpoint methods annotated with
+ * {@link CacheableResponse @CacheableResponse}, keyed by a hash of the request.
+ * <p>
+ * The SOAP headers and the payload of the request are serialized directly into a SHA-256
+ * digest, without buffering them. When an identical request is received for the same
+ * method, the cached response is written into the {@link MessageContext}, and the
+ * endpoint is not invoked. Faults and responses with attachments are not cached. Requests
+ * whose payload can only be read once, as indicated by
+ * {@link StreamingWebServiceMessage#isPayloadRepeatable()}, are not cached either, as
+ * hashing the payload would consume it.
+ * <p>
+ * The cache holds at most {@link #setMaxEntries(int) maxEntries} responses, and evicts
+ * the least recently used ones first. As a
+ * {@link org.springframework.ws.server.SmartEndpointInterceptor SmartEndpointInterceptor},
+ * this interceptor is detected by the endpoint mappings when it is registered as a bean.
+ * Whether it applies only depends on the endpoint, so that it does not prevent the
+ * {@linkplain org.springframework.ws.server.endpoint.mapping.AbstractEndpointMapping#setCacheInvocationChains(boolean)
+ * caching of invocation chains}.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see CacheableResponse
+ */
+public class ResponseCachingInterceptor extends TransformerObjectSupport
+		implements CacheableSmartEndpointInterceptor {
+
+	private static final Log logger = LogFactory.getLog(ResponseCachingInterceptor.class);
+
+	private static final String CACHE_KEY_ATTRIBUTE = ResponseCachingInterceptor.class.getName() + ".CACHE_KEY";
+
+	private final Map<CacheKey, CachedResponse> cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResponse> eldest) {
+			return size() > ResponseCachingInterceptor.this.maxEntries;
+		}
+
+	};
+
+	private int maxEntries = 1000;
+
+	private Duration timeToLive = Duration.ofMinutes(1);
+
+	/**
+	 * Set the maximum number of cached responses. Default is 1000.
+	 */
+	public void setMaxEntries(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, "'maxEntries' must be positive");
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Set how long a response is cached, unless specified by
+	 * {@link CacheableResponse#timeToLive()}. Default is 1 minute.
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "'timeToLive' must not be null");
+		this.timeToLive = timeToLive;
+	}
+
+	@Override
+	public boolean shouldIntercept(MessageContext messageContext, Object endpoint) {
+		return getTimeToLive(endpoint) != null;
+	}
+
+	/**
+	 * Returns {@link RequestDiscriminator#SOAP_ACTION}. The decision of this interceptor
+	 * only depends on the endpoint, and the SOAP action is available without reading the
+	 * request.
+	 */
+	@Override
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.SOAP_ACTION;
+	}
+
+	/**
+	 * Writes the cached response into the given message context, if any.
+	 * @return {@code false} if a cached response was found; {@code true} otherwise
+	 */
+	@Override
+	public boolean handleRequest(MessageContext messageContext, Object endpoint) throws Exception {
+		if (!(endpoint instanceof MethodEndpoint methodEndpoint) || getTimeToLive(endpoint) == null
+				|| !isPayloadRepeatable(messageContext.getRequest())) {
+			return true;
+		}
+		CacheKey key = new CacheKey(methodEndpoint.getMethod(), hashRequest(messageContext.getRequest()));
+		byte[] response = getCachedResponse(key);
+		if (response != null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Returning cached response for [" + endpoint + "]");
+			}
+			messageContext.readResponse(new ByteArrayInputStream(response));
+			return false;
+		}
+		messageContext.setProperty(CACHE_KEY_ATTRIBUTE, key);
+		return true;
+	}
+
+	/**
+	 * Caches the response in the given message context, if the request was not served
+	 * from the cache.
+	 * @return always returns {@code true}
+	 */
+	@Override
+	public boolean handleResponse(MessageContext messageContext, Object endpoint) throws Exception {
+		Object key = messageContext.getProperty(CACHE_KEY_ATTRIBUTE);
+		Duration timeToLive = getTimeToLive(endpoint);
+		if (key instanceof CacheKey cacheKey && timeToLive != null && messageContext.hasResponse()) {
+			WebServiceMessage response = messageContext.getResponse();
+			if (!(response instanceof MimeMessage mimeMessage) || !mimeMessage.getAttachments().hasNext()) {
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+				response.writeTo(outputStream);
+				long expiresAt = System.currentTimeMillis() + timeToLive.toMillis();
+				synchronized (this.cache) {
+					this.cache.put(cacheKey, new CachedResponse(outputStream.toByteArray(), expiresAt));
+				}
+			}
+		}
+		return true;
+	}
+
+	/** Does nothing by default. Faults are not cached. */
+	@Override
+	public boolean handleFault(MessageContext messageContext, Object endpoint) throws Exception {
+		return true;
+	}
+
+	/** Does nothing by default. */
+	@Override
+	public void afterCompletion(MessageContext messageContext, Object endpoint, @Nullable Exception ex) {
+	}
+
+	private @Nullable Duration getTimeToLive(Object endpoint) {
+		if (!(endpoint instanceof MethodEndpoint methodEndpoint)) {
+			return null;
+		}
+		Method method = methodEndpoint.getMethod();
+		CacheableResponse annotation = AnnotatedElementUtils.findMergedAnnotation(method, CacheableResponse.class);
+		if (annotation == null) {
+			annotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(),
+					CacheableResponse.class);
+		}
+		if (annotation == null) {
+			return null;
+		}
+		return (annotation.timeToLive() >= 0)
+				? Duration.ofMillis(annotation.timeUnit().toMillis(annotation.timeToLive())) : this.timeToLive;
+	}
+
+	private static boolean isPayloadRepeatable(WebServiceMessage request) {
+		return !(request instanceof StreamingWebServiceMessage streamingMessage)
+				|| streamingMessage.isPayloadRepeatable();
+	}
+
+	private String hashRequest(WebServiceMessage request) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		try (OutputStream outputStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+			if (request instanceof SoapMessage soapMessage) {
+				SoapHeader header = soapMessage.getSoapHeader();
+				if (header != null && header.examineAllHeaderElements().hasNext()) {
+					transform(header.getSource(), new StreamResult(outputStream));
+				}
+			}
+			// separates the headers from the payload in the digest
+			outputStream.write(0);
+			Source payload = request.getPayloadSource();
+			if (payload != null) {
+				transform(payload, new StreamResult(outputStream));
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private byte @Nullable [] getCachedResponse(CacheKey key) {
+		synchronized (this.cache) {
+			CachedResponse cachedResponse = this.cache.get(key);
+			if (cachedResponse == null) {
+				return null;
+			}
+			if (System.currentTimeMillis() >= cachedResponse.expiresAt()) {
+				this.cache.remove(key);
+				return null;
+			}
+			return cachedResponse.content();
+		}
+	}
+
+	private record CacheKey(Method method, String payloadHash) {
+	}
+
+	private record CachedResponse(byte[] content, long expiresAt) {
+	}
+
+}
@@ -18,6 +18,8 @@ package org.springframework.ws.server.endpoint.mapping;
 
 import java.lang.annotation.Annotation;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.context.ApplicationContext;
@@ -31,7 +33,8 @@ import org.springframework.ws.server.endpoint.annotation.Endpoint;
  * {@link Endpoint}, but this can be overriden in subclasses.
  * <p>
  * The methods of each bean carrying @Endpoint will be registered using
- * {@link #registerMethods(String)}.
+ * {@link #registerMethods(String)}. If the context holds an {@link EndpointIndex}
+ * computed ahead of time, only the indexed beans are considered.
  *
  * @param <T> the type of the key
  * @author Arjen Poutsma
@@ -68,6 +71,13 @@ public abstract class AbstractAnnotationMethodEndpointMapping<T> extends Abstrac
 		if (this.logger.isDebugEnabled()) {
 			this.logger.debug("Looking for endpoints in application context: " + applicationContext);
 		}
+		EndpointIndex endpointIndex = getEndpointIndex(applicationContext);
+		if (endpointIndex != null) {
+			for (String beanName : endpointIndex.getBeanNames()) {
+				registerMethods(beanName);
+			}
+			return;
+		}
 		String[] beanNames = (this.detectEndpointsInAncestorContexts
 				? BeanFactoryUtils.beanNamesForTypeIncludingAncestors(applicationContext, Object.class)
 				: applicationContext.getBeanNamesForType(Object.class));
@@ -81,4 +91,12 @@ public abstract class AbstractAnnotationMethodEndpointMapping<T> extends Abstrac
 		}
 	}
 
+	private @Nullable EndpointIndex getEndpointIndex(ApplicationContext applicationContext) {
+		if (this.detectEndpointsInAncestorContexts || getEndpointAnnotationType() != Endpoint.class
+				|| !applicationContext.containsLocalBean(EndpointIndex.BEAN_NAME)) {
+			return null;
+		}
+		return applicationContext.getBean(EndpointIndex.BEAN_NAME, EndpointIndex.class);
+	}
+
 }
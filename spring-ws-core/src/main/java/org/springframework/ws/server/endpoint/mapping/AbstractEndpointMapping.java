@@ -18,8 +18,12 @@ package org.springframework.ws.server.endpoint.mapping;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
@@ -29,9 +33,11 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ApplicationObjectSupport;
 import org.springframework.core.Ordered;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.CacheableSmartEndpointInterceptor;
 import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.server.EndpointInvocationChain;
 import org.springframework.ws.server.EndpointMapping;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.server.SmartEndpointInterceptor;
 
 /**
@@ -45,6 +51,9 @@ import org.springframework.ws.server.SmartEndpointInterceptor;
  */
 public abstract class AbstractEndpointMapping extends ApplicationObjectSupport implements EndpointMapping, Ordered {
 
+	/** Maximum number of invocation chains cached when caching is enabled. */
+	private static final int INVOCATION_CHAIN_CACHE_LIMIT = 1024;
+
 	private int order = Integer.MAX_VALUE; // default: same as non-Ordered
 
 	private @Nullable Object defaultEndpoint;
@@ -53,6 +62,12 @@ public abstract class AbstractEndpointMapping extends ApplicationObjectSupport i
 
 	private SmartEndpointInterceptor @Nullable [] smartInterceptors;
 
+	private boolean cacheInvocationChains = false;
+
+	private @Nullable Set<RequestDiscriminator> discriminators;
+
+	private final Map<InvocationChainKey, EndpointInvocationChain> invocationChains = new ConcurrentHashMap<>();
+
 	/**
 	 * Returns the endpoint interceptors to apply to all endpoints mapped by this endpoint
 	 * mapping.
@@ -69,6 +84,29 @@ public abstract class AbstractEndpointMapping extends ApplicationObjectSupport i
 	 */
 	public final void setInterceptors(EndpointInterceptor[] interceptors) {
 		this.interceptors = interceptors;
+		initDiscriminators();
+	}
+
+	/**
+	 * Sets whether to cache the {@link EndpointInvocationChain} of a given endpoint and
+	 * reuse it for subsequent requests, instead of asking each
+	 * {@link SmartEndpointInterceptor} whether it applies to every request.
+	 * <p>
+	 * Caching only takes place if all smart interceptors of this mapping implement
+	 * {@link CacheableSmartEndpointInterceptor}. Chains are then cached per endpoint and
+	 * per value of the {@linkplain CacheableSmartEndpointInterceptor#getDiscriminator()
+	 * discriminators} they depend on, up to 1024 entries, the cache being cleared once it
+	 * is full. Subclasses that override
+	 * {@link #createEndpointInvocationChain(MessageContext, Object, EndpointInterceptor[])}
+	 * must not depend on the given message context when this is enabled.
+	 * <p>
+	 * Default is {@code false}.
+	 * @param cacheInvocationChains whether to cache invocation chains
+	 * @since 5.1.0
+	 */
+	public void setCacheInvocationChains(boolean cacheInvocationChains) {
+		this.cacheInvocationChains = cacheInvocationChains;
+		this.invocationChains.clear();
 	}
 
 	@Override
@@ -105,6 +143,35 @@ public abstract class AbstractEndpointMapping extends ApplicationObjectSupport i
 		if (!smartInterceptors.isEmpty()) {
 			this.smartInterceptors = smartInterceptors.values().toArray(new SmartEndpointInterceptor[0]);
 		}
+		initDiscriminators();
+	}
+
+	/**
+	 * Determine the discriminators the interceptors of this mapping depend on. Caching of
+	 * invocation chains is not possible if at least one smart interceptor is not a
+	 * {@link CacheableSmartEndpointInterceptor}.
+	 */
+	private void initDiscriminators() {
+		Set<RequestDiscriminator> discriminators = EnumSet.noneOf(RequestDiscriminator.class);
+		boolean cacheable = collectDiscriminators(this.interceptors, discriminators)
+				&& collectDiscriminators(this.smartInterceptors, discriminators);
+		this.discriminators = (cacheable) ? discriminators : null;
+		this.invocationChains.clear();
+	}
+
+	private static boolean collectDiscriminators(EndpointInterceptor @Nullable [] interceptors,
+			Set<RequestDiscriminator> discriminators) {
+		if (interceptors != null) {
+			for (EndpointInterceptor interceptor : interceptors) {
+				if (interceptor instanceof CacheableSmartEndpointInterceptor cacheable) {
+					discriminators.add(cacheable.getDiscriminator());
+				}
+				else if (interceptor instanceof SmartEndpointInterceptor) {
+					return false;
+				}
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -119,6 +186,25 @@ public abstract class AbstractEndpointMapping extends ApplicationObjectSupport i
 		if (endpoint == null) {
 			return null;
 		}
+		Set<RequestDiscriminator> discriminators = this.discriminators;
+		if (!this.cacheInvocationChains || discriminators == null) {
+			return createEndpointInvocationChain(messageContext, endpoint, getInterceptors(messageContext, endpoint));
+		}
+		InvocationChainKey key = new InvocationChainKey(endpoint,
+				getDiscriminatorValues(messageContext, discriminators));
+		EndpointInvocationChain invocationChain = this.invocationChains.get(key);
+		if (invocationChain != null) {
+			return invocationChain;
+		}
+		if (this.invocationChains.size() >= INVOCATION_CHAIN_CACHE_LIMIT) {
+			this.invocationChains.clear();
+		}
+		return this.invocationChains.computeIfAbsent(key,
+				(chainKey) -> createEndpointInvocationChain(messageContext, endpoint,
+						getInterceptors(messageContext, endpoint)));
+	}
+
+	private EndpointInterceptor[] getInterceptors(MessageContext messageContext, Object endpoint) {
 		List<EndpointInterceptor> interceptors = new ArrayList<>();
 		if (this.interceptors != null) {
 			interceptors.addAll(Arrays.stream(this.interceptors)
@@ -130,8 +216,21 @@ public abstract class AbstractEndpointMapping extends ApplicationObjectSupport i
 				.filter(interceptor -> shouldIntercept(interceptor, messageContext, endpoint))
 				.toList());
 		}
-		return createEndpointInvocationChain(messageContext, endpoint,
-				interceptors.toArray(new EndpointInterceptor[0]));
+		return interceptors.toArray(new EndpointInterceptor[0]);
+	}
+
+	private static Map<RequestDiscriminator, @Nullable Object> getDiscriminatorValues(MessageContext messageContext,
+			Set<RequestDiscriminator> discriminators) {
+		Map<RequestDiscriminator, @Nullable Object> values = new EnumMap<>(RequestDiscriminator.class);
+		for (RequestDiscriminator discriminator : discriminators) {
+			try {
+				values.put(discriminator, discriminator.getValue(messageContext));
+			}
+			catch (Exception ex) {
+				values.put(discriminator, null);
+			}
+		}
+		return values;
 	}
 
 	private @Nullable Object resoleEndpoint(MessageContext messageContext) throws Exception {
@@ -217,4 +316,11 @@ public abstract class AbstractEndpointMapping extends ApplicationObjectSupport i
 	 */
 	protected abstract @Nullable Object getEndpointInternal(MessageContext messageContext) throws Exception;
 
+	/**
+	 * Key of a cached {@link EndpointInvocationChain}.
+	 */
+	private record InvocationChainKey(Object endpoint, Map<RequestDiscriminator, @Nullable Object> values) {
+
+	}
+
 }
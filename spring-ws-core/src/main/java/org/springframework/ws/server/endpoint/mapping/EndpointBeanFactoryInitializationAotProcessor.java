@@ -0,0 +1,181 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.mapping;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.element.Modifier;
+
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.ws.server.endpoint.annotation.Endpoint;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoots;
+import org.springframework.ws.soap.addressing.server.annotation.Action;
+import org.springframework.ws.soap.server.endpoint.annotation.SoapAction;
+import org.springframework.ws.soap.server.endpoint.annotation.SoapActions;
+
+/**
+ * {@link BeanFactoryInitializationAotProcessor} that detects the
+ * {@link Endpoint @Endpoint} beans of the bean factory at build time.
+ * <p>
+ * Contributes an {@link EndpointIndex}, so that endpoint mappings do not have to resolve
+ * the type of every bean on startup, and registers the reflection hints required to
+ * invoke the endpoint methods and to bind their JAXB payloads.
+ *
+ * @author Stephane Nicoll
+ */
+class EndpointBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	private static final List<Class<? extends Annotation>> MAPPING_ANNOTATIONS = List.of(PayloadRoot.class,
+			PayloadRoots.class, SoapAction.class, SoapActions.class, Action.class);
+
+	private static final MemberCategory[] JAXB_MEMBER_CATEGORIES = { MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+			MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.ACCESS_DECLARED_FIELDS };
+
+	@Override
+	public @Nullable BeanFactoryInitializationAotContribution processAheadOfTime(
+			ConfigurableListableBeanFactory beanFactory) {
+		List<String> beanNames = new ArrayList<>();
+		Set<Class<?>> endpointTypes = new LinkedHashSet<>();
+		for (String beanName : beanFactory.getBeanNamesForType(Object.class, true, false)) {
+			Class<?> beanType = beanFactory.getType(beanName, false);
+			if (beanType == null) {
+				// the index would be incomplete, scan the bean factory at runtime instead
+				return null;
+			}
+			Class<?> userType = ClassUtils.getUserClass(beanType);
+			if (AnnotationUtils.findAnnotation(userType, Endpoint.class) != null) {
+				beanNames.add(beanName);
+				endpointTypes.add(userType);
+			}
+		}
+		return (!beanNames.isEmpty() ? new EndpointIndexContribution(beanNames, endpointTypes) : null);
+	}
+
+	private static final class EndpointIndexContribution implements BeanFactoryInitializationAotContribution {
+
+		private final List<String> beanNames;
+
+		private final Set<Class<?>> endpointTypes;
+
+		EndpointIndexContribution(List<String> beanNames, Set<Class<?>> endpointTypes) {
+			this.beanNames = beanNames;
+			this.endpointTypes = endpointTypes;
+		}
+
+		@Override
+		public void applyTo(GenerationContext generationContext,
+				BeanFactoryInitializationCode beanFactoryInitializationCode) {
+			registerHints(generationContext.getRuntimeHints());
+			List<CodeBlock> names = this.beanNames.stream().map((name) -> CodeBlock.of("$S", name)).toList();
+			CodeBlock beanNames = CodeBlock.join(names, ", ");
+			GeneratedMethod generatedMethod = beanFactoryInitializationCode.getMethods()
+				.add("registerEndpointIndex", (method) -> {
+					method.addJavadoc("Register the index of the endpoint beans.");
+					method.addModifiers(Modifier.PUBLIC);
+					method.addParameter(DefaultListableBeanFactory.class, "beanFactory");
+					method.addStatement("beanFactory.registerSingleton($S, new $T($L))", EndpointIndex.BEAN_NAME,
+							EndpointIndex.class, beanNames);
+				});
+			beanFactoryInitializationCode.addInitializer(generatedMethod.toMethodReference());
+		}
+
+		private void registerHints(RuntimeHints hints) {
+			Set<Class<?>> payloadTypes = new HashSet<>();
+			for (Class<?> endpointType : this.endpointTypes) {
+				hints.reflection().registerType(endpointType);
+				ReflectionUtils.doWithMethods(endpointType, (method) -> {
+					hints.reflection().registerMethod(method, ExecutableMode.INVOKE);
+					for (int i = 0; i < method.getParameterCount(); i++) {
+						registerPayloadHints(hints, ResolvableType.forMethodParameter(method, i), payloadTypes);
+					}
+					registerPayloadHints(hints, ResolvableType.forMethodReturnType(method), payloadTypes);
+				}, EndpointIndexContribution::isEndpointMethod);
+			}
+		}
+
+		private static boolean isEndpointMethod(Method method) {
+			MergedAnnotations annotations = MergedAnnotations.from(method);
+			return MAPPING_ANNOTATIONS.stream().anyMatch(annotations::isPresent);
+		}
+
+		private static void registerPayloadHints(RuntimeHints hints, ResolvableType type, Set<Class<?>> visited) {
+			Class<?> rawClass = type.resolve();
+			if (rawClass == null) {
+				return;
+			}
+			if (rawClass.isArray()) {
+				registerPayloadHints(hints, type.getComponentType(), visited);
+				return;
+			}
+			for (ResolvableType generic : type.getGenerics()) {
+				registerPayloadHints(hints, generic, visited);
+			}
+			if (JAXBElement.class.equals(rawClass) || !isJaxbType(rawClass) || !visited.add(rawClass)) {
+				return;
+			}
+			hints.reflection().registerType(rawClass, JAXB_MEMBER_CATEGORIES);
+			String packagePrefix = (!rawClass.getPackageName().isEmpty() ? rawClass.getPackageName() + "." : "");
+			String objectFactory = packagePrefix + "ObjectFactory";
+			if (ClassUtils.isPresent(objectFactory, rawClass.getClassLoader())) {
+				hints.reflection()
+					.registerType(ClassUtils.resolveClassName(objectFactory, rawClass.getClassLoader()),
+							JAXB_MEMBER_CATEGORIES);
+			}
+			String packagePath = ClassUtils.classPackageAsResourcePath(rawClass);
+			hints.resources().registerPattern((!packagePath.isEmpty() ? packagePath + "/" : "") + "jaxb.index");
+			ReflectionUtils.doWithFields(rawClass,
+					(field) -> registerPayloadHints(hints, ResolvableType.forField(field), visited));
+			Class<?> superclass = rawClass.getSuperclass();
+			if (superclass != null) {
+				registerPayloadHints(hints, ResolvableType.forClass(superclass), visited);
+			}
+		}
+
+		private static boolean isJaxbType(Class<?> type) {
+			return type.isAnnotationPresent(XmlRootElement.class) || type.isAnnotationPresent(XmlType.class);
+		}
+
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.mapping;
+
+import java.util.Arrays;
+
+/**
+ * Index of the {@link org.springframework.ws.server.endpoint.annotation.Endpoint @Endpoint}
+ * beans of an application context, computed ahead of time.
+ * <p>
+ * When a bean of this type is registered under {@link #BEAN_NAME}, an
+ * {@link AbstractAnnotationMethodEndpointMapping} only registers the methods of the
+ * indexed beans, rather than resolving the type of every bean in the context on
+ * startup. The index is contributed by the AOT engine and is not meant to be registered
+ * manually.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public final class EndpointIndex {
+
+	/**
+	 * The name of the bean holding the endpoint index.
+	 */
+	public static final String BEAN_NAME = "org.springframework.ws.server.endpoint.mapping.endpointIndex";
+
+	private final String[] beanNames;
+
+	/**
+	 * Create a new {@code EndpointIndex} for the given endpoint bean names.
+	 * @param beanNames the names of the endpoint beans
+	 */
+	public EndpointIndex(String... beanNames) {
+		this.beanNames = beanNames.clone();
+	}
+
+	/**
+	 * Return the names of the endpoint beans, in registration order.
+	 */
+	public String[] getBeanNames() {
+		return this.beanNames.clone();
+	}
+
+	@Override
+	public String toString() {
+		return "EndpointIndex " + Arrays.toString(this.beanNames);
+	}
+
+}
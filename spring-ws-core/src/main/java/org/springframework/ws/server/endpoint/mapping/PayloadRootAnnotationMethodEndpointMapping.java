@@ -28,10 +28,12 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.CacheableEndpointMapping;
 import org.springframework.ws.server.EndpointMapping;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
 import org.springframework.ws.server.endpoint.annotation.PayloadRoots;
-import org.springframework.ws.server.endpoint.support.PayloadRootUtils;
+import org.springframework.ws.support.PayloadRootUtils;
 import org.springframework.xml.transform.TransformerFactoryUtils;
 
 /**
@@ -54,7 +56,8 @@ import org.springframework.xml.transform.TransformerFactoryUtils;
  * @author Arjen Poutsma
  * @since 1.0.0
  */
-public class PayloadRootAnnotationMethodEndpointMapping extends AbstractAnnotationMethodEndpointMapping<QName> {
+public class PayloadRootAnnotationMethodEndpointMapping extends AbstractAnnotationMethodEndpointMapping<QName>
+		implements CacheableEndpointMapping {
 
 	private static TransformerFactory transformerFactory = TransformerFactoryUtils.newInstance();
 
@@ -66,9 +69,14 @@ public class PayloadRootAnnotationMethodEndpointMapping extends AbstractAnnotati
 		PayloadRootAnnotationMethodEndpointMapping.transformerFactory = transformerFactory;
 	}
 
+	@Override
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.PAYLOAD_ROOT_QNAME;
+	}
+
 	@Override
 	protected @Nullable QName getLookupKeyForMessage(MessageContext messageContext) throws Exception {
-		return PayloadRootUtils.getPayloadRootQName(messageContext.getRequest().getPayloadSource(), transformerFactory);
+		return PayloadRootUtils.getPayloadRootQName(messageContext, transformerFactory);
 	}
 
 	@Override
@@ -23,7 +23,9 @@ import javax.xml.transform.TransformerFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.ws.context.MessageContext;
-import org.springframework.ws.server.endpoint.support.PayloadRootUtils;
+import org.springframework.ws.server.CacheableEndpointMapping;
+import org.springframework.ws.server.RequestDiscriminator;
+import org.springframework.ws.support.PayloadRootUtils;
 import org.springframework.xml.transform.TransformerFactoryUtils;
 
 /**
@@ -49,7 +51,7 @@ import org.springframework.xml.transform.TransformerFactoryUtils;
  * @since 1.0.0
  * @see org.springframework.xml.namespace.QNameEditor
  */
-public class PayloadRootQNameEndpointMapping extends AbstractQNameEndpointMapping {
+public class PayloadRootQNameEndpointMapping extends AbstractQNameEndpointMapping implements CacheableEndpointMapping {
 
 	private static TransformerFactory transformerFactory = TransformerFactoryUtils.newInstance();
 
@@ -61,9 +63,14 @@ public class PayloadRootQNameEndpointMapping extends AbstractQNameEndpointMappin
 		PayloadRootQNameEndpointMapping.transformerFactory = transformerFactory;
 	}
 
+	@Override
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.PAYLOAD_ROOT_QNAME;
+	}
+
 	@Override
 	protected @Nullable QName resolveQName(MessageContext messageContext) throws TransformerException {
-		return PayloadRootUtils.getPayloadRootQName(messageContext.getRequest().getPayloadSource(), transformerFactory);
+		return PayloadRootUtils.getPayloadRootQName(messageContext, transformerFactory);
 	}
 
 }
@@ -26,9 +26,8 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
-import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
-import org.springframework.ws.server.endpoint.support.PayloadRootUtils;
+import org.springframework.ws.support.PayloadRootUtils;
 import org.springframework.xml.transform.TransformerFactoryUtils;
 
 /**
@@ -136,8 +135,7 @@ public class SimpleMethodEndpointMapping extends AbstractMethodEndpointMapping<S
 	/** Returns the local part of the payload root element of the request. */
 	@Override
 	protected @Nullable String getLookupKeyForMessage(MessageContext messageContext) throws TransformerException {
-		WebServiceMessage request = messageContext.getRequest();
-		QName rootQName = PayloadRootUtils.getPayloadRootQName(request.getPayloadSource(), this.transformerFactory);
+		QName rootQName = PayloadRootUtils.getPayloadRootQName(messageContext, this.transformerFactory);
 		return (rootQName != null) ? rootQName.getLocalPart() : null;
 	}
 
@@ -22,6 +22,8 @@ import java.net.URISyntaxException;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.CacheableEndpointMapping;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
 import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.context.TransportContext;
@@ -64,7 +66,7 @@ import org.springframework.ws.transport.context.TransportContextHolder;
  * @author Arjen Poutsma
  * @since 1.5.0
  */
-public class UriEndpointMapping extends AbstractMapBasedEndpointMapping {
+public class UriEndpointMapping extends AbstractMapBasedEndpointMapping implements CacheableEndpointMapping {
 
 	private boolean usePath = false;
 
@@ -88,6 +90,11 @@ public class UriEndpointMapping extends AbstractMapBasedEndpointMapping {
 		}
 	}
 
+	@Override
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.REQUEST_URI;
+	}
+
 	@Override
 	protected @Nullable String getLookupKeyForMessage(MessageContext messageContext) throws Exception {
 		TransportContext transportContext = TransportContextHolder.getTransportContext();
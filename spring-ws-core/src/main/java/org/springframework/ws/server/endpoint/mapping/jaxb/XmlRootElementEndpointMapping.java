@@ -29,8 +29,10 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.CacheableEndpointMapping;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.server.endpoint.mapping.AbstractAnnotationMethodEndpointMapping;
-import org.springframework.ws.server.endpoint.support.PayloadRootUtils;
+import org.springframework.ws.support.PayloadRootUtils;
 import org.springframework.xml.transform.TransformerHelper;
 
 /**
@@ -56,7 +58,8 @@ import org.springframework.xml.transform.TransformerHelper;
  * @author Arjen Poutsma
  * @since 2.0
  */
-public class XmlRootElementEndpointMapping extends AbstractAnnotationMethodEndpointMapping<QName> {
+public class XmlRootElementEndpointMapping extends AbstractAnnotationMethodEndpointMapping<QName>
+		implements CacheableEndpointMapping {
 
 	private TransformerHelper transformerHelper = new TransformerHelper();
 
@@ -106,10 +109,14 @@ public class XmlRootElementEndpointMapping extends AbstractAnnotationMethodEndpo
 		}
 	}
 
+	@Override
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.PAYLOAD_ROOT_QNAME;
+	}
+
 	@Override
 	protected @Nullable QName getLookupKeyForMessage(MessageContext messageContext) throws Exception {
-		return PayloadRootUtils.getPayloadRootQName(messageContext.getRequest().getPayloadSource(),
-				this.transformerHelper);
+		return PayloadRootUtils.getPayloadRootQName(messageContext, this.transformerHelper);
 	}
 
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.messageid;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReplyStore} that keeps a bounded number of replies in memory, for a limited
+ * time.
+ * <p>
+ * When the {@link #setMaxEntries(int) maximum number of replies} is reached, the oldest
+ * replies are evicted. Requests that are still being processed are tracked separately
+ * and are never evicted. A stored reply is replayed for the
+ * {@link #setTimeToLive(Duration) time to live} after the request has been processed. A
+ * duplicate of a request that is still being processed waits for its reply, at most for
+ * the {@link #setWaitTimeout(Duration) wait timeout}.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public class InMemoryReplyStore implements ReplyStore {
+
+	private final Object monitor = new Object();
+
+	private final Map<URI, PendingTicket> pending = new HashMap<>();
+
+	private final Map<URI, StoredReply> replies = new LinkedHashMap<>() {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<URI, StoredReply> eldest) {
+			return size() > InMemoryReplyStore.this.maxEntries;
+		}
+
+	};
+
+	private int maxEntries = 1000;
+
+	private Duration timeToLive = Duration.ofMinutes(5);
+
+	private Duration waitTimeout = Duration.ofSeconds(30);
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Set the maximum number of replies to keep. Requests that are still being processed
+	 * are not included. Default is 1000.
+	 */
+	public void setMaxEntries(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, "'maxEntries' must be positive");
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Set how long a reply is kept after its request has been processed. Default is 5
+	 * minutes.
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "'timeToLive' must not be null");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Set how long a duplicate request waits for the reply of a request that is still
+	 * being processed. Default is 30 seconds.
+	 */
+	public void setWaitTimeout(Duration waitTimeout) {
+		Assert.notNull(waitTimeout, "'waitTimeout' must not be null");
+		this.waitTimeout = waitTimeout;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public Ticket begin(URI messageId) throws InterruptedException, TimeoutException {
+		Assert.notNull(messageId, "'messageId' must not be null");
+		while (true) {
+			PendingTicket inFlight;
+			synchronized (this.monitor) {
+				StoredReply storedReply = this.replies.get(messageId);
+				if (storedReply != null) {
+					if (!storedReply.isExpired(this.clock.millis())) {
+						return new ReplayTicket(storedReply.content());
+					}
+					this.replies.remove(messageId);
+				}
+				inFlight = this.pending.get(messageId);
+				if (inFlight == null) {
+					PendingTicket ticket = new PendingTicket(messageId);
+					this.pending.put(messageId, ticket);
+					return ticket;
+				}
+			}
+			try {
+				return new ReplayTicket(inFlight.reply.get(this.waitTimeout.toMillis(), TimeUnit.MILLISECONDS));
+			}
+			catch (ExecutionException | CancellationException ex) {
+				// the first processing was abandoned, try to process the request again
+			}
+		}
+	}
+
+	/**
+	 * {@link Ticket} granting the processing of a request.
+	 */
+	private final class PendingTicket implements Ticket {
+
+		private final URI messageId;
+
+		private final CompletableFuture<byte[]> reply = new CompletableFuture<>();
+
+		PendingTicket(URI messageId) {
+			this.messageId = messageId;
+		}
+
+		@Override
+		public byte @Nullable [] getReply() {
+			return null;
+		}
+
+		@Override
+		public void complete(byte[] reply) {
+			Assert.notNull(reply, "'reply' must not be null");
+			synchronized (InMemoryReplyStore.this.monitor) {
+				if (InMemoryReplyStore.this.pending.remove(this.messageId, this)) {
+					long expiresAt = InMemoryReplyStore.this.clock.millis()
+							+ InMemoryReplyStore.this.timeToLive.toMillis();
+					InMemoryReplyStore.this.replies.put(this.messageId, new StoredReply(reply, expiresAt));
+				}
+			}
+			this.reply.complete(reply);
+		}
+
+		@Override
+		public void abandon() {
+			synchronized (InMemoryReplyStore.this.monitor) {
+				InMemoryReplyStore.this.pending.remove(this.messageId, this);
+			}
+			this.reply.cancel(false);
+		}
+
+	}
+
+	/**
+	 * {@link Ticket} holding the reply of a request that has been processed already.
+	 */
+	private static final class ReplayTicket implements Ticket {
+
+		private final byte[] reply;
+
+		ReplayTicket(byte[] reply) {
+			this.reply = reply;
+		}
+
+		@Override
+		public byte[] getReply() {
+			return this.reply;
+		}
+
+		@Override
+		public void complete(byte[] reply) {
+			throw new IllegalStateException("Request has been processed already");
+		}
+
+		@Override
+		public void abandon() {
+			throw new IllegalStateException("Request has been processed already");
+		}
+
+	}
+
+	private record StoredReply(byte[] content, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return now >= this.expiresAt;
+		}
+
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.messageid;
+
+import java.net.URI;
+import java.util.concurrent.TimeoutException;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Strategy interface for storing the replies of processed requests by WS-Addressing
+ * {@code MessageID}, so that a request that is received again with the same
+ * {@code MessageID} can be answered without invoking the endpoint again.
+ * <p>
+ * Processing of a request starts with {@link #begin(URI)}, which returns a
+ * {@link Ticket}. If the caller is granted the processing, it must then either
+ * {@link Ticket#complete(byte[]) complete} or {@link Ticket#abandon() abandon} that
+ * ticket. Implementations can keep the replies in memory, such as
+ * {@link InMemoryReplyStore}, or share them between several nodes.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see InMemoryReplyStore
+ */
+public interface ReplyStore {
+
+	/**
+	 * Start the processing of the request with the given {@code MessageID}.
+	 * <p>
+	 * If a request with the same {@code MessageID} has been processed already, the
+	 * returned ticket holds its serialized {@linkplain Ticket#getReply() reply}. If that
+	 * request is still being processed, waits for its reply. Otherwise, the caller is
+	 * granted the processing of the request.
+	 * @param messageId the message id of the request
+	 * @return the ticket for the request
+	 * @throws InterruptedException if interrupted while waiting for a reply
+	 * @throws TimeoutException if a request with the same {@code MessageID} is still
+	 * being processed and its reply is not available in time
+	 */
+	Ticket begin(URI messageId) throws InterruptedException, TimeoutException;
+
+	/**
+	 * Outcome of {@link #begin(URI)} for a given {@code MessageID}.
+	 */
+	interface Ticket {
+
+		/**
+		 * Return the serialized reply to replay, or {@code null} if the caller has been
+		 * granted the processing of the request. An empty array indicates that the
+		 * request had no in-band reply.
+		 * @return the reply to replay, or {@code null}
+		 */
+		byte @Nullable [] getReply();
+
+		/**
+		 * Complete the processing of the request. Only valid if the caller has been
+		 * granted the processing of the request.
+		 * @param reply the serialized reply, or an empty array if the request has no
+		 * in-band reply
+		 */
+		void complete(byte[] reply);
+
+		/**
+		 * Abandon the processing of the request, typically because it resulted in an
+		 * error. A subsequent request with the same {@code MessageID} is processed
+		 * again. Only valid if the caller has been granted the processing of the
+		 * request.
+		 */
+		void abandon();
+
+	}
+
+}
@@ -15,7 +15,8 @@
  */
 
 /**
- * Contains various strategies for generating WS-Addressing MessageIDs.
+ * Contains various strategies for generating WS-Addressing MessageIDs, and for storing
+ * the replies of processed MessageIDs.
  */
 @NullMarked
 package org.springframework.ws.soap.addressing.messageid;
@@ -24,6 +24,8 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeansException;
 import org.springframework.util.Assert;
+import org.springframework.ws.server.CacheableEndpointMapping;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
 
 /**
@@ -39,7 +41,8 @@ import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
  * @author Arjen Poutsma
  * @since 1.5.0
  */
-public abstract class AbstractActionEndpointMapping extends AbstractAddressingEndpointMapping {
+public abstract class AbstractActionEndpointMapping extends AbstractAddressingEndpointMapping
+		implements CacheableEndpointMapping {
 
 	/** The defaults suffix to add to the request {@code Action} for reply messages. */
 	public static final String DEFAULT_OUTPUT_ACTION_SUFFIX = "Response";
@@ -82,6 +85,11 @@ public abstract class AbstractActionEndpointMapping extends AbstractAddressingEn
 		this.faultActionSuffix = faultActionSuffix;
 	}
 
+	@Override
+	public @Nullable RequestDiscriminator getDiscriminator() {
+		return hasDefaultVersions() ? RequestDiscriminator.WS_ADDRESSING_ACTION : null;
+	}
+
 	@Override
 	protected final @Nullable Object getEndpointInternal(MessageAddressingProperties map) {
 		URI action = map.getAction();
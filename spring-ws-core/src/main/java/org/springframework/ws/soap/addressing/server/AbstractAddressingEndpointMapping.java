@@ -45,6 +45,7 @@ import org.springframework.ws.soap.SoapHeaderElement;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
 import org.springframework.ws.soap.addressing.messageid.MessageIdStrategy;
+import org.springframework.ws.soap.addressing.messageid.ReplyStore;
 import org.springframework.ws.soap.addressing.messageid.UuidMessageIdStrategy;
 import org.springframework.ws.soap.addressing.version.Addressing10;
 import org.springframework.ws.soap.addressing.version.Addressing200408;
@@ -67,7 +68,9 @@ import org.springframework.xml.transform.TransformerObjectSupport;
  * <p>
  * The {@link #setMessageIdStrategy(MessageIdStrategy) messageIdStrategy} property defines
  * the strategy to use for creating reply {@code MessageIDs}. By default, this is the
- * {@link UuidMessageIdStrategy}.
+ * {@link UuidMessageIdStrategy}. The optional {@link #setReplyStore(ReplyStore)
+ * replyStore} property enables the replay of replies for requests that are received
+ * again with the same {@code MessageID}.
  * <p>
  * The {@link #setMessageSenders(WebServiceMessageSender[]) messageSenders} are used to
  * send out-of-band reply messages. If a request message defines a non-anonymous reply
@@ -105,6 +108,8 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 
 	private MessageIdStrategy messageIdStrategy;
 
+	private @Nullable ReplyStore replyStore;
+
 	private WebServiceMessageSender[] messageSenders = new WebServiceMessageSender[0];
 
 	private AddressingVersion[] versions;
@@ -218,6 +223,31 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 		return this.messageIdStrategy;
 	}
 
+	/**
+	 * Set the {@link ReplyStore} used to detect requests that are received again with the
+	 * same {@code MessageID}, typically retries of a client after a timeout.
+	 * <p>
+	 * The reply of such a request is replayed from the store without invoking the
+	 * endpoint, and a request that is still being processed is waited for. Faults are
+	 * not stored, so that a request that failed is processed again. By default, no
+	 * store is used and every request is processed.
+	 * @param replyStore the reply store to use, or {@code null}
+	 * @since 5.1.0
+	 * @see org.springframework.ws.soap.addressing.messageid.InMemoryReplyStore
+	 */
+	public final void setReplyStore(@Nullable ReplyStore replyStore) {
+		this.replyStore = replyStore;
+	}
+
+	/**
+	 * Returns the {@link ReplyStore} used to replay the replies of duplicate requests, if
+	 * any.
+	 * @since 5.1.0
+	 */
+	public @Nullable ReplyStore getReplyStore() {
+		return this.replyStore;
+	}
+
 	/**
 	 * Sets a single message senders, which is used to send out-of-band reply messages. If
 	 * a request messages defines a non-anonymous reply address, this senders will be used
@@ -260,6 +290,20 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 		this.versions = versions;
 	}
 
+	/**
+	 * Indicates whether all versions supported by this mapping are detected by the
+	 * {@link org.springframework.ws.server.RequestDiscriminator#WS_ADDRESSING_ACTION}
+	 * discriminator.
+	 */
+	final boolean hasDefaultVersions() {
+		for (AddressingVersion version : this.versions) {
+			if (version.getClass() != Addressing200408.class && version.getClass() != Addressing10.class) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		if (this.logger.isInfoEnabled()) {
@@ -305,7 +349,7 @@ public abstract class AbstractAddressingEndpointMapping extends TransformerObjec
 		WebServiceMessageSender[] messageSenders = getMessageSenders(endpoint);
 		MessageIdStrategy messageIdStrategy = getMessageIdStrategy(endpoint);
 		AddressingEndpointInterceptor addressingInterceptor = new AddressingEndpointInterceptor(version,
-				messageIdStrategy, messageSenders, responseAction, faultAction);
+				messageIdStrategy, messageSenders, responseAction, faultAction, getReplyStore());
 		EndpointInterceptor[] interceptors = buildInterceptors(endpoint, messageContext, addressingInterceptor);
 		return new SoapEndpointInvocationChain(endpoint, interceptors, this.actorsOrRoles, this.isUltimateReceiver);
 	}
@@ -16,8 +16,11 @@
 
 package org.springframework.ws.soap.addressing.server;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -32,6 +35,8 @@ import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.addressing.core.EndpointReference;
 import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
 import org.springframework.ws.soap.addressing.messageid.MessageIdStrategy;
+import org.springframework.ws.soap.addressing.messageid.ReplyStore;
+import org.springframework.ws.soap.addressing.messageid.ReplyStore.Ticket;
 import org.springframework.ws.soap.addressing.version.AddressingVersion;
 import org.springframework.ws.soap.server.SoapEndpointInterceptor;
 import org.springframework.ws.transport.WebServiceConnection;
@@ -69,8 +74,20 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor, Ordered
 
 	private final @Nullable URI faultAction;
 
+	private final @Nullable ReplyStore replyStore;
+
+	private @Nullable Ticket pendingTicket;
+
+	private boolean replayed;
+
 	AddressingEndpointInterceptor(AddressingVersion version, MessageIdStrategy messageIdStrategy,
 			WebServiceMessageSender[] messageSenders, @Nullable URI replyAction, @Nullable URI faultAction) {
+		this(version, messageIdStrategy, messageSenders, replyAction, faultAction, null);
+	}
+
+	AddressingEndpointInterceptor(AddressingVersion version, MessageIdStrategy messageIdStrategy,
+			WebServiceMessageSender[] messageSenders, @Nullable URI replyAction, @Nullable URI faultAction,
+			@Nullable ReplyStore replyStore) {
 		Assert.notNull(version, "version must not be null");
 		Assert.notNull(messageIdStrategy, "messageIdStrategy must not be null");
 		Assert.notNull(messageSenders, "'messageSenders' must not be null");
@@ -79,6 +96,7 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor, Ordered
 		this.messageSenders = messageSenders;
 		this.replyAction = replyAction;
 		this.faultAction = faultAction;
+		this.replyStore = replyStore;
 	}
 
 	@Override
@@ -94,9 +112,41 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor, Ordered
 			this.version.addInvalidAddressingHeaderFault((SoapMessage) messageContext.getResponse());
 			return false;
 		}
+		URI messageId = requestMap.getMessageId();
+		if (this.replyStore != null && messageId != null) {
+			return beginProcessing(messageContext, this.replyStore, messageId);
+		}
 		return true;
 	}
 
+	private boolean beginProcessing(MessageContext messageContext, ReplyStore replyStore, URI messageId)
+			throws Exception {
+		Ticket ticket;
+		try {
+			ticket = replyStore.begin(messageId);
+		}
+		catch (TimeoutException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Request with MessageID [" + messageId + "] is still being processed");
+			}
+			this.version.addInvalidAddressingHeaderFault((SoapMessage) messageContext.getResponse());
+			return false;
+		}
+		byte[] reply = ticket.getReply();
+		if (reply == null) {
+			this.pendingTicket = ticket;
+			return true;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Replaying reply of request with MessageID [" + messageId + "]");
+		}
+		this.replayed = true;
+		if (reply.length > 0) {
+			messageContext.readResponse(new ByteArrayInputStream(reply));
+		}
+		return false;
+	}
+
 	@Override
 	public final boolean handleResponse(MessageContext messageContext, Object endpoint) throws Exception {
 		return handleResponseOrFault(messageContext, false);
@@ -108,12 +158,19 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor, Ordered
 	}
 
 	private boolean handleResponseOrFault(MessageContext messageContext, boolean isFault) throws Exception {
+		if (this.replayed) {
+			return true;
+		}
+		if (isFault) {
+			abandonProcessing();
+		}
 		Assert.isInstanceOf(SoapMessage.class, messageContext.getRequest());
 		Assert.isInstanceOf(SoapMessage.class, messageContext.getResponse());
 		MessageAddressingProperties requestMap = this.version
 			.getMessageAddressingProperties((SoapMessage) messageContext.getRequest());
 		EndpointReference replyEpr = (!isFault) ? requestMap.getReplyTo() : requestMap.getFaultTo();
 		if (handleNoneAddress(messageContext, replyEpr)) {
+			completeProcessing(null);
 			return false;
 		}
 		SoapMessage reply = (SoapMessage) messageContext.getResponse();
@@ -122,6 +179,7 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor, Ordered
 		MessageAddressingProperties replyMap = requestMap.getReplyProperties(replyEpr, action, replyMessageId);
 		this.version.addAddressingHeaders(reply, replyMap);
 		if (handleAnonymousAddress(messageContext, replyEpr)) {
+			completeProcessing(reply);
 			return true;
 		}
 		else {
@@ -132,11 +190,42 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor, Ordered
 				}
 				messageContext.clearResponse();
 				this.version.addInvalidAddressingHeaderFault((SoapMessage) messageContext.getResponse());
+				abandonProcessing();
 			});
+			completeProcessing(null);
 			return false;
 		}
 	}
 
+	/**
+	 * Store the given in-band reply for the pending request, if any. Replies with
+	 * attachments are not stored, as they cannot be replayed from their serialized form.
+	 */
+	private void completeProcessing(@Nullable SoapMessage reply) throws IOException {
+		Ticket ticket = this.pendingTicket;
+		if (ticket == null) {
+			return;
+		}
+		if (reply == null) {
+			this.pendingTicket = null;
+			ticket.complete(new byte[0]);
+		}
+		else if (!reply.getAttachments().hasNext()) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			reply.writeTo(outputStream);
+			this.pendingTicket = null;
+			ticket.complete(outputStream.toByteArray());
+		}
+	}
+
+	private void abandonProcessing() {
+		Ticket ticket = this.pendingTicket;
+		if (ticket != null) {
+			this.pendingTicket = null;
+			ticket.abandon();
+		}
+	}
+
 	@Contract("_, null -> true")
 	private boolean handleNoneAddress(MessageContext messageContext, @Nullable EndpointReference replyEpr) {
 		if (replyEpr == null || this.version.hasNoneAddress(replyEpr)) {
@@ -201,7 +290,13 @@ class AddressingEndpointInterceptor implements SoapEndpointInterceptor, Ordered
 	}
 
 	@Override
-	public void afterCompletion(MessageContext messageContext, Object endpoint, @Nullable Exception ex) {
+	public void afterCompletion(MessageContext messageContext, Object endpoint, @Nullable Exception ex)
+			throws IOException {
+		if (ex == null && !messageContext.hasResponse()) {
+			// one-way request
+			completeProcessing(null);
+		}
+		abandonProcessing();
 	}
 
 	@Override
@@ -18,16 +18,20 @@ package org.springframework.ws.soap.addressing.version;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
+import java.util.Set;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
@@ -41,6 +45,7 @@ import org.w3c.dom.Node;
 
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.util.xml.StaxUtils;
 import org.springframework.ws.soap.SoapFault;
 import org.springframework.ws.soap.SoapHeader;
 import org.springframework.ws.soap.SoapHeaderElement;
@@ -54,12 +59,11 @@ import org.springframework.ws.soap.soap12.Soap12Fault;
 import org.springframework.xml.DocumentBuilderFactoryUtils;
 import org.springframework.xml.namespace.QNameUtils;
 import org.springframework.xml.transform.TransformerObjectSupport;
-import org.springframework.xml.xpath.XPathExpression;
-import org.springframework.xml.xpath.XPathExpressionFactory;
 
 /**
- * Abstract base class for {@link AddressingVersion} implementations. Uses
- * {@link XPathExpression}s to retrieve addressing information.
+ * Abstract base class for {@link AddressingVersion} implementations. Reads addressing
+ * information in a single pass over the SOAP header, streaming it when the header is
+ * exposed as a StAX source.
  *
  * @author Arjen Poutsma
  * @since 1.5.0
@@ -68,101 +72,312 @@ public abstract class AbstractAddressingVersion extends TransformerObjectSupport
 
 	private static final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactoryUtils.newInstance();
 
-	private final XPathExpression toExpression;
+	private final QName toName;
 
-	private final XPathExpression actionExpression;
+	private final QName actionName;
 
-	private final XPathExpression messageIdExpression;
+	private final QName messageIdName;
 
-	private final XPathExpression fromExpression;
+	private final QName fromName;
 
-	private final XPathExpression replyToExpression;
+	private final QName replyToName;
 
-	private final XPathExpression faultToExpression;
+	private final QName faultToName;
 
-	private final XPathExpression addressExpression;
+	private final QName addressName;
 
-	private final @Nullable XPathExpression referencePropertiesExpression;
+	private final @Nullable QName referencePropertiesName;
 
-	private final @Nullable XPathExpression referenceParametersExpression;
+	private final @Nullable QName referenceParametersName;
 
 	protected AbstractAddressingVersion() {
-		Map<String, String> namespaces = new HashMap<>();
-		namespaces.put(getNamespacePrefix(), getNamespaceUri());
-		this.toExpression = createNormalizedExpression(getToName(), namespaces);
-		this.actionExpression = createNormalizedExpression(getActionName(), namespaces);
-		this.messageIdExpression = createNormalizedExpression(getMessageIdName(), namespaces);
-		this.fromExpression = createExpression(getFromName(), namespaces);
-		this.replyToExpression = createExpression(getReplyToName(), namespaces);
-		this.faultToExpression = createExpression(getFaultToName(), namespaces);
-		this.addressExpression = createNormalizedExpression(getAddressName(), namespaces);
-		if (getReferencePropertiesName() != null) {
-			this.referencePropertiesExpression = createChildrenExpression(getReferencePropertiesName(), namespaces);
+		this.toName = getToName();
+		this.actionName = getActionName();
+		this.messageIdName = getMessageIdName();
+		this.fromName = getFromName();
+		this.replyToName = getReplyToName();
+		this.faultToName = getFaultToName();
+		this.addressName = getAddressName();
+		this.referencePropertiesName = getReferencePropertiesName();
+		this.referenceParametersName = getReferenceParametersName();
+	}
+
+	@Override
+	public MessageAddressingProperties getMessageAddressingProperties(SoapMessage message) {
+		Source source = getSoapHeader(message).getSource();
+		AddressingHeaders headers = readHeaders(source);
+		URI to = headers.to;
+		if (to == null) {
+			to = getDefaultTo();
 		}
-		else {
-			this.referencePropertiesExpression = null;
+		EndpointReference replyTo = headers.replyTo;
+		if (replyTo == null) {
+			replyTo = getDefaultReplyTo(headers.from);
 		}
-		if (getReferenceParametersName() != null) {
-			this.referenceParametersExpression = createChildrenExpression(getReferenceParametersName(), namespaces);
+		EndpointReference faultTo = headers.faultTo;
+		if (faultTo == null) {
+			faultTo = replyTo;
 		}
-		else {
-			this.referenceParametersExpression = null;
+		return new MessageAddressingProperties(to, headers.from, replyTo, faultTo, headers.action,
+				headers.messageId);
+	}
+
+	/**
+	 * Reads the addressing headers in a single pass over the given SOAP header source.
+	 * StAX sources are streamed directly, other sources are read as DOM.
+	 */
+	private AddressingHeaders readHeaders(Source source) {
+		if (StaxUtils.isStaxSource(source)) {
+			XMLStreamReader streamReader = StaxUtils.getXMLStreamReader(source);
+			if (streamReader != null) {
+				try {
+					return readHeaders(streamReader);
+				}
+				catch (XMLStreamException ex) {
+					throw new AddressingException("Could not read addressing headers", ex);
+				}
+			}
 		}
+		return readHeaders(getSoapHeaderElement(source));
 	}
 
-	private XPathExpression createExpression(QName name, Map<String, String> namespaces) {
-		String expression = name.getPrefix() + ":" + name.getLocalPart();
-		return XPathExpressionFactory.createXPathExpression(expression, namespaces);
+	private AddressingHeaders readHeaders(Element headerElement) {
+		AddressingHeaders headers = new AddressingHeaders();
+		for (Node child = headerElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child.getNodeType() != Node.ELEMENT_NODE) {
+				continue;
+			}
+			QName name = QNameUtils.getQNameForNode(child);
+			if (!headers.isFirst(name)) {
+				continue;
+			}
+			if (name.equals(this.toName)) {
+				headers.to = getUri(child.getTextContent());
+			}
+			else if (name.equals(this.actionName)) {
+				headers.action = getUri(child.getTextContent());
+			}
+			else if (name.equals(this.messageIdName)) {
+				headers.messageId = getUri(child.getTextContent());
+			}
+			else if (name.equals(this.fromName)) {
+				headers.from = getEndpointReference((Element) child);
+			}
+			else if (name.equals(this.replyToName)) {
+				headers.replyTo = getEndpointReference((Element) child);
+			}
+			else if (name.equals(this.faultToName)) {
+				headers.faultTo = getEndpointReference((Element) child);
+			}
+		}
+		return headers;
 	}
 
-	private XPathExpression createNormalizedExpression(QName name, Map<String, String> namespaces) {
-		String expression = "normalize-space(" + name.getPrefix() + ":" + name.getLocalPart() + ")";
-		return XPathExpressionFactory.createXPathExpression(expression, namespaces);
+	/** Given a ReplyTo, FaultTo, or From element, returns an endpoint reference. */
+	private @Nullable EndpointReference getEndpointReference(Element element) {
+		URI address = null;
+		boolean addressRead = false;
+		List<Node> referenceProperties = new ArrayList<>();
+		List<Node> referenceParameters = new ArrayList<>();
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child.getNodeType() != Node.ELEMENT_NODE) {
+				continue;
+			}
+			QName name = QNameUtils.getQNameForNode(child);
+			if (name.equals(this.addressName) && !addressRead) {
+				address = getUri(child.getTextContent());
+				addressRead = true;
+			}
+			else if (name.equals(this.referencePropertiesName)) {
+				addChildElements(child, referenceProperties);
+			}
+			else if (name.equals(this.referenceParametersName)) {
+				addChildElements(child, referenceParameters);
+			}
+		}
+		return (address != null) ? new EndpointReference(address, referenceProperties, referenceParameters) : null;
 	}
 
-	private XPathExpression createChildrenExpression(QName name, Map<String, String> namespaces) {
-		String expression = name.getPrefix() + ":" + name.getLocalPart() + "/*";
-		return XPathExpressionFactory.createXPathExpression(expression, namespaces);
+	private static void addChildElements(Node node, List<Node> elements) {
+		for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child.getNodeType() == Node.ELEMENT_NODE) {
+				elements.add(child);
+			}
+		}
 	}
 
-	@Override
-	public MessageAddressingProperties getMessageAddressingProperties(SoapMessage message) {
-		Element headerElement = getSoapHeaderElement(message);
-		URI to = getUri(headerElement, this.toExpression);
-		if (to == null) {
-			to = getDefaultTo();
+	private AddressingHeaders readHeaders(XMLStreamReader streamReader) throws XMLStreamException {
+		AddressingHeaders headers = new AddressingHeaders();
+		while (!streamReader.isStartElement()) {
+			streamReader.next();
 		}
-		EndpointReference from = getEndpointReference(this.fromExpression.evaluateAsNode(headerElement));
-		EndpointReference replyTo = getEndpointReference(this.replyToExpression.evaluateAsNode(headerElement));
-		if (replyTo == null) {
-			replyTo = getDefaultReplyTo(from);
+		while (nextChildElement(streamReader)) {
+			QName name = streamReader.getName();
+			if (!headers.isFirst(name)) {
+				skipElement(streamReader);
+			}
+			else if (name.equals(this.toName)) {
+				headers.to = getUri(readText(streamReader));
+			}
+			else if (name.equals(this.actionName)) {
+				headers.action = getUri(readText(streamReader));
+			}
+			else if (name.equals(this.messageIdName)) {
+				headers.messageId = getUri(readText(streamReader));
+			}
+			else if (name.equals(this.fromName)) {
+				headers.from = readEndpointReference(streamReader, headers);
+			}
+			else if (name.equals(this.replyToName)) {
+				headers.replyTo = readEndpointReference(streamReader, headers);
+			}
+			else if (name.equals(this.faultToName)) {
+				headers.faultTo = readEndpointReference(streamReader, headers);
+			}
+			else {
+				skipElement(streamReader);
+			}
 		}
-		EndpointReference faultTo = getEndpointReference(this.faultToExpression.evaluateAsNode(headerElement));
-		if (faultTo == null) {
-			faultTo = replyTo;
+		return headers;
+	}
+
+	/**
+	 * Given a reader positioned on a ReplyTo, FaultTo, or From element, returns an
+	 * endpoint reference. Reference properties and parameters are read as DOM.
+	 */
+	private @Nullable EndpointReference readEndpointReference(XMLStreamReader streamReader,
+			AddressingHeaders headers) throws XMLStreamException {
+		URI address = null;
+		boolean addressRead = false;
+		List<Node> referenceProperties = new ArrayList<>();
+		List<Node> referenceParameters = new ArrayList<>();
+		while (nextChildElement(streamReader)) {
+			QName name = streamReader.getName();
+			if (name.equals(this.addressName) && !addressRead) {
+				address = getUri(readText(streamReader));
+				addressRead = true;
+			}
+			else if (name.equals(this.referencePropertiesName)) {
+				while (nextChildElement(streamReader)) {
+					referenceProperties.add(readElement(streamReader, headers.getDocument()));
+				}
+			}
+			else if (name.equals(this.referenceParametersName)) {
+				while (nextChildElement(streamReader)) {
+					referenceParameters.add(readElement(streamReader, headers.getDocument()));
+				}
+			}
+			else {
+				skipElement(streamReader);
+			}
 		}
-		URI action = getUri(headerElement, this.actionExpression);
-		URI messageId = getUri(headerElement, this.messageIdExpression);
-		return new MessageAddressingProperties(to, from, replyTo, faultTo, action, messageId);
+		return (address != null) ? new EndpointReference(address, referenceProperties, referenceParameters) : null;
 	}
 
-	private @Nullable URI getUri(Node node, XPathExpression expression) {
-		String messageId = expression.evaluateAsString(node);
-		if (!StringUtils.hasLength(messageId)) {
+	/**
+	 * Advances the given reader to the next child element of the current element.
+	 * Returns {@code false} when the end of the current element is reached instead.
+	 */
+	private static boolean nextChildElement(XMLStreamReader streamReader) throws XMLStreamException {
+		while (streamReader.hasNext()) {
+			int event = streamReader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				return true;
+			}
+			else if (event == XMLStreamConstants.END_ELEMENT) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private static void skipElement(XMLStreamReader streamReader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = streamReader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			}
+			else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/** Returns the text content of the current element, leaving the reader at its end. */
+	private static String readText(XMLStreamReader streamReader) throws XMLStreamException {
+		StringBuilder builder = new StringBuilder();
+		int depth = 1;
+		while (depth > 0) {
+			int event = streamReader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			}
+			else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+			else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+					|| event == XMLStreamConstants.SPACE) {
+				builder.append(streamReader.getText());
+			}
+		}
+		return builder.toString();
+	}
+
+	/** Copies the current element of the given reader into a DOM element. */
+	private static Element readElement(XMLStreamReader streamReader, Document document) throws XMLStreamException {
+		Element element = document.createElementNS(streamReader.getNamespaceURI(),
+				toQualifiedName(streamReader.getPrefix(), streamReader.getLocalName()));
+		for (int i = 0; i < streamReader.getNamespaceCount(); i++) {
+			String prefix = streamReader.getNamespacePrefix(i);
+			String namespaceUri = streamReader.getNamespaceURI(i);
+			element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+					StringUtils.hasLength(prefix) ? XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix
+							: XMLConstants.XMLNS_ATTRIBUTE,
+					(namespaceUri != null) ? namespaceUri : "");
+		}
+		for (int i = 0; i < streamReader.getAttributeCount(); i++) {
+			String namespaceUri = streamReader.getAttributeNamespace(i);
+			element.setAttributeNS(StringUtils.hasLength(namespaceUri) ? namespaceUri : null,
+					toQualifiedName(streamReader.getAttributePrefix(i), streamReader.getAttributeLocalName(i)),
+					streamReader.getAttributeValue(i));
+		}
+		while (true) {
+			int event = streamReader.next();
+			switch (event) {
+				case XMLStreamConstants.START_ELEMENT -> element.appendChild(readElement(streamReader, document));
+				case XMLStreamConstants.END_ELEMENT -> {
+					return element;
+				}
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.SPACE ->
+					element.appendChild(document.createTextNode(streamReader.getText()));
+				case XMLStreamConstants.CDATA ->
+					element.appendChild(document.createCDATASection(streamReader.getText()));
+				case XMLStreamConstants.COMMENT -> element.appendChild(document.createComment(streamReader.getText()));
+				default -> {
+				}
+			}
+		}
+	}
+
+	private static String toQualifiedName(@Nullable String prefix, String localName) {
+		return StringUtils.hasLength(prefix) ? prefix + ":" + localName : localName;
+	}
+
+	private static @Nullable URI getUri(String value) {
+		String uri = StringUtils.trimWhitespace(value);
+		if (!StringUtils.hasLength(uri)) {
 			return null;
 		}
 		try {
-			return new URI(messageId);
+			return new URI(uri);
 		}
 		catch (URISyntaxException ex) {
 			return null;
 		}
 	}
 
-	private Element getSoapHeaderElement(SoapMessage message) {
-		SoapHeader soapHeader = message.getSoapHeader();
-		Assert.notNull(soapHeader, "'soapHeader' must not be null");
-		Source source = soapHeader.getSource();
+	private Element getSoapHeaderElement(Source source) {
 		if (source instanceof DOMSource domSource) {
 			if (domSource.getNode() != null && domSource.getNode().getNodeType() == Node.ELEMENT_NODE) {
 				return (Element) domSource.getNode();
@@ -179,22 +394,6 @@ public abstract class AbstractAddressingVersion extends TransformerObjectSupport
 		}
 	}
 
-	/** Given a ReplyTo, FaultTo, or From node, returns an endpoint reference. */
-	private @Nullable EndpointReference getEndpointReference(@Nullable Node node) {
-		if (node == null) {
-			return null;
-		}
-		URI address = getUri(node, this.addressExpression);
-		if (address == null) {
-			return null;
-		}
-		List<Node> referenceProperties = (this.referencePropertiesExpression != null)
-				? this.referencePropertiesExpression.evaluateAsNodeList(node) : Collections.emptyList();
-		List<Node> referenceParameters = (this.referenceParametersExpression != null)
-				? this.referenceParametersExpression.evaluateAsNodeList(node) : Collections.emptyList();
-		return new EndpointReference(address, referenceProperties, referenceParameters);
-	}
-
 	@Override
 	public void addAddressingHeaders(SoapMessage message, MessageAddressingProperties map) {
 		SoapHeader header = getSoapHeader(message);
@@ -454,4 +653,44 @@ public abstract class AbstractAddressingVersion extends TransformerObjectSupport
 		return soapHeader;
 	}
 
+	/**
+	 * Addressing header values, as read from a SOAP header. Only the first occurrence of
+	 * each header is taken into account.
+	 */
+	private static final class AddressingHeaders {
+
+		private final Set<QName> names = new HashSet<>();
+
+		private @Nullable Document document;
+
+		private @Nullable URI to;
+
+		private @Nullable URI action;
+
+		private @Nullable URI messageId;
+
+		private @Nullable EndpointReference from;
+
+		private @Nullable EndpointReference replyTo;
+
+		private @Nullable EndpointReference faultTo;
+
+		boolean isFirst(QName name) {
+			return this.names.add(name);
+		}
+
+		Document getDocument() {
+			if (this.document == null) {
+				try {
+					this.document = documentBuilderFactory.newDocumentBuilder().newDocument();
+				}
+				catch (ParserConfigurationException ex) {
+					throw new AddressingException("Could not create document for reference parameters", ex);
+				}
+			}
+			return this.document;
+		}
+
+	}
+
 }
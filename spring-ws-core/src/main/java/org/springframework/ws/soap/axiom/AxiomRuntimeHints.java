@@ -0,0 +1,80 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.axiom;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+
+import javax.xml.parsers.DocumentBuilder;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.xml.DocumentBuilderFactoryUtils;
+
+/**
+ * {@link RuntimeHintsRegistrar} for Axiom: registers the {@code META-INF/axiom.xml}
+ * descriptors that Axiom uses to locate its implementations, and the loader classes they
+ * declare.
+ *
+ * @author Stephane Nicoll
+ */
+class AxiomRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final String AXIOM_DESCRIPTOR_LOCATION = "META-INF/axiom.xml";
+
+	@Override
+	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+		if (!ClassUtils.isPresent("org.apache.axiom.om.OMAbstractFactory", classLoader)) {
+			return;
+		}
+		hints.resources().registerPattern(AXIOM_DESCRIPTOR_LOCATION);
+		ClassLoader classLoaderToUse = (classLoader != null) ? classLoader : ClassUtils.getDefaultClassLoader();
+		if (classLoaderToUse == null) {
+			return;
+		}
+		try {
+			DocumentBuilder documentBuilder = DocumentBuilderFactoryUtils.newInstance().newDocumentBuilder();
+			Enumeration<URL> descriptors = classLoaderToUse.getResources(AXIOM_DESCRIPTOR_LOCATION);
+			while (descriptors.hasMoreElements()) {
+				try (InputStream inputStream = descriptors.nextElement().openStream()) {
+					NodeList implementations = documentBuilder.parse(inputStream)
+						.getElementsByTagName("implementation");
+					for (int i = 0; i < implementations.getLength(); i++) {
+						String loader = ((Element) implementations.item(i)).getAttribute("loader");
+						if (StringUtils.hasText(loader)) {
+							hints.reflection()
+								.registerType(TypeReference.of(loader), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+						}
+					}
+				}
+			}
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException("Could not read Axiom descriptors: " + ex.getMessage(), ex);
+		}
+	}
+
+}
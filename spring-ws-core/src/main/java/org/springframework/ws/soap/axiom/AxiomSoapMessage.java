@@ -42,6 +42,7 @@ import org.apache.axiom.soap.SOAPMessage;
 import org.apache.axiom.soap.SOAPProcessingException;
 import org.jspecify.annotations.Nullable;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -142,6 +143,16 @@ public class AxiomSoapMessage extends AbstractSoapMessage implements StreamingWe
 		this.langAttributeOnSoap11FaultString = langAttributeOnSoap11FaultString;
 	}
 
+	/**
+	 * Returns {@code false} if the contents of the SOAP body are not cached, in which case
+	 * the payload can only be read once.
+	 * @see AxiomSoapMessageFactory#setPayloadCaching(boolean)
+	 */
+	@Override
+	public boolean isPayloadRepeatable() {
+		return this.payloadCaching;
+	}
+
 	/**
 	 * Return the AXIOM {@code SOAPMessage} that this {@code AxiomSoapMessage} is based
 	 * on.
@@ -208,6 +219,10 @@ public class AxiomSoapMessage extends AbstractSoapMessage implements StreamingWe
 
 	@Override
 	public void setDocument(Document document) {
+		if (this.axiomMessage.getSOAPEnvelope() instanceof Element element && element.getOwnerDocument() == document) {
+			// DOM-compatible message, modified in place
+			return;
+		}
 		// save the Soap Action
 		String soapAction = getSoapAction();
 		// replace the Axiom message
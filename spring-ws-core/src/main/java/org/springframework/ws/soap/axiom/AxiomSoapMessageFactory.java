@@ -29,6 +29,7 @@ import javax.xml.stream.XMLStreamReader;
 import org.apache.axiom.attachments.Attachments;
 import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMException;
+import org.apache.axiom.om.OMMetaFactory;
 import org.apache.axiom.om.OMXMLBuilderFactory;
 import org.apache.axiom.om.impl.MTOMConstants;
 import org.apache.axiom.soap.SOAPFactory;
@@ -107,8 +108,12 @@ public class AxiomSoapMessageFactory implements SoapMessageFactory, Initializing
 
 	private int attachmentCacheThreshold = 4096;
 
+	private OMMetaFactory metaFactory = OMAbstractFactory.getMetaFactory();
+
 	// use SOAP 1.1 by default
-	private SOAPFactory soapFactory = OMAbstractFactory.getSOAP11Factory();
+	private SoapVersion soapVersion = SoapVersion.SOAP_11;
+
+	private SOAPFactory soapFactory = this.metaFactory.getSOAP11Factory();
 
 	private boolean langAttributeOnSoap11FaultString = true;
 
@@ -169,16 +174,44 @@ public class AxiomSoapMessageFactory implements SoapMessageFactory, Initializing
 
 	@Override
 	public void setSoapVersion(SoapVersion version) {
-		if (SoapVersion.SOAP_11 == version) {
-			this.soapFactory = OMAbstractFactory.getSOAP11Factory();
+		if (SoapVersion.SOAP_11 != version && SoapVersion.SOAP_12 != version) {
+			throw new IllegalArgumentException(
+					"Invalid version [" + version + "]. " + "Expected the SOAP_11 or SOAP_12 constant");
 		}
-		else if (SoapVersion.SOAP_12 == version) {
-			this.soapFactory = OMAbstractFactory.getSOAP12Factory();
+		this.soapVersion = version;
+		this.soapFactory = createSoapFactory();
+	}
+
+	/**
+	 * Sets whether messages should be built with Axiom's DOM-compatible implementation
+	 * (DOOM) rather than the default, linked-list based implementation. Requires
+	 * {@code axiom-dom} on the classpath.
+	 * <p>
+	 * Messages built with DOOM implement the DOM API, so that
+	 * {@link AxiomSoapMessage#getDocument()} and
+	 * {@link AxiomSoapMessage#setDocument(org.w3c.dom.Document)} give access to the
+	 * message itself rather than to a copy. This makes DOM-based processing, such as
+	 * WS-Security, considerably cheaper, while requests are still parsed incrementally.
+	 * <p>
+	 * Default is {@code false}.
+	 * @since 5.1.0
+	 */
+	public void setDomCompatible(boolean domCompatible) {
+		if (domCompatible) {
+			OMMetaFactory domMetaFactory = OMAbstractFactory.getMetaFactory(OMAbstractFactory.FEATURE_DOM);
+			Assert.state(domMetaFactory != null,
+					"Axiom DOM-compatible implementation not found, make sure axiom-dom is on the classpath");
+			this.metaFactory = domMetaFactory;
 		}
 		else {
-			throw new IllegalArgumentException(
-					"Invalid version [" + version + "]. " + "Expected the SOAP_11 or SOAP_12 constant");
+			this.metaFactory = OMAbstractFactory.getMetaFactory();
 		}
+		this.soapFactory = createSoapFactory();
+	}
+
+	private SOAPFactory createSoapFactory() {
+		return (SoapVersion.SOAP_12 == this.soapVersion) ? this.metaFactory.getSOAP12Factory()
+				: this.metaFactory.getSOAP11Factory();
 	}
 
 	/**
@@ -285,7 +318,7 @@ public class AxiomSoapMessageFactory implements SoapMessageFactory, Initializing
 	 */
 	private AxiomSoapMessage createAxiomSoapMessage(InputStream inputStream, String contentType, String soapAction)
 			throws XMLStreamException {
-		SOAPModelBuilder builder = OMXMLBuilderFactory.createSOAPModelBuilder(inputStream,
+		SOAPModelBuilder builder = OMXMLBuilderFactory.createSOAPModelBuilder(this.metaFactory, inputStream,
 				getCharSetEncoding(contentType));
 		SOAPMessage soapMessage = builder.getSOAPMessage();
 		return new AxiomSoapMessage(soapMessage, soapAction, this.payloadCaching,
@@ -303,10 +336,11 @@ public class AxiomSoapMessageFactory implements SoapMessageFactory, Initializing
 		SOAPModelBuilder builder;
 		if (MTOMConstants.SWA_TYPE.equals(attachments.getAttachmentSpecType())
 				|| MTOMConstants.SWA_TYPE_12.equals(attachments.getAttachmentSpecType())) {
-			builder = OMXMLBuilderFactory.createSOAPModelBuilder(attachments.getRootPartInputStream(), charSetEncoding);
+			builder = OMXMLBuilderFactory.createSOAPModelBuilder(this.metaFactory, attachments.getRootPartInputStream(),
+					charSetEncoding);
 		}
 		else if (MTOMConstants.MTOM_TYPE.equals(attachments.getAttachmentSpecType())) {
-			builder = OMXMLBuilderFactory.createSOAPModelBuilder(attachments.getMultipartBody());
+			builder = OMXMLBuilderFactory.createSOAPModelBuilder(this.metaFactory, attachments.getMultipartBody());
 		}
 		else {
 			throw new AxiomSoapMessageCreationException(
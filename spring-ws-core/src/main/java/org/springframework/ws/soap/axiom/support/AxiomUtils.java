@@ -54,6 +54,8 @@ public abstract class AxiomUtils {
 
 	private static final OMOutputFormat DEFAULT_OUTPUT_FORMAT = new OMOutputFormat();
 
+	private static final DocumentBuilderFactory documentBuilderFactory = createDocumentBuilderFactory();
+
 	/**
 	 * Converts a {@code javax.xml.namespace.QName} to a
 	 * {@code org.apache.axiom.om.OMNamespace}. A {@code OMElement} is used to resolve the
@@ -108,6 +110,9 @@ public abstract class AxiomUtils {
 	/**
 	 * Converts a given AXIOM {@link org.apache.axiom.soap.SOAPEnvelope} to a
 	 * {@link Document}.
+	 * <p>
+	 * An envelope created by Axiom's DOM-compatible implementation is returned as is,
+	 * through its owner document. Other envelopes are copied to a new document.
 	 * @param envelope the SOAP envelope to be converted
 	 * @return the converted document
 	 * @throws IllegalArgumentException in case of errors
@@ -123,8 +128,6 @@ public abstract class AxiomUtils {
 				envelope.serialize(bos, DEFAULT_OUTPUT_FORMAT, true);
 
 				ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
-				DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactoryUtils.newInstance();
-				documentBuilderFactory.setNamespaceAware(true);
 				return documentBuilderFactory.newDocumentBuilder().parse(bis);
 			}
 		}
@@ -133,6 +136,12 @@ public abstract class AxiomUtils {
 		}
 	}
 
+	private static DocumentBuilderFactory createDocumentBuilderFactory() {
+		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactoryUtils.newInstance();
+		documentBuilderFactory.setNamespaceAware(true);
+		return documentBuilderFactory;
+	}
+
 	/**
 	 * Converts a given {@link Document} to an AXIOM
 	 * {@link org.apache.axiom.soap.SOAPEnvelope}.
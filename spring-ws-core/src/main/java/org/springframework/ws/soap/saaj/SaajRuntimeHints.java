@@ -0,0 +1,63 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.saaj;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the SAAJ reference implementation: registers the
+ * meta factory that {@link jakarta.xml.soap.SAAJMetaFactory} looks up by name, the
+ * service descriptors used to override it, and the resource bundles of its messages.
+ *
+ * @author Stephane Nicoll
+ */
+class SaajRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final String META_FACTORY_CLASS_NAME = "com.sun.xml.messaging.saaj.soap.SAAJMetaFactoryImpl";
+
+	private static final List<String> RESOURCE_BUNDLES = List.of("com.sun.xml.messaging.saaj.soap.LocalStrings",
+			"com.sun.xml.messaging.saaj.soap.impl.LocalStrings", "com.sun.xml.messaging.saaj.soap.name.LocalStrings",
+			"com.sun.xml.messaging.saaj.soap.ver1_1.LocalStrings",
+			"com.sun.xml.messaging.saaj.soap.ver1_2.LocalStrings", "com.sun.xml.messaging.saaj.util.LocalStrings",
+			"com.sun.xml.messaging.saaj.client.p2p.LocalStrings");
+
+	@Override
+	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+		hints.resources().registerPattern("META-INF/services/jakarta.xml.soap.*");
+		if (!ClassUtils.isPresent(META_FACTORY_CLASS_NAME, classLoader)) {
+			return;
+		}
+		hints.reflection()
+			.registerType(TypeReference.of(META_FACTORY_CLASS_NAME), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+		ClassLoader classLoaderToUse = (classLoader != null) ? classLoader : ClassUtils.getDefaultClassLoader();
+		for (String bundle : RESOURCE_BUNDLES) {
+			String location = ClassUtils.convertClassNameToResourcePath(bundle) + ".properties";
+			if (classLoaderToUse != null && classLoaderToUse.getResource(location) != null) {
+				hints.resources().registerResourceBundle(bundle);
+			}
+		}
+	}
+
+}
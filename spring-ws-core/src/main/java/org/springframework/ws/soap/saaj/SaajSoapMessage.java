@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Iterator;
 
+import javax.xml.transform.dom.DOMSource;
+
 import jakarta.activation.DataHandler;
 import jakarta.xml.soap.AttachmentPart;
 import jakarta.xml.soap.MessageFactory;
@@ -66,6 +68,8 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 
 	private static final String CONTENT_TYPE_XOP = "application/xop+xml";
 
+	private static final String SAAJ_RI_PACKAGE = "com.sun.xml.messaging.saaj.";
+
 	private final @Nullable MessageFactory messageFactory;
 
 	private SOAPMessage saajMessage;
@@ -74,6 +78,8 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 
 	private final boolean langAttributeOnSoap11FaultString;
 
+	private boolean inPlaceDocumentAccess = false;
+
 	/**
 	 * Create a new {@code SaajSoapMessage} based on the given SAAJ {@code SOAPMessage}.
 	 * @param soapMessage the SAAJ SOAPMessage
@@ -132,6 +138,21 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 		this.envelope = null;
 	}
 
+	/**
+	 * Sets whether {@link #getDocument()} and {@link #setDocument(Document)} operate on
+	 * the {@link SOAPPart} of the SAAJ message in place, rather than on a serialized and
+	 * re-parsed copy of the message.
+	 * <p>
+	 * Only applies to the SAAJ reference implementation, which exposes a complete DOM
+	 * through its {@code SOAPPart}. Other implementations keep using a copy. Defaults to
+	 * {@code false}.
+	 * @param inPlaceDocumentAccess whether to access the document in place
+	 * @since 5.1.0
+	 */
+	public void setInPlaceDocumentAccess(boolean inPlaceDocumentAccess) {
+		this.inPlaceDocumentAccess = inPlaceDocumentAccess;
+	}
+
 	@Override
 	public SoapEnvelope getEnvelope() {
 		if (this.envelope == null) {
@@ -192,6 +213,10 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 
 	@Override
 	public Document getDocument() {
+		SOAPPart soapPart = getSaajMessage().getSOAPPart();
+		if (isInPlaceDocumentAccess(soapPart)) {
+			return soapPart;
+		}
 		Assert.state(this.messageFactory != null, "Could find message factory to use");
 		// return saajSoapMessage.getSaajMessage().getSOAPPart(); // does not work, see
 		// SWS-345
@@ -210,7 +235,17 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 
 	@Override
 	public void setDocument(Document document) {
-		if (this.saajMessage.getSOAPPart() != document) {
+		SOAPPart soapPart = this.saajMessage.getSOAPPart();
+		if (soapPart != document && isInPlaceDocumentAccess(soapPart)) {
+			try {
+				soapPart.setContent(new DOMSource(document));
+				this.envelope = null;
+			}
+			catch (SOAPException ex) {
+				throw new SaajSoapMessageException("Could not set document", ex);
+			}
+		}
+		else if (soapPart != document) {
 			Assert.state(this.messageFactory != null, "Could find message factory to use");
 			try {
 				DOMImplementation implementation = document.getImplementation();
@@ -235,6 +270,10 @@ public class SaajSoapMessage extends AbstractSoapMessage {
 		}
 	}
 
+	private boolean isInPlaceDocumentAccess(SOAPPart soapPart) {
+		return this.inPlaceDocumentAccess && soapPart.getClass().getName().startsWith(SAAJ_RI_PACKAGE);
+	}
+
 	@Override
 	public void writeTo(OutputStream outputStream) throws IOException {
 		MimeHeaders mimeHeaders = getSaajMessage().getMimeHeaders();
@@ -76,6 +76,8 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 
 	private boolean langAttributeOnSoap11FaultString = true;
 
+	private boolean inPlaceDocumentAccess = false;
+
 	private @Nullable Map<String, ?> messageProperties;
 
 	/** Default, empty constructor. */
@@ -120,6 +122,22 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 		this.langAttributeOnSoap11FaultString = langAttributeOnSoap11FaultString;
 	}
 
+	/**
+	 * Defines whether created messages give access to their document in place, rather
+	 * than serializing and re-parsing the message on every
+	 * {@link SaajSoapMessage#getDocument()} and
+	 * {@link SaajSoapMessage#setDocument(org.w3c.dom.Document)} call. This avoids two
+	 * copies of the message for each WS-Security processing step.
+	 * <p>
+	 * The default is {@code false}. Only applies to the SAAJ reference implementation;
+	 * other implementations keep the copying behavior they require.
+	 * @since 5.1.0
+	 * @see SaajSoapMessage#setInPlaceDocumentAccess(boolean)
+	 */
+	public void setInPlaceDocumentAccess(boolean inPlaceDocumentAccess) {
+		this.inPlaceDocumentAccess = inPlaceDocumentAccess;
+	}
+
 	@Override
 	public void setSoapVersion(SoapVersion version) {
 		if (SaajUtils.getSaajVersion() >= SaajUtils.SAAJ_13) {
@@ -190,7 +208,7 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 		try {
 			SOAPMessage saajMessage = getMessageFactory().createMessage();
 			postProcess(saajMessage);
-			return new SaajSoapMessage(saajMessage, this.langAttributeOnSoap11FaultString, getMessageFactory());
+			return createSaajSoapMessage(saajMessage, getMessageFactory());
 		}
 		catch (SOAPException ex) {
 			throw new SoapMessageCreationException("Could not create empty message: " + ex.getMessage(), ex);
@@ -205,7 +223,7 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 			SOAPMessage saajMessage = getMessageFactory().createMessage(mimeHeaders, inputStream);
 			saajMessage.getSOAPPart().getEnvelope();
 			postProcess(saajMessage);
-			return new SaajSoapMessage(saajMessage, this.langAttributeOnSoap11FaultString, this.messageFactory);
+			return createSaajSoapMessage(saajMessage, this.messageFactory);
 		}
 		catch (SOAPException ex) {
 			// SAAJ 1.3 RI has a issue with handling multipart XOP content types which
@@ -219,7 +237,7 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 				try {
 					SOAPMessage saajMessage = getMessageFactory().createMessage(mimeHeaders, inputStream);
 					postProcess(saajMessage);
-					return new SaajSoapMessage(saajMessage, this.langAttributeOnSoap11FaultString);
+					return createSaajSoapMessage(saajMessage, null);
 				}
 				catch (SOAPException ex2) {
 					// fall-through
@@ -236,6 +254,13 @@ public class SaajSoapMessageFactory implements SoapMessageFactory, InitializingB
 		}
 	}
 
+	private SaajSoapMessage createSaajSoapMessage(SOAPMessage saajMessage, @Nullable MessageFactory messageFactory) {
+		SaajSoapMessage message = new SaajSoapMessage(saajMessage, this.langAttributeOnSoap11FaultString,
+				messageFactory);
+		message.setInPlaceDocumentAccess(this.inPlaceDocumentAccess);
+		return message;
+	}
+
 	private @Nullable SAXParseException getSAXParseException(Throwable ex) {
 		if (ex instanceof SAXParseException) {
 			return (SAXParseException) ex;
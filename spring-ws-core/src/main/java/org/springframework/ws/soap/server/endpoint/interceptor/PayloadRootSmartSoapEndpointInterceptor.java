@@ -19,11 +19,16 @@ package org.springframework.ws.soap.server.endpoint.interceptor;
 import javax.xml.namespace.QName;
 import javax.xml.transform.TransformerException;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.CacheableSmartEndpointInterceptor;
 import org.springframework.ws.server.EndpointInterceptor;
-import org.springframework.ws.server.endpoint.support.PayloadRootUtils;
+import org.springframework.ws.server.RequestDiscriminator;
+import org.springframework.ws.support.PayloadRootUtils;
 import org.springframework.xml.transform.TransformerHelper;
 
 /**
@@ -35,7 +40,8 @@ import org.springframework.xml.transform.TransformerHelper;
  * @author Arjen Poutsma
  * @since 2.0
  */
-public class PayloadRootSmartSoapEndpointInterceptor extends DelegatingSmartSoapEndpointInterceptor {
+public class PayloadRootSmartSoapEndpointInterceptor extends DelegatingSmartSoapEndpointInterceptor
+		implements CacheableSmartEndpointInterceptor {
 
 	private TransformerHelper transformerHelper = new TransformerHelper();
 
@@ -56,19 +62,36 @@ public class PayloadRootSmartSoapEndpointInterceptor extends DelegatingSmartSoap
 	}
 
 	@Override
-	protected boolean shouldIntercept(WebServiceMessage request, Object endpoint) {
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.PAYLOAD_ROOT_QNAME;
+	}
+
+	@Override
+	public boolean shouldIntercept(MessageContext messageContext, Object endpoint) {
 		try {
-			QName payloadRootName = PayloadRootUtils.getPayloadRootQName(request.getPayloadSource(),
-					this.transformerHelper);
-			if (payloadRootName == null || !this.namespaceUri.equals(payloadRootName.getNamespaceURI())) {
-				return false;
-			}
-			return !StringUtils.hasLength(this.localPart) || this.localPart.equals(payloadRootName.getLocalPart());
+			return shouldIntercept(PayloadRootUtils.getPayloadRootQName(messageContext, this.transformerHelper));
+		}
+		catch (TransformerException ex) {
+			return false;
+		}
+	}
 
+	@Override
+	protected boolean shouldIntercept(WebServiceMessage request, Object endpoint) {
+		try {
+			return shouldIntercept(PayloadRootUtils.getPayloadRootQName(request.getPayloadSource(),
+					this.transformerHelper));
 		}
 		catch (TransformerException ex) {
 			return false;
 		}
 	}
 
+	private boolean shouldIntercept(@Nullable QName payloadRootName) {
+		if (payloadRootName == null || !this.namespaceUri.equals(payloadRootName.getNamespaceURI())) {
+			return false;
+		}
+		return !StringUtils.hasLength(this.localPart) || this.localPart.equals(payloadRootName.getLocalPart());
+	}
+
 }
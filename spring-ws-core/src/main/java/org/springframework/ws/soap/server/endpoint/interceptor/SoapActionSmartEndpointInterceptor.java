@@ -19,7 +19,9 @@ package org.springframework.ws.soap.server.endpoint.interceptor;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.server.CacheableSmartEndpointInterceptor;
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.soap.SoapMessage;
 
 /**
@@ -29,7 +31,8 @@ import org.springframework.ws.soap.SoapMessage;
  * @author Arjen Poutsma
  * @since 2.0
  */
-public class SoapActionSmartEndpointInterceptor extends DelegatingSmartSoapEndpointInterceptor {
+public class SoapActionSmartEndpointInterceptor extends DelegatingSmartSoapEndpointInterceptor
+		implements CacheableSmartEndpointInterceptor {
 
 	private final String soapAction;
 
@@ -39,6 +42,11 @@ public class SoapActionSmartEndpointInterceptor extends DelegatingSmartSoapEndpo
 		this.soapAction = soapAction;
 	}
 
+	@Override
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.SOAP_ACTION;
+	}
+
 	@Override
 	protected boolean shouldIntercept(WebServiceMessage request, Object endpoint) {
 		if (request instanceof SoapMessage) {
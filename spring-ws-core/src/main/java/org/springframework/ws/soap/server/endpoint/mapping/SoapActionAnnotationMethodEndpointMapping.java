@@ -26,8 +26,10 @@ import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.CacheableEndpointMapping;
 import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.server.EndpointInvocationChain;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.server.endpoint.mapping.AbstractAnnotationMethodEndpointMapping;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.server.SoapEndpointInvocationChain;
@@ -55,7 +57,7 @@ import org.springframework.ws.soap.server.endpoint.annotation.SoapActions;
  * @since 1.0.0
  */
 public class SoapActionAnnotationMethodEndpointMapping extends AbstractAnnotationMethodEndpointMapping<String>
-		implements SoapEndpointMapping {
+		implements SoapEndpointMapping, CacheableEndpointMapping {
 
 	private String @Nullable [] actorsOrRoles;
 
@@ -93,6 +95,11 @@ public class SoapActionAnnotationMethodEndpointMapping extends AbstractAnnotatio
 		return new SoapEndpointInvocationChain(endpoint, interceptors, this.actorsOrRoles, this.isUltimateReceiver);
 	}
 
+	@Override
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.SOAP_ACTION;
+	}
+
 	@Override
 	protected @Nullable String getLookupKeyForMessage(MessageContext messageContext) throws Exception {
 		if (messageContext.getRequest() instanceof SoapMessage request) {
@@ -21,8 +21,10 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.CacheableEndpointMapping;
 import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.server.EndpointInvocationChain;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.server.endpoint.mapping.AbstractMapBasedEndpointMapping;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.server.SoapEndpointInvocationChain;
@@ -54,7 +56,8 @@ import org.springframework.ws.soap.server.SoapEndpointMapping;
  * @author Arjen Poutsma
  * @since 1.0.0
  */
-public class SoapActionEndpointMapping extends AbstractMapBasedEndpointMapping implements SoapEndpointMapping {
+public class SoapActionEndpointMapping extends AbstractMapBasedEndpointMapping
+		implements SoapEndpointMapping, CacheableEndpointMapping {
 
 	private String @Nullable [] actorsOrRoles;
 
@@ -92,6 +95,11 @@ public class SoapActionEndpointMapping extends AbstractMapBasedEndpointMapping i
 		return new SoapEndpointInvocationChain(endpoint, interceptors, this.actorsOrRoles, this.isUltimateReceiver);
 	}
 
+	@Override
+	public RequestDiscriminator getDiscriminator() {
+		return RequestDiscriminator.SOAP_ACTION;
+	}
+
 	@Override
 	protected @Nullable String getLookupKeyForMessage(MessageContext messageContext) throws Exception {
 		if (messageContext.getRequest() instanceof SoapMessage request) {
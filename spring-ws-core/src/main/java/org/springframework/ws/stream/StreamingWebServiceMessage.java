@@ -33,4 +33,16 @@ public interface StreamingWebServiceMessage extends WebServiceMessage {
 	 */
 	void setStreamingPayload(StreamingPayload payload);
 
+	/**
+	 * Indicate whether the payload of this message can be read more than once. If not,
+	 * reading the {@linkplain #getPayloadSource() payload source} consumes it.
+	 * <p>
+	 * The default implementation returns {@code true}.
+	 * @return {@code true} if the payload can be read repeatedly; {@code false} otherwise
+	 * @since 5.1.0
+	 */
+	default boolean isPayloadRepeatable() {
+		return true;
+	}
+
 }
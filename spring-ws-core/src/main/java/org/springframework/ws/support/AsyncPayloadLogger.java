@@ -0,0 +1,171 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+/**
+ * Logs message payloads on a background thread. Payloads are handed over as a
+ * {@link PayloadCapture} holding a bounded prefix of the raw bytes, so that formatting
+ * and writing the log entry do not happen on the thread that processes the message.
+ * <p>
+ * Pending log entries are held in a bounded queue. When the queue is full, new entries
+ * are dropped rather than blocking the caller; the number of dropped entries is
+ * {@linkplain #getDroppedCount() available} and reported as a warning once the queue
+ * drains.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public class AsyncPayloadLogger implements DisposableBean {
+
+	/** The default maximum number of pending log entries. */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/** The default maximum number of bytes of a payload that are logged. */
+	public static final int DEFAULT_MAX_PAYLOAD_SIZE = 4096;
+
+	private static final Log logger = LogFactory.getLog(AsyncPayloadLogger.class);
+
+	private final ThreadPoolExecutor executor;
+
+	private final int maxPayloadSize;
+
+	private Charset charset = StandardCharsets.UTF_8;
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private final AtomicLong reportedDroppedCount = new AtomicLong();
+
+	/**
+	 * Create a new instance with the default queue capacity and maximum payload size.
+	 */
+	public AsyncPayloadLogger() {
+		this(DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_PAYLOAD_SIZE);
+	}
+
+	/**
+	 * Create a new instance with the given queue capacity and maximum payload size.
+	 * @param queueCapacity the maximum number of pending log entries
+	 * @param maxPayloadSize the maximum number of bytes of a payload that are logged
+	 */
+	public AsyncPayloadLogger(int queueCapacity, int maxPayloadSize) {
+		Assert.isTrue(queueCapacity > 0, "'queueCapacity' must be positive");
+		Assert.isTrue(maxPayloadSize > 0, "'maxPayloadSize' must be positive");
+		this.maxPayloadSize = maxPayloadSize;
+		this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), (runnable) -> {
+					Thread thread = new Thread(runnable, "ws-payload-logger");
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	/**
+	 * Set the charset used to decode captured payloads. Default is UTF-8.
+	 * @param charset the charset to use
+	 */
+	public void setCharset(Charset charset) {
+		Assert.notNull(charset, "'charset' must not be null");
+		this.charset = charset;
+	}
+
+	/**
+	 * Return the maximum number of bytes of a payload that are logged.
+	 */
+	public int getMaxPayloadSize() {
+		return this.maxPayloadSize;
+	}
+
+	/**
+	 * Return the number of log entries that were dropped because the queue was full.
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+	/**
+	 * Create a {@link PayloadCapture} bounded to the
+	 * {@linkplain #getMaxPayloadSize() maximum payload size}.
+	 * @return a new payload capture
+	 */
+	public PayloadCapture createCapture() {
+		return new PayloadCapture(this.maxPayloadSize);
+	}
+
+	/**
+	 * Log the given captured payload asynchronously. The log entry is made of the given
+	 * prefix followed by the payload in square brackets, with an indication of the total
+	 * size if the payload was truncated. The capture must not be written to afterwards.
+	 * @param log the callback that writes the log entry, for instance
+	 * {@code logger::debug}
+	 * @param prefix the prefix of the log entry
+	 * @param capture the captured payload
+	 * @return {@code true} if the entry was queued, {@code false} if it was dropped
+	 */
+	public boolean log(Consumer<String> log, String prefix, PayloadCapture capture) {
+		try {
+			this.executor.execute(() -> {
+				reportDropped();
+				log.accept(format(prefix, capture));
+			});
+			return true;
+		}
+		catch (RejectedExecutionException ex) {
+			this.droppedCount.incrementAndGet();
+			return false;
+		}
+	}
+
+	private String format(String prefix, PayloadCapture capture) {
+		StringBuilder builder = new StringBuilder(prefix).append('[').append(capture.toString(this.charset));
+		if (capture.isTruncated()) {
+			builder.append("...] (").append(capture.getTotalLength()).append(" bytes)");
+		}
+		else {
+			builder.append(']');
+		}
+		return builder.toString();
+	}
+
+	private void reportDropped() {
+		long dropped = this.droppedCount.get();
+		long reported = this.reportedDroppedCount.getAndSet(dropped);
+		if (dropped > reported && logger.isWarnEnabled()) {
+			logger.warn("Dropped " + (dropped - reported) + " payload log entries as the queue was full");
+		}
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdown();
+	}
+
+}
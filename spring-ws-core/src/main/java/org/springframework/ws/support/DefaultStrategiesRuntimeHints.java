@@ -0,0 +1,76 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the default strategies loaded by
+ * {@link DefaultStrategiesHelper}: registers the properties files, and the strategy
+ * implementations they list for instantiation.
+ *
+ * @author Stephane Nicoll
+ */
+class DefaultStrategiesRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final List<String> DEFAULT_STRATEGIES_LOCATIONS = List.of(
+			"org/springframework/ws/server/MessageDispatcher.properties",
+			"org/springframework/ws/soap/server/SoapMessageDispatcher.properties",
+			"org/springframework/ws/transport/http/MessageDispatcherServlet.properties",
+			"org/springframework/ws/client/core/WebServiceTemplate.properties");
+
+	@Override
+	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+		for (String location : DEFAULT_STRATEGIES_LOCATIONS) {
+			ClassPathResource resource = new ClassPathResource(location, classLoader);
+			if (!resource.exists()) {
+				continue;
+			}
+			hints.resources().registerPattern(location);
+			Properties strategies = loadStrategies(resource);
+			for (String strategyInterface : strategies.stringPropertyNames()) {
+				String value = strategies.getProperty(strategyInterface);
+				for (String className : StringUtils.commaDelimitedListToStringArray(value)) {
+					hints.reflection()
+						.registerType(TypeReference.of(className.trim()), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+				}
+			}
+		}
+	}
+
+	private static Properties loadStrategies(ClassPathResource resource) {
+		try {
+			return PropertiesLoaderUtils.loadProperties(resource);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Could not load '" + resource + "': " + ex.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded, lock-free pool of non thread-safe objects that are expensive to create, such
+ * as JAXB {@code Marshaller} instances or compiled XPath expressions.
+ * <p>
+ * Instances are kept in a fixed number of slots. Threads start looking for a free or
+ * occupied slot at an offset derived from their id, which keeps contention low without
+ * any locking. When no pooled instance is available, {@link #acquire()} returns
+ * {@code null} and the caller is expected to create a new one; when all slots are taken,
+ * {@link #release(Object)} drops the instance.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @param <T> the type of pooled objects
+ */
+public final class InstancePool<T> {
+
+	private final AtomicReferenceArray<@Nullable T> slots;
+
+	/**
+	 * Create a pool with the given number of slots.
+	 * @param capacity the maximum number of pooled instances
+	 */
+	public InstancePool(int capacity) {
+		this.slots = new AtomicReferenceArray<>(capacity);
+	}
+
+	/**
+	 * Take an instance out of this pool.
+	 * @return a pooled instance, or {@code null} if none is available
+	 */
+	public @Nullable T acquire() {
+		int capacity = this.slots.length();
+		int offset = stripe(capacity);
+		for (int i = 0; i < capacity; i++) {
+			int index = (offset + i) % capacity;
+			if (this.slots.get(index) != null) {
+				T instance = this.slots.getAndSet(index, null);
+				if (instance != null) {
+					return instance;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the given instance to this pool. The instance must be in a state where it
+	 * can be reused by another caller.
+	 * @param instance the instance to return
+	 */
+	public void release(T instance) {
+		int capacity = this.slots.length();
+		int offset = stripe(capacity);
+		for (int i = 0; i < capacity; i++) {
+			if (this.slots.compareAndSet((offset + i) % capacity, null, instance)) {
+				return;
+			}
+		}
+	}
+
+	private static int stripe(int capacity) {
+		return (int) (Thread.currentThread().getId() % capacity);
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link OutputStream} that captures a bounded prefix of the bytes written to it, while
+ * keeping track of the total number of bytes. Bytes beyond the maximum size are
+ * discarded.
+ * <p>
+ * Used to tee the raw payload of a message as it is read or written, without buffering
+ * it in full.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see AsyncPayloadLogger
+ */
+public final class PayloadCapture extends OutputStream {
+
+	private final byte[] buffer;
+
+	private int count;
+
+	private long totalLength;
+
+	/**
+	 * Create a new instance that captures up to the given number of bytes.
+	 * @param maxSize the maximum number of bytes to capture
+	 */
+	public PayloadCapture(int maxSize) {
+		Assert.isTrue(maxSize >= 0, "'maxSize' must not be negative");
+		this.buffer = new byte[maxSize];
+	}
+
+	@Override
+	public void write(int b) {
+		if (this.count < this.buffer.length) {
+			this.buffer[this.count++] = (byte) b;
+		}
+		this.totalLength++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		int length = Math.min(len, this.buffer.length - this.count);
+		if (length > 0) {
+			System.arraycopy(b, off, this.buffer, this.count, length);
+			this.count += length;
+		}
+		this.totalLength += len;
+	}
+
+	/**
+	 * Return the total number of bytes written, including the ones that were discarded.
+	 */
+	public long getTotalLength() {
+		return this.totalLength;
+	}
+
+	/**
+	 * Return whether bytes were discarded because the maximum size was reached.
+	 */
+	public boolean isTruncated() {
+		return this.totalLength > this.count;
+	}
+
+	/**
+	 * Decode the captured bytes using the given charset. A multibyte character cut off by
+	 * the maximum size is replaced.
+	 * @param charset the charset to use
+	 * @return the captured content
+	 */
+	public String toString(Charset charset) {
+		return new String(this.buffer, 0, this.count, charset);
+	}
+
+}
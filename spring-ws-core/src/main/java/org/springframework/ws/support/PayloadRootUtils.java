@@ -0,0 +1,293 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.XMLEvent;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.xml.XMLInputFactoryUtils;
+import org.springframework.xml.namespace.QNameUtils;
+import org.springframework.xml.transform.TransformerHelper;
+import org.springframework.xml.transform.TraxUtils;
+
+/**
+ * Helper class for determining the root qualified name of a Web Service payload.
+ * <p>
+ * Stream and SAX sources are only read up to the start tag of the root element.
+ * <p>
+ * Used on both the client and the server side, for instance to name observations or to
+ * look up endpoints.
+ *
+ * @author Arjen Poutsma
+ * @since 5.1.0
+ */
+public abstract class PayloadRootUtils {
+
+	private static final String PAYLOAD_ROOT_PROPERTY = PayloadRootUtils.class.getName() + ".PAYLOAD_ROOT";
+
+	private static final XMLInputFactory inputFactory = XMLInputFactoryUtils.newInstance();
+
+	private PayloadRootUtils() {
+	}
+
+	/**
+	 * Returns the root qualified name of the request payload of the given message
+	 * context, transforming it if necessary.
+	 * <p>
+	 * The name is only determined once per request, and is stored as a property of the
+	 * message context so that endpoint mappings and interceptors can share it.
+	 * @param messageContext the message context holding the request
+	 * @param transformerHelper a transformer helper, necessary if the payload source
+	 * cannot be read directly
+	 * @return the root element, or {@code null} if the request has no payload
+	 */
+	public static @Nullable QName getPayloadRootQName(MessageContext messageContext,
+			TransformerHelper transformerHelper) throws TransformerException {
+		WebServiceMessage request = messageContext.getRequest();
+		if (messageContext.getProperty(PAYLOAD_ROOT_PROPERTY) instanceof PayloadRoot payloadRoot
+				&& payloadRoot.request() == request) {
+			return payloadRoot.qName();
+		}
+		QName qName = getPayloadRootQName(request.getPayloadSource(), transformerHelper);
+		messageContext.setProperty(PAYLOAD_ROOT_PROPERTY, new PayloadRoot(request, qName));
+		return qName;
+	}
+
+	/**
+	 * Returns the root qualified name of the request payload of the given message
+	 * context, transforming it if necessary.
+	 * @param messageContext the message context holding the request
+	 * @param transformerFactory a transformer factory, necessary if the payload source
+	 * cannot be read directly
+	 * @return the root element, or {@code null} if the request has no payload
+	 * @see #getPayloadRootQName(MessageContext, TransformerHelper)
+	 */
+	public static @Nullable QName getPayloadRootQName(MessageContext messageContext,
+			TransformerFactory transformerFactory) throws TransformerException {
+		return getPayloadRootQName(messageContext, new TransformerHelper(transformerFactory));
+	}
+
+	/**
+	 * Returns the root qualified name of the given source, transforming it if necessary.
+	 * @param source the source to get the root element from
+	 * @param transformerFactory a transformer factory, necessary if the given source is
+	 * not a {@code DOMSource}
+	 * @return the root element, or {@code null} if {@code source} is {@code null}
+	 */
+	public static @Nullable QName getPayloadRootQName(@Nullable Source source, TransformerFactory transformerFactory)
+			throws TransformerException {
+		return getPayloadRootQName(source, new TransformerHelper(transformerFactory));
+	}
+
+	public static @Nullable QName getPayloadRootQName(@Nullable Source source, TransformerHelper transformerHelper)
+			throws TransformerException {
+		if (source == null) {
+			return null;
+		}
+		try {
+			PayloadRootSourceCallback callback = new PayloadRootSourceCallback();
+			TraxUtils.doWithSource(source, callback);
+			if (callback.result != null || callback.consumed) {
+				return callback.result;
+			}
+			else {
+				// we have no other option than to transform
+				DOMResult domResult = new DOMResult();
+				transformerHelper.transform(source, domResult);
+				Document document = (Document) domResult.getNode();
+				return QNameUtils.getQNameForNode(document.getDocumentElement());
+			}
+		}
+		catch (TransformerException ex) {
+			throw ex;
+		}
+		catch (Exception ex) {
+			return null;
+		}
+	}
+
+	private record PayloadRoot(WebServiceMessage request, @Nullable QName qName) {
+
+	}
+
+	private static final class PayloadRootSourceCallback implements TraxUtils.SourceCallback {
+
+		private @Nullable QName result;
+
+		/** Whether the source was read, so that it cannot be transformed anymore. */
+		private boolean consumed;
+
+		@Override
+		public void domSource(Node node) throws Exception {
+			if (node.getNodeType() == Node.ELEMENT_NODE) {
+				this.result = QNameUtils.getQNameForNode(node);
+			}
+			else if (node.getNodeType() == Node.DOCUMENT_NODE) {
+				Document document = (Document) node;
+				this.result = QNameUtils.getQNameForNode(document.getDocumentElement());
+			}
+		}
+
+		@Override
+		public void staxSource(XMLEventReader eventReader) throws Exception {
+			XMLEvent event = eventReader.peek();
+			if (event != null && event.isStartDocument()) {
+				event = eventReader.nextTag();
+			}
+			if (event != null) {
+				if (event.isStartElement()) {
+					this.result = event.asStartElement().getName();
+				}
+				else if (event.isEndElement()) {
+					this.result = event.asEndElement().getName();
+				}
+			}
+		}
+
+		@Override
+		public void staxSource(XMLStreamReader streamReader) throws Exception {
+			if (streamReader.getEventType() == XMLStreamConstants.START_DOCUMENT) {
+				try {
+					streamReader.nextTag();
+				}
+				catch (XMLStreamException ex) {
+					throw new IllegalStateException("Could not read next tag: " + ex.getMessage(), ex);
+				}
+			}
+			if (streamReader.getEventType() == XMLStreamConstants.START_ELEMENT
+					|| streamReader.getEventType() == XMLStreamConstants.END_ELEMENT) {
+				this.result = streamReader.getName();
+			}
+		}
+
+		@Override
+		public void saxSource(@Nullable XMLReader reader, InputSource inputSource) throws Exception {
+			if (reader != null) {
+				this.consumed = true;
+				reader.setContentHandler(new PayloadRootHandler());
+				try {
+					reader.parse(inputSource);
+				}
+				catch (PayloadRootFoundException ex) {
+					this.result = ex.qName;
+				}
+				catch (SAXException ex) {
+					throw new TransformerException(ex);
+				}
+			}
+			else if (inputSource.getCharacterStream() != null) {
+				streamSource(inputSource.getCharacterStream());
+			}
+			else if (inputSource.getByteStream() != null) {
+				InputStream inputStream = inputSource.getByteStream();
+				String encoding = inputSource.getEncoding();
+				readPayloadRoot((encoding != null) ? inputFactory.createXMLStreamReader(inputStream, encoding)
+						: inputFactory.createXMLStreamReader(inputStream));
+			}
+		}
+
+		@Override
+		public void streamSource(InputStream inputStream) throws Exception {
+			readPayloadRoot(inputFactory.createXMLStreamReader(inputStream));
+		}
+
+		@Override
+		public void streamSource(Reader reader) throws Exception {
+			readPayloadRoot(inputFactory.createXMLStreamReader(reader));
+		}
+
+		private void readPayloadRoot(XMLStreamReader streamReader) throws TransformerException {
+			this.consumed = true;
+			try {
+				while (streamReader.hasNext()) {
+					if (streamReader.next() == XMLStreamConstants.START_ELEMENT) {
+						this.result = streamReader.getName();
+						return;
+					}
+				}
+			}
+			catch (XMLStreamException ex) {
+				throw new TransformerException(ex);
+			}
+			finally {
+				try {
+					streamReader.close();
+				}
+				catch (XMLStreamException ex) {
+					// ignore
+				}
+			}
+		}
+
+		@Override
+		public void source(String systemId) throws Exception {
+			// Do nothing
+		}
+
+	}
+
+	/**
+	 * SAX handler that stops parsing at the start tag of the root element.
+	 */
+	private static final class PayloadRootHandler extends DefaultHandler {
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes)
+				throws SAXException {
+			int idx = qName.indexOf(':');
+			String prefix = (idx != -1) ? qName.substring(0, idx) : "";
+			String name = (localName.isEmpty()) ? qName.substring(idx + 1) : localName;
+			throw new PayloadRootFoundException(new QName(uri, name, prefix));
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static final class PayloadRootFoundException extends SAXException {
+
+		private final QName qName;
+
+		PayloadRootFoundException(QName qName) {
+			this.qName = qName;
+		}
+
+	}
+
+}
@@ -18,10 +18,13 @@ package org.springframework.ws.transport;
 
 import java.io.IOException;
 
+import org.apache.commons.logging.Log;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.support.AsyncPayloadLogger;
+import org.springframework.ws.support.PayloadCapture;
 
 /**
  * Abstract base class for {@link WebServiceConnection} implementations.
@@ -37,6 +40,32 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 
 	private boolean closed = false;
 
+	private @Nullable AsyncPayloadLogger payloadLogger;
+
+	private @Nullable Log sentPayloadLog;
+
+	private @Nullable Log receivedPayloadLog;
+
+	private @Nullable PayloadCapture receivedPayload;
+
+	/**
+	 * Trace the payloads sent and received over this connection using the given
+	 * {@link AsyncPayloadLogger}. A bounded prefix of the raw bytes is captured as they
+	 * are written to the {@link TransportOutputStream} or read from the
+	 * {@link TransportInputStream}, and logged at trace level to the given logs: the sent
+	 * payload once it has been written, the received payload when this connection is
+	 * closed. A direction is only captured if its log has trace enabled.
+	 * @param payloadLogger the payload logger to use
+	 * @param sentPayloadLog the log for sent payloads
+	 * @param receivedPayloadLog the log for received payloads
+	 * @since 5.1.0
+	 */
+	public void setPayloadLogger(AsyncPayloadLogger payloadLogger, Log sentPayloadLog, Log receivedPayloadLog) {
+		this.payloadLogger = payloadLogger;
+		this.sentPayloadLog = sentPayloadLog;
+		this.receivedPayloadLog = receivedPayloadLog;
+	}
+
 	@Override
 	public final void send(WebServiceMessage message) throws IOException {
 		checkClosed();
@@ -45,11 +74,47 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 		if (this.tos == null) {
 			return;
 		}
-		message.writeTo(this.tos);
+		PayloadCapture sentPayload = createPayloadCapture(this.sentPayloadLog);
+		TransportOutputStream messageOutputStream = getMessageOutputStream(this.tos);
+		if (messageOutputStream == this.tos) {
+			this.tos.setPayloadCapture(sentPayload);
+			message.writeTo(this.tos);
+			this.tos.setPayloadCapture(null);
+		}
+		else {
+			try (TransportOutputStream out = messageOutputStream) {
+				out.setPayloadCapture(sentPayload);
+				message.writeTo(out);
+			}
+		}
 		this.tos.flush();
+		if (sentPayload != null) {
+			logPayload("Sent message ", sentPayload, this.sentPayloadLog);
+		}
 		onSendAfterWrite(message);
 	}
 
+	/**
+	 * Returns the stream to write a message to. Called from
+	 * {@link #send(WebServiceMessage)}.
+	 * <p>
+	 * Default implementation returns the given {@code TransportOutputStream}. Subclasses
+	 * can override this method to apply a content encoding, adding the relevant headers
+	 * to the given stream before writing to it. The returned stream must delegate
+	 * {@link TransportOutputStream#addHeader(String, String) addHeader} to the given
+	 * stream, as messages add their own headers while they are written. A stream other
+	 * than the given one is closed once the message has been written, and must not close
+	 * the given stream.
+	 * @param transportOutputStream the transport output stream
+	 * @return the stream to write the message to
+	 * @throws IOException when an I/O exception occurs
+	 * @since 5.1.0
+	 */
+	protected TransportOutputStream getMessageOutputStream(TransportOutputStream transportOutputStream)
+			throws IOException {
+		return transportOutputStream;
+	}
+
 	/**
 	 * Called before the given message has been written to the
 	 * {@code TransportOutputStream}. Called from {@link #send(WebServiceMessage)}.
@@ -88,6 +153,8 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 		if (this.tis == null) {
 			return null;
 		}
+		this.receivedPayload = createPayloadCapture(this.receivedPayloadLog);
+		this.tis.setPayloadCapture(this.receivedPayload);
 		WebServiceMessage message = messageFactory.createWebServiceMessage(this.tis);
 		onReceiveAfterRead(message);
 		return message;
@@ -122,10 +189,26 @@ public abstract class AbstractWebServiceConnection implements WebServiceConnecti
 	protected void onReceiveAfterRead(WebServiceMessage message) throws IOException {
 	}
 
+	private @Nullable PayloadCapture createPayloadCapture(@Nullable Log log) {
+		return (this.payloadLogger != null && log != null && log.isTraceEnabled())
+				? this.payloadLogger.createCapture() : null;
+	}
+
+	private void logPayload(String prefix, PayloadCapture payload, @Nullable Log log) {
+		if (this.payloadLogger != null && log != null) {
+			this.payloadLogger.log(log::trace, prefix, payload);
+		}
+	}
+
 	@Override
 	public final void close() throws IOException {
 		IOException ioex = null;
 		if (this.tis != null) {
+			if (this.receivedPayload != null) {
+				this.tis.setPayloadCapture(null);
+				logPayload("Received message ", this.receivedPayload, this.receivedPayloadLog);
+				this.receivedPayload = null;
+			}
 			try {
 				this.tis.close();
 			}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.ws.WebServiceMessage;
+
+/**
+ * Sub-interface of {@link WebServiceConnection} that can send a message without blocking
+ * the calling thread until the response is available.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+public interface AsyncWebServiceConnection extends WebServiceConnection {
+
+	/**
+	 * Sends the given message using this connection, without waiting for the response.
+	 * <p>
+	 * The returned future completes once the response, if any, has been fully received.
+	 * At that point, {@link #hasError()} and
+	 * {@link #receive(org.springframework.ws.WebServiceMessageFactory) receive} can be
+	 * invoked without blocking.
+	 * @param message the message to be sent
+	 * @return a future that completes when the response is available
+	 * @throws IOException in case of I/O errors while writing the message
+	 */
+	CompletableFuture<Void> sendAsync(WebServiceMessage message) throws IOException;
+
+}
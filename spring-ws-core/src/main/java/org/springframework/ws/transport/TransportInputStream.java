@@ -23,6 +23,7 @@ import java.util.Iterator;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.util.Assert;
+import org.springframework.ws.support.PayloadCapture;
 
 /**
  * A {@code TransportInputStream} is an input stream with MIME input headers. It is used
@@ -38,9 +39,21 @@ public abstract class TransportInputStream extends InputStream {
 
 	private @Nullable InputStream inputStream;
 
+	private @Nullable PayloadCapture payloadCapture;
+
 	protected TransportInputStream() {
 	}
 
+	/**
+	 * Set the {@link PayloadCapture} to which the bytes read from this stream are copied,
+	 * or {@code null} to stop capturing.
+	 * @param payloadCapture the payload capture
+	 * @since 5.1.0
+	 */
+	public void setPayloadCapture(@Nullable PayloadCapture payloadCapture) {
+		this.payloadCapture = payloadCapture;
+	}
+
 	private InputStream getInputStream() throws IOException {
 		if (this.inputStream == null) {
 			this.inputStream = createInputStream();
@@ -83,12 +96,16 @@ public abstract class TransportInputStream extends InputStream {
 
 	@Override
 	public int read(byte[] b) throws IOException {
-		return getInputStream().read(b);
+		return read(b, 0, b.length);
 	}
 
 	@Override
 	public int read(byte[] b, int off, int len) throws IOException {
-		return getInputStream().read(b, off, len);
+		int count = getInputStream().read(b, off, len);
+		if (this.payloadCapture != null && count > 0) {
+			this.payloadCapture.write(b, off, count);
+		}
+		return count;
 	}
 
 	@Override
@@ -103,7 +120,11 @@ public abstract class TransportInputStream extends InputStream {
 
 	@Override
 	public int read() throws IOException {
-		return getInputStream().read();
+		int b = getInputStream().read();
+		if (this.payloadCapture != null && b != -1) {
+			this.payloadCapture.write(b);
+		}
+		return b;
 	}
 
 	/** Returns the input stream to read from. */
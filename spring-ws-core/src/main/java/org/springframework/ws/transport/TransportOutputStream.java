@@ -22,6 +22,7 @@ import java.io.OutputStream;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.util.Assert;
+import org.springframework.ws.support.PayloadCapture;
 
 /**
  * A {@code TransportOutputStream} is an output stream with MIME input headers. It is used
@@ -36,9 +37,21 @@ public abstract class TransportOutputStream extends OutputStream {
 
 	private @Nullable OutputStream outputStream;
 
+	private @Nullable PayloadCapture payloadCapture;
+
 	protected TransportOutputStream() {
 	}
 
+	/**
+	 * Set the {@link PayloadCapture} to which the bytes written to this stream are
+	 * copied, or {@code null} to stop capturing.
+	 * @param payloadCapture the payload capture
+	 * @since 5.1.0
+	 */
+	public void setPayloadCapture(@Nullable PayloadCapture payloadCapture) {
+		this.payloadCapture = payloadCapture;
+	}
+
 	private OutputStream getOutputStream() throws IOException {
 		if (this.outputStream == null) {
 			this.outputStream = createOutputStream();
@@ -63,17 +76,23 @@ public abstract class TransportOutputStream extends OutputStream {
 
 	@Override
 	public void write(byte[] b) throws IOException {
-		getOutputStream().write(b);
+		write(b, 0, b.length);
 	}
 
 	@Override
 	public void write(byte[] b, int off, int len) throws IOException {
 		getOutputStream().write(b, off, len);
+		if (this.payloadCapture != null) {
+			this.payloadCapture.write(b, off, len);
+		}
 	}
 
 	@Override
 	public void write(int b) throws IOException {
 		getOutputStream().write(b);
+		if (this.payloadCapture != null) {
+			this.payloadCapture.write(b);
+		}
 	}
 
 	/**
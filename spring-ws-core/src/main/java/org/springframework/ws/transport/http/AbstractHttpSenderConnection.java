@@ -29,6 +29,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.util.StringUtils;
 import org.springframework.ws.transport.AbstractSenderConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
+import org.springframework.ws.transport.TransportOutputStream;
 import org.springframework.ws.transport.WebServiceConnection;
 
 /**
@@ -53,6 +54,12 @@ public abstract class AbstractHttpSenderConnection extends AbstractSenderConnect
 	 */
 	private @Nullable PushbackInputStream rawResponseInputStream;
 
+	private int requestCompressionThreshold = -1;
+
+	void setRequestCompressionThreshold(int requestCompressionThreshold) {
+		this.requestCompressionThreshold = requestCompressionThreshold;
+	}
+
 	@Override
 	public final boolean hasError() throws IOException {
 		return getResponseCode() / 100 != 2;
@@ -71,6 +78,18 @@ public abstract class AbstractHttpSenderConnection extends AbstractSenderConnect
 		return builder.toString();
 	}
 
+	/*
+	 * Sending request
+	 */
+
+	@Override
+	protected TransportOutputStream getMessageOutputStream(TransportOutputStream transportOutputStream)
+			throws IOException {
+		return (this.requestCompressionThreshold >= 0)
+				? HttpCompression.compress(transportOutputStream, this.requestCompressionThreshold)
+				: transportOutputStream;
+	}
+
 	/*
 	 * Receiving response
 	 */
@@ -56,6 +56,8 @@ public abstract class AbstractHttpWebServiceMessageSender
 
 	private boolean acceptGzipEncoding = true;
 
+	private int requestCompressionThreshold = -1;
+
 	private boolean allowSiteLocalIpv4 = false;
 
 	private boolean allowDnsResolution = false;
@@ -97,6 +99,26 @@ public abstract class AbstractHttpWebServiceMessageSender
 		this.acceptGzipEncoding = acceptGzipEncoding;
 	}
 
+	/**
+	 * Return the minimum size, in bytes, of a request body to compress.
+	 * @since 5.1.0
+	 */
+	public int getRequestCompressionThreshold() {
+		return this.requestCompressionThreshold;
+	}
+
+	/**
+	 * Set the minimum size, in bytes, of a request body to compress with gzip, sending
+	 * the HTTP {@code Content-Encoding} header with {@code gzip} as value.
+	 * <p>
+	 * Default is {@code -1}, which disables request compression. Only enable this flag if
+	 * the HTTP server is known to decode gzip requests.
+	 * @since 5.1.0
+	 */
+	public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+		this.requestCompressionThreshold = requestCompressionThreshold;
+	}
+
 	/**
 	 * Set whether to allow site-local IPv4 addresses for remote destinations.
 	 * <p>
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.NameValuePair;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * Implementation of {@link WebServiceConnection} that is based on the Apache HttpClient 5
+ * async client. Messages can be {@linkplain #sendAsync(WebServiceMessage) sent
+ * asynchronously}, in which case no thread is blocked while waiting for the response.
+ * <p>
+ * The request body is buffered in fixed-size chunks that are handed to the client as
+ * they are, without being copied into a single array. The response is buffered in
+ * memory.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see HttpComponents5AsyncMessageSender
+ */
+public class HttpComponents5AsyncConnection extends AbstractHttpSenderConnection
+		implements AsyncWebServiceConnection {
+
+	private final CloseableHttpAsyncClient httpClient;
+
+	private final SimpleHttpRequest httpRequest;
+
+	private final @Nullable HttpContext httpContext;
+
+	private @Nullable RequestBody requestBody;
+
+	private @Nullable CompletableFuture<SimpleHttpResponse> responseFuture;
+
+	private @Nullable SimpleHttpResponse httpResponse;
+
+	private boolean asyncSend;
+
+	protected HttpComponents5AsyncConnection(CloseableHttpAsyncClient httpClient, SimpleHttpRequest httpRequest,
+			@Nullable HttpContext httpContext) {
+
+		Assert.notNull(httpClient, "httpClient must not be null");
+		Assert.notNull(httpRequest, "httpRequest must not be null");
+
+		this.httpClient = httpClient;
+		this.httpRequest = httpRequest;
+		this.httpContext = httpContext;
+	}
+
+	public SimpleHttpRequest getHttpRequest() {
+		return this.httpRequest;
+	}
+
+	public SimpleHttpResponse getHttpResponse() {
+		Assert.notNull(this.httpResponse, "HttpResponse is not available");
+		return this.httpResponse;
+	}
+
+	@Override
+	public void onClose() throws IOException {
+		if (this.httpResponse == null && this.responseFuture != null) {
+			this.responseFuture.cancel(true);
+		}
+	}
+
+	/*
+	 * URI
+	 */
+	@Override
+	public URI getUri() throws URISyntaxException {
+		return this.httpRequest.getUri();
+	}
+
+	/*
+	 * Sending request
+	 */
+
+	@Override
+	protected void onSendBeforeWrite(WebServiceMessage message) throws IOException {
+		this.requestBody = new RequestBody();
+	}
+
+	@Override
+	public void addRequestHeader(String name, String value) throws IOException {
+		this.httpRequest.addHeader(name, value);
+	}
+
+	@Override
+	protected OutputStream getRequestOutputStream() throws IOException {
+		Assert.notNull(this.requestBody, "Request OutputStream is not available");
+		return this.requestBody;
+	}
+
+	@Override
+	protected void onSendAfterWrite(WebServiceMessage message) throws IOException {
+		Assert.state(this.requestBody != null, "onSendBeforeWrite has not been called");
+		RequestBodyProducer entityProducer = new RequestBodyProducer(this.requestBody.getBuffers());
+		this.requestBody = null;
+		this.responseFuture = execute(entityProducer);
+		if (!this.asyncSend) {
+			this.httpResponse = awaitResponse(this.responseFuture);
+		}
+	}
+
+	@Override
+	public CompletableFuture<Void> sendAsync(WebServiceMessage message) throws IOException {
+		this.asyncSend = true;
+		send(message);
+		CompletableFuture<SimpleHttpResponse> future = this.responseFuture;
+		Assert.state(future != null, "Exchange has not been started");
+		return future.thenAccept((response) -> this.httpResponse = response);
+	}
+
+	private CompletableFuture<SimpleHttpResponse> execute(AsyncEntityProducer entityProducer) {
+		CompletableFuture<SimpleHttpResponse> future = new CompletableFuture<>();
+		FutureCallback<SimpleHttpResponse> callback = new FutureCallback<>() {
+
+			@Override
+			public void completed(SimpleHttpResponse result) {
+				future.complete(result);
+			}
+
+			@Override
+			public void failed(Exception ex) {
+				future.completeExceptionally(ex);
+			}
+
+			@Override
+			public void cancelled() {
+				future.cancel(false);
+			}
+
+		};
+		this.httpClient.execute(new BasicRequestProducer(this.httpRequest, entityProducer),
+				SimpleResponseConsumer.create(), this.httpContext, callback);
+		return future;
+	}
+
+	private SimpleHttpResponse awaitResponse(CompletableFuture<SimpleHttpResponse> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(ex.getMessage(), cause);
+		}
+	}
+
+	/*
+	 * Receiving response
+	 */
+
+	@Override
+	protected int getResponseCode() throws IOException {
+		return getHttpResponse().getCode();
+	}
+
+	@Override
+	protected String getResponseMessage() throws IOException {
+		return getHttpResponse().getReasonPhrase();
+	}
+
+	@Override
+	protected long getResponseContentLength() throws IOException {
+		byte[] body = getHttpResponse().getBodyBytes();
+		return (body != null) ? body.length : 0;
+	}
+
+	@Override
+	protected InputStream getRawResponseInputStream() throws IOException {
+		byte[] body = getHttpResponse().getBodyBytes();
+		return new ByteArrayInputStream((body != null) ? body : new byte[0]);
+	}
+
+	@Override
+	public Iterator<String> getResponseHeaderNames() throws IOException {
+		return Arrays.stream(getHttpResponse().getHeaders()).map(NameValuePair::getName).iterator();
+	}
+
+	@Override
+	public Iterator<String> getResponseHeaders(String name) throws IOException {
+		return Arrays.stream(getHttpResponse().getHeaders(name)).map(NameValuePair::getValue).iterator();
+	}
+
+	/**
+	 * {@link OutputStream} that buffers the request body in fixed-size chunks.
+	 */
+	private static final class RequestBody extends OutputStream {
+
+		private static final int CHUNK_SIZE = 8192;
+
+		private final List<ByteBuffer> buffers = new ArrayList<>();
+
+		private @Nullable ByteBuffer current;
+
+		@Override
+		public void write(int b) throws IOException {
+			currentBuffer().put((byte) b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				ByteBuffer buffer = currentBuffer();
+				int count = Math.min(len, buffer.remaining());
+				buffer.put(b, off, count);
+				off += count;
+				len -= count;
+			}
+		}
+
+		private ByteBuffer currentBuffer() {
+			ByteBuffer buffer = this.current;
+			if (buffer == null || !buffer.hasRemaining()) {
+				buffer = ByteBuffer.allocate(CHUNK_SIZE);
+				this.buffers.add(buffer);
+				this.current = buffer;
+			}
+			return buffer;
+		}
+
+		/**
+		 * Return the chunks written so far, ready to be read.
+		 */
+		List<ByteBuffer> getBuffers() {
+			this.buffers.forEach(ByteBuffer::flip);
+			this.current = null;
+			return this.buffers;
+		}
+
+	}
+
+	/**
+	 * {@link AsyncEntityProducer} that writes the chunks of a {@link RequestBody}. The
+	 * {@code Content-Type} and {@code Content-Encoding} headers are set on the request
+	 * itself.
+	 */
+	private static final class RequestBodyProducer implements AsyncEntityProducer {
+
+		private final List<ByteBuffer> buffers;
+
+		private final long contentLength;
+
+		private int index;
+
+		RequestBodyProducer(List<ByteBuffer> buffers) {
+			this.buffers = buffers;
+			this.contentLength = buffers.stream().mapToLong(ByteBuffer::remaining).sum();
+		}
+
+		@Override
+		public boolean isRepeatable() {
+			return true;
+		}
+
+		@Override
+		public long getContentLength() {
+			return this.contentLength;
+		}
+
+		@Override
+		public @Nullable String getContentType() {
+			return null;
+		}
+
+		@Override
+		public @Nullable String getContentEncoding() {
+			return null;
+		}
+
+		@Override
+		public boolean isChunked() {
+			return false;
+		}
+
+		@Override
+		public Set<String> getTrailerNames() {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public int available() {
+			long remaining = 0;
+			for (int i = this.index; i < this.buffers.size(); i++) {
+				remaining += this.buffers.get(i).remaining();
+			}
+			return (int) Math.min(remaining, Integer.MAX_VALUE);
+		}
+
+		@Override
+		public void produce(DataStreamChannel channel) throws IOException {
+			while (this.index < this.buffers.size()) {
+				ByteBuffer buffer = this.buffers.get(this.index);
+				if (buffer.hasRemaining()) {
+					channel.write(buffer);
+					if (buffer.hasRemaining()) {
+						// the channel is full, wait to be called again
+						return;
+					}
+				}
+				this.index++;
+			}
+			channel.endStream();
+		}
+
+		@Override
+		public void failed(Exception cause) {
+		}
+
+		@Override
+		public void releaseResources() {
+			// rewind so that the request can be sent again
+			this.buffers.forEach(ByteBuffer::rewind);
+			this.index = 0;
+		}
+
+	}
+
+}
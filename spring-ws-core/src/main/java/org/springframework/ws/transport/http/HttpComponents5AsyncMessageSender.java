@@ -0,0 +1,113 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.http;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+import org.springframework.ws.transport.WebServiceConnection;
+
+/**
+ * {@link AbstractHttpWebServiceMessageSender} implementation that uses the
+ * <a href="http://hc.apache.org/httpcomponents-client">Apache HttpClient</a> 5 async
+ * client to execute POST requests.
+ * <p>
+ * Connections created by this sender support
+ * {@linkplain HttpComponents5AsyncConnection#sendAsync asynchronous sending}, which
+ * allows {@link org.springframework.ws.client.core.WebServiceTemplate} to invoke a
+ * service without blocking a thread for the duration of the exchange.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see HttpComponents5AsyncConnection
+ * @see org.springframework.ws.client.core.AsyncWebServiceOperations
+ */
+public class HttpComponents5AsyncMessageSender extends AbstractHttpWebServiceMessageSender
+		implements DisposableBean {
+
+	private final CloseableHttpAsyncClient httpClient;
+
+	private final boolean manageClient;
+
+	/**
+	 * Create a new instance with a default {@link CloseableHttpAsyncClient}. The client
+	 * is started, and closed when this sender is {@linkplain #destroy() destroyed}.
+	 */
+	public HttpComponents5AsyncMessageSender() {
+		this.httpClient = HttpAsyncClients.createDefault();
+		this.httpClient.start();
+		this.manageClient = true;
+	}
+
+	/**
+	 * Create a new instance with the given {@link CloseableHttpAsyncClient}. The
+	 * lifecycle of the client is managed by the caller: it must be started before this
+	 * sender is used, and is not closed when this sender is destroyed.
+	 * @param httpClient the http client to use
+	 */
+	public HttpComponents5AsyncMessageSender(CloseableHttpAsyncClient httpClient) {
+		Assert.notNull(httpClient, "httpClient must not be null");
+		this.httpClient = httpClient;
+		this.manageClient = false;
+	}
+
+	/**
+	 * Return the {@code CloseableHttpAsyncClient} used by this message sender.
+	 */
+	public CloseableHttpAsyncClient getHttpClient() {
+		return this.httpClient;
+	}
+
+	@Override
+	public WebServiceConnection createConnection(URI uri) throws IOException {
+		SimpleHttpRequest httpRequest = SimpleHttpRequest.create(Method.POST, uri);
+		if (isAcceptGzipEncoding()) {
+			httpRequest.addHeader(HttpTransportConstants.HEADER_ACCEPT_ENCODING,
+					HttpTransportConstants.CONTENT_ENCODING_GZIP);
+		}
+		HttpComponents5AsyncConnection connection = new HttpComponents5AsyncConnection(this.httpClient, httpRequest,
+				createContext(uri));
+		connection.setRequestCompressionThreshold(getRequestCompressionThreshold());
+		return connection;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		if (this.manageClient) {
+			this.httpClient.close();
+		}
+	}
+
+	/**
+	 * Template method that allows for creation of an {@link HttpContext} for the given
+	 * uri. Default implementation returns {@code null}.
+	 * @param uri the URI to create the context for
+	 * @return the context, or {@code null}
+	 */
+	protected @Nullable HttpContext createContext(URI uri) {
+		return null;
+	}
+
+}
@@ -16,7 +16,6 @@
 
 package org.springframework.ws.transport.http;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -68,7 +67,7 @@ public class HttpComponents5Connection extends AbstractHttpSenderConnection {
 
 	private @Nullable HttpResponse httpResponse;
 
-	private @Nullable ByteArrayOutputStream requestBuffer;
+	private @Nullable PooledRequestBuffer requestBuffer;
 
 	protected HttpComponents5Connection(HttpClient httpClient, HttpHost httpHost, HttpPost httpPost,
 			@Nullable HttpContext httpContext) {
@@ -98,11 +97,16 @@ public class HttpComponents5Connection extends AbstractHttpSenderConnection {
 
 	@Override
 	public void onClose() throws IOException {
-		if (this.httpResponse instanceof ClassicHttpResponse response) {
-			if (response.getEntity() != null) {
-				EntityUtils.consume(response.getEntity());
+		try {
+			if (this.httpResponse instanceof ClassicHttpResponse response) {
+				if (response.getEntity() != null) {
+					EntityUtils.consume(response.getEntity());
+				}
+				response.close();
 			}
-			response.close();
+		}
+		finally {
+			releaseRequestBuffer();
 		}
 	}
 
@@ -120,7 +124,7 @@ public class HttpComponents5Connection extends AbstractHttpSenderConnection {
 
 	@Override
 	protected void onSendBeforeWrite(WebServiceMessage message) throws IOException {
-		this.requestBuffer = new ByteArrayOutputStream();
+		this.requestBuffer = PooledRequestBuffer.acquire();
 	}
 
 	@Override
@@ -138,11 +142,19 @@ public class HttpComponents5Connection extends AbstractHttpSenderConnection {
 	protected void onSendAfterWrite(WebServiceMessage message) throws IOException {
 		String contentType = this.httpPost.getFirstHeader(HttpHeaders.CONTENT_TYPE).getValue();
 		Assert.state(this.requestBuffer != null, "onSendBeforeWrite has not been called");
-		this.httpPost.setEntity(new ByteArrayEntity(this.requestBuffer.toByteArray(), ContentType.parse(contentType)));
-		this.requestBuffer = null;
+		// the buffer is written as is, and released once the connection is closed
+		this.httpPost.setEntity(new ByteArrayEntity(this.requestBuffer.getBuffer(), 0, this.requestBuffer.size(),
+				ContentType.parse(contentType)));
 		this.httpResponse = this.httpClient.executeOpen(this.httpHost, this.httpPost, this.httpContext);
 	}
 
+	private void releaseRequestBuffer() {
+		if (this.requestBuffer != null) {
+			this.requestBuffer.release();
+			this.requestBuffer = null;
+		}
+	}
+
 	/*
 	 * Receiving response
 	 */
@@ -16,7 +16,6 @@
 
 package org.springframework.ws.transport.http;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -59,7 +58,7 @@ public class HttpComponentsConnection extends AbstractHttpSenderConnection {
 
 	private @Nullable HttpResponse httpResponse;
 
-	private @Nullable ByteArrayOutputStream requestBuffer;
+	private @Nullable PooledRequestBuffer requestBuffer;
 
 	protected HttpComponentsConnection(HttpClient httpClient, HttpPost httpPost, @Nullable HttpContext httpContext) {
 		Assert.notNull(httpClient, "httpClient must not be null");
@@ -80,8 +79,13 @@ public class HttpComponentsConnection extends AbstractHttpSenderConnection {
 
 	@Override
 	public void onClose() throws IOException {
-		if (this.httpResponse != null && this.httpResponse.getEntity() != null) {
-			EntityUtils.consume(this.httpResponse.getEntity());
+		try {
+			if (this.httpResponse != null && this.httpResponse.getEntity() != null) {
+				EntityUtils.consume(this.httpResponse.getEntity());
+			}
+		}
+		finally {
+			releaseRequestBuffer();
 		}
 	}
 
@@ -99,7 +103,7 @@ public class HttpComponentsConnection extends AbstractHttpSenderConnection {
 
 	@Override
 	protected void onSendBeforeWrite(WebServiceMessage message) throws IOException {
-		this.requestBuffer = new ByteArrayOutputStream();
+		this.requestBuffer = PooledRequestBuffer.acquire();
 	}
 
 	@Override
@@ -116,8 +120,8 @@ public class HttpComponentsConnection extends AbstractHttpSenderConnection {
 	@Override
 	protected void onSendAfterWrite(WebServiceMessage message) throws IOException {
 		Assert.state(this.requestBuffer != null, "onSendBeforeWrite has not been called");
-		this.httpPost.setEntity(new ByteArrayEntity(this.requestBuffer.toByteArray()));
-		this.requestBuffer = null;
+		// the buffer is written as is, and released once the connection is closed
+		this.httpPost.setEntity(new ByteArrayEntity(this.requestBuffer.getBuffer(), 0, this.requestBuffer.size()));
 		if (this.httpContext != null) {
 			this.httpResponse = this.httpClient.execute(this.httpPost, this.httpContext);
 		}
@@ -126,6 +130,13 @@ public class HttpComponentsConnection extends AbstractHttpSenderConnection {
 		}
 	}
 
+	private void releaseRequestBuffer() {
+		if (this.requestBuffer != null) {
+			this.requestBuffer.release();
+			this.requestBuffer = null;
+		}
+	}
+
 	/*
 	 * Receiving response
 	 */
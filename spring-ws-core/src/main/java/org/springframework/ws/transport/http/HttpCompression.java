@@ -0,0 +1,404 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.StringUtils;
+import org.springframework.ws.transport.TransportOutputStream;
+
+/**
+ * Support for the gzip content coding of HTTP message bodies.
+ * <p>
+ * Compressed streams use {@link Deflater} instances taken from a shared pool, as
+ * allocating the native state of a {@code Deflater} for every message is expensive.
+ *
+ * @author Stephane Nicoll
+ */
+abstract class HttpCompression {
+
+	private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+	private static final BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private HttpCompression() {
+	}
+
+	/**
+	 * Indicate whether the given {@code Content-Encoding} header values denote a gzip
+	 * encoded body.
+	 * @param contentEncodings the values of the {@code Content-Encoding} header
+	 * @return {@code true} if the body is gzip encoded
+	 */
+	static boolean isGzipEncoded(Iterator<String> contentEncodings) {
+		while (contentEncodings.hasNext()) {
+			String contentEncoding = contentEncodings.next();
+			for (String encoding : StringUtils.tokenizeToStringArray(contentEncoding, ",")) {
+				if (HttpTransportConstants.CONTENT_ENCODING_GZIP.equalsIgnoreCase(encoding)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Decode the given body if the given {@code Content-Encoding} header values denote a
+	 * gzip encoded body, and decoding is enabled. Reading more than
+	 * {@code maxDecodedSize} bytes from the decoded body fails with an
+	 * {@link IOException}, to guard against decompression bombs.
+	 * @param inputStream the body
+	 * @param contentEncodings the values of the {@code Content-Encoding} header
+	 * @param maxDecodedSize the maximum size, in bytes, of the decoded body, or a
+	 * negative value to disable decoding
+	 * @return the decoded body
+	 * @throws IOException in case of I/O errors
+	 */
+	static InputStream decode(InputStream inputStream, Iterator<String> contentEncodings, long maxDecodedSize)
+			throws IOException {
+		if (maxDecodedSize < 0 || !isGzipEncoded(contentEncodings)) {
+			return inputStream;
+		}
+		return new LimitedInputStream(new GZIPInputStream(inputStream, BUFFER_SIZE), maxDecodedSize);
+	}
+
+	/**
+	 * Indicate whether the given {@code Accept-Encoding} header value accepts the given
+	 * content coding, taking wildcards and quality values into account.
+	 * @param acceptEncoding the value of the {@code Accept-Encoding} header, if any
+	 * @param encoding the content coding
+	 * @return {@code true} if the encoding is accepted
+	 */
+	static boolean isAccepted(@Nullable String acceptEncoding, String encoding) {
+		if (!StringUtils.hasText(acceptEncoding)) {
+			return false;
+		}
+		boolean wildcard = false;
+		for (String token : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+			String[] parts = StringUtils.tokenizeToStringArray(token, ";");
+			if (parts.length == 0) {
+				continue;
+			}
+			boolean accepted = parts.length < 2 || !isZeroQuality(parts[1]);
+			if (parts[0].equalsIgnoreCase(encoding)) {
+				return accepted;
+			}
+			if ("*".equals(parts[0])) {
+				wildcard = accepted;
+			}
+		}
+		return wildcard;
+	}
+
+	/**
+	 * Indicate whether any of the given {@code Accept-Encoding} header values accepts
+	 * gzip.
+	 * @param acceptEncodings the values of the {@code Accept-Encoding} header
+	 * @return {@code true} if gzip is accepted
+	 */
+	static boolean isGzipAccepted(Iterator<String> acceptEncodings) {
+		while (acceptEncodings.hasNext()) {
+			if (isAccepted(acceptEncodings.next(), HttpTransportConstants.CONTENT_ENCODING_GZIP)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isZeroQuality(String parameter) {
+		int index = parameter.indexOf('=');
+		if (index == -1 || !"q".equalsIgnoreCase(parameter.substring(0, index).trim())) {
+			return false;
+		}
+		try {
+			return Double.parseDouble(parameter.substring(index + 1).trim()) == 0;
+		}
+		catch (NumberFormatException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Return a stream that gzip compresses the bytes written to it into the given
+	 * transport stream, if at least {@code threshold} bytes are written. The
+	 * {@code Content-Encoding} header is added to the transport stream when the body is
+	 * compressed, and headers added to the returned stream are added to the transport
+	 * stream. Closing the returned stream does not close the transport stream.
+	 * @param transportOutputStream the transport stream
+	 * @param threshold the minimum body size, in bytes, to compress
+	 * @return the compressing stream
+	 */
+	static TransportOutputStream compress(TransportOutputStream transportOutputStream, int threshold) {
+		return new CompressingTransportOutputStream(transportOutputStream, threshold);
+	}
+
+	/**
+	 * Return a stream that compresses the response body written to it, as described in
+	 * {@link #compress(TransportOutputStream, int)}, if the request accepts gzip.
+	 * Otherwise, return the given transport stream. Compression is disabled if the given
+	 * threshold is negative.
+	 * @param transportOutputStream the transport stream of the response
+	 * @param acceptEncodings the values of the {@code Accept-Encoding} request header
+	 * @param threshold the minimum body size, in bytes, to compress
+	 * @return the stream to write the response body to
+	 * @throws IOException in case of I/O errors
+	 */
+	static TransportOutputStream compressIfAccepted(TransportOutputStream transportOutputStream,
+			Iterator<String> acceptEncodings, int threshold) throws IOException {
+		if (threshold < 0) {
+			return transportOutputStream;
+		}
+		transportOutputStream.addHeader(HttpTransportConstants.HEADER_VARY,
+				HttpTransportConstants.HEADER_ACCEPT_ENCODING);
+		return isGzipAccepted(acceptEncodings) ? compress(transportOutputStream, threshold) : transportOutputStream;
+	}
+
+	private static Deflater obtainDeflater() {
+		Deflater deflater = deflaters.poll();
+		return (deflater != null) ? deflater : new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+	}
+
+	private static void releaseDeflater(Deflater deflater) {
+		deflater.reset();
+		if (!deflaters.offer(deflater)) {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * {@link InputStream} that fails once more than a given number of bytes are read.
+	 */
+	private static final class LimitedInputStream extends FilterInputStream {
+
+		private final long limit;
+
+		private long count;
+
+		LimitedInputStream(InputStream in, long limit) {
+			super(in);
+			this.limit = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count(1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				count(read);
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count(skipped);
+			return skipped;
+		}
+
+		private void count(long read) throws IOException {
+			this.count += read;
+			if (this.count > this.limit) {
+				throw new IOException("Decoded request body exceeds the maximum size of " + this.limit + " bytes");
+			}
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+	}
+
+	/**
+	 * {@link TransportOutputStream} that compresses the body written to it, and adds
+	 * headers to the target transport stream.
+	 */
+	private static final class CompressingTransportOutputStream extends TransportOutputStream {
+
+		private final TransportOutputStream transportOutputStream;
+
+		private final int threshold;
+
+		CompressingTransportOutputStream(TransportOutputStream transportOutputStream, int threshold) {
+			this.transportOutputStream = transportOutputStream;
+			this.threshold = threshold;
+		}
+
+		@Override
+		public void addHeader(String name, String value) throws IOException {
+			this.transportOutputStream.addHeader(name, value);
+		}
+
+		@Override
+		protected OutputStream createOutputStream() {
+			return new ThresholdGzipOutputStream(this.transportOutputStream, this.threshold);
+		}
+
+	}
+
+	/**
+	 * {@link OutputStream} that buffers the body until the threshold is reached, and
+	 * compresses it from then on.
+	 */
+	private static final class ThresholdGzipOutputStream extends OutputStream {
+
+		private final TransportOutputStream transportOutputStream;
+
+		private final int threshold;
+
+		private @Nullable ByteArrayOutputStream buffer;
+
+		private @Nullable OutputStream out;
+
+		ThresholdGzipOutputStream(TransportOutputStream transportOutputStream, int threshold) {
+			this.transportOutputStream = transportOutputStream;
+			this.threshold = threshold;
+			if (threshold > 0) {
+				this.buffer = new ByteArrayOutputStream(Math.min(threshold, BUFFER_SIZE));
+			}
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			OutputStream out = this.out;
+			if (out == null) {
+				if (this.buffer != null && this.buffer.size() + len < this.threshold) {
+					this.buffer.write(b, off, len);
+					return;
+				}
+				out = startCompression();
+			}
+			out.write(b, off, len);
+		}
+
+		private OutputStream startCompression() throws IOException {
+			this.transportOutputStream.addHeader(HttpTransportConstants.HEADER_CONTENT_ENCODING,
+					HttpTransportConstants.CONTENT_ENCODING_GZIP);
+			OutputStream out = new PooledGzipOutputStream(this.transportOutputStream);
+			if (this.buffer != null) {
+				this.buffer.writeTo(out);
+				this.buffer = null;
+			}
+			this.out = out;
+			return out;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			// the decision to compress is deferred until the threshold is reached
+			if (this.out != null) {
+				this.out.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.out != null) {
+				this.out.close();
+			}
+			else if (this.buffer != null) {
+				this.buffer.writeTo(this.transportOutputStream);
+				this.buffer = null;
+			}
+		}
+
+	}
+
+	/**
+	 * {@link DeflaterOutputStream} that writes the gzip format using a pooled
+	 * {@link Deflater}, and that does not close the target stream.
+	 */
+	private static final class PooledGzipOutputStream extends DeflaterOutputStream {
+
+		private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+		private final CRC32 crc = new CRC32();
+
+		private boolean closed;
+
+		PooledGzipOutputStream(OutputStream out) throws IOException {
+			super(out, obtainDeflater(), BUFFER_SIZE);
+			out.write(HEADER);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			super.write(b, off, len);
+			this.crc.update(b, off, len);
+		}
+
+		@Override
+		public void finish() throws IOException {
+			if (!this.def.finished()) {
+				super.finish();
+				writeInt((int) this.crc.getValue());
+				writeInt((int) this.def.getBytesRead());
+			}
+		}
+
+		private void writeInt(int value) throws IOException {
+			this.out.write(value & 0xff);
+			this.out.write((value >> 8) & 0xff);
+			this.out.write((value >> 16) & 0xff);
+			this.out.write((value >> 24) & 0xff);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!this.closed) {
+				this.closed = true;
+				try {
+					finish();
+				}
+				finally {
+					releaseDeflater(this.def);
+				}
+			}
+		}
+
+	}
+
+}
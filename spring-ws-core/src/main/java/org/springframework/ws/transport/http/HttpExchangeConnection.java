@@ -38,6 +38,7 @@ import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.transport.AbstractReceiverConnection;
 import org.springframework.ws.transport.EndpointAwareWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
+import org.springframework.ws.transport.TransportOutputStream;
 import org.springframework.ws.transport.WebServiceConnection;
 
 /**
@@ -59,6 +60,10 @@ public class HttpExchangeConnection extends AbstractReceiverConnection
 
 	private boolean chunkedEncoding;
 
+	private int responseCompressionThreshold = -1;
+
+	private long maxDecompressedRequestSize = -1;
+
 	/** Constructs a new exchange connection with the given {@code HttpExchange}. */
 	protected HttpExchangeConnection(HttpExchange httpExchange) {
 		Assert.notNull(httpExchange, "'httpExchange' must not be null");
@@ -79,6 +84,14 @@ public class HttpExchangeConnection extends AbstractReceiverConnection
 		this.chunkedEncoding = chunkedEncoding;
 	}
 
+	void setResponseCompressionThreshold(int responseCompressionThreshold) {
+		this.responseCompressionThreshold = responseCompressionThreshold;
+	}
+
+	void setMaxDecompressedRequestSize(long maxDecompressedRequestSize) {
+		this.maxDecompressedRequestSize = maxDecompressedRequestSize;
+	}
+
 	@Override
 	public void endpointNotFound() {
 		this.responseStatusCode = HttpTransportConstants.STATUS_NOT_FOUND;
@@ -115,13 +128,21 @@ public class HttpExchangeConnection extends AbstractReceiverConnection
 
 	@Override
 	protected InputStream getRequestInputStream() throws IOException {
-		return this.httpExchange.getRequestBody();
+		return HttpCompression.decode(this.httpExchange.getRequestBody(),
+				getRequestHeaders(HttpTransportConstants.HEADER_CONTENT_ENCODING), this.maxDecompressedRequestSize);
 	}
 
 	/*
 	 * Sending response
 	 */
 
+	@Override
+	protected TransportOutputStream getMessageOutputStream(TransportOutputStream transportOutputStream)
+			throws IOException {
+		return HttpCompression.compressIfAccepted(transportOutputStream,
+				getRequestHeaders(HttpTransportConstants.HEADER_ACCEPT_ENCODING), this.responseCompressionThreshold);
+	}
+
 	@Override
 	public void addResponseHeader(String name, String value) throws IOException {
 		this.httpExchange.getResponseHeaders().add(name, value);
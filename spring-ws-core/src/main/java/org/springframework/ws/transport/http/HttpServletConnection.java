@@ -34,6 +34,7 @@ import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.transport.AbstractReceiverConnection;
 import org.springframework.ws.transport.EndpointAwareWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
+import org.springframework.ws.transport.TransportOutputStream;
 import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.support.EnumerationIterator;
 
@@ -53,6 +54,10 @@ public class HttpServletConnection extends AbstractReceiverConnection
 
 	private boolean statusCodeSet = false;
 
+	private int responseCompressionThreshold = -1;
+
+	private long maxDecompressedRequestSize = -1;
+
 	/**
 	 * Constructs a new servlet connection with the given {@code HttpServletRequest} and
 	 * {@code HttpServletResponse}.
@@ -72,6 +77,14 @@ public class HttpServletConnection extends AbstractReceiverConnection
 		return this.httpServletResponse;
 	}
 
+	void setResponseCompressionThreshold(int responseCompressionThreshold) {
+		this.responseCompressionThreshold = responseCompressionThreshold;
+	}
+
+	void setMaxDecompressedRequestSize(long maxDecompressedRequestSize) {
+		this.maxDecompressedRequestSize = maxDecompressedRequestSize;
+	}
+
 	@Override
 	public void endpointNotFound() {
 		getHttpServletResponse().setStatus(HttpTransportConstants.STATUS_NOT_FOUND);
@@ -119,13 +132,21 @@ public class HttpServletConnection extends AbstractReceiverConnection
 
 	@Override
 	protected InputStream getRequestInputStream() throws IOException {
-		return getHttpServletRequest().getInputStream();
+		return HttpCompression.decode(getHttpServletRequest().getInputStream(),
+				getRequestHeaders(HttpTransportConstants.HEADER_CONTENT_ENCODING), this.maxDecompressedRequestSize);
 	}
 
 	/*
 	 * Sending response
 	 */
 
+	@Override
+	protected TransportOutputStream getMessageOutputStream(TransportOutputStream transportOutputStream)
+			throws IOException {
+		return HttpCompression.compressIfAccepted(transportOutputStream,
+				getRequestHeaders(HttpTransportConstants.HEADER_ACCEPT_ENCODING), this.responseCompressionThreshold);
+	}
+
 	@Override
 	public void addResponseHeader(String name, String value) throws IOException {
 		getHttpServletResponse().addHeader(name, value);
@@ -32,6 +32,9 @@ public interface HttpTransportConstants extends TransportConstants {
 	/** The "Accept-Encoding" header. */
 	String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
 
+	/** The "Vary" header. */
+	String HEADER_VARY = "Vary";
+
 	/** Header value that indicates a compressed "Content-Encoding". */
 	String CONTENT_ENCODING_GZIP = "gzip";
 
@@ -73,7 +73,9 @@ public class HttpUrlConnectionMessageSender extends AbstractHttpWebServiceMessag
 		}
 		else {
 			prepareConnection(httpURLConnection);
-			return new HttpUrlConnection(httpURLConnection);
+			HttpUrlConnection webServiceConnection = new HttpUrlConnection(httpURLConnection);
+			webServiceConnection.setRequestCompressionThreshold(getRequestCompressionThreshold());
+			return webServiceConnection;
 		}
 	}
 
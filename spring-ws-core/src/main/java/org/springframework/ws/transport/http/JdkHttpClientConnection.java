@@ -16,6 +16,7 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,13 +25,18 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpRequest.Builder;
 import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscribers;
 import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,31 +45,50 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.Assert;
 import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
 import org.springframework.ws.transport.WebServiceConnection;
 
 /**
  * Implementation of the {@link WebServiceConnection} interface that uses Java's built-in
  * {@link HttpClient}.
+ * <p>
+ * By default, the request is buffered so that its content length is known upfront. With
+ * chunked encoding enabled, the request is instead streamed to the {@link HttpClient} as
+ * it is written, using a bounded amount of memory regardless of its size.
+ * <p>
+ * Messages can also be {@linkplain #sendAsync(WebServiceMessage) sent asynchronously}
+ * using {@link HttpClient#sendAsync}.
  *
  * @author Marten Deinum
  * @since 4.0
  * @see java.net.http.HttpClient
  * @see java.net.http.HttpRequest
  */
-public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
+public class JdkHttpClientConnection extends AbstractHttpSenderConnection implements AsyncWebServiceConnection {
 
 	private static final Log logger = LogFactory.getLog(JdkHttpClientConnection.class);
 
 	private static final List<String> DISALLOWED_HEADERS = List.of("connection", "content-length", "expect", "host",
 			"upgrade");
 
+	private static final BodyHandler<InputStream> BUFFERING_BODY_HANDLER = (responseInfo) -> BodySubscribers
+		.mapping(BodySubscribers.ofByteArray(), ByteArrayInputStream::new);
+
 	private final HttpClient httpClient;
 
 	private final URI uri;
 
 	private final Builder requestBuilder;
 
-	private @Nullable ByteArrayOutputStream requestBuffer;
+	private boolean chunkedEncoding;
+
+	private boolean asyncSend;
+
+	private @Nullable RequestBuffer requestBuffer;
+
+	private @Nullable PipedRequestBody requestBody;
+
+	private @Nullable CompletableFuture<HttpResponse<InputStream>> responseFuture;
 
 	private @Nullable HttpResponse<InputStream> response;
 
@@ -78,6 +103,10 @@ public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
 		this.requestBuilder = HttpRequest.newBuilder(uri).timeout(requestTimeout);
 	}
 
+	void setChunkedEncoding(boolean chunkedEncoding) {
+		this.chunkedEncoding = chunkedEncoding;
+	}
+
 	protected HttpResponse<InputStream> getResponse() {
 		Assert.notNull(this.response, "HttpResponse is not available");
 		return this.response;
@@ -85,6 +114,23 @@ public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
 
 	@Override
 	protected OutputStream getRequestOutputStream() throws IOException {
+		if (this.chunkedEncoding) {
+			if (this.requestBody == null) {
+				// headers have all been added at this point, start sending
+				PipedRequestBody requestBody = new PipedRequestBody();
+				CompletableFuture<HttpResponse<InputStream>> future = exchangeAsync(
+						BodyPublishers.ofInputStream(requestBody::getInputStream));
+				// unblock the writer if the exchange fails before the body has been fully sent
+				future.whenComplete((response, ex) -> {
+					if (ex != null) {
+						requestBody.abort(ex);
+					}
+				});
+				this.requestBody = requestBody;
+				this.responseFuture = future;
+			}
+			return this.requestBody.getOutputStream();
+		}
 		Assert.notNull(this.requestBuffer, "Request OutputStream is not available");
 		return this.requestBuffer;
 	}
@@ -144,17 +190,45 @@ public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
 
 	@Override
 	protected void onSendBeforeWrite(WebServiceMessage message) throws IOException {
-		this.requestBuffer = new ByteArrayOutputStream();
+		if (!this.chunkedEncoding) {
+			this.requestBuffer = new RequestBuffer();
+		}
 	}
 
 	@Override
 	protected void onSendAfterWrite(WebServiceMessage message) throws IOException {
-		Assert.state(this.requestBuffer != null, "onSendBeforeWrite has not been called");
-		byte[] body = this.requestBuffer.toByteArray();
+		if (this.requestBody != null) {
+			// streaming, the exchange has already started
+			this.requestBody.getOutputStream().close();
+		}
+		else {
+			BodyPublisher bodyPublisher = (this.requestBuffer != null) ? this.requestBuffer.toBodyPublisher()
+					: BodyPublishers.noBody();
+			if (!this.asyncSend) {
+				this.response = exchange(bodyPublisher);
+				return;
+			}
+			this.responseFuture = exchangeAsync(bodyPublisher);
+		}
+		if (!this.asyncSend) {
+			Assert.state(this.responseFuture != null, "Exchange has not been started");
+			this.response = awaitResponse(this.responseFuture);
+		}
+	}
 
-		HttpRequest request = this.requestBuilder.POST(BodyPublishers.ofByteArray(body)).build();
+	@Override
+	public CompletableFuture<Void> sendAsync(WebServiceMessage message) throws IOException {
+		this.asyncSend = true;
+		send(message);
+		CompletableFuture<HttpResponse<InputStream>> future = this.responseFuture;
+		Assert.state(future != null, "Exchange has not been started");
+		return future.thenAccept((response) -> this.response = response);
+	}
+
+	private HttpResponse<InputStream> exchange(BodyPublisher bodyPublisher) throws IOException {
+		HttpRequest request = this.requestBuilder.POST(bodyPublisher).build();
 		try {
-			this.response = this.httpClient.send(request, BodyHandlers.ofInputStream());
+			return this.httpClient.send(request, BodyHandlers.ofInputStream());
 		}
 		catch (InterruptedException ex) {
 			Thread.currentThread().interrupt();
@@ -162,12 +236,57 @@ public class JdkHttpClientConnection extends AbstractHttpSenderConnection {
 		}
 	}
 
+	private CompletableFuture<HttpResponse<InputStream>> exchangeAsync(BodyPublisher bodyPublisher) {
+		HttpRequest request = this.requestBuilder.POST(bodyPublisher).build();
+		// when sending asynchronously, the response body is received without blocking
+		BodyHandler<InputStream> bodyHandler = (this.asyncSend) ? BUFFERING_BODY_HANDLER
+				: BodyHandlers.ofInputStream();
+		return this.httpClient.sendAsync(request, bodyHandler);
+	}
+
+	private HttpResponse<InputStream> awaitResponse(CompletableFuture<HttpResponse<InputStream>> future)
+			throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(ex.getMessage(), cause);
+		}
+	}
+
 	@Override
 	protected void onClose() throws IOException {
 
+		if (this.response == null && this.responseFuture != null) {
+			// the exchange has not completed
+			if (this.requestBody != null) {
+				this.requestBody.abort(new IOException("Connection closed"));
+			}
+			this.responseFuture.cancel(true);
+		}
 		if (this.response != null) {
 			this.response.body().close();
 		}
 	}
 
+	/**
+	 * {@link ByteArrayOutputStream} that exposes its content as a {@link BodyPublisher}
+	 * without copying it.
+	 */
+	private static final class RequestBuffer extends ByteArrayOutputStream {
+
+		BodyPublisher toBodyPublisher() {
+			return BodyPublishers.ofByteArray(this.buf, 0, this.count);
+		}
+
+	}
+
 }
@@ -50,6 +50,8 @@ public class JdkHttpClientMessageSender extends AbstractHttpWebServiceMessageSen
 
 	private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
 
+	private boolean chunkedEncoding = false;
+
 	public JdkHttpClientMessageSender() {
 	}
 
@@ -71,10 +73,22 @@ public class JdkHttpClientMessageSender extends AbstractHttpWebServiceMessageSen
 		this.requestTimeout = requestTimeout;
 	}
 
+	/**
+	 * Enables chunked encoding on request bodies. When enabled, requests are streamed as
+	 * they are written rather than buffered in memory first. Defaults to {@code false}.
+	 * @param chunkedEncoding whether to use chunked encoding
+	 * @since 5.1.0
+	 */
+	public void setChunkedEncoding(boolean chunkedEncoding) {
+		this.chunkedEncoding = chunkedEncoding;
+	}
+
 	@Override
 	public WebServiceConnection createConnection(URI uri) throws IOException {
 		Assert.state(this.httpClient != null, "HttpClient is not available");
 		JdkHttpClientConnection connection = new JdkHttpClientConnection(this.httpClient, uri, this.requestTimeout);
+		connection.setChunkedEncoding(this.chunkedEncoding);
+		connection.setRequestCompressionThreshold(getRequestCompressionThreshold());
 
 		if (isAcceptGzipEncoding()) {
 			connection.addRequestHeader(HttpTransportConstants.HEADER_ACCEPT_ENCODING,
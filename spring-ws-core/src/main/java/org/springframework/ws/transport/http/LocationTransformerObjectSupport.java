@@ -88,22 +88,7 @@ public abstract class LocationTransformerObjectSupport extends TransformerObject
 	 * This method is only called when the {@code transformLocations} property is true.
 	 */
 	protected String transformLocation(String location, HttpServletRequest request) {
-
-		String xForwardedProto = request.getHeader("X-Forwarded-Proto");
-		String xForwardedHost = request.getHeader("X-Forwarded-Host");
-		String xForwardedPort = request.getHeader("X-Forwarded-Port");
-
-		String scheme = (StringUtils.hasText(xForwardedProto)) ? xForwardedProto : request.getScheme();
-		String serverName = (StringUtils.hasText(xForwardedHost)) ? xForwardedHost : request.getServerName();
-		int serverPort = (StringUtils.hasText(xForwardedPort)) ? Integer.parseInt(xForwardedPort)
-				: request.getServerPort();
-
-		StringBuilder url = new StringBuilder(scheme);
-		url.append("://").append(serverName);
-		boolean serverHasColonAfterAt = serverName.indexOf("@") < serverName.indexOf(":");
-		if (!serverHasColonAfterAt) {
-			url.append(':').append(serverPort);
-		}
+		StringBuilder url = new StringBuilder(getServerUrl(request));
 		if (location.startsWith("/")) {
 			// a relative path, prepend the context path
 			url.append(request.getContextPath()).append(location);
@@ -125,4 +110,35 @@ public abstract class LocationTransformerObjectSupport extends TransformerObject
 		return location;
 	}
 
+	/**
+	 * Return the base URL of the given request, that is its scheme, server name, port,
+	 * and context path, taking forwarded headers into account. This is the part of the
+	 * request that the default {@link #transformLocation(String, HttpServletRequest)}
+	 * relies on.
+	 * @param request the request
+	 * @return the base URL of the request
+	 */
+	String getBaseUrl(HttpServletRequest request) {
+		return getServerUrl(request) + request.getContextPath();
+	}
+
+	private String getServerUrl(HttpServletRequest request) {
+		String xForwardedProto = request.getHeader("X-Forwarded-Proto");
+		String xForwardedHost = request.getHeader("X-Forwarded-Host");
+		String xForwardedPort = request.getHeader("X-Forwarded-Port");
+
+		String scheme = (StringUtils.hasText(xForwardedProto)) ? xForwardedProto : request.getScheme();
+		String serverName = (StringUtils.hasText(xForwardedHost)) ? xForwardedHost : request.getServerName();
+		int serverPort = (StringUtils.hasText(xForwardedPort)) ? Integer.parseInt(xForwardedPort)
+				: request.getServerPort();
+
+		StringBuilder url = new StringBuilder(scheme);
+		url.append("://").append(serverName);
+		boolean serverHasColonAfterAt = serverName.indexOf("@") < serverName.indexOf(":");
+		if (!serverHasColonAfterAt) {
+			url.append(':').append(serverPort);
+		}
+		return url.toString();
+	}
+
 }
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.Nullable;
@@ -145,6 +146,10 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 
 	private boolean transformSchemaLocations = false;
 
+	private int responseCompressionThreshold = -1;
+
+	private long maxDecompressedRequestSize = -1;
+
 	/**
 	 * Public constructor, necessary for some Web application servers.
 	 */
@@ -263,6 +268,46 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 		this.transformSchemaLocations = transformSchemaLocations;
 	}
 
+	/**
+	 * Returns the minimum size, in bytes, of a response to compress.
+	 * @since 5.1.0
+	 */
+	public int getResponseCompressionThreshold() {
+		return this.responseCompressionThreshold;
+	}
+
+	/**
+	 * Sets the minimum size, in bytes, of a response to compress with gzip when the
+	 * request accepts it. Only applies to the default
+	 * {@link WebServiceMessageReceiverHandlerAdapter}. Defaults to {@code -1}, which
+	 * disables response compression.
+	 * @since 5.1.0
+	 * @see WebServiceMessageReceiverHandlerAdapter#setResponseCompressionThreshold(int)
+	 */
+	public void setResponseCompressionThreshold(int responseCompressionThreshold) {
+		this.responseCompressionThreshold = responseCompressionThreshold;
+	}
+
+	/**
+	 * Returns the maximum size, in bytes, of a gzip encoded request once decoded.
+	 * @since 5.1.0
+	 */
+	public long getMaxDecompressedRequestSize() {
+		return this.maxDecompressedRequestSize;
+	}
+
+	/**
+	 * Sets the maximum size, in bytes, of a request with a gzip {@code Content-Encoding}
+	 * once decoded. Only applies to the default
+	 * {@link WebServiceMessageReceiverHandlerAdapter}. Defaults to {@code -1}, which
+	 * disables the decoding of requests.
+	 * @since 5.1.0
+	 * @see WebServiceMessageReceiverHandlerAdapter#setMaxDecompressedRequestSize(long)
+	 */
+	public void setMaxDecompressedRequestSize(long maxDecompressedRequestSize) {
+		this.maxDecompressedRequestSize = maxDecompressedRequestSize;
+	}
+
 	/**
 	 * Returns the bean name used to lookup a
 	 * {@link WebServiceMessageReceiverHandlerAdapter}.
@@ -405,6 +450,13 @@ public class MessageDispatcherServlet extends FrameworkServlet {
 									+ "': using default [" + adapter.getClass().getSimpleName() + "]");
 				}
 				adapter.setMessageFactory(getWebServiceMessageFactory(context));
+				adapter.setResponseCompressionThreshold(this.responseCompressionThreshold);
+				adapter.setMaxDecompressedRequestSize(this.maxDecompressedRequestSize);
+				ObservationRegistry observationRegistry = context.getBeanProvider(ObservationRegistry.class)
+					.getIfUnique();
+				if (observationRegistry != null) {
+					adapter.setObservationRegistry(observationRegistry);
+				}
 				adapter.afterPropertiesSet();
 				this.messageReceiverHandlerAdapter = adapter;
 			}
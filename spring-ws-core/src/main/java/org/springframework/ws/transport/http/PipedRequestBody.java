@@ -0,0 +1,260 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded pipe that hands the bytes written to its {@linkplain #getOutputStream() output
+ * stream} over to its {@linkplain #getInputStream() input stream}, typically read by
+ * another thread.
+ * <p>
+ * Bytes are transferred in chunks of a fixed size. At most a few chunks are in flight at
+ * any time, and consumed chunk buffers are reused by the writer, so that the memory used
+ * does not depend on the size of the request.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ */
+final class PipedRequestBody {
+
+	private static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+
+	private static final int MAX_CHUNKS = 4;
+
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	private static final Chunk EOF = new Chunk(new byte[0], 0);
+
+	private final int chunkSize;
+
+	private final BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(MAX_CHUNKS);
+
+	private final BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(MAX_CHUNKS + 1);
+
+	private final OutputStream outputStream = new PipeOutputStream();
+
+	private final InputStream inputStream = new PipeInputStream();
+
+	private volatile @Nullable Throwable failure;
+
+	PipedRequestBody() {
+		this(DEFAULT_CHUNK_SIZE);
+	}
+
+	PipedRequestBody(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Return the stream to write the request body to. Closing it signals the end of the
+	 * request body.
+	 */
+	OutputStream getOutputStream() {
+		return this.outputStream;
+	}
+
+	/**
+	 * Return the stream to read the request body from.
+	 */
+	InputStream getInputStream() {
+		return this.inputStream;
+	}
+
+	/**
+	 * Abort the transfer, failing any pending or subsequent read or write.
+	 * @param cause the cause of the failure
+	 */
+	void abort(Throwable cause) {
+		if (this.failure == null) {
+			this.failure = cause;
+		}
+	}
+
+	private void checkNotAborted() throws IOException {
+		Throwable cause = this.failure;
+		if (cause != null) {
+			throw new IOException("Request body transfer aborted", cause);
+		}
+	}
+
+	private byte[] obtainBuffer() {
+		byte[] buffer = this.buffers.poll();
+		return (buffer != null) ? buffer : new byte[this.chunkSize];
+	}
+
+	private void put(Chunk chunk) throws IOException {
+		try {
+			checkNotAborted();
+			while (!this.chunks.offer(chunk, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				checkNotAborted();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while writing request body");
+		}
+	}
+
+	private Chunk take() throws IOException {
+		try {
+			Chunk chunk;
+			while ((chunk = this.chunks.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+				checkNotAborted();
+			}
+			return chunk;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while reading request body");
+		}
+	}
+
+	private record Chunk(byte[] data, int length) {
+
+	}
+
+	private final class PipeOutputStream extends OutputStream {
+
+		private byte @Nullable [] buffer;
+
+		private int count;
+
+		private boolean closed;
+
+		@Override
+		public void write(int b) throws IOException {
+			byte[] current = currentBuffer();
+			current[this.count++] = (byte) b;
+			if (this.count == current.length) {
+				sendBuffer();
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			while (len > 0) {
+				byte[] current = currentBuffer();
+				int n = Math.min(len, current.length - this.count);
+				System.arraycopy(b, off, current, this.count, n);
+				this.count += n;
+				off += n;
+				len -= n;
+				if (this.count == current.length) {
+					sendBuffer();
+				}
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!this.closed) {
+				this.closed = true;
+				if (this.count > 0) {
+					sendBuffer();
+				}
+				put(EOF);
+			}
+		}
+
+		private byte[] currentBuffer() throws IOException {
+			if (this.closed) {
+				throw new IOException("Request body has been closed");
+			}
+			if (this.buffer == null) {
+				this.buffer = obtainBuffer();
+				this.count = 0;
+			}
+			return this.buffer;
+		}
+
+		private void sendBuffer() throws IOException {
+			byte[] current = this.buffer;
+			if (current != null) {
+				this.buffer = null;
+				put(new Chunk(current, this.count));
+			}
+		}
+
+	}
+
+	private final class PipeInputStream extends InputStream {
+
+		private @Nullable Chunk current;
+
+		private int position;
+
+		private boolean eof;
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return (read(b, 0, 1) != -1) ? (b[0] & 0xFF) : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			Chunk chunk = currentChunk();
+			if (chunk == null) {
+				return -1;
+			}
+			int n = Math.min(len, chunk.length() - this.position);
+			System.arraycopy(chunk.data(), this.position, b, off, n);
+			this.position += n;
+			if (this.position == chunk.length()) {
+				this.current = null;
+				PipedRequestBody.this.buffers.offer(chunk.data());
+			}
+			return n;
+		}
+
+		@Override
+		public void close() {
+			if (!this.eof) {
+				abort(new IOException("Request body closed before it has been fully read"));
+			}
+		}
+
+		private @Nullable Chunk currentChunk() throws IOException {
+			if (this.eof) {
+				return null;
+			}
+			if (this.current == null) {
+				Chunk chunk = take();
+				if (chunk == EOF) {
+					this.eof = true;
+					return null;
+				}
+				this.current = chunk;
+				this.position = 0;
+			}
+			return this.current;
+		}
+
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * {@link OutputStream} that buffers a request body in memory, exposing the buffered bytes
+ * without copying them so that they can be written straight to the connection.
+ * <p>
+ * Small bodies are written to a buffer taken from a bounded, shared pool. A body that
+ * outgrows the pooled buffer is moved to a regular array, and the pooled buffer is given
+ * back right away. Buffers must be {@linkplain #release() released} once the request has
+ * been sent.
+ *
+ * @author Stephane Nicoll
+ */
+final class PooledRequestBuffer extends OutputStream {
+
+	static final int POOLED_BUFFER_SIZE = 16 * 1024;
+
+	private static final int POOL_SIZE = 64;
+
+	private static final BlockingQueue<byte[]> buffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private byte[] buffer;
+
+	private boolean pooled;
+
+	private int count;
+
+	private PooledRequestBuffer(byte[] buffer) {
+		this.buffer = buffer;
+		this.pooled = true;
+	}
+
+	/**
+	 * Create a new buffer, reusing a pooled array if one is available.
+	 * @return the request buffer
+	 */
+	static PooledRequestBuffer acquire() {
+		byte[] buffer = buffers.poll();
+		return new PooledRequestBuffer((buffer != null) ? buffer : new byte[POOLED_BUFFER_SIZE]);
+	}
+
+	@Override
+	public void write(int b) {
+		ensureCapacity(this.count + 1);
+		this.buffer[this.count] = (byte) b;
+		this.count++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		ensureCapacity(this.count + len);
+		System.arraycopy(b, off, this.buffer, this.count, len);
+		this.count += len;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= this.buffer.length) {
+			return;
+		}
+		if (capacity < 0) {
+			throw new OutOfMemoryError("Request body is too large");
+		}
+		int newCapacity = (this.buffer.length < Integer.MAX_VALUE / 2) ? Math.max(capacity, this.buffer.length * 2)
+				: capacity;
+		byte[] previous = this.buffer;
+		this.buffer = Arrays.copyOf(previous, newCapacity);
+		if (this.pooled) {
+			this.pooled = false;
+			buffers.offer(previous);
+		}
+	}
+
+	/**
+	 * Return the array holding the buffered bytes, from index {@code 0} to
+	 * {@link #size()}. The array must not be used once this buffer has been released.
+	 */
+	byte[] getBuffer() {
+		return this.buffer;
+	}
+
+	/**
+	 * Return the number of buffered bytes.
+	 */
+	int size() {
+		return this.count;
+	}
+
+	/**
+	 * Release this buffer, giving its array back to the pool if it was pooled.
+	 */
+	void release() {
+		if (this.pooled) {
+			this.pooled = false;
+			buffers.offer(this.buffer);
+		}
+		this.buffer = EMPTY;
+		this.count = 0;
+	}
+
+}
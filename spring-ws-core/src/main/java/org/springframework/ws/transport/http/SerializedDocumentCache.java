@@ -0,0 +1,164 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.function.ThrowingSupplier;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Cache of serialized documents, such as WSDL definitions and XSD schemas, used by
+ * {@link WsdlDefinitionHandlerAdapter} and {@link XsdSchemaHandlerAdapter}.
+ * <p>
+ * Entries are keyed by the document and the base URL its locations have been transformed
+ * for, if any. The least recently used entry is evicted once the cache is full. Each
+ * entry holds the serialized document along with its gzip and deflate encodings, and a
+ * strong {@code ETag} for each of them.
+ *
+ * @author Stephane Nicoll
+ */
+final class SerializedDocumentCache {
+
+	private static final int CACHE_LIMIT = 256;
+
+	private final Map<Key, SerializedDocument> documents = new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, SerializedDocument> eldest) {
+			return size() > CACHE_LIMIT;
+		}
+
+	};
+
+	/**
+	 * Return the serialized form of the given document, creating it if necessary.
+	 * @param document the document, typically the handler of the request
+	 * @param baseUrl the base URL the locations of the document are transformed for, or
+	 * an empty string if locations are not transformed
+	 * @param serializer creates the serialized document on a cache miss
+	 * @return the serialized document
+	 * @throws Exception if the document could not be serialized
+	 */
+	SerializedDocument get(Object document, String baseUrl, ThrowingSupplier<SerializedDocument> serializer)
+			throws Exception {
+		Key key = new Key(document, baseUrl);
+		SerializedDocument serializedDocument;
+		synchronized (this.documents) {
+			serializedDocument = this.documents.get(key);
+		}
+		if (serializedDocument == null) {
+			serializedDocument = serializer.getWithException();
+			synchronized (this.documents) {
+				this.documents.put(key, serializedDocument);
+			}
+		}
+		return serializedDocument;
+	}
+
+	private record Key(Object document, String baseUrl) {
+
+	}
+
+	/**
+	 * A serialized document, with precomputed encodings.
+	 */
+	static final class SerializedDocument {
+
+		private static final String GZIP = "gzip";
+
+		private static final String DEFLATE = "deflate";
+
+		private final Variant identity;
+
+		private final @Nullable Variant gzip;
+
+		private final @Nullable Variant deflate;
+
+		private final long lastModified;
+
+		SerializedDocument(byte[] content, long lastModified) throws IOException {
+			String eTag = "\"0" + DigestUtils.md5DigestAsHex(content);
+			this.identity = new Variant(content, null, eTag + "\"");
+			this.gzip = encode(content, GZIP, eTag);
+			this.deflate = encode(content, DEFLATE, eTag);
+			this.lastModified = lastModified;
+		}
+
+		private static @Nullable Variant encode(byte[] content, String encoding, String eTag) throws IOException {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			try (OutputStream out = GZIP.equals(encoding) ? new GZIPOutputStream(buffer)
+					: new DeflaterOutputStream(buffer)) {
+				out.write(content);
+			}
+			// only worth serving if it saves bytes
+			return (buffer.size() < content.length)
+					? new Variant(buffer.toByteArray(), encoding, eTag + "-" + encoding + "\"") : null;
+		}
+
+		/**
+		 * Write the variant of this document that best matches the {@code Accept-Encoding}
+		 * header of the given request, or a {@code 304 Not Modified} status if the client
+		 * has an up-to-date copy.
+		 * @param request the current request
+		 * @param response the current response
+		 * @param contentType the content type of the document
+		 * @throws IOException in case of I/O errors
+		 */
+		void writeTo(HttpServletRequest request, HttpServletResponse response, String contentType)
+				throws IOException {
+			Variant variant = selectVariant(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+			response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			if (new ServletWebRequest(request, response).checkNotModified(variant.eTag(), this.lastModified)) {
+				return;
+			}
+			response.setContentType(contentType);
+			if (variant.encoding() != null) {
+				response.setHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+			}
+			response.setContentLength(variant.content().length);
+			response.getOutputStream().write(variant.content());
+		}
+
+		private Variant selectVariant(@Nullable String acceptEncoding) {
+			if (this.gzip != null && HttpCompression.isAccepted(acceptEncoding, GZIP)) {
+				return this.gzip;
+			}
+			if (this.deflate != null && HttpCompression.isAccepted(acceptEncoding, DEFLATE)) {
+				return this.deflate;
+			}
+			return this.identity;
+		}
+
+	}
+
+	private record Variant(byte[] content, @Nullable String encoding, String eTag) {
+
+	}
+
+}
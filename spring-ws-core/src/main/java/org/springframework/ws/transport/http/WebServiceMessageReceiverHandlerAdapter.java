@@ -23,7 +23,6 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.web.servlet.HandlerAdapter;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.ws.InvalidXmlException;
-import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
 import org.springframework.ws.transport.support.WebServiceMessageReceiverObjectSupport;
 
@@ -49,11 +48,38 @@ import org.springframework.ws.transport.support.WebServiceMessageReceiverObjectS
 public class WebServiceMessageReceiverHandlerAdapter extends WebServiceMessageReceiverObjectSupport
 		implements HandlerAdapter {
 
+	private int responseCompressionThreshold = -1;
+
+	private long maxDecompressedRequestSize = -1;
+
+	/**
+	 * Sets the minimum size, in bytes, of a response to compress with gzip. Responses are
+	 * only compressed if the {@code Accept-Encoding} header of the request accepts gzip.
+	 * Defaults to {@code -1}, which disables response compression.
+	 * @since 5.1.0
+	 * @see #setMaxDecompressedRequestSize(long)
+	 */
+	public void setResponseCompressionThreshold(int responseCompressionThreshold) {
+		this.responseCompressionThreshold = responseCompressionThreshold;
+	}
+
+	/**
+	 * Sets the maximum size, in bytes, of a request with a gzip {@code Content-Encoding}
+	 * once decoded. Reading a larger request fails, which guards against decompression
+	 * bombs. Defaults to {@code -1}, which disables the decoding of requests.
+	 * @since 5.1.0
+	 */
+	public void setMaxDecompressedRequestSize(long maxDecompressedRequestSize) {
+		this.maxDecompressedRequestSize = maxDecompressedRequestSize;
+	}
+
 	@Override
 	public @Nullable ModelAndView handle(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
 			Object handler) throws Exception {
 		if (HttpTransportConstants.METHOD_POST.equals(httpServletRequest.getMethod())) {
-			WebServiceConnection connection = new HttpServletConnection(httpServletRequest, httpServletResponse);
+			HttpServletConnection connection = new HttpServletConnection(httpServletRequest, httpServletResponse);
+			connection.setResponseCompressionThreshold(this.responseCompressionThreshold);
+			connection.setMaxDecompressedRequestSize(this.maxDecompressedRequestSize);
 			try {
 				handleConnection(connection, (WebServiceMessageReceiver) handler);
 			}
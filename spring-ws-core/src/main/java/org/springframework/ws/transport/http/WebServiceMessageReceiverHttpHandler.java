@@ -42,16 +42,43 @@ public class WebServiceMessageReceiverHttpHandler extends SimpleWebServiceMessag
 
 	private boolean chunkedEncoding = false;
 
+	private int responseCompressionThreshold = -1;
+
+	private long maxDecompressedRequestSize = -1;
+
 	/** Enables chunked encoding on response bodies. Defaults to {@code false}. */
 	public void setChunkedEncoding(boolean chunkedEncoding) {
 		this.chunkedEncoding = chunkedEncoding;
 	}
 
+	/**
+	 * Sets the minimum size, in bytes, of a response to compress with gzip. Responses are
+	 * only compressed if the {@code Accept-Encoding} header of the request accepts gzip.
+	 * Defaults to {@code -1}, which disables response compression.
+	 * @since 5.1.0
+	 * @see #setMaxDecompressedRequestSize(long)
+	 */
+	public void setResponseCompressionThreshold(int responseCompressionThreshold) {
+		this.responseCompressionThreshold = responseCompressionThreshold;
+	}
+
+	/**
+	 * Sets the maximum size, in bytes, of a request with a gzip {@code Content-Encoding}
+	 * once decoded. Reading a larger request fails, which guards against decompression
+	 * bombs. Defaults to {@code -1}, which disables the decoding of requests.
+	 * @since 5.1.0
+	 */
+	public void setMaxDecompressedRequestSize(long maxDecompressedRequestSize) {
+		this.maxDecompressedRequestSize = maxDecompressedRequestSize;
+	}
+
 	@Override
 	public void handle(HttpExchange httpExchange) throws IOException {
 		if (HttpTransportConstants.METHOD_POST.equals(httpExchange.getRequestMethod())) {
 			HttpExchangeConnection connection = new HttpExchangeConnection(httpExchange);
 			connection.setChunkedEncoding(this.chunkedEncoding);
+			connection.setResponseCompressionThreshold(this.responseCompressionThreshold);
+			connection.setMaxDecompressedRequestSize(this.maxDecompressedRequestSize);
 			try {
 				handleConnection(connection);
 			}
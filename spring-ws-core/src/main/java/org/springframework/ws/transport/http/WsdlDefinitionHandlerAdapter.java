@@ -16,6 +16,7 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayOutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,6 +36,7 @@ import org.springframework.util.Assert;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.HandlerAdapter;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.ws.transport.http.SerializedDocumentCache.SerializedDocument;
 import org.springframework.ws.wsdl.WsdlDefinition;
 import org.springframework.xml.xpath.XPathExpression;
 import org.springframework.xml.xpath.XPathExpressionFactory;
@@ -66,6 +68,10 @@ import org.springframework.xml.xpath.XPathExpressionFactory;
  * the WSDL definition are changed by default. This behavior can be customized by changing
  * the {@code locationExpression} property, which is an XPath expression that matches the
  * attributes to change.
+ * <p>
+ * If the property {@code cacheDefinitions} is set to {@code true}, the serialized form of
+ * each definition is cached, along with its gzip and deflate encodings and a strong
+ * {@code ETag}.
  *
  * @author Arjen Poutsma
  * @since 1.0.0
@@ -105,6 +111,10 @@ public class WsdlDefinitionHandlerAdapter extends LocationTransformerObjectSuppo
 
 	private boolean transformSchemaLocations = false;
 
+	private boolean cacheDefinitions = false;
+
+	private final SerializedDocumentCache definitionCache = new SerializedDocumentCache();
+
 	/**
 	 * Sets the XPath expression used for extracting the {@code location} attributes from
 	 * the WSDL 1.1 definition.
@@ -142,29 +152,51 @@ public class WsdlDefinitionHandlerAdapter extends LocationTransformerObjectSuppo
 		this.transformSchemaLocations = transformSchemaLocations;
 	}
 
+	/**
+	 * Sets whether the serialized form of definitions should be cached. Defaults to
+	 * {@code false}.
+	 * <p>
+	 * When enabled, a definition is only serialized, and its locations transformed, the
+	 * first time it is requested for a given base URL, that is the scheme, server name,
+	 * port, and context path of the request. It is also compressed using gzip and
+	 * deflate so that it can be served to clients that accept these encodings, and a
+	 * strong {@code ETag} is used to answer conditional requests. Definitions are
+	 * expected not to change once they have been served.
+	 * <p>
+	 * Caching should not be enabled if {@link #transformLocation(String, HttpServletRequest)}
+	 * is customized to rely on other parts of the request.
+	 * @since 5.1.0
+	 */
+	public void setCacheDefinitions(boolean cacheDefinitions) {
+		this.cacheDefinitions = cacheDefinitions;
+	}
+
 	@Override
 	public @Nullable ModelAndView handle(HttpServletRequest request, HttpServletResponse response, Object handler)
 			throws Exception {
 		if (HttpTransportConstants.METHOD_GET.equals(request.getMethod())) {
 			WsdlDefinition definition = (WsdlDefinition) handler;
+			if (this.cacheDefinitions) {
+				String baseUrl = (this.transformLocations || this.transformSchemaLocations) ? getBaseUrl(request) : "";
+				SerializedDocument serializedDefinition = this.definitionCache.get(definition, baseUrl, () -> {
+					Source definitionSource = definition.getSource();
+					Transformer transformer = createTransformer();
+					ByteArrayOutputStream content = new ByteArrayOutputStream();
+					transformer.transform(transformDefinition(transformer, definitionSource, request),
+							new StreamResult(content));
+					return new SerializedDocument(content.toByteArray(),
+							LastModifiedHelper.getLastModified(definitionSource));
+				});
+				serializedDefinition.writeTo(request, response, CONTENT_TYPE);
+				return null;
+			}
 			Source definitionSource = definition.getSource();
 			if (new ServletWebRequest(request, response)
 				.checkNotModified(LastModifiedHelper.getLastModified(definitionSource))) {
 				return null;
 			}
 			Transformer transformer = createTransformer();
-			if (this.transformLocations || this.transformSchemaLocations) {
-				DOMResult domResult = new DOMResult();
-				transformer.transform(definitionSource, domResult);
-				Document definitionDocument = (Document) domResult.getNode();
-				if (this.transformLocations) {
-					transformLocations(definitionDocument, request);
-				}
-				if (this.transformSchemaLocations) {
-					transformSchemaLocations(definitionDocument, request);
-				}
-				definitionSource = new DOMSource(definitionDocument);
-			}
+			definitionSource = transformDefinition(transformer, definitionSource, request);
 
 			response.setContentType(CONTENT_TYPE);
 			StreamResult responseResult = new StreamResult(response.getOutputStream());
@@ -176,6 +208,23 @@ public class WsdlDefinitionHandlerAdapter extends LocationTransformerObjectSuppo
 		return null;
 	}
 
+	private Source transformDefinition(Transformer transformer, Source definitionSource, HttpServletRequest request)
+			throws Exception {
+		if (!this.transformLocations && !this.transformSchemaLocations) {
+			return definitionSource;
+		}
+		DOMResult domResult = new DOMResult();
+		transformer.transform(definitionSource, domResult);
+		Document definitionDocument = (Document) domResult.getNode();
+		if (this.transformLocations) {
+			transformLocations(definitionDocument, request);
+		}
+		if (this.transformSchemaLocations) {
+			transformSchemaLocations(definitionDocument, request);
+		}
+		return new DOMSource(definitionDocument);
+	}
+
 	@Override
 	public boolean supports(Object handler) {
 		return handler instanceof WsdlDefinition;
@@ -16,6 +16,7 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayOutputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +35,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.HandlerAdapter;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.ws.transport.http.SerializedDocumentCache.SerializedDocument;
 import org.springframework.xml.xpath.XPathExpression;
 import org.springframework.xml.xpath.XPathExpressionFactory;
 import org.springframework.xml.xsd.XsdSchema;
@@ -45,6 +47,9 @@ import org.springframework.xml.xsd.XsdSchema;
  * Reads the source from the mapped {@link XsdSchema} implementation, and writes that as
  * the result to the {@code HttpServletResponse}. Allows for post-processing the schema in
  * subclasses.
+ * <p>
+ * If the property {@code cacheSchemas} is set to {@code true}, the serialized form of each
+ * schema is cached, along with its gzip and deflate encodings and a strong {@code ETag}.
  *
  * @author Arjen Poutsma
  * @since 1.5.3
@@ -71,6 +76,10 @@ public class XsdSchemaHandlerAdapter extends LocationTransformerObjectSupport
 
 	private boolean transformSchemaLocations = false;
 
+	private boolean cacheSchemas = false;
+
+	private final SerializedDocumentCache schemaCache = new SerializedDocumentCache();
+
 	/**
 	 * Sets the XPath expression used for extracting the {@code schemaLocation} attributes
 	 * from the WSDL 1.1 definition.
@@ -90,23 +99,47 @@ public class XsdSchemaHandlerAdapter extends LocationTransformerObjectSupport
 		this.transformSchemaLocations = transformSchemaLocations;
 	}
 
+	/**
+	 * Sets whether the serialized form of schemas should be cached. Defaults to
+	 * {@code false}.
+	 * <p>
+	 * When enabled, a schema is only serialized, and its schema locations transformed,
+	 * the first time it is requested for a given base URL, that is the scheme, server
+	 * name, port, and context path of the request. Schemas are expected not to change
+	 * once they have been served.
+	 * @since 5.1.0
+	 * @see WsdlDefinitionHandlerAdapter#setCacheDefinitions(boolean)
+	 */
+	public void setCacheSchemas(boolean cacheSchemas) {
+		this.cacheSchemas = cacheSchemas;
+	}
+
 	@Override
 	public @Nullable ModelAndView handle(HttpServletRequest request, HttpServletResponse response, Object handler)
 			throws Exception {
 		if (HttpTransportConstants.METHOD_GET.equals(request.getMethod())) {
-			Source schemaSource = getSchemaSource((XsdSchema) handler);
+			XsdSchema schema = (XsdSchema) handler;
+			if (this.cacheSchemas) {
+				String baseUrl = (this.transformSchemaLocations) ? getBaseUrl(request) : "";
+				SerializedDocument serializedSchema = this.schemaCache.get(schema, baseUrl, () -> {
+					Source schemaSource = getSchemaSource(schema);
+					Transformer transformer = createTransformer();
+					ByteArrayOutputStream content = new ByteArrayOutputStream();
+					transformer.transform(transformSchema(transformer, schemaSource, request),
+							new StreamResult(content));
+					return new SerializedDocument(content.toByteArray(),
+							LastModifiedHelper.getLastModified(schemaSource));
+				});
+				serializedSchema.writeTo(request, response, CONTENT_TYPE);
+				return null;
+			}
+			Source schemaSource = getSchemaSource(schema);
 			if (new ServletWebRequest(request, response)
 				.checkNotModified(LastModifiedHelper.getLastModified(schemaSource))) {
 				return null;
 			}
 			Transformer transformer = createTransformer();
-			if (this.transformSchemaLocations) {
-				DOMResult domResult = new DOMResult();
-				transformer.transform(schemaSource, domResult);
-				Document schemaDocument = (Document) domResult.getNode();
-				transformSchemaLocations(schemaDocument, request);
-				schemaSource = new DOMSource(schemaDocument);
-			}
+			schemaSource = transformSchema(transformer, schemaSource, request);
 
 			response.setContentType(CONTENT_TYPE);
 			StreamResult responseResult = new StreamResult(response.getOutputStream());
@@ -118,6 +151,18 @@ public class XsdSchemaHandlerAdapter extends LocationTransformerObjectSupport
 		return null;
 	}
 
+	private Source transformSchema(Transformer transformer, Source schemaSource, HttpServletRequest request)
+			throws Exception {
+		if (!this.transformSchemaLocations) {
+			return schemaSource;
+		}
+		DOMResult domResult = new DOMResult();
+		transformer.transform(schemaSource, domResult);
+		Document schemaDocument = (Document) domResult.getNode();
+		transformSchemaLocations(schemaDocument, request);
+		return new DOMSource(schemaDocument);
+	}
+
 	@Override
 	public boolean supports(Object handler) {
 		return handler instanceof XsdSchema;
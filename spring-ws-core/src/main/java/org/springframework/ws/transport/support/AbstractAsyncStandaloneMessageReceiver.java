@@ -26,6 +26,12 @@ import org.springframework.util.ClassUtils;
 /**
  * Abstract base class for asynchronous standalone, server-side transport objects.
  * Contains a Spring {@link TaskExecutor}, and various lifecycle callbacks.
+ * <p>
+ * The default task executor can be configured to use
+ * {@linkplain #setVirtualThreads(boolean) virtual threads}. To limit the number of tasks
+ * that run concurrently, {@linkplain #setTaskExecutor(TaskExecutor) set} an executor
+ * with a concurrency limit, such as a {@link SimpleAsyncTaskExecutor} configured with
+ * {@link SimpleAsyncTaskExecutor#setConcurrencyLimit(int)}.
  *
  * @author Arjen Poutsma
  */
@@ -40,6 +46,8 @@ public abstract class AbstractAsyncStandaloneMessageReceiver extends AbstractSta
 
 	private @Nullable String beanName;
 
+	private boolean virtualThreads = false;
+
 	/**
 	 * Set the Spring {@link TaskExecutor} to use for running the listener threads.
 	 * Default is {@link SimpleAsyncTaskExecutor}, starting up a number of new threads.
@@ -52,6 +60,20 @@ public abstract class AbstractAsyncStandaloneMessageReceiver extends AbstractSta
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Specify whether the default {@link TaskExecutor} should use virtual threads instead
+	 * of platform threads. Default is {@code false}.
+	 * <p>
+	 * Virtual threads require Java 21 or later. Has no effect if a
+	 * {@link #setTaskExecutor(TaskExecutor) task executor} has been set explicitly.
+	 * @param virtualThreads whether to use virtual threads
+	 * @since 5.1.0
+	 * @see SimpleAsyncTaskExecutor#setVirtualThreads(boolean)
+	 */
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
 	@Override
 	public void setBeanName(String beanName) {
 		this.beanName = beanName;
@@ -71,12 +93,15 @@ public abstract class AbstractAsyncStandaloneMessageReceiver extends AbstractSta
 	 * <p>
 	 * The default implementation builds a
 	 * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} with the specified
-	 * bean name (or the class name, if no bean name specified) as thread name prefix.
+	 * bean name (or the class name, if no bean name specified) as thread name prefix,
+	 * using virtual threads if {@linkplain #setVirtualThreads(boolean) configured}.
 	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor#SimpleAsyncTaskExecutor(String)
 	 */
 	protected TaskExecutor createDefaultTaskExecutor() {
 		String threadNamePrefix = (this.beanName != null) ? this.beanName + "-" : this.DEFAULT_THREAD_NAME_PREFIX;
-		return new SimpleAsyncTaskExecutor(threadNamePrefix);
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		taskExecutor.setVirtualThreads(this.virtualThreads);
+		return taskExecutor;
 	}
 
 	/**
@@ -21,6 +21,9 @@ import java.io.IOException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.support.AsyncPayloadLogger;
+import org.springframework.ws.transport.AbstractWebServiceConnection;
 import org.springframework.ws.transport.WebServiceConnection;
 
 /**
@@ -32,6 +35,15 @@ import org.springframework.ws.transport.WebServiceConnection;
  */
 public abstract class TransportUtils {
 
+	/**
+	 * Name of the {@link MessageContext} property that indicates that the payloads of the
+	 * exchange are traced by its connection, so that they do not need to be serialized
+	 * for message tracing.
+	 * @since 5.1.0
+	 * @see #enablePayloadTracing
+	 */
+	public static final String PAYLOAD_TRACED_PROPERTY = TransportUtils.class.getName() + ".PAYLOAD_TRACED";
+
 	private static final Log logger = LogFactory.getLog(TransportUtils.class);
 
 	/**
@@ -53,4 +65,36 @@ public abstract class TransportUtils {
 		}
 	}
 
+	/**
+	 * Trace the payloads of the given connection using the given
+	 * {@link AsyncPayloadLogger}, if the connection supports it. If so, callers should
+	 * set the {@link #PAYLOAD_TRACED_PROPERTY} on the message context of the exchange.
+	 * @param connection the connection of the exchange
+	 * @param payloadLogger the payload logger to use
+	 * @param sentPayloadLog the log for sent payloads
+	 * @param receivedPayloadLog the log for received payloads
+	 * @return {@code true} if payloads are traced by the connection
+	 * @since 5.1.0
+	 * @see AbstractWebServiceConnection#setPayloadLogger
+	 */
+	public static boolean enablePayloadTracing(WebServiceConnection connection, AsyncPayloadLogger payloadLogger,
+			Log sentPayloadLog, Log receivedPayloadLog) {
+		if (connection instanceof AbstractWebServiceConnection abstractConnection) {
+			abstractConnection.setPayloadLogger(payloadLogger, sentPayloadLog, receivedPayloadLog);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Indicate whether the payloads of the exchange of the given message context are
+	 * traced by its connection.
+	 * @param messageContext the message context of the exchange
+	 * @return {@code true} if payloads are traced by the connection
+	 * @since 5.1.0
+	 */
+	public static boolean isPayloadTraced(MessageContext messageContext) {
+		return Boolean.TRUE.equals(messageContext.getProperty(PAYLOAD_TRACED_PROPERTY));
+	}
+
 }
@@ -18,8 +18,11 @@ package org.springframework.ws.transport.support;
 
 import java.net.URISyntaxException;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
@@ -29,6 +32,14 @@ import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.WebServiceMessageFactory;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.observation.DefaultServerRequestObservationConvention;
+import org.springframework.ws.observation.ObservationUtils;
+import org.springframework.ws.observation.ServerRequestObservationContext;
+import org.springframework.ws.observation.ServerRequestObservationConvention;
+import org.springframework.ws.observation.WebServiceObservationDocumentation;
+import org.springframework.ws.observation.WebServicePhase;
+import org.springframework.ws.support.AsyncPayloadLogger;
+import org.springframework.ws.transport.AbstractWebServiceConnection;
 import org.springframework.ws.transport.EndpointAwareWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
 import org.springframework.ws.transport.WebServiceConnection;
@@ -48,12 +59,26 @@ import org.springframework.ws.transport.context.TransportContextHolder;
  */
 public abstract class WebServiceMessageReceiverObjectSupport implements InitializingBean {
 
+	/** Same as the message tracing log category of the server-side dispatcher. */
+	private static final String MESSAGE_TRACING_LOG_CATEGORY = "org.springframework.ws.server.MessageTracing";
+
+	private static final Log sentMessageTracingLogger = LogFactory.getLog(MESSAGE_TRACING_LOG_CATEGORY + ".sent");
+
+	private static final Log receivedMessageTracingLogger = LogFactory
+		.getLog(MESSAGE_TRACING_LOG_CATEGORY + ".received");
+
 	/** Logger available to subclasses. */
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	@SuppressWarnings("NullAway.Init")
 	private WebServiceMessageFactory messageFactory;
 
+	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+	private ServerRequestObservationConvention observationConvention = new DefaultServerRequestObservationConvention();
+
+	private @Nullable AsyncPayloadLogger payloadLogger;
+
 	/** Returns the {@code WebServiceMessageFactory}. */
 	public WebServiceMessageFactory getMessageFactory() {
 		return this.messageFactory;
@@ -64,6 +89,48 @@ public abstract class WebServiceMessageReceiverObjectSupport implements Initiali
 		this.messageFactory = messageFactory;
 	}
 
+	/**
+	 * Set the {@link ObservationRegistry} to use to observe incoming requests. The
+	 * registry is also made available to the {@link WebServiceMessageReceiver} through
+	 * the message context, so that it can observe the phases of the exchange.
+	 * <p>
+	 * Default is {@link ObservationRegistry#NOOP}.
+	 * @param observationRegistry the observation registry to use
+	 * @since 5.1.0
+	 * @see ObservationUtils#getObservationRegistry(MessageContext)
+	 */
+	public void setObservationRegistry(ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "'observationRegistry' must not be null");
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Set a custom {@link ServerRequestObservationConvention} to use for the observation
+	 * of incoming requests. By default, a {@link DefaultServerRequestObservationConvention}
+	 * is used.
+	 * @param observationConvention the observation convention to use
+	 * @since 5.1.0
+	 */
+	public void setObservationConvention(ServerRequestObservationConvention observationConvention) {
+		Assert.notNull(observationConvention, "'observationConvention' must not be null");
+		this.observationConvention = observationConvention;
+	}
+
+	/**
+	 * Set the {@link AsyncPayloadLogger} to use to trace the payloads of incoming
+	 * requests and their responses. When set, a bounded prefix of each payload is
+	 * captured as the connection reads or writes it, and logged asynchronously to the
+	 * {@code org.springframework.ws.server.MessageTracing} categories at trace level,
+	 * instead of being serialized in full by the message dispatcher.
+	 * <p>
+	 * Only applies to connections that extend {@link AbstractWebServiceConnection}.
+	 * @param payloadLogger the payload logger to use
+	 * @since 5.1.0
+	 */
+	public void setPayloadLogger(@Nullable AsyncPayloadLogger payloadLogger) {
+		this.payloadLogger = payloadLogger;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.notNull(this.messageFactory, "messageFactory is required");
@@ -87,24 +154,52 @@ public abstract class WebServiceMessageReceiverObjectSupport implements Initiali
 		TransportContext previousTransportContext = TransportContextHolder.getTransportContext();
 		TransportContextHolder.setTransportContext(new DefaultTransportContext(connection));
 
-		try {
-			WebServiceMessage request = connection.receive(getMessageFactory());
+		Observation observation = WebServiceObservationDocumentation.SERVER_REQUEST
+			.observation(null, this.observationConvention, () -> new ServerRequestObservationContext(connection),
+					this.observationRegistry)
+			.start();
+		ServerRequestObservationContext observationContext = null;
+		if (observation.getContext() instanceof ServerRequestObservationContext context) {
+			observationContext = context;
+		}
+		try (Observation.Scope scope = observation.openScope()) {
+			boolean payloadTraced = this.payloadLogger != null && TransportUtils.enablePayloadTracing(connection,
+					this.payloadLogger, sentMessageTracingLogger, receivedMessageTracingLogger);
+			WebServiceMessage request = ObservationUtils.observe(this.observationRegistry, WebServicePhase.RECEIVE,
+					() -> connection.receive(getMessageFactory()));
 			Assert.notNull(request, "no WebServiceMessage received");
 			MessageContext messageContext = new DefaultMessageContext(request, getMessageFactory());
+			if (payloadTraced) {
+				messageContext.setProperty(TransportUtils.PAYLOAD_TRACED_PROPERTY, Boolean.TRUE);
+			}
+			if (observationContext != null) {
+				observationContext.setMessageContext(messageContext);
+				ObservationUtils.bindServerObservation(messageContext, this.observationRegistry, observationContext);
+			}
 			receiver.receive(messageContext);
 			if (messageContext.hasResponse()) {
 				WebServiceMessage response = messageContext.getResponse();
-				if (response instanceof FaultAwareWebServiceMessage faultResponse
-						&& connection instanceof FaultAwareWebServiceConnection faultConnection) {
-					faultConnection.setFaultCode(faultResponse.getFaultCode());
+				if (response instanceof FaultAwareWebServiceMessage faultResponse) {
+					if (connection instanceof FaultAwareWebServiceConnection faultConnection) {
+						faultConnection.setFaultCode(faultResponse.getFaultCode());
+					}
+					if (observationContext != null && faultResponse.hasFault()) {
+						observationContext.setFaultCode(faultResponse.getFaultCode());
+					}
 				}
-				connection.send(messageContext.getResponse());
+				ObservationUtils.observe(this.observationRegistry, WebServicePhase.SEND,
+						() -> connection.send(response));
 			}
 		}
 		catch (NoEndpointFoundException ex) {
 			handleNoEndpointFoundException(ex, connection, receiver);
 		}
+		catch (Exception ex) {
+			observation.error(ex);
+			throw ex;
+		}
 		finally {
+			observation.stop();
 			TransportUtils.closeConnection(connection);
 			TransportContextHolder.setTransportContext(previousTransportContext);
 		}
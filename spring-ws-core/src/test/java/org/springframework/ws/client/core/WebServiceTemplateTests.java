@@ -18,6 +18,11 @@ package org.springframework.ws.client.core;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
@@ -36,11 +41,13 @@ import org.springframework.ws.MockWebServiceMessage;
 import org.springframework.ws.MockWebServiceMessageFactory;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.client.WebServiceClientException;
+import org.springframework.ws.client.WebServiceIOException;
 import org.springframework.ws.client.WebServiceTransportException;
 import org.springframework.ws.client.support.destination.DestinationProvider;
 import org.springframework.ws.client.support.interceptor.ClientInterceptor;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.transport.AsyncWebServiceConnection;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
 import org.springframework.ws.transport.WebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageSender;
@@ -55,9 +62,11 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @SuppressWarnings("unchecked")
 class WebServiceTemplateTests {
@@ -619,6 +628,121 @@ class WebServiceTemplateTests {
 		assertThat(result).isNull();
 	}
 
+	@Test
+	void sendAndReceiveAsyncWithAsyncConnection() throws Exception {
+		NoOpClientInterceptor clientInterceptor = new NoOpClientInterceptor();
+		this.template.setInterceptors(new ClientInterceptor[] { clientInterceptor });
+		FaultAwareWebServiceConnection connection = mockAsyncConnection();
+		CompletableFuture<Void> sent = new CompletableFuture<>();
+		given(((AsyncWebServiceConnection) connection).sendAsync(isA(WebServiceMessage.class))).willReturn(sent);
+		given(connection.hasError()).willReturn(false);
+		given(connection.receive(this.messageFactory)).willReturn(new MockWebServiceMessage("<response/>"));
+		given(connection.hasFault()).willReturn(false);
+		Object extracted = new Object();
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, createSimpleExtractor(extracted));
+
+		assertThat(result).isNotDone();
+		verify(connection, never()).receive(this.messageFactory);
+		verify(connection, never()).close();
+		sent.complete(null);
+		assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isSameAs(extracted);
+		assertThat(clientInterceptor).hasHandledExchange().hasNoCompletionException();
+		verify(connection).close();
+	}
+
+	@Test
+	void sendAndReceiveAsyncProcessesResponseOnAsyncExecutor() throws Exception {
+		List<Runnable> tasks = new ArrayList<>();
+		this.template.setAsyncExecutor(tasks::add);
+		FaultAwareWebServiceConnection connection = mockAsyncConnection();
+		CompletableFuture<Void> sent = new CompletableFuture<>();
+		given(((AsyncWebServiceConnection) connection).sendAsync(isA(WebServiceMessage.class))).willReturn(sent);
+		given(connection.hasError()).willReturn(false);
+		given(connection.receive(this.messageFactory)).willReturn(new MockWebServiceMessage("<response/>"));
+		given(connection.hasFault()).willReturn(false);
+		Object extracted = new Object();
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, createSimpleExtractor(extracted));
+
+		sent.complete(null);
+		assertThat(result).isNotDone();
+		verify(connection, never()).receive(this.messageFactory);
+		assertThat(tasks).hasSize(1);
+		tasks.get(0).run();
+		assertThat(result).isCompletedWithValue(extracted);
+		verify(connection).close();
+	}
+
+	@Test
+	void sendAndReceiveAsyncProcessesResponseOnDefaultExecutor() throws Exception {
+		FaultAwareWebServiceConnection connection = mockAsyncConnection();
+		CompletableFuture<Void> sent = new CompletableFuture<>();
+		given(((AsyncWebServiceConnection) connection).sendAsync(isA(WebServiceMessage.class))).willReturn(sent);
+		given(connection.hasError()).willReturn(false);
+		given(connection.receive(this.messageFactory)).willReturn(new MockWebServiceMessage("<response/>"));
+		given(connection.hasFault()).willReturn(false);
+
+		CompletableFuture<String> result = this.template.sendAndReceiveAsync(null,
+				(message) -> Thread.currentThread().getName());
+
+		sent.complete(null);
+		assertThat(result).succeedsWithin(Duration.ofSeconds(5)).asString().startsWith("ws-client-");
+	}
+
+	@Test
+	void sendAndReceiveAsyncWithSendFailure() throws Exception {
+		NoOpClientInterceptor clientInterceptor = new NoOpClientInterceptor();
+		this.template.setInterceptors(new ClientInterceptor[] { clientInterceptor });
+		FaultAwareWebServiceConnection connection = mockAsyncConnection();
+		IOException exception = new IOException("Connection refused");
+		given(((AsyncWebServiceConnection) connection).sendAsync(isA(WebServiceMessage.class)))
+			.willReturn(CompletableFuture.failedFuture(exception));
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, mockWebServiceMessageExtractor());
+
+		assertThat(result).failsWithin(Duration.ZERO)
+			.withThrowableOfType(ExecutionException.class)
+			.havingCause()
+			.isInstanceOf(WebServiceIOException.class)
+			.withCause(exception);
+		assertThat(clientInterceptor).hasHandledError().completionException().isSameAs(exception);
+		verify(connection, never()).receive(this.messageFactory);
+		verify(connection).close();
+	}
+
+	@Test
+	void sendAndReceiveAsyncWithBlockingConnection() throws Exception {
+		given(this.connectionMock.hasError()).willReturn(false);
+		given(this.connectionMock.receive(this.messageFactory)).willReturn(new MockWebServiceMessage("<response/>"));
+		given(this.connectionMock.hasFault()).willReturn(false);
+		Object extracted = new Object();
+
+		CompletableFuture<Object> result = this.template.sendAndReceiveAsync(null, createSimpleExtractor(extracted));
+
+		assertThat(result).isCompletedWithValue(extracted);
+		verify(this.connectionMock).send(isA(WebServiceMessage.class));
+		verify(this.connectionMock).close();
+	}
+
+	@Test
+	void marshalSendAndReceiveAsync() throws Exception {
+		Object unmarshalled = new Object();
+		setupMarshallerAndUnmarshaller(unmarshalled);
+
+		CompletableFuture<Object> result = this.template.marshalSendAndReceiveAsync(new Object());
+
+		assertThat(result).isCompletedWithValue(unmarshalled);
+	}
+
+	private FaultAwareWebServiceConnection mockAsyncConnection() throws Exception {
+		FaultAwareWebServiceConnection connection = mock(FaultAwareWebServiceConnection.class,
+				withSettings().extraInterfaces(AsyncWebServiceConnection.class));
+		given(connection.getUri()).willReturn(new URI("http://www.springframework.org/spring-ws"));
+		this.connectionMock = connection;
+		return connection;
+	}
+
 	private static WebServiceMessageExtractor<Object> mockWebServiceMessageExtractor() {
 		return mock(WebServiceMessageExtractor.class);
 	}
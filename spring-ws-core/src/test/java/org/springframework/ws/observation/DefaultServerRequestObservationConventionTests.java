@@ -0,0 +1,99 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.observation;
+
+import java.net.URI;
+
+import javax.xml.namespace.QName;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.transport.WebServiceConnection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link DefaultServerRequestObservationConvention}.
+ *
+ * @author Stephane Nicoll
+ */
+class DefaultServerRequestObservationConventionTests {
+
+	private final ServerRequestObservationConvention convention = new DefaultServerRequestObservationConvention();
+
+	@Test
+	void nameIsSpringWsServerRequests() {
+		assertThat(this.convention.getName()).isEqualTo("spring.ws.server.requests");
+	}
+
+	@Test
+	void lowCardinalityKeyValuesWithoutMessage() throws Exception {
+		ServerRequestObservationContext context = new ServerRequestObservationContext(
+				mockConnection("http://localhost/services"));
+		assertThat(this.convention.getContextualName(context)).isEqualTo("ws server");
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("payload.root", KeyValue.NONE_VALUE), KeyValue.of("soap.action", KeyValue.NONE_VALUE),
+				KeyValue.of("endpoint", KeyValue.NONE_VALUE), KeyValue.of("fault.code", KeyValue.NONE_VALUE),
+				KeyValue.of("transport.scheme", "http"), KeyValue.of("exception", KeyValue.NONE_VALUE));
+	}
+
+	@Test
+	void lowCardinalityKeyValuesWithMethodEndpoint() throws Exception {
+		ServerRequestObservationContext context = new ServerRequestObservationContext(
+				mockConnection("jms:RequestQueue"));
+		context.setPayloadRoot(new QName("urn:test", "request"));
+		context.setEndpoint(this);
+		context.setEndpointName("DefaultServerRequestObservationConventionTests#nameIsSpringWsServerRequests");
+		context.setFaultCode(new QName("http://schemas.xmlsoap.org/soap/envelope/", "Client"));
+		context.setError(new IllegalStateException());
+		assertThat(this.convention.getContextualName(context)).isEqualTo("ws server request");
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("payload.root", "{urn:test}request"),
+				KeyValue.of("endpoint", "DefaultServerRequestObservationConventionTests#nameIsSpringWsServerRequests"),
+				KeyValue.of("fault.code", "Client"), KeyValue.of("transport.scheme", "jms"),
+				KeyValue.of("exception", "IllegalStateException"));
+	}
+
+	@Test
+	void lowCardinalityKeyValuesWithoutEndpointIgnorePayloadRoot() throws Exception {
+		ServerRequestObservationContext context = new ServerRequestObservationContext(
+				mockConnection("http://localhost/services"));
+		context.setPayloadRoot(new QName("urn:test", "request"));
+		assertThat(this.convention.getLowCardinalityKeyValues(context)).contains(
+				KeyValue.of("payload.root", KeyValue.NONE_VALUE), KeyValue.of("soap.action", KeyValue.NONE_VALUE),
+				KeyValue.of("endpoint", KeyValue.NONE_VALUE));
+	}
+
+	@Test
+	void lowCardinalityKeyValuesWithUnnamedEndpoint() throws Exception {
+		ServerRequestObservationContext context = new ServerRequestObservationContext(
+				mockConnection("http://localhost/services"));
+		context.setEndpoint(this);
+		assertThat(this.convention.getLowCardinalityKeyValues(context))
+			.contains(KeyValue.of("endpoint", "DefaultServerRequestObservationConventionTests"));
+	}
+
+	private static WebServiceConnection mockConnection(String uri) throws Exception {
+		WebServiceConnection connection = mock(WebServiceConnection.class);
+		given(connection.getUri()).willReturn(new URI(uri));
+		return connection;
+	}
+
+}
@@ -16,12 +16,15 @@
 
 package org.springframework.ws.server;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.ws.MockWebServiceMessage;
 import org.springframework.ws.NoEndpointFoundException;
 import org.springframework.ws.WebServiceMessageFactory;
@@ -29,6 +32,7 @@ import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.endpoint.adapter.PayloadEndpointAdapter;
 import org.springframework.ws.server.endpoint.mapping.PayloadRootQNameEndpointMapping;
+import org.springframework.ws.soap.saaj.test.SaajSoapMessages;
 import org.springframework.ws.soap.server.endpoint.SimpleSoapExceptionResolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -110,6 +114,140 @@ class MessageDispatcherTests {
 		verify(adapterMock, this.factoryMock);
 	}
 
+	@Test
+	void getEndpointWithCachedResolutionSkipsCacheableMappings() throws Exception {
+
+		CacheableEndpointMapping firstMock = createCacheableMappingMock();
+		CacheableEndpointMapping secondMock = createCacheableMappingMock();
+		this.dispatcher.setEndpointMappings(List.of(firstMock, secondMock));
+		this.dispatcher.setCacheEndpointResolution(true);
+
+		EndpointInvocationChain chain = new EndpointInvocationChain(new Object());
+		expect(firstMock.getEndpoint(this.messageContext)).andReturn(null).once();
+		expect(secondMock.getEndpoint(this.messageContext)).andReturn(chain).times(2);
+
+		replay(firstMock, secondMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpoint(this.messageContext)).isEqualTo(chain);
+		assertThat(this.dispatcher.getEndpoint(this.messageContext)).isEqualTo(chain);
+
+		verify(firstMock, secondMock, this.factoryMock);
+	}
+
+	@Test
+	void getEndpointWithCachedResolutionReusesResolutionForSameAddressingAction() throws Exception {
+
+		CacheableEndpointMapping firstMock = createMock(CacheableEndpointMapping.class);
+		expect(firstMock.getDiscriminator()).andReturn(RequestDiscriminator.WS_ADDRESSING_ACTION).anyTimes();
+		CacheableEndpointMapping secondMock = createMock(CacheableEndpointMapping.class);
+		expect(secondMock.getDiscriminator()).andReturn(RequestDiscriminator.WS_ADDRESSING_ACTION).anyTimes();
+		this.dispatcher.setEndpointMappings(List.of(firstMock, secondMock));
+		this.dispatcher.setCacheEndpointResolution(true);
+
+		// Same Action and To, different MessageID and ReplyTo
+		MessageContext firstRequest = SaajSoapMessages
+			.createMessageContext(new ClassPathResource("org/springframework/ws/soap/addressing/10/valid.xml"));
+		MessageContext secondRequest = SaajSoapMessages.createMessageContext(
+				new ClassPathResource("org/springframework/ws/soap/addressing/10/request-anonymous.xml"));
+		EndpointInvocationChain chain = new EndpointInvocationChain(new Object());
+		expect(firstMock.getEndpoint(firstRequest)).andReturn(null).once();
+		expect(secondMock.getEndpoint(firstRequest)).andReturn(chain).once();
+		expect(secondMock.getEndpoint(secondRequest)).andReturn(chain).once();
+
+		replay(firstMock, secondMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpoint(firstRequest)).isEqualTo(chain);
+		assertThat(this.dispatcher.getEndpoint(secondRequest)).isEqualTo(chain);
+
+		verify(firstMock, secondMock, this.factoryMock);
+	}
+
+	@Test
+	void getEndpointWithCachedResolutionAsksNonCacheableMappings() throws Exception {
+
+		EndpointMapping firstMock = createMock(EndpointMapping.class);
+		CacheableEndpointMapping secondMock = createCacheableMappingMock();
+		CacheableEndpointMapping thirdMock = createCacheableMappingMock();
+		this.dispatcher.setEndpointMappings(List.of(firstMock, secondMock, thirdMock));
+		this.dispatcher.setCacheEndpointResolution(true);
+
+		EndpointInvocationChain chain = new EndpointInvocationChain(new Object());
+		expect(firstMock.getEndpoint(this.messageContext)).andReturn(null).times(2);
+		expect(secondMock.getEndpoint(this.messageContext)).andReturn(null).once();
+		expect(thirdMock.getEndpoint(this.messageContext)).andReturn(chain).times(2);
+
+		replay(firstMock, secondMock, thirdMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpoint(this.messageContext)).isEqualTo(chain);
+		assertThat(this.dispatcher.getEndpoint(this.messageContext)).isEqualTo(chain);
+
+		verify(firstMock, secondMock, thirdMock, this.factoryMock);
+	}
+
+	@Test
+	void getEndpointWithCachedResolutionAndNoMappingIsNotCached() throws Exception {
+
+		CacheableEndpointMapping mappingMock = createCacheableMappingMock();
+		this.dispatcher.setEndpointMappings(List.of(mappingMock));
+		this.dispatcher.setCacheEndpointResolution(true);
+
+		expect(mappingMock.getEndpoint(this.messageContext)).andReturn(null).times(2);
+
+		replay(mappingMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpoint(this.messageContext)).isNull();
+		assertThat(this.dispatcher.getEndpoint(this.messageContext)).isNull();
+
+		verify(mappingMock, this.factoryMock);
+	}
+
+	@Test
+	void getEndpointWithCachedResolutionDetectsMappingChanges() throws Exception {
+
+		CacheableEndpointMapping firstMock = createCacheableMappingMock();
+		CacheableEndpointMapping secondMock = createCacheableMappingMock();
+		List<EndpointMapping> mappings = new ArrayList<>(List.of(secondMock));
+		this.dispatcher.setEndpointMappings(mappings);
+		this.dispatcher.setCacheEndpointResolution(true);
+
+		EndpointInvocationChain firstChain = new EndpointInvocationChain(new Object());
+		EndpointInvocationChain secondChain = new EndpointInvocationChain(new Object());
+		expect(firstMock.getEndpoint(this.messageContext)).andReturn(firstChain).once();
+		expect(secondMock.getEndpoint(this.messageContext)).andReturn(secondChain).once();
+
+		replay(firstMock, secondMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpoint(this.messageContext)).isEqualTo(secondChain);
+		mappings.add(0, firstMock);
+		assertThat(this.dispatcher.getEndpoint(this.messageContext)).isEqualTo(firstChain);
+
+		verify(firstMock, secondMock, this.factoryMock);
+	}
+
+	@Test
+	void getEndpointAdapterWithCachedResolution() {
+
+		EndpointAdapter adapterMock = createMock(EndpointAdapter.class);
+		this.dispatcher.setEndpointAdapters(Collections.singletonList(adapterMock));
+		this.dispatcher.setCacheEndpointResolution(true);
+
+		Object endpoint = new Object();
+		expect(adapterMock.supports(endpoint)).andReturn(true).once();
+
+		replay(adapterMock, this.factoryMock);
+
+		assertThat(this.dispatcher.getEndpointAdapter(endpoint)).isEqualTo(adapterMock);
+		assertThat(this.dispatcher.getEndpointAdapter(endpoint)).isEqualTo(adapterMock);
+
+		verify(adapterMock, this.factoryMock);
+	}
+
+	private static CacheableEndpointMapping createCacheableMappingMock() {
+		CacheableEndpointMapping mappingMock = createMock(CacheableEndpointMapping.class);
+		expect(mappingMock.getDiscriminator()).andReturn(RequestDiscriminator.SOAP_ACTION).anyTimes();
+		return mappingMock;
+	}
+
 	@Test
 	void testResolveException() throws Exception {
 
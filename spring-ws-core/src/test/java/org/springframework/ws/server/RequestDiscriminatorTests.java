@@ -0,0 +1,80 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.ws.MockWebServiceMessage;
+import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.saaj.test.SaajSoapMessages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RequestDiscriminator}.
+ *
+ * @author Stephane Nicoll
+ */
+class RequestDiscriminatorTests {
+
+	private static final String ADDRESSING_10_NAMESPACE = "http://www.w3.org/2005/08/addressing";
+
+	@Test
+	void wsAddressingActionReadsActionAndTo() throws Exception {
+		Object value = RequestDiscriminator.WS_ADDRESSING_ACTION.getValue(createMessageContext("valid.xml"));
+		assertThat(value).isEqualTo(Map.of(ADDRESSING_10_NAMESPACE,
+				List.of("To=mailto:fabrikam@example.com", "Action=http://example.com/fabrikam/mail/Delete")));
+	}
+
+	@Test
+	void wsAddressingActionIgnoresOtherAddressingHeaders() throws Exception {
+		Object value = RequestDiscriminator.WS_ADDRESSING_ACTION.getValue(createMessageContext("valid.xml"));
+		assertThat(RequestDiscriminator.WS_ADDRESSING_ACTION.getValue(createMessageContext("request-anonymous.xml")))
+			.isEqualTo(value);
+		assertThat(
+				RequestDiscriminator.WS_ADDRESSING_ACTION.getValue(createMessageContext("request-no-message-id.xml")))
+			.isEqualTo(value);
+	}
+
+	@Test
+	void wsAddressingActionDependsOnTo() throws Exception {
+		Object value = RequestDiscriminator.WS_ADDRESSING_ACTION.getValue(createMessageContext("valid.xml"));
+		assertThat(RequestDiscriminator.WS_ADDRESSING_ACTION.getValue(createMessageContext("request-no-to.xml")))
+			.isNotNull()
+			.isNotEqualTo(value);
+	}
+
+	@Test
+	void wsAddressingActionWithNonSoapRequest() throws Exception {
+		MessageContext messageContext = new DefaultMessageContext(new MockWebServiceMessage(),
+				mock(WebServiceMessageFactory.class));
+		assertThat(RequestDiscriminator.WS_ADDRESSING_ACTION.getValue(messageContext)).isNull();
+	}
+
+	private static MessageContext createMessageContext(String name) {
+		return SaajSoapMessages
+			.createMessageContext(new ClassPathResource("org/springframework/ws/soap/addressing/10/" + name));
+	}
+
+}
@@ -17,6 +17,21 @@
 package org.springframework.ws.server.endpoint.adapter.method;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.XPathFactoryConfigurationException;
+import javax.xml.xpath.XPathFunctionResolver;
+import javax.xml.xpath.XPathVariableResolver;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +46,7 @@ import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.endpoint.annotation.Namespace;
 import org.springframework.ws.server.endpoint.annotation.Namespaces;
 import org.springframework.ws.server.endpoint.annotation.XPathParam;
+import org.springframework.xml.transform.TransformerHelper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -164,6 +180,94 @@ class XPathParamMethodArgumentResolverTests {
 		assertThat(s).isEqualTo("text");
 	}
 
+	@Test
+	void resolveStringConcurrently() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				String text = "text" + i;
+				results.add(executor.submit(() -> {
+					MockWebServiceMessage request = new MockWebServiceMessage(
+							"<root><child><text>" + text + "</text></child></root>");
+					return this.resolver.resolveArgument(
+							new DefaultMessageContext(request, new MockWebServiceMessageFactory()),
+							this.stringParameter);
+				}));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertThat(results.get(i).get()).isEqualTo("text" + i);
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void compiledExpressionIsReusedAcrossThreads() throws Exception {
+
+		AtomicInteger compilations = new AtomicInteger();
+		XPathFactory xpathFactory = XPathFactory.newInstance();
+		XPathParamMethodArgumentResolver resolver = new XPathParamMethodArgumentResolver() {
+
+			@Override
+			protected XPathFactory createXPathFactory() {
+				return new XPathFactory() {
+
+					@Override
+					public boolean isObjectModelSupported(String objectModel) {
+						return xpathFactory.isObjectModelSupported(objectModel);
+					}
+
+					@Override
+					public void setFeature(String name, boolean value) throws XPathFactoryConfigurationException {
+						xpathFactory.setFeature(name, value);
+					}
+
+					@Override
+					public boolean getFeature(String name) throws XPathFactoryConfigurationException {
+						return xpathFactory.getFeature(name);
+					}
+
+					@Override
+					public void setXPathVariableResolver(XPathVariableResolver resolver) {
+						xpathFactory.setXPathVariableResolver(resolver);
+					}
+
+					@Override
+					public void setXPathFunctionResolver(XPathFunctionResolver resolver) {
+						xpathFactory.setXPathFunctionResolver(resolver);
+					}
+
+					@Override
+					public XPath newXPath() {
+						compilations.incrementAndGet();
+						return xpathFactory.newXPath();
+					}
+
+				};
+			}
+
+		};
+		for (int i = 0; i < 3; i++) {
+			Thread thread = new Thread(() -> {
+				MockWebServiceMessage request = new MockWebServiceMessage(CONTENTS);
+				try {
+					resolver.resolveArgument(new DefaultMessageContext(request, new MockWebServiceMessageFactory()),
+							this.stringParameter);
+				}
+				catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+			});
+			thread.start();
+			thread.join();
+		}
+		assertThat(compilations).hasValue(1);
+	}
+
 	@Test
 	void resolveConvertedType() throws Exception {
 
@@ -202,6 +306,39 @@ class XPathParamMethodArgumentResolverTests {
 		assertThat(result).isEqualTo("text");
 	}
 
+	@Test
+	void resolveArgumentsTransformsPayloadOnce() throws Exception {
+
+		CountingTransformerHelper transformerHelper = new CountingTransformerHelper();
+		this.resolver.setTransformerHelper(transformerHelper);
+		MockWebServiceMessage request = new MockWebServiceMessage(CONTENTS);
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+
+		assertThat(this.resolver.resolveArgument(messageContext, this.booleanParameter)).isEqualTo(true);
+		assertThat(this.resolver.resolveArgument(messageContext, this.doubleParameter)).isEqualTo(42D);
+		assertThat(this.resolver.resolveArgument(messageContext, this.stringParameter)).isEqualTo("text");
+		assertThat(this.resolver.resolveArgument(messageContext, this.convertedParameter)).isEqualTo(42);
+		assertThat(transformerHelper.count).hasValue(1);
+	}
+
+	@Test
+	void resolveArgumentWithNewRequestTransformsPayloadAgain() throws Exception {
+
+		CountingTransformerHelper transformerHelper = new CountingTransformerHelper();
+		this.resolver.setTransformerHelper(transformerHelper);
+		MessageContext messageContext = new DefaultMessageContext(new MockWebServiceMessage(CONTENTS),
+				new MockWebServiceMessageFactory());
+
+		assertThat(this.resolver.resolveArgument(messageContext, this.stringParameter)).isEqualTo("text");
+
+		messageContext = new DefaultMessageContext(
+				new MockWebServiceMessage("<root><child><text>other</text></child></root>"),
+				new MockWebServiceMessageFactory());
+
+		assertThat(this.resolver.resolveArgument(messageContext, this.stringParameter)).isEqualTo("other");
+		assertThat(transformerHelper.count).hasValue(2);
+	}
+
 	public void unsupported(String s) {
 	}
 
@@ -220,4 +357,16 @@ class XPathParamMethodArgumentResolverTests {
 	public void namespacesClass(@XPathParam("/tns:root") String s) {
 	}
 
+	private static final class CountingTransformerHelper extends TransformerHelper {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public void transform(Source source, Result result) throws TransformerException {
+			this.count.incrementAndGet();
+			super.transform(source, result);
+		}
+
+	}
+
 }
@@ -18,13 +18,17 @@ package org.springframework.ws.server.endpoint.adapter.method.jaxb;
 
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.sax.SAXSource;
 
+import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlType;
@@ -101,6 +105,56 @@ class XmlRootElementPayloadMethodProcessorTests {
 		assertThat(rootElement.getString()).isEqualTo("Foo");
 	}
 
+	@Test
+	void resolveArgumentReusesUnmarshaller() throws JAXBException {
+
+		AtomicInteger created = new AtomicInteger();
+		XmlRootElementPayloadMethodProcessor processor = new XmlRootElementPayloadMethodProcessor() {
+
+			@Override
+			protected Unmarshaller createUnmarshaller(JAXBContext jaxbContext) throws JAXBException {
+				created.incrementAndGet();
+				return super.createUnmarshaller(jaxbContext);
+			}
+		};
+
+		for (int i = 0; i < 3; i++) {
+			WebServiceMessage request = new MockWebServiceMessage(
+					"<root xmlns='http://springframework.org'><string>Foo</string></root>");
+			MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+			MyRootElement rootElement = (MyRootElement) processor.resolveArgument(messageContext,
+					this.rootElementParameter);
+
+			assertThat(rootElement.getString()).isEqualTo("Foo");
+		}
+
+		assertThat(created).hasValue(1);
+	}
+
+	@Test
+	void resolveArgumentWithoutPooling() throws JAXBException {
+
+		AtomicInteger created = new AtomicInteger();
+		XmlRootElementPayloadMethodProcessor processor = new XmlRootElementPayloadMethodProcessor() {
+
+			@Override
+			protected Unmarshaller createUnmarshaller(JAXBContext jaxbContext) throws JAXBException {
+				created.incrementAndGet();
+				return super.createUnmarshaller(jaxbContext);
+			}
+		};
+		processor.setPoolSize(0);
+
+		for (int i = 0; i < 3; i++) {
+			WebServiceMessage request = new MockWebServiceMessage(
+					"<root xmlns='http://springframework.org'><string>Foo</string></root>");
+			MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+			processor.resolveArgument(messageContext, this.rootElementParameter);
+		}
+
+		assertThat(created).hasValue(3);
+	}
+
 	@Test
 	void resolveArgumentType() throws JAXBException {
 
@@ -203,6 +257,38 @@ class XmlRootElementPayloadMethodProcessorTests {
 			.areIdentical();
 	}
 
+	@Test
+	void handleReturnValueReusesMarshaller() throws Exception {
+
+		AtomicInteger created = new AtomicInteger();
+		XmlRootElementPayloadMethodProcessor processor = new XmlRootElementPayloadMethodProcessor() {
+
+			@Override
+			protected Marshaller createMarshaller(JAXBContext jaxbContext) throws JAXBException {
+				created.incrementAndGet();
+				return super.createMarshaller(jaxbContext);
+			}
+		};
+		AxiomSoapMessageFactory axiomMessageFactory = new AxiomSoapMessageFactory();
+
+		for (int i = 0; i < 2; i++) {
+			MyRootElement rootElement = new MyRootElement();
+			rootElement.setString("Foo");
+			MessageContext messageContext = new DefaultMessageContext(new MockWebServiceMessageFactory());
+			processor.handleReturnValue(messageContext, this.rootElementReturnType, rootElement);
+			MessageContext axiomMessageContext = new DefaultMessageContext(axiomMessageFactory);
+			processor.handleReturnValue(axiomMessageContext, this.rootElementReturnType, rootElement);
+			axiomMessageContext.getResponse().writeTo(new ByteArrayOutputStream());
+
+			XmlAssert.assertThat(((MockWebServiceMessage) messageContext.getResponse()).getPayloadAsString())
+				.and("<root xmlns='http://springframework.org'><string>Foo</string></root>")
+				.ignoreWhitespace()
+				.areIdentical();
+		}
+
+		assertThat(created).hasValue(1);
+	}
+
 	@Test
 	void handleNullReturnValue() throws Exception {
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.interceptor;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+
+import javax.xml.transform.TransformerFactory;
+
+import jakarta.xml.soap.MessageFactory;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.xmlunit.assertj.XmlAssert;
+
+import org.springframework.ws.MockWebServiceMessage;
+import org.springframework.ws.MockWebServiceMessageFactory;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.MethodEndpoint;
+import org.springframework.ws.server.endpoint.annotation.CacheableResponse;
+import org.springframework.ws.soap.axiom.AxiomSoapMessageFactory;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.ws.transport.MockTransportInputStream;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCachingInterceptorTests {
+
+	private final ResponseCachingInterceptor interceptor = new ResponseCachingInterceptor();
+
+	@Test
+	void shouldIntercept() throws Exception {
+		MessageContext context = createMessageContext("<request xmlns='urn:test'>1</request>");
+		assertThat(this.interceptor.shouldIntercept(context, new MethodEndpoint(new MyEndpoint(), "lookup"))).isTrue();
+		assertThat(this.interceptor.shouldIntercept(context, new MethodEndpoint(new MyEndpoint(), "update")))
+			.isFalse();
+	}
+
+	@Test
+	void identicalRequestIsServedFromCache() throws Exception {
+		MethodEndpoint endpoint = new MethodEndpoint(new MyEndpoint(), "lookup");
+		process(endpoint, "<request xmlns='urn:test'>1</request>", "<response xmlns='urn:test'>42</response>");
+
+		MessageContext context = createMessageContext("<request xmlns='urn:test'>1</request>");
+		assertThat(this.interceptor.handleRequest(context, endpoint)).isFalse();
+		assertThat(context.hasResponse()).isTrue();
+		XmlAssert.assertThat(((MockWebServiceMessage) context.getResponse()).getPayloadAsString())
+			.and("<response xmlns='urn:test'>42</response>")
+			.areSimilar();
+	}
+
+	@Test
+	void differentRequestIsNotServedFromCache() throws Exception {
+		MethodEndpoint endpoint = new MethodEndpoint(new MyEndpoint(), "lookup");
+		process(endpoint, "<request xmlns='urn:test'>1</request>", "<response xmlns='urn:test'>42</response>");
+
+		MessageContext context = createMessageContext("<request xmlns='urn:test'>2</request>");
+		assertThat(this.interceptor.handleRequest(context, endpoint)).isTrue();
+		assertThat(context.hasResponse()).isFalse();
+	}
+
+	@Test
+	void expiredResponseIsNotServedFromCache() throws Exception {
+		this.interceptor.setTimeToLive(Duration.ZERO);
+		MethodEndpoint endpoint = new MethodEndpoint(new MyEndpoint(), "lookup");
+		process(endpoint, "<request xmlns='urn:test'>1</request>", "<response xmlns='urn:test'>42</response>");
+
+		MessageContext context = createMessageContext("<request xmlns='urn:test'>1</request>");
+		assertThat(this.interceptor.handleRequest(context, endpoint)).isTrue();
+	}
+
+	@Test
+	void responseOfOtherMethodIsNotCached() throws Exception {
+		MethodEndpoint endpoint = new MethodEndpoint(new MyEndpoint(), "update");
+		process(endpoint, "<request xmlns='urn:test'>1</request>", "<response xmlns='urn:test'>42</response>");
+
+		MessageContext context = createMessageContext("<request xmlns='urn:test'>1</request>");
+		assertThat(this.interceptor.handleRequest(context, endpoint)).isTrue();
+	}
+
+	@Test
+	void requestWithNonCachedAxiomPayloadIsNotConsumed() throws Exception {
+		AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+		messageFactory.setPayloadCaching(false);
+		messageFactory.afterPropertiesSet();
+		String xml = "<soapenv:Envelope xmlns:soapenv='http://schemas.xmlsoap.org/soap/envelope/'><soapenv:Body>"
+				+ "<request xmlns='urn:test'>1</request></soapenv:Body></soapenv:Envelope>";
+		WebServiceMessage request = messageFactory
+			.createWebServiceMessage(new MockTransportInputStream(new ByteArrayInputStream(xml.getBytes())));
+		MessageContext context = new DefaultMessageContext(request, messageFactory);
+		MethodEndpoint endpoint = new MethodEndpoint(new MyEndpoint(), "lookup");
+
+		assertThat(this.interceptor.handleRequest(context, endpoint)).isTrue();
+		StringResult result = new StringResult();
+		TransformerFactory.newInstance().newTransformer().transform(request.getPayloadSource(), result);
+		XmlAssert.assertThat(result.toString()).and("<request xmlns='urn:test'>1</request>").areSimilar();
+	}
+
+	@Test
+	void requestWithDifferentSoapHeaderIsNotServedFromCache() throws Exception {
+		MethodEndpoint endpoint = new MethodEndpoint(new MyEndpoint(), "lookup");
+		MessageContext context = createSoapMessageContext("<tenant xmlns='urn:test'>a</tenant>");
+		assertThat(this.interceptor.handleRequest(context, endpoint)).isTrue();
+		TransformerFactory.newInstance()
+			.newTransformer()
+			.transform(new StringSource("<response xmlns='urn:test'>42</response>"),
+					context.getResponse().getPayloadResult());
+		assertThat(this.interceptor.handleResponse(context, endpoint)).isTrue();
+
+		MessageContext sameHeader = createSoapMessageContext("<tenant xmlns='urn:test'>a</tenant>");
+		assertThat(this.interceptor.handleRequest(sameHeader, endpoint)).isFalse();
+		MessageContext otherHeader = createSoapMessageContext("<tenant xmlns='urn:test'>b</tenant>");
+		assertThat(this.interceptor.handleRequest(otherHeader, endpoint)).isTrue();
+		assertThat(otherHeader.hasResponse()).isFalse();
+		MessageContext noHeader = createSoapMessageContext(null);
+		assertThat(this.interceptor.handleRequest(noHeader, endpoint)).isTrue();
+		assertThat(noHeader.hasResponse()).isFalse();
+	}
+
+	@Test
+	void leastRecentlyUsedResponseIsEvicted() throws Exception {
+		this.interceptor.setMaxEntries(2);
+		MethodEndpoint endpoint = new MethodEndpoint(new MyEndpoint(), "lookup");
+		process(endpoint, "<request xmlns='urn:test'>1</request>", "<response xmlns='urn:test'>1</response>");
+		process(endpoint, "<request xmlns='urn:test'>2</request>", "<response xmlns='urn:test'>2</response>");
+		assertThat(this.interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'>1</request>"),
+				endpoint))
+			.isFalse();
+		process(endpoint, "<request xmlns='urn:test'>3</request>", "<response xmlns='urn:test'>3</response>");
+
+		assertThat(this.interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'>1</request>"),
+				endpoint))
+			.isFalse();
+		assertThat(this.interceptor.handleRequest(createMessageContext("<request xmlns='urn:test'>2</request>"),
+				endpoint))
+			.isTrue();
+	}
+
+	private MessageContext createSoapMessageContext(@Nullable String headerElement) throws Exception {
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory(MessageFactory.newInstance());
+		String xml = "<soapenv:Envelope xmlns:soapenv='http://schemas.xmlsoap.org/soap/envelope/'>"
+				+ ((headerElement != null) ? "<soapenv:Header>" + headerElement + "</soapenv:Header>" : "")
+				+ "<soapenv:Body><request xmlns='urn:test'>1</request></soapenv:Body></soapenv:Envelope>";
+		WebServiceMessage request = messageFactory
+			.createWebServiceMessage(new MockTransportInputStream(new ByteArrayInputStream(xml.getBytes())));
+		return new DefaultMessageContext(request, messageFactory);
+	}
+
+	private void process(MethodEndpoint endpoint, String request, String response) throws Exception {
+		MessageContext context = createMessageContext(request);
+		assertThat(this.interceptor.handleRequest(context, endpoint)).isTrue();
+		((MockWebServiceMessage) context.getResponse()).setPayload(response);
+		assertThat(this.interceptor.handleResponse(context, endpoint)).isTrue();
+	}
+
+	private MessageContext createMessageContext(String request) {
+		return new DefaultMessageContext(new MockWebServiceMessage(request), new MockWebServiceMessageFactory());
+	}
+
+	static class MyEndpoint {
+
+		@CacheableResponse
+		public void lookup() {
+		}
+
+		public void update() {
+		}
+
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.server.endpoint.mapping;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.ws.server.endpoint.annotation.Endpoint;
+import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndpointBeanFactoryInitializationAotProcessorTests {
+
+	private final EndpointBeanFactoryInitializationAotProcessor processor =
+			new EndpointBeanFactoryInitializationAotProcessor();
+
+	@Test
+	void processWithEndpoint() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("endpoint", new RootBeanDefinition(SampleEndpoint.class));
+		beanFactory.registerBeanDefinition("other", new RootBeanDefinition(Object.class));
+		assertThat(this.processor.processAheadOfTime(beanFactory)).isNotNull();
+	}
+
+	@Test
+	void processWithoutEndpoint() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("other", new RootBeanDefinition(Object.class));
+		assertThat(this.processor.processAheadOfTime(beanFactory)).isNull();
+	}
+
+	@Endpoint
+	static class SampleEndpoint {
+
+		@PayloadRoot(localPart = "Request", namespace = "http://springframework.org/spring-ws")
+		public void doIt() {
+		}
+
+	}
+
+}
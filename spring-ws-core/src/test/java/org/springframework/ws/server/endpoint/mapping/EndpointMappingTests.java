@@ -16,22 +16,36 @@
 
 package org.springframework.ws.server.endpoint.mapping;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.ws.MockWebServiceMessage;
 import org.springframework.ws.MockWebServiceMessageFactory;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.CacheableSmartEndpointInterceptor;
 import org.springframework.ws.server.EndpointInterceptor;
 import org.springframework.ws.server.EndpointInvocationChain;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.server.SmartEndpointInterceptor;
 import org.springframework.ws.server.endpoint.interceptor.DelegatingSmartEndpointInterceptor;
 import org.springframework.ws.server.endpoint.interceptor.EndpointInterceptorAdapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -177,6 +191,140 @@ class EndpointMappingTests {
 		verify(secondInterceptor).shouldIntercept(this.messageContext, endpoint);
 	}
 
+	@Test
+	void cachedInvocationChainIsReused() throws Exception {
+		Object endpoint = new Object();
+		CacheableSmartEndpointInterceptor interceptor = mock(CacheableSmartEndpointInterceptor.class);
+		given(interceptor.getDiscriminator()).willReturn(RequestDiscriminator.PAYLOAD_ROOT_QNAME);
+		given(interceptor.shouldIntercept(this.messageContext, endpoint)).willReturn(true);
+
+		AbstractEndpointMapping mapping = new AbstractEndpointMapping() {
+			@Override
+			protected Object getEndpointInternal(MessageContext givenRequest) {
+				return endpoint;
+			}
+		};
+		mapping.setCacheInvocationChains(true);
+		mapping.setInterceptors(new EndpointInterceptor[] { interceptor });
+		EndpointInvocationChain first = mapping.getEndpoint(this.messageContext);
+		EndpointInvocationChain second = mapping.getEndpoint(this.messageContext);
+		assertThat(first).isNotNull();
+		assertThat(first.getInterceptors()).singleElement().isSameAs(interceptor);
+		assertThat(second).isSameAs(first);
+		verify(interceptor, times(1)).shouldIntercept(this.messageContext, endpoint);
+	}
+
+	@Test
+	void cachedInvocationChainDependsOnDiscriminator() throws Exception {
+		Object endpoint = new Object();
+		CacheableSmartEndpointInterceptor interceptor = mock(CacheableSmartEndpointInterceptor.class);
+		given(interceptor.getDiscriminator()).willReturn(RequestDiscriminator.PAYLOAD_ROOT_QNAME);
+		MessageContext fooContext = new DefaultMessageContext(
+				new MockWebServiceMessage("<foo xmlns='http://springframework.org'/>"),
+				new MockWebServiceMessageFactory());
+		MessageContext barContext = new DefaultMessageContext(
+				new MockWebServiceMessage("<bar xmlns='http://springframework.org'/>"),
+				new MockWebServiceMessageFactory());
+		given(interceptor.shouldIntercept(fooContext, endpoint)).willReturn(true);
+		given(interceptor.shouldIntercept(barContext, endpoint)).willReturn(false);
+
+		AbstractEndpointMapping mapping = new AbstractEndpointMapping() {
+			@Override
+			protected Object getEndpointInternal(MessageContext givenRequest) {
+				return endpoint;
+			}
+		};
+		mapping.setCacheInvocationChains(true);
+		mapping.setInterceptors(new EndpointInterceptor[] { interceptor });
+		assertThat(mapping.getEndpoint(fooContext).getInterceptors()).singleElement().isSameAs(interceptor);
+		assertThat(mapping.getEndpoint(barContext).getInterceptors()).isEmpty();
+	}
+
+	@Test
+	void cachedInvocationChainsAreEvictedWhenCacheIsFull() throws Exception {
+		Object endpoint = new Object();
+		CacheableSmartEndpointInterceptor interceptor = mock(CacheableSmartEndpointInterceptor.class);
+		given(interceptor.getDiscriminator()).willReturn(RequestDiscriminator.PAYLOAD_ROOT_QNAME);
+		given(interceptor.shouldIntercept(any(), eq(endpoint))).willReturn(true);
+
+		AbstractEndpointMapping mapping = new AbstractEndpointMapping() {
+			@Override
+			protected Object getEndpointInternal(MessageContext givenRequest) {
+				return endpoint;
+			}
+		};
+		mapping.setCacheInvocationChains(true);
+		mapping.setInterceptors(new EndpointInterceptor[] { interceptor });
+		MessageContext first = createPayloadRootContext("first");
+		mapping.getEndpoint(first);
+		for (int i = 0; i < 1024; i++) {
+			mapping.getEndpoint(createPayloadRootContext("request" + i));
+		}
+		mapping.getEndpoint(first);
+		verify(interceptor, times(2)).shouldIntercept(first, endpoint);
+	}
+
+	@Test
+	void concurrentLookupsCreateSingleInvocationChain() throws Exception {
+		Object endpoint = new Object();
+		CountDownLatch lookups = new CountDownLatch(4);
+		CacheableSmartEndpointInterceptor interceptor = mock(CacheableSmartEndpointInterceptor.class);
+		given(interceptor.getDiscriminator()).willReturn(RequestDiscriminator.SOAP_ACTION);
+		given(interceptor.shouldIntercept(this.messageContext, endpoint)).willAnswer((invocation) -> {
+			lookups.await(1, TimeUnit.SECONDS);
+			return true;
+		});
+
+		AbstractEndpointMapping mapping = new AbstractEndpointMapping() {
+			@Override
+			protected Object getEndpointInternal(MessageContext givenRequest) {
+				lookups.countDown();
+				return endpoint;
+			}
+		};
+		mapping.setCacheInvocationChains(true);
+		mapping.setInterceptors(new EndpointInterceptor[] { interceptor });
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<EndpointInvocationChain>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				results.add(executor.submit(() -> mapping.getEndpoint(this.messageContext)));
+			}
+			EndpointInvocationChain first = results.get(0).get();
+			for (Future<EndpointInvocationChain> result : results) {
+				assertThat(result.get()).isSameAs(first);
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		verify(interceptor, times(1)).shouldIntercept(this.messageContext, endpoint);
+	}
+
+	@Test
+	void invocationChainNotCachedWithNonCacheableSmartInterceptor() throws Exception {
+		Object endpoint = new Object();
+		CacheableSmartEndpointInterceptor cacheableInterceptor = mock(CacheableSmartEndpointInterceptor.class);
+		given(cacheableInterceptor.getDiscriminator()).willReturn(RequestDiscriminator.SOAP_ACTION);
+		given(cacheableInterceptor.shouldIntercept(this.messageContext, endpoint)).willReturn(true);
+		SmartEndpointInterceptor smartInterceptor = mock(SmartEndpointInterceptor.class);
+		given(smartInterceptor.shouldIntercept(this.messageContext, endpoint)).willReturn(true);
+
+		AbstractEndpointMapping mapping = new AbstractEndpointMapping() {
+			@Override
+			protected Object getEndpointInternal(MessageContext givenRequest) {
+				return endpoint;
+			}
+		};
+		mapping.setCacheInvocationChains(true);
+		mapping.setInterceptors(new EndpointInterceptor[] { cacheableInterceptor, smartInterceptor });
+		EndpointInvocationChain first = mapping.getEndpoint(this.messageContext);
+		EndpointInvocationChain second = mapping.getEndpoint(this.messageContext);
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getInterceptors()).containsExactly(cacheableInterceptor, smartInterceptor);
+		verify(smartInterceptor, times(2)).shouldIntercept(this.messageContext, endpoint);
+	}
+
 	@Test
 	void endpointBeanName() throws Exception {
 
@@ -245,6 +393,12 @@ class EndpointMappingTests {
 		assertThat(MyEndpoint.constructorCount).isEqualTo(2);
 	}
 
+	private static MessageContext createPayloadRootContext(String localName) {
+		return new DefaultMessageContext(
+				new MockWebServiceMessage("<" + localName + " xmlns='http://springframework.org'/>"),
+				new MockWebServiceMessageFactory());
+	}
+
 	private static final class MyEndpoint {
 
 		private static int constructorCount;
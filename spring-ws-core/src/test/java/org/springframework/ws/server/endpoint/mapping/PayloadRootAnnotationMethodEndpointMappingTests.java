@@ -30,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.ws.context.DefaultMessageContext;
@@ -112,6 +113,22 @@ class PayloadRootAnnotationMethodEndpointMappingTests {
 		assertThat(this.mapping.lookupEndpoint(new QName("http://springframework.org/spring-ws", "Invalid"))).isNull();
 	}
 
+	@Test
+	void registrationWithEndpointIndex() {
+
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.registerSingleton("endpoint", MyEndpoint.class);
+		context.registerSingleton("otherEndpoint", OtherEndpoint.class);
+		context.getBeanFactory().registerSingleton(EndpointIndex.BEAN_NAME, new EndpointIndex("endpoint"));
+		context.refresh();
+
+		PayloadRootAnnotationMethodEndpointMapping mapping = new PayloadRootAnnotationMethodEndpointMapping();
+		mapping.setApplicationContext(context);
+
+		assertThat(mapping.lookupEndpoint(new QName("http://springframework.org/spring-ws", "Request"))).isNotNull();
+		assertThat(mapping.lookupEndpoint(new QName("http://springframework.org/spring-ws", "Other"))).isNull();
+	}
+
 	@Test
 	void invoke() throws Exception {
 
@@ -169,6 +186,16 @@ class PayloadRootAnnotationMethodEndpointMappingTests {
 
 	}
 
+	@Endpoint
+	static class OtherEndpoint {
+
+		@PayloadRoot(localPart = "Other", namespace = "http://springframework.org/spring-ws")
+		public void doIt() {
+
+		}
+
+	}
+
 	static class OtherBean {
 
 		@PayloadRoot(localPart = "Invalid", namespace = "http://springframework.org/spring-ws")
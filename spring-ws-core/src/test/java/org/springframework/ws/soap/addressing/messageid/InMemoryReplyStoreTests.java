@@ -0,0 +1,123 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.messageid;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.soap.addressing.messageid.ReplyStore.Ticket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class InMemoryReplyStoreTests {
+
+	private static final URI MESSAGE_ID = URI.create("urn:uuid:1234");
+
+	private static final URI OTHER_MESSAGE_ID = URI.create("urn:uuid:5678");
+
+	private final InMemoryReplyStore store = new InMemoryReplyStore();
+
+	@Test
+	void firstRequestIsProcessed() throws Exception {
+		assertThat(this.store.begin(MESSAGE_ID).getReply()).isNull();
+	}
+
+	@Test
+	void duplicateRequestReplaysReply() throws Exception {
+		Ticket ticket = this.store.begin(MESSAGE_ID);
+		ticket.complete(new byte[] { 1, 2, 3 });
+		assertThat(this.store.begin(MESSAGE_ID).getReply()).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void duplicateRequestAfterAbandonIsProcessed() throws Exception {
+		Ticket ticket = this.store.begin(MESSAGE_ID);
+		ticket.abandon();
+		assertThat(this.store.begin(MESSAGE_ID).getReply()).isNull();
+	}
+
+	@Test
+	void duplicateRequestAfterTimeToLiveIsProcessed() throws Exception {
+		this.store.setClock(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+		this.store.setTimeToLive(Duration.ofMinutes(1));
+		this.store.begin(MESSAGE_ID).complete(new byte[] { 1 });
+		this.store.setClock(Clock.fixed(Instant.EPOCH.plus(Duration.ofMinutes(2)), ZoneOffset.UTC));
+		assertThat(this.store.begin(MESSAGE_ID).getReply()).isNull();
+	}
+
+	@Test
+	void oldestReplyIsEvicted() throws Exception {
+		this.store.setMaxEntries(1);
+		this.store.begin(MESSAGE_ID).complete(new byte[] { 1 });
+		this.store.begin(OTHER_MESSAGE_ID).complete(new byte[] { 2 });
+		assertThat(this.store.begin(OTHER_MESSAGE_ID).getReply()).containsExactly(2);
+		assertThat(this.store.begin(MESSAGE_ID).getReply()).isNull();
+	}
+
+	@Test
+	void inFlightRequestIsNotEvicted() throws Exception {
+		this.store.setMaxEntries(1);
+		this.store.setWaitTimeout(Duration.ofMillis(10));
+		Ticket ticket = this.store.begin(MESSAGE_ID);
+		this.store.begin(OTHER_MESSAGE_ID).complete(new byte[] { 2 });
+		this.store.begin(URI.create("urn:uuid:9012")).complete(new byte[] { 3 });
+		assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> this.store.begin(MESSAGE_ID));
+		ticket.complete(new byte[] { 1 });
+		assertThat(this.store.begin(MESSAGE_ID).getReply()).containsExactly(1);
+	}
+
+	@Test
+	void inFlightDuplicateWaitsForReply() throws Exception {
+		Ticket ticket = this.store.begin(MESSAGE_ID);
+		CompletableFuture<byte[]> duplicate = CompletableFuture.supplyAsync(() -> {
+			try {
+				return this.store.begin(MESSAGE_ID).getReply();
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		ticket.complete(new byte[] { 1 });
+		assertThat(duplicate.get(5, TimeUnit.SECONDS)).containsExactly(1);
+	}
+
+	@Test
+	void inFlightDuplicateTimesOut() throws Exception {
+		this.store.setWaitTimeout(Duration.ofMillis(10));
+		assertThat(this.store.begin(MESSAGE_ID).getReply()).isNull();
+		assertThatExceptionOfType(TimeoutException.class).isThrownBy(() -> this.store.begin(MESSAGE_ID));
+	}
+
+	@Test
+	void replayedTicketCannotBeCompleted() throws Exception {
+		this.store.begin(MESSAGE_ID).complete(new byte[] { 1 });
+		Ticket ticket = this.store.begin(MESSAGE_ID);
+		assertThatIllegalStateException().isThrownBy(() -> ticket.complete(new byte[] { 2 }));
+		assertThat(this.store.begin(MESSAGE_ID).getReply()).containsExactly(1);
+	}
+
+}
@@ -28,6 +28,7 @@ import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.soap.SoapHeaderElement;
 import org.springframework.ws.soap.SoapMessage;
 import org.springframework.ws.soap.addressing.AbstractWsAddressingTests;
+import org.springframework.ws.soap.addressing.messageid.InMemoryReplyStore;
 import org.springframework.ws.soap.addressing.messageid.MessageIdStrategy;
 import org.springframework.ws.soap.addressing.version.AddressingVersion;
 import org.springframework.ws.soap.saaj.SaajSoapMessage;
@@ -323,6 +324,69 @@ public abstract class AbstractAddressingInterceptorTests extends AbstractWsAddre
 		verify(this.strategyMock, senderMock);
 	}
 
+	@Test
+	void testDuplicateRequestReplaysReply() throws Exception {
+
+		InMemoryReplyStore replyStore = new InMemoryReplyStore();
+		SaajSoapMessageFactory soapMessageFactory = new SaajSoapMessageFactory(this.messageFactory);
+		URI replyAction = new URI("urn:replyAction");
+		URI faultAction = new URI("urn:faultAction");
+		MessageContext context = new DefaultMessageContext(loadSaajMessage(getTestPath() + "/request-anonymous.xml"),
+				soapMessageFactory);
+
+		expect(this.strategyMock.newMessageId((SoapMessage) context.getResponse())).andReturn(new URI("uid:1234"));
+		replay(this.strategyMock);
+
+		AddressingEndpointInterceptor first = new AddressingEndpointInterceptor(getVersion(), this.strategyMock,
+				new WebServiceMessageSender[0], replyAction, faultAction, replyStore);
+		assertThat(first.handleRequest(context, null)).isTrue();
+		assertThat(first.handleResponse(context, null)).isTrue();
+		first.afterCompletion(context, null, null);
+
+		MessageContext duplicate = new DefaultMessageContext(
+				loadSaajMessage(getTestPath() + "/request-anonymous.xml"), soapMessageFactory);
+		AddressingEndpointInterceptor second = new AddressingEndpointInterceptor(getVersion(), this.strategyMock,
+				new WebServiceMessageSender[0], replyAction, faultAction, replyStore);
+		assertThat(second.handleRequest(duplicate, null)).isFalse();
+		assertThat(duplicate.hasResponse()).isTrue();
+		assertThat(second.handleResponse(duplicate, null)).isTrue();
+
+		assertXMLSimilar((SaajSoapMessage) context.getResponse(), (SaajSoapMessage) duplicate.getResponse());
+
+		verify(this.strategyMock);
+	}
+
+	@Test
+	void testDuplicateRequestAfterFaultIsProcessed() throws Exception {
+
+		InMemoryReplyStore replyStore = new InMemoryReplyStore();
+		SaajSoapMessageFactory soapMessageFactory = new SaajSoapMessageFactory(this.messageFactory);
+		URI replyAction = new URI("urn:replyAction");
+		URI faultAction = new URI("urn:faultAction");
+		MessageContext context = new DefaultMessageContext(loadSaajMessage(getTestPath() + "/request-anonymous.xml"),
+				soapMessageFactory);
+		SaajSoapMessage response = (SaajSoapMessage) context.getResponse();
+		response.getSoapBody().addServerOrReceiverFault("Error", Locale.ENGLISH);
+
+		expect(this.strategyMock.newMessageId(response)).andReturn(new URI("uid:1234")).anyTimes();
+		replay(this.strategyMock);
+
+		AddressingEndpointInterceptor first = new AddressingEndpointInterceptor(getVersion(), this.strategyMock,
+				new WebServiceMessageSender[0], replyAction, faultAction, replyStore);
+		assertThat(first.handleRequest(context, null)).isTrue();
+		first.handleFault(context, null);
+		first.afterCompletion(context, null, null);
+
+		MessageContext duplicate = new DefaultMessageContext(
+				loadSaajMessage(getTestPath() + "/request-anonymous.xml"), soapMessageFactory);
+		AddressingEndpointInterceptor second = new AddressingEndpointInterceptor(getVersion(), this.strategyMock,
+				new WebServiceMessageSender[0], replyAction, faultAction, replyStore);
+		assertThat(second.handleRequest(duplicate, null)).isTrue();
+		assertThat(duplicate.hasResponse()).isFalse();
+
+		verify(this.strategyMock);
+	}
+
 	protected abstract AddressingVersion getVersion();
 
 	protected abstract String getTestPath();
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.soap.addressing.version;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+
+import jakarta.xml.soap.MessageFactory;
+import jakarta.xml.soap.SOAPConstants;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.SoapMessageFactory;
+import org.springframework.ws.soap.SoapVersion;
+import org.springframework.ws.soap.addressing.core.EndpointReference;
+import org.springframework.ws.soap.addressing.core.MessageAddressingProperties;
+import org.springframework.ws.soap.axiom.AxiomSoapMessageFactory;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.ws.transport.MockTransportInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Addressing10}.
+ *
+ * @author Stephane Nicoll
+ */
+class Addressing10Tests {
+
+	private final Addressing10 version = new Addressing10();
+
+	@Test
+	void getMessageAddressingPropertiesFromDomHeader() throws Exception {
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory(
+				MessageFactory.newInstance(SOAPConstants.SOAP_1_2_PROTOCOL));
+		assertMessageAddressingProperties(loadMessage(messageFactory));
+	}
+
+	@Test
+	void getMessageAddressingPropertiesFromStaxHeader() throws Exception {
+		AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+		messageFactory.setSoapVersion(SoapVersion.SOAP_12);
+		assertMessageAddressingProperties(loadMessage(messageFactory));
+	}
+
+	private SoapMessage loadMessage(SoapMessageFactory messageFactory) throws Exception {
+		try (InputStream is = getClass().getResourceAsStream("request-reference-parameters.xml")) {
+			assertThat(is).isNotNull();
+			return messageFactory.createWebServiceMessage(
+					new MockTransportInputStream(is, Map.of("Content-Type", "application/soap+xml")));
+		}
+	}
+
+	private void assertMessageAddressingProperties(SoapMessage message) throws Exception {
+		MessageAddressingProperties properties = this.version.getMessageAddressingProperties(message);
+		assertThat(properties.getTo()).isEqualTo(new URI("mailto:fabrikam@example.com"));
+		assertThat(properties.getAction()).isEqualTo(new URI("http://example.com/fabrikam/mail/Delete"));
+		assertThat(properties.getMessageId()).isEqualTo(new URI("http://example.com/someuniquestring"));
+		assertThat(properties.getFrom()).isNull();
+		assertThat(properties.getFaultTo()).isNotNull();
+		assertThat(this.version.hasAnonymousAddress(properties.getFaultTo())).isTrue();
+		EndpointReference replyTo = properties.getReplyTo();
+		assertThat(replyTo).isNotNull();
+		assertThat(replyTo.getAddress()).isEqualTo(new URI("http://example.com/business/client1"));
+		assertThat(replyTo.getReferenceProperties()).isEmpty();
+		assertThat(replyTo.getReferenceParameters()).hasSize(2);
+		Element customerKey = (Element) replyTo.getReferenceParameters().get(0);
+		assertThat(customerKey.getNamespaceURI()).isEqualTo("http://example.com/customer");
+		assertThat(customerKey.getLocalName()).isEqualTo("CustomerKey");
+		assertThat(customerKey.getAttributeNS("http://example.com/customer", "type")).isEqualTo("id");
+		assertThat(customerKey.getTextContent()).isEqualTo("Fabrikam123");
+		Element shoppingCart = (Element) replyTo.getReferenceParameters().get(1);
+		assertThat(shoppingCart.getLocalName()).isEqualTo("ShoppingCart");
+		assertThat(shoppingCart.getFirstChild().getLocalName()).isEqualTo("Item");
+		assertThat(shoppingCart.getTextContent()).isEqualTo("42");
+	}
+
+}
@@ -23,6 +23,8 @@ import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.xmlunit.assertj.XmlAssert;
 
 import org.springframework.ws.InvalidXmlException;
@@ -149,4 +151,32 @@ public class AxiomSoap11MessageFactoryTests extends AbstractSoap11MessageFactory
 		XmlAssert.assertThat(result.toString()).and(expectedPayload).ignoreWhitespace().areIdentical();
 	}
 
+	@Test
+	void testDomCompatibleDocumentAccess() throws Exception {
+
+		AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+		messageFactory.setDomCompatible(true);
+		messageFactory.afterPropertiesSet();
+
+		String xml = "<soapenv:Envelope xmlns:soapenv='http://schemas.xmlsoap.org/soap/envelope/'><soapenv:Body>"
+				+ "<root xmlns='http://springframework.org/spring-ws'/></soapenv:Body></soapenv:Envelope>";
+		TransportInputStream tis = new MockTransportInputStream(new ByteArrayInputStream(xml.getBytes()));
+		AxiomSoapMessage message = messageFactory.createWebServiceMessage(tis);
+		Document document = message.getDocument();
+
+		assertThat(document).isSameAs(((Element) message.getAxiomMessage().getSOAPEnvelope()).getOwnerDocument());
+
+		Element root = (Element) document.getElementsByTagNameNS("http://springframework.org/spring-ws", "root")
+			.item(0);
+		root.appendChild(document.createElementNS("http://springframework.org/spring-ws", "child"));
+		message.setDocument(document);
+
+		StringResult result = new StringResult();
+		this.transformer.transform(message.getPayloadSource(), result);
+		XmlAssert.assertThat(result.toString())
+			.and("<root xmlns='http://springframework.org/spring-ws'><child/></root>")
+			.ignoreWhitespace()
+			.areIdentical();
+	}
+
 }
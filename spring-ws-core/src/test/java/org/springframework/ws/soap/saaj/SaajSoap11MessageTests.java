@@ -18,6 +18,8 @@ package org.springframework.ws.soap.saaj;
 
 import java.util.Iterator;
 
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 
@@ -27,6 +29,8 @@ import jakarta.xml.soap.SOAPBodyElement;
 import jakarta.xml.soap.SOAPConstants;
 import jakarta.xml.soap.SOAPMessage;
 import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.xmlunit.assertj.XmlAssert;
 
 import org.springframework.ws.soap.SoapMessage;
@@ -100,4 +104,44 @@ class SaajSoap11MessageTests extends AbstractSoap11MessageTests {
 		assertThat(bodyElement.getElementName().getLocalName()).isEqualTo("child");
 	}
 
+	@Test
+	void getDocumentInPlace() throws Exception {
+
+		SaajSoapMessage message = (SaajSoapMessage) this.soapMessage;
+		message.setInPlaceDocumentAccess(true);
+		Document document = message.getDocument();
+
+		assertThat(document).isSameAs(this.saajMessage.getSOAPPart());
+
+		Element body = (Element) document.getDocumentElement().getElementsByTagNameNS("*", "Body").item(0);
+		body.appendChild(document.createElementNS("urn:test", "child"));
+		message.setDocument(document);
+
+		assertThat(message.getSaajMessage()).isSameAs(this.saajMessage);
+		assertThat(message.getSoapBody().getPayloadRoot()).isNotNull();
+		assertThat(message.getSoapBody().getPayloadRoot().getLocalName()).isEqualTo("child");
+	}
+
+	@Test
+	void setDocumentInPlace() throws Exception {
+
+		SaajSoapMessage message = (SaajSoapMessage) this.soapMessage;
+		message.setInPlaceDocumentAccess(true);
+		DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+		documentBuilderFactory.setNamespaceAware(true);
+		DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
+		Document document = documentBuilder.newDocument();
+		Element envelope = document.createElementNS(SOAPConstants.URI_NS_SOAP_1_1_ENVELOPE, "SOAP-ENV:Envelope");
+		document.appendChild(envelope);
+		Element body = document.createElementNS(SOAPConstants.URI_NS_SOAP_1_1_ENVELOPE, "SOAP-ENV:Body");
+		envelope.appendChild(body);
+		body.appendChild(document.createElementNS("urn:test", "child"));
+		message.setDocument(document);
+
+		assertThat(message.getSaajMessage()).isSameAs(this.saajMessage);
+		StringResult result = new StringResult();
+		this.transformer.transform(message.getPayloadSource(), result);
+		XmlAssert.assertThat(result.toString()).and("<child xmlns='urn:test'/>").ignoreWhitespace().areIdentical();
+	}
+
 }
@@ -24,6 +24,7 @@ import org.springframework.ws.MockWebServiceMessageFactory;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.server.endpoint.interceptor.EndpointInterceptorAdapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -103,4 +104,13 @@ class PayloadRootSmartSoapEndpointInterceptorTests {
 		assertThat(result).isFalse();
 	}
 
+	@Test
+	void discriminator() {
+
+		PayloadRootSmartSoapEndpointInterceptor interceptor = new PayloadRootSmartSoapEndpointInterceptor(this.delegate,
+				this.namespaceUri, this.localPart);
+
+		assertThat(interceptor.getDiscriminator()).isEqualTo(RequestDiscriminator.PAYLOAD_ROOT_QNAME);
+	}
+
 }
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.ws.context.DefaultMessageContext;
 import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.EndpointInterceptor;
+import org.springframework.ws.server.RequestDiscriminator;
 import org.springframework.ws.server.endpoint.interceptor.EndpointInterceptorAdapter;
 import org.springframework.ws.soap.saaj.SaajSoapMessage;
 import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
@@ -79,4 +80,13 @@ class SoapActionSmartEndpointInterceptorTests {
 		assertThat(result).isFalse();
 	}
 
+	@Test
+	void discriminator() {
+
+		SoapActionSmartEndpointInterceptor interceptor = new SoapActionSmartEndpointInterceptor(this.delegate,
+				this.soapAction);
+
+		assertThat(interceptor.getDiscriminator()).isEqualTo(RequestDiscriminator.SOAP_ACTION);
+	}
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ws.transport.MockTransportInputStream;
+import org.springframework.ws.transport.MockTransportOutputStream;
+import org.springframework.ws.transport.TransportInputStream;
+import org.springframework.ws.transport.TransportOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AsyncPayloadLogger}.
+ *
+ * @author Stephane Nicoll
+ */
+class AsyncPayloadLoggerTests {
+
+	private final AsyncPayloadLogger payloadLogger = new AsyncPayloadLogger(16, 8);
+
+	private final BlockingQueue<String> entries = new LinkedBlockingQueue<>();
+
+	@AfterEach
+	void destroy() {
+		this.payloadLogger.destroy();
+	}
+
+	@Test
+	void logPayload() throws Exception {
+		PayloadCapture capture = this.payloadLogger.createCapture();
+		capture.write("<a/>".getBytes(StandardCharsets.UTF_8));
+		assertThat(this.payloadLogger.log(this.entries::add, "Sent ", capture)).isTrue();
+		assertThat(this.entries.poll(5, TimeUnit.SECONDS)).isEqualTo("Sent [<a/>]");
+	}
+
+	@Test
+	void logTruncatedPayload() throws Exception {
+		PayloadCapture capture = this.payloadLogger.createCapture();
+		capture.write("<root>text</root>".getBytes(StandardCharsets.UTF_8));
+		assertThat(capture.isTruncated()).isTrue();
+		assertThat(capture.getTotalLength()).isEqualTo(17);
+		this.payloadLogger.log(this.entries::add, "Sent ", capture);
+		assertThat(this.entries.poll(5, TimeUnit.SECONDS)).isEqualTo("Sent [<root>te...] (17 bytes)");
+	}
+
+	@Test
+	void logPayloadAfterDestroyIsDropped() {
+		this.payloadLogger.destroy();
+		assertThat(this.payloadLogger.log(this.entries::add, "Sent ", this.payloadLogger.createCapture())).isFalse();
+		assertThat(this.payloadLogger.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void captureTransportInputStream() throws Exception {
+		TransportInputStream inputStream = new MockTransportInputStream(
+				new ByteArrayInputStream("<a/>".getBytes(StandardCharsets.UTF_8)));
+		PayloadCapture capture = this.payloadLogger.createCapture();
+		inputStream.setPayloadCapture(capture);
+		assertThat(inputStream.readAllBytes()).hasSize(4);
+		assertThat(capture.toString(StandardCharsets.UTF_8)).isEqualTo("<a/>");
+	}
+
+	@Test
+	void captureTransportOutputStream() throws Exception {
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		TransportOutputStream outputStream = new MockTransportOutputStream(target);
+		PayloadCapture capture = this.payloadLogger.createCapture();
+		outputStream.setPayloadCapture(capture);
+		outputStream.write("<root>text</root>".getBytes(StandardCharsets.UTF_8));
+		assertThat(target.toString(StandardCharsets.UTF_8)).isEqualTo("<root>text</root>");
+		assertThat(capture.toString(StandardCharsets.UTF_8)).isEqualTo("<root>te");
+		assertThat(capture.getTotalLength()).isEqualTo(17);
+	}
+
+}
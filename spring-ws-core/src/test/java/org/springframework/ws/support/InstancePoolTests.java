@@ -0,0 +1,59 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstancePoolTests {
+
+	@Test
+	void acquireEmpty() {
+
+		InstancePool<Object> pool = new InstancePool<>(2);
+
+		assertThat(pool.acquire()).isNull();
+	}
+
+	@Test
+	void acquireReleased() {
+
+		InstancePool<Object> pool = new InstancePool<>(2);
+		Object instance = new Object();
+		pool.release(instance);
+
+		assertThat(pool.acquire()).isSameAs(instance);
+		assertThat(pool.acquire()).isNull();
+	}
+
+	@Test
+	void releaseDropsInstancesWhenFull() {
+
+		InstancePool<Object> pool = new InstancePool<>(2);
+		Object first = new Object();
+		Object second = new Object();
+		pool.release(first);
+		pool.release(second);
+		pool.release(new Object());
+
+		assertThat(pool.acquire()).isIn(first, second);
+		assertThat(pool.acquire()).isIn(first, second);
+		assertThat(pool.acquire()).isNull();
+	}
+
+}
@@ -14,17 +14,19 @@
  * limitations under the License.
  */
 
-package org.springframework.ws.server.endpoint.support;
+package org.springframework.ws.support;
 
 import java.io.StringReader;
 
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.stream.StreamSource;
@@ -33,13 +35,20 @@ import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
 
 import org.springframework.util.xml.StaxUtils;
+import org.springframework.ws.MockWebServiceMessage;
+import org.springframework.ws.MockWebServiceMessageFactory;
+import org.springframework.ws.context.DefaultMessageContext;
+import org.springframework.ws.context.MessageContext;
 import org.springframework.xml.DocumentBuilderFactoryUtils;
 import org.springframework.xml.XMLInputFactoryUtils;
 import org.springframework.xml.transform.TransformerFactoryUtils;
+import org.springframework.xml.transform.TransformerHelper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 class PayloadRootUtilsTests {
 
@@ -114,6 +123,51 @@ class PayloadRootUtilsTests {
 		assertThat(qName.getPrefix()).isEqualTo("prefix");
 	}
 
+	@Test
+	void getQNameForStreamSourceOnlyReadsRootElement() throws Exception {
+		String contents = "<prefix:localname xmlns:prefix='namespace'><unclosed>";
+		Source source = new StreamSource(new StringReader(contents));
+		QName qName = PayloadRootUtils.getPayloadRootQName(source, TransformerFactoryUtils.newInstance());
+
+		assertThat(qName).isEqualTo(new QName("namespace", "localname", "prefix"));
+	}
+
+	@Test
+	void getQNameForSaxSourceWithXmlReaderOnlyReadsRootElement() throws Exception {
+		String contents = "<prefix:localname xmlns:prefix='namespace'><unclosed>";
+		SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+		parserFactory.setNamespaceAware(true);
+		XMLReader xmlReader = parserFactory.newSAXParser().getXMLReader();
+		Source source = new SAXSource(xmlReader, new InputSource(new StringReader(contents)));
+		QName qName = PayloadRootUtils.getPayloadRootQName(source, TransformerFactoryUtils.newInstance());
+
+		assertThat(qName).isNotNull();
+		assertThat(qName.getLocalPart()).isEqualTo("localname");
+		assertThat(qName.getNamespaceURI()).isEqualTo("namespace");
+		assertThat(qName.getPrefix()).isEqualTo("prefix");
+	}
+
+	@Test
+	void getQNameForInvalidStreamSource() {
+		Source source = new StreamSource(new StringReader("<prefix:localname"));
+
+		assertThatExceptionOfType(TransformerException.class)
+			.isThrownBy(() -> PayloadRootUtils.getPayloadRootQName(source, TransformerFactoryUtils.newInstance()));
+	}
+
+	@Test
+	void getQNameForMessageContextIsComputedOncePerRequest() throws Exception {
+		MockWebServiceMessage request = new MockWebServiceMessage("<prefix:localname xmlns:prefix='namespace'/>");
+		MessageContext messageContext = new DefaultMessageContext(request, new MockWebServiceMessageFactory());
+		TransformerHelper transformerHelper = new TransformerHelper();
+
+		assertThat(PayloadRootUtils.getPayloadRootQName(messageContext, transformerHelper))
+			.isEqualTo(new QName("namespace", "localname"));
+		request.setPayload("<other xmlns='namespace'/>");
+		assertThat(PayloadRootUtils.getPayloadRootQName(messageContext, transformerHelper))
+			.isEqualTo(new QName("namespace", "localname"));
+	}
+
 	@Test
 	void testGetQNameForNullSource() throws Exception {
 
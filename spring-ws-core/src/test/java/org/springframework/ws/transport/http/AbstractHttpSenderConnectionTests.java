@@ -29,10 +29,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.BoundedInputStream;
+import jakarta.xml.soap.MessageFactory;
+import jakarta.xml.soap.SOAPConstants;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -40,13 +43,20 @@ import org.mockito.ArgumentCaptor;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StreamUtils;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.WebServiceMessageFactory;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.axiom.AxiomSoapMessageFactory;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+import org.springframework.ws.transport.TransportConstants;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
@@ -106,6 +116,80 @@ class AbstractHttpSenderConnectionTests {
 			.isEqualTo(StreamUtils.copyToString(response.getInputStream(), StandardCharsets.UTF_8));
 	}
 
+	@Test
+	void requestIsCompressedWhenThresholdIsReached() throws IOException {
+		byte[] content = readRequest();
+		TestHttpClientConnection connection = new TestHttpClientConnection(new ByteArrayInputStream(new byte[0]),
+				new LinkedMultiValueMap<>());
+		connection.setRequestCompressionThreshold(content.length / 2);
+		connection.send(createMessage(content));
+		assertThat(connection.requestHeaders.getFirst(HttpTransportConstants.HEADER_CONTENT_ENCODING))
+			.isEqualTo(HttpTransportConstants.CONTENT_ENCODING_GZIP);
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(connection.requestBody.toByteArray()))) {
+			assertThat(StreamUtils.copyToByteArray(in)).isEqualTo(content);
+		}
+	}
+
+	@Test
+	void requestIsNotCompressedBelowThreshold() throws IOException {
+		byte[] content = readRequest();
+		TestHttpClientConnection connection = new TestHttpClientConnection(new ByteArrayInputStream(new byte[0]),
+				new LinkedMultiValueMap<>());
+		connection.setRequestCompressionThreshold(content.length * 2);
+		connection.send(createMessage(content));
+		assertThat(connection.requestHeaders).doesNotContainKey(HttpTransportConstants.HEADER_CONTENT_ENCODING);
+		assertThat(connection.requestBody.toByteArray()).isEqualTo(content);
+	}
+
+	@Test
+	void requestIsNotCompressedByDefault() throws IOException {
+		byte[] content = readRequest();
+		TestHttpClientConnection connection = new TestHttpClientConnection(new ByteArrayInputStream(new byte[0]),
+				new LinkedMultiValueMap<>());
+		connection.send(createMessage(content));
+		assertThat(connection.requestHeaders).doesNotContainKey(HttpTransportConstants.HEADER_CONTENT_ENCODING);
+		assertThat(connection.requestBody.toByteArray()).isEqualTo(content);
+	}
+
+	@Test
+	void compressedSaajRequestHasMessageHeaders() throws Exception {
+		SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory(
+				MessageFactory.newInstance(SOAPConstants.SOAP_1_1_PROTOCOL));
+		assertCompressedRequestHasMessageHeaders(messageFactory.createWebServiceMessage());
+	}
+
+	@Test
+	void compressedAxiomRequestHasMessageHeaders() throws Exception {
+		AxiomSoapMessageFactory messageFactory = new AxiomSoapMessageFactory();
+		messageFactory.afterPropertiesSet();
+		assertCompressedRequestHasMessageHeaders(messageFactory.createWebServiceMessage());
+	}
+
+	private void assertCompressedRequestHasMessageHeaders(SoapMessage message) throws IOException {
+		message.setSoapAction("urn:test");
+		TestHttpClientConnection connection = new TestHttpClientConnection(new ByteArrayInputStream(new byte[0]),
+				new LinkedMultiValueMap<>());
+		connection.setRequestCompressionThreshold(0);
+		connection.send(message);
+		assertThat(connection.requestHeaders.getFirst(HttpTransportConstants.HEADER_CONTENT_ENCODING))
+			.isEqualTo(HttpTransportConstants.CONTENT_ENCODING_GZIP);
+		assertThat(connection.requestHeaders.getFirst(TransportConstants.HEADER_CONTENT_TYPE)).startsWith("text/xml");
+		assertThat(connection.requestHeaders.getFirst(TransportConstants.HEADER_SOAP_ACTION)).contains("urn:test");
+	}
+
+	private byte[] readRequest() throws IOException {
+		return StreamUtils.copyToByteArray(new ClassPathResource("soapRequest.xml", getClass()).getInputStream());
+	}
+
+	private WebServiceMessage createMessage(byte[] content) throws IOException {
+		WebServiceMessage message = mock(WebServiceMessage.class);
+		doAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(0).write(content);
+			return null;
+		}).when(message).writeTo(any());
+		return message;
+	}
+
 	private byte[] compress(Resource resource) throws IOException {
 		ByteArrayOutputStream out = new ByteArrayOutputStream();
 		try (InputStream in = resource.getInputStream(); GZIPOutputStream gzipOut = new GZIPOutputStream(out);) {
@@ -120,6 +204,10 @@ class AbstractHttpSenderConnectionTests {
 
 		private final MultiValueMap<String, String> responseHeaders;
 
+		private final MultiValueMap<String, String> requestHeaders = new LinkedMultiValueMap<>();
+
+		private final ByteArrayOutputStream requestBody = new ByteArrayOutputStream();
+
 		public TestHttpClientConnection(InputStream rawResponseInputStream,
 				MultiValueMap<String, String> responseHeaders) {
 			this.rawResponseInputStream = rawResponseInputStream;
@@ -150,7 +238,7 @@ class AbstractHttpSenderConnectionTests {
 
 		@Override
 		protected OutputStream getRequestOutputStream() {
-			throw new UnsupportedOperationException();
+			return this.requestBody;
 		}
 
 		@Override
@@ -165,7 +253,7 @@ class AbstractHttpSenderConnectionTests {
 
 		@Override
 		public void addRequestHeader(String name, String value) {
-
+			this.requestHeaders.add(name, value);
 		}
 
 		@Override
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.http;
+
+import org.junit.jupiter.api.AfterEach;
+
+class HttpComponents5AsyncMessageSenderIntegrationTests
+		extends AbstractHttpWebServiceMessageSenderIntegrationTests<HttpComponents5AsyncMessageSender> {
+
+	@Override
+	protected HttpComponents5AsyncMessageSender createMessageSender() {
+		return new HttpComponents5AsyncMessageSender();
+	}
+
+	@AfterEach
+	void closeClient() throws Exception {
+		this.messageSender.destroy();
+	}
+
+}
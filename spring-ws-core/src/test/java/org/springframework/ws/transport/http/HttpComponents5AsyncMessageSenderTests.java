@@ -0,0 +1,42 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link HttpComponents5AsyncMessageSender}.
+ *
+ * @author Stephane Nicoll
+ */
+class HttpComponents5AsyncMessageSenderTests {
+
+	@Test
+	void givenClientIsNotStartedNorClosed() throws Exception {
+		CloseableHttpAsyncClient httpClient = mock(CloseableHttpAsyncClient.class);
+		HttpComponents5AsyncMessageSender messageSender = new HttpComponents5AsyncMessageSender(httpClient);
+		assertThat(messageSender.getHttpClient()).isSameAs(httpClient);
+		messageSender.destroy();
+		verifyNoInteractions(httpClient);
+	}
+
+}
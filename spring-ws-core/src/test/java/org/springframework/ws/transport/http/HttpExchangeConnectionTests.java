@@ -0,0 +1,157 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.StreamUtils;
+import org.springframework.ws.WebServiceMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link HttpExchangeConnection}.
+ *
+ * @author Stephane Nicoll
+ */
+class HttpExchangeConnectionTests {
+
+	private static final byte[] CONTENT = "<Request xmlns='http://springframework.org/spring-ws' />"
+		.getBytes(StandardCharsets.UTF_8);
+
+	private final Headers requestHeaders = new Headers();
+
+	private final Headers responseHeaders = new Headers();
+
+	private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+
+	private HttpExchange httpExchange;
+
+	@BeforeEach
+	void setUp() {
+		this.httpExchange = mock(HttpExchange.class);
+		given(this.httpExchange.getRequestHeaders()).willReturn(this.requestHeaders);
+		given(this.httpExchange.getResponseHeaders()).willReturn(this.responseHeaders);
+		given(this.httpExchange.getResponseBody()).willReturn(this.responseBody);
+	}
+
+	@Test
+	void receiveGzipEncoded() throws IOException {
+		this.requestHeaders.add("Content-Encoding", "gzip");
+		given(this.httpExchange.getRequestBody()).willReturn(new ByteArrayInputStream(gzip(CONTENT)));
+		HttpExchangeConnection connection = new HttpExchangeConnection(this.httpExchange);
+		connection.setMaxDecompressedRequestSize(1024);
+		assertThat(StreamUtils.copyToByteArray(connection.getRequestInputStream())).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void receiveGzipEncodedNotDecodedByDefault() throws IOException {
+		byte[] compressed = gzip(CONTENT);
+		this.requestHeaders.add("Content-Encoding", "gzip");
+		given(this.httpExchange.getRequestBody()).willReturn(new ByteArrayInputStream(compressed));
+		HttpExchangeConnection connection = new HttpExchangeConnection(this.httpExchange);
+		assertThat(StreamUtils.copyToByteArray(connection.getRequestInputStream())).isEqualTo(compressed);
+	}
+
+	@Test
+	void receiveGzipEncodedExceedingMaxSize() throws IOException {
+		this.requestHeaders.add("Content-Encoding", "gzip");
+		given(this.httpExchange.getRequestBody()).willReturn(new ByteArrayInputStream(gzip(new byte[64 * 1024])));
+		HttpExchangeConnection connection = new HttpExchangeConnection(this.httpExchange);
+		connection.setMaxDecompressedRequestSize(1024);
+		assertThatIOException().isThrownBy(() -> StreamUtils.copyToByteArray(connection.getRequestInputStream()))
+			.withMessageContaining("exceeds the maximum size of 1024 bytes");
+	}
+
+	@Test
+	void sendCompressedWhenAccepted() throws IOException {
+		this.requestHeaders.add("Accept-Encoding", "deflate, gzip");
+		HttpExchangeConnection connection = new HttpExchangeConnection(this.httpExchange);
+		connection.setResponseCompressionThreshold(0);
+		connection.setFaultCode(null);
+		connection.send(createMessage(CONTENT));
+		assertThat(this.responseHeaders.getFirst("Content-Encoding")).isEqualTo("gzip");
+		verify(this.httpExchange).sendResponseHeaders(200, this.responseBody.size());
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(this.responseBody.toByteArray()))) {
+			assertThat(StreamUtils.copyToByteArray(in)).isEqualTo(CONTENT);
+		}
+	}
+
+	@Test
+	void sendUncompressedWhenNotAccepted() throws IOException {
+		HttpExchangeConnection connection = new HttpExchangeConnection(this.httpExchange);
+		connection.setResponseCompressionThreshold(0);
+		connection.setFaultCode(null);
+		connection.send(createMessage(CONTENT));
+		assertThat(this.responseHeaders.containsKey("Content-Encoding")).isFalse();
+		verify(this.httpExchange).sendResponseHeaders(200, CONTENT.length);
+		assertThat(this.responseBody.toByteArray()).isEqualTo(CONTENT);
+	}
+
+	@Test
+	void sendChunkedCompressedWhenAccepted() throws IOException {
+		this.requestHeaders.add("Accept-Encoding", "gzip");
+		HttpExchangeConnection connection = new HttpExchangeConnection(this.httpExchange);
+		connection.setChunkedEncoding(true);
+		connection.setResponseCompressionThreshold(0);
+		connection.setFaultCode(null);
+		connection.send(createMessage(CONTENT));
+		assertThat(this.responseHeaders.getFirst("Content-Encoding")).isEqualTo("gzip");
+		verify(this.httpExchange).sendResponseHeaders(eq(200), anyLong());
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(this.responseBody.toByteArray()))) {
+			assertThat(StreamUtils.copyToByteArray(in)).isEqualTo(CONTENT);
+		}
+	}
+
+	private static WebServiceMessage createMessage(byte[] content) throws IOException {
+		WebServiceMessage message = mock(WebServiceMessage.class);
+		doAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(0).write(content);
+			return null;
+		}).when(message).writeTo(any());
+		return message;
+	}
+
+	private static byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(content);
+		}
+		return bytes.toByteArray();
+	}
+
+}
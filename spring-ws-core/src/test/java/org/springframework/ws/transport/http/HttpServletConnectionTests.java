@@ -16,8 +16,13 @@
 
 package org.springframework.ws.transport.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
@@ -32,7 +37,10 @@ import org.xmlunit.assertj.XmlAssert;
 
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
 import org.springframework.ws.soap.SoapVersion;
+import org.springframework.ws.soap.axiom.AxiomSoapMessage;
+import org.springframework.ws.soap.axiom.AxiomSoapMessageFactory;
 import org.springframework.ws.soap.saaj.SaajSoapMessage;
 import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
 import org.springframework.xml.transform.StringResult;
@@ -40,6 +48,7 @@ import org.springframework.xml.transform.StringSource;
 import org.springframework.xml.transform.TransformerFactoryUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
 
 class HttpServletConnectionTests {
 
@@ -118,6 +127,108 @@ class HttpServletConnectionTests {
 			.areIdentical();
 	}
 
+	@Test
+	void receiveGzipEncoded() throws Exception {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(SOAP_CONTENT.getBytes(StandardCharsets.UTF_8));
+		}
+		this.httpServletRequest.addHeader("Content-Type", "text/xml");
+		this.httpServletRequest.addHeader("Content-Encoding", "gzip");
+		this.httpServletRequest.setContent(bytes.toByteArray());
+		this.connection.setMaxDecompressedRequestSize(1024 * 1024);
+		SaajSoapMessage message = (SaajSoapMessage) this.connection.receive(this.messageFactory);
+
+		StringResult result = new StringResult();
+		this.transformerFactory.newTransformer().transform(message.getPayloadSource(), result);
+		XmlAssert.assertThat(result.toString()).and(CONTENT).ignoreWhitespace().areIdentical();
+	}
+
+	@Test
+	void receiveGzipEncodedNotDecodedByDefault() throws Exception {
+
+		byte[] compressed = gzip(SOAP_CONTENT.getBytes(StandardCharsets.UTF_8));
+		this.httpServletRequest.addHeader("Content-Encoding", "gzip");
+		this.httpServletRequest.setContent(compressed);
+
+		assertThat(StreamUtils.copyToByteArray(this.connection.getRequestInputStream())).isEqualTo(compressed);
+	}
+
+	@Test
+	void receiveGzipEncodedExceedingMaxSize() throws Exception {
+
+		this.httpServletRequest.addHeader("Content-Encoding", "gzip");
+		this.httpServletRequest.setContent(gzip(new byte[64 * 1024]));
+		this.connection.setMaxDecompressedRequestSize(1024);
+
+		assertThatIOException()
+			.isThrownBy(() -> StreamUtils.copyToByteArray(this.connection.getRequestInputStream()))
+			.withMessageContaining("exceeds the maximum size of 1024 bytes");
+	}
+
+	@Test
+	void sendCompressedWhenAccepted() throws Exception {
+
+		this.httpServletRequest.addHeader("Accept-Encoding", "deflate, gzip");
+		this.connection.setResponseCompressionThreshold(0);
+		SaajSoapMessage message = this.messageFactory.createWebServiceMessage();
+		message.setSoapAction("urn:test");
+		this.transformerFactory.newTransformer().transform(new StringSource(CONTENT), message.getPayloadResult());
+
+		this.connection.send(message);
+
+		assertThat(this.httpServletResponse.getHeader("Content-Encoding")).isEqualTo("gzip");
+		assertThat(this.httpServletResponse.getHeader("Vary")).isEqualTo("Accept-Encoding");
+		assertThat(this.httpServletResponse.getHeader("Content-Type")).startsWith("text/xml");
+		assertThat(this.httpServletResponse.getHeader("SOAPAction")).contains("urn:test");
+		ByteArrayInputStream compressed = new ByteArrayInputStream(this.httpServletResponse.getContentAsByteArray());
+		byte[] content = new GZIPInputStream(compressed).readAllBytes();
+		XmlAssert.assertThat(new String(content, StandardCharsets.UTF_8))
+			.and(SOAP_CONTENT)
+			.ignoreWhitespace()
+			.areIdentical();
+	}
+
+	@Test
+	void sendCompressedAxiomMessageWhenAccepted() throws Exception {
+
+		this.httpServletRequest.addHeader("Accept-Encoding", "gzip");
+		this.connection.setResponseCompressionThreshold(0);
+		AxiomSoapMessageFactory axiomMessageFactory = new AxiomSoapMessageFactory();
+		axiomMessageFactory.afterPropertiesSet();
+		AxiomSoapMessage message = axiomMessageFactory.createWebServiceMessage();
+		message.setSoapAction("urn:test");
+		this.transformerFactory.newTransformer().transform(new StringSource(CONTENT), message.getPayloadResult());
+
+		this.connection.send(message);
+
+		assertThat(this.httpServletResponse.getHeader("Content-Encoding")).isEqualTo("gzip");
+		assertThat(this.httpServletResponse.getHeader("Content-Type")).startsWith("text/xml");
+		assertThat(this.httpServletResponse.getHeader("SOAPAction")).contains("urn:test");
+		ByteArrayInputStream compressed = new ByteArrayInputStream(this.httpServletResponse.getContentAsByteArray());
+		byte[] content = new GZIPInputStream(compressed).readAllBytes();
+		assertThat(new String(content, StandardCharsets.UTF_8)).contains("Request");
+	}
+
+	@Test
+	void sendUncompressedBelowThreshold() throws Exception {
+
+		this.httpServletRequest.addHeader("Accept-Encoding", "gzip");
+		this.connection.setResponseCompressionThreshold(4096);
+		SaajSoapMessage message = this.messageFactory.createWebServiceMessage();
+		this.transformerFactory.newTransformer().transform(new StringSource(CONTENT), message.getPayloadResult());
+
+		this.connection.send(message);
+
+		assertThat(this.httpServletResponse.getHeader("Content-Encoding")).isNull();
+		assertThat(this.httpServletResponse.getHeader("Content-Type")).startsWith("text/xml");
+		XmlAssert.assertThat(this.httpServletResponse.getContentAsString())
+			.and(SOAP_CONTENT)
+			.ignoreWhitespace()
+			.areIdentical();
+	}
+
 	@Test
 	void faultCodes() throws IOException {
 
@@ -134,4 +245,12 @@ class HttpServletConnectionTests {
 		assertThat(this.httpServletResponse.getStatus()).isEqualTo(500);
 	}
 
+	private static byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(content);
+		}
+		return bytes.toByteArray();
+	}
+
 }
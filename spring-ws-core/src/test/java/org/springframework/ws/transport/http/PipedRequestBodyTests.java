@@ -0,0 +1,90 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link PipedRequestBody}.
+ *
+ * @author Stephane Nicoll
+ */
+class PipedRequestBodyTests {
+
+	@Test
+	void transferContentLargerThanBuffers() throws Exception {
+		PipedRequestBody body = new PipedRequestBody(64);
+		byte[] content = new byte[10_000];
+		new Random().nextBytes(content);
+		CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> readFully(body.getInputStream()));
+		try (OutputStream out = body.getOutputStream()) {
+			out.write(content, 0, 100);
+			out.write(content[100]);
+			out.write(content, 101, content.length - 101);
+		}
+		assertThat(read.get()).isEqualTo(content);
+	}
+
+	@Test
+	void transferEmptyContent() throws Exception {
+		PipedRequestBody body = new PipedRequestBody(64);
+		body.getOutputStream().close();
+		assertThat(body.getInputStream().read()).isEqualTo(-1);
+	}
+
+	@Test
+	void abortFailsBlockedWriter() {
+		PipedRequestBody body = new PipedRequestBody(8);
+		IOException cause = new IOException("Connection refused");
+		body.abort(cause);
+		assertThatIOException().isThrownBy(() -> body.getOutputStream().write(new byte[1024]))
+			.withCause(cause);
+	}
+
+	@Test
+	void abortFailsBlockedReader() {
+		PipedRequestBody body = new PipedRequestBody(8);
+		IOException cause = new IOException("Connection closed");
+		body.abort(cause);
+		assertThatIOException().isThrownBy(() -> body.getInputStream().read()).withCause(cause);
+	}
+
+	@Test
+	void closingInputStreamEarlyFailsWriter() throws IOException {
+		PipedRequestBody body = new PipedRequestBody(8);
+		body.getInputStream().close();
+		assertThatIOException().isThrownBy(() -> body.getOutputStream().write(new byte[1024]));
+	}
+
+	private static byte[] readFully(InputStream in) {
+		try (in) {
+			return in.readAllBytes();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
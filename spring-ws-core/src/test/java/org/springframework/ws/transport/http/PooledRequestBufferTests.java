@@ -0,0 +1,70 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.http;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PooledRequestBuffer}.
+ *
+ * @author Stephane Nicoll
+ */
+class PooledRequestBufferTests {
+
+	@Test
+	void writeSmallContent() {
+		PooledRequestBuffer buffer = PooledRequestBuffer.acquire();
+		buffer.write(new byte[] { 1, 2, 3 }, 0, 3);
+		buffer.write(4);
+		assertThat(buffer.size()).isEqualTo(4);
+		assertThat(Arrays.copyOf(buffer.getBuffer(), buffer.size())).containsExactly(1, 2, 3, 4);
+		assertThat(buffer.getBuffer()).hasSize(PooledRequestBuffer.POOLED_BUFFER_SIZE);
+		buffer.release();
+	}
+
+	@Test
+	void writeContentLargerThanPooledBuffer() {
+		byte[] content = new byte[PooledRequestBuffer.POOLED_BUFFER_SIZE * 3 + 17];
+		new Random().nextBytes(content);
+		PooledRequestBuffer buffer = PooledRequestBuffer.acquire();
+		buffer.write(content, 0, 100);
+		buffer.write(content[100]);
+		buffer.write(content, 101, content.length - 101);
+		assertThat(buffer.size()).isEqualTo(content.length);
+		assertThat(Arrays.copyOf(buffer.getBuffer(), buffer.size())).isEqualTo(content);
+		buffer.release();
+	}
+
+	@Test
+	void releaseResetsBuffer() {
+		PooledRequestBuffer buffer = PooledRequestBuffer.acquire();
+		buffer.write(new byte[] { 1, 2, 3 }, 0, 3);
+		buffer.release();
+		assertThat(buffer.size()).isZero();
+		assertThat(buffer.getBuffer()).isEmpty();
+		buffer.release();
+		PooledRequestBuffer other = PooledRequestBuffer.acquire();
+		assertThat(other.size()).isZero();
+		other.release();
+	}
+
+}
@@ -19,6 +19,8 @@ package org.springframework.ws.transport.http;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -110,6 +112,108 @@ class WsdlDefinitionHandlerAdapterTests {
 		XmlAssert.assertThat(this.response.getContentAsString()).and(expected).ignoreWhitespace().areIdentical();
 	}
 
+	@Test
+	void handleGetCached() throws Exception {
+		this.adapter.setCacheDefinitions(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		String definition = "<definition xmlns='http://schemas.xmlsoap.org/wsdl/'/>";
+		expect(this.definitionMock.getSource()).andReturn(new StringSource(definition)).once();
+
+		replay(this.definitionMock);
+
+		this.adapter.handle(this.request, this.response, this.definitionMock);
+		MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+		this.adapter.handle(this.request, secondResponse, this.definitionMock);
+
+		XmlAssert.assertThat(secondResponse.getContentAsString()).and(definition).ignoreWhitespace().areIdentical();
+		assertThat(secondResponse.getContentType()).isEqualTo("text/xml");
+		assertThat(secondResponse.getHeader(HttpHeaders.ETAG)).isNotNull()
+			.isEqualTo(this.response.getHeader(HttpHeaders.ETAG));
+
+		verify(this.definitionMock);
+	}
+
+	@Test
+	void handleGetCachedWithMatchingETag() throws Exception {
+		this.adapter.setCacheDefinitions(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		SimpleWsdl11Definition definition = new SimpleWsdl11Definition(
+				new ClassPathResource("echo-input.wsdl", getClass()));
+		this.adapter.handle(this.request, this.response, definition);
+		String eTag = this.response.getHeader(HttpHeaders.ETAG);
+		assertThat(eTag).startsWith("\"").endsWith("\"");
+
+		MockHttpServletRequest conditionalRequest = new MockHttpServletRequest(HttpTransportConstants.METHOD_GET, "");
+		conditionalRequest.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+		MockHttpServletResponse conditionalResponse = new MockHttpServletResponse();
+		this.adapter.handle(conditionalRequest, conditionalResponse, definition);
+
+		assertThat(conditionalResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(conditionalResponse.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void handleGetCachedWithGzipEncoding() throws Exception {
+		this.adapter.setCacheDefinitions(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		this.request.addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate;q=0.5, gzip");
+		Resource single = new ClassPathResource("echo-input.wsdl", getClass());
+		SimpleWsdl11Definition definition = new SimpleWsdl11Definition(single);
+
+		this.adapter.handle(this.request, this.response, definition);
+
+		assertThat(this.response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(this.response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+		String content = new String(
+				FileCopyUtils.copyToByteArray(
+						new GZIPInputStream(new ByteArrayInputStream(this.response.getContentAsByteArray()))),
+				StandardCharsets.UTF_8);
+		String expected = new String(FileCopyUtils.copyToByteArray(single.getFile()), StandardCharsets.UTF_8);
+		XmlAssert.assertThat(content).and(expected).ignoreWhitespace().areIdentical();
+	}
+
+	@Test
+	void handleGetCachedWithGzipEncodingRejected() throws Exception {
+		this.adapter.setCacheDefinitions(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		this.request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity");
+		SimpleWsdl11Definition definition = new SimpleWsdl11Definition(
+				new ClassPathResource("echo-input.wsdl", getClass()));
+
+		this.adapter.handle(this.request, this.response, definition);
+
+		assertThat(this.response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(this.response.getContentAsString()).contains("wsdl:definitions");
+	}
+
+	@Test
+	void handleGetCachedWithTransformLocationsPerBaseUrl() throws Exception {
+		this.adapter.setCacheDefinitions(true);
+		this.adapter.setTransformLocations(true);
+		SimpleWsdl11Definition definition = new SimpleWsdl11Definition(
+				new ClassPathResource("echo-input.wsdl", getClass()));
+
+		MockHttpServletRequest firstRequest = new MockHttpServletRequest(HttpTransportConstants.METHOD_GET,
+				"/context/service.wsdl");
+		firstRequest.setServerName("example.com");
+		firstRequest.setContextPath("/context");
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		this.adapter.handle(firstRequest, firstResponse, definition);
+
+		MockHttpServletRequest secondRequest = new MockHttpServletRequest(HttpTransportConstants.METHOD_GET,
+				"/context/service.wsdl");
+		secondRequest.setServerName("example.org");
+		secondRequest.setContextPath("/context");
+		MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+		this.adapter.handle(secondRequest, secondResponse, definition);
+
+		assertThat(firstResponse.getContentAsString()).contains("http://example.com:80/echo/services")
+			.doesNotContain("example.org");
+		assertThat(secondResponse.getContentAsString()).contains("http://example.org:80/echo/services")
+			.doesNotContain("example.com");
+		assertThat(firstResponse.getHeader(HttpHeaders.ETAG)).isNotEqualTo(secondResponse.getHeader(HttpHeaders.ETAG));
+	}
+
 	@Test
 	void handleNonGet() throws Exception {
 
@@ -18,6 +18,8 @@ package org.springframework.ws.transport.http;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.InflaterInputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -97,6 +99,29 @@ class XsdSchemaHandlerAdapterTests {
 		XmlAssert.assertThat(this.response.getContentAsString()).and(expected).ignoreWhitespace().areIdentical();
 	}
 
+	@Test
+	void handleGetCachedWithDeflateEncoding() throws Exception {
+		this.adapter.setCacheSchemas(true);
+		this.request.setMethod(HttpTransportConstants.METHOD_GET);
+		this.request.addHeader(HttpHeaders.ACCEPT_ENCODING, "deflate");
+		Resource single = new ClassPathResource("single.xsd", getClass());
+		SimpleXsdSchema schema = new SimpleXsdSchema(single);
+		schema.afterPropertiesSet();
+
+		this.adapter.handle(this.request, this.response, schema);
+		MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+		this.adapter.handle(this.request, secondResponse, schema);
+
+		assertThat(secondResponse.getHeader(HttpHeaders.ETAG)).isEqualTo(this.response.getHeader(HttpHeaders.ETAG));
+		String expected = new String(FileCopyUtils.copyToByteArray(single.getFile()), StandardCharsets.UTF_8);
+		assertThat(secondResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("deflate");
+		byte[] content = FileCopyUtils.copyToByteArray(
+				new InflaterInputStream(new ByteArrayInputStream(secondResponse.getContentAsByteArray())));
+		XmlAssert.assertThat(new String(content, StandardCharsets.UTF_8)).and(expected)
+			.ignoreWhitespace()
+			.areIdentical();
+	}
+
 	@Test
 	void handleNonGet() throws Exception {
 
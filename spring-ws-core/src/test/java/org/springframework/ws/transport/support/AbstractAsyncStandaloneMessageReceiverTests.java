@@ -0,0 +1,85 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ws.transport.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AbstractAsyncStandaloneMessageReceiver}.
+ *
+ * @author Stephane Nicoll
+ */
+class AbstractAsyncStandaloneMessageReceiverTests {
+
+	private static final String VIRTUAL_THREAD_CLASS_NAME = "java.lang.VirtualThread";
+
+	@Test
+	void defaultTaskExecutorUsesPlatformThreads() throws Exception {
+		TestMessageReceiver receiver = new TestMessageReceiver();
+		receiver.setBeanName("receiver");
+		receiver.setTaskExecutor(receiver.createDefaultTaskExecutor());
+		Thread thread = executeAndGetThread(receiver);
+		assertThat(thread.getName()).startsWith("receiver-");
+		assertThat(thread.getClass().getName()).isNotEqualTo(VIRTUAL_THREAD_CLASS_NAME);
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void defaultTaskExecutorWithVirtualThreads() throws Exception {
+		TestMessageReceiver receiver = new TestMessageReceiver();
+		receiver.setBeanName("receiver");
+		receiver.setVirtualThreads(true);
+		receiver.setTaskExecutor(receiver.createDefaultTaskExecutor());
+		Thread thread = executeAndGetThread(receiver);
+		assertThat(thread.getName()).startsWith("receiver-");
+		assertThat(thread.getClass().getName()).isEqualTo(VIRTUAL_THREAD_CLASS_NAME);
+	}
+
+	private static Thread executeAndGetThread(TestMessageReceiver receiver) throws Exception {
+		CompletableFuture<Thread> thread = new CompletableFuture<>();
+		receiver.execute(() -> thread.complete(Thread.currentThread()));
+		return thread.get(5, TimeUnit.SECONDS);
+	}
+
+	private static final class TestMessageReceiver extends AbstractAsyncStandaloneMessageReceiver {
+
+		@Override
+		protected void onActivate() {
+		}
+
+		@Override
+		protected void onStart() {
+		}
+
+		@Override
+		protected void onStop() {
+		}
+
+		@Override
+		protected void onShutdown() {
+		}
+
+	}
+
+}
@@ -16,15 +16,25 @@
 
 package org.springframework.ws.transport.support;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.xml.namespace.QName;
 
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.ws.MockWebServiceMessage;
 import org.springframework.ws.MockWebServiceMessageFactory;
 import org.springframework.ws.WebServiceMessage;
 import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.MessageDispatcher;
+import org.springframework.ws.server.endpoint.PayloadEndpoint;
+import org.springframework.ws.server.endpoint.adapter.PayloadEndpointAdapter;
+import org.springframework.ws.server.endpoint.mapping.PayloadRootQNameEndpointMapping;
 import org.springframework.ws.soap.SoapVersion;
 import org.springframework.ws.transport.FaultAwareWebServiceConnection;
 import org.springframework.ws.transport.WebServiceMessageReceiver;
@@ -122,6 +132,54 @@ class WebServiceMessageReceiverObjectSupportTests {
 		verify(this.connectionMock).receive(this.messageFactory);
 	}
 
+	@Test
+	void handleConnectionObservation() throws Exception {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.receiverSupport.setObservationRegistry(observationRegistry);
+		when(this.connectionMock.receive(this.messageFactory))
+			.thenReturn(new MockWebServiceMessage("<root xmlns='urn:test'/>"));
+
+		WebServiceMessageReceiver receiver = (messageContext) -> messageContext.getResponse();
+
+		this.receiverSupport.handleConnection(this.connectionMock, receiver);
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.server.requests")
+			.that()
+			.hasContextualNameEqualTo("ws server")
+			.hasLowCardinalityKeyValue("payload.root", "none")
+			.hasLowCardinalityKeyValue("fault.code", "none")
+			.hasBeenStopped();
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasNumberOfObservationsWithNameEqualTo("spring.ws.phase", 2);
+	}
+
+	@Test
+	void handleConnectionObservationWithMappedEndpoint() throws Exception {
+
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.receiverSupport.setObservationRegistry(observationRegistry);
+		when(this.connectionMock.receive(this.messageFactory))
+			.thenReturn(new MockWebServiceMessage("<root xmlns='urn:test'/>"));
+
+		PayloadRootQNameEndpointMapping endpointMapping = new PayloadRootQNameEndpointMapping();
+		endpointMapping.setEndpointMap(Map.of("{urn:test}root", (PayloadEndpoint) (request) -> null));
+		endpointMapping.setApplicationContext(new StaticApplicationContext());
+		MessageDispatcher dispatcher = new MessageDispatcher();
+		dispatcher.setEndpointMappings(List.of(endpointMapping));
+		dispatcher.setEndpointAdapters(List.of(new PayloadEndpointAdapter()));
+
+		this.receiverSupport.handleConnection(this.connectionMock, dispatcher);
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo("spring.ws.server.requests")
+			.that()
+			.hasContextualNameEqualTo("ws server root")
+			.hasLowCardinalityKeyValue("payload.root", "{urn:test}root")
+			.hasBeenStopped();
+	}
+
 	private static final class MyReceiverSupport extends WebServiceMessageReceiverObjectSupport {
 
 	}
@@ -0,0 +1,587 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.soap.security.wss4j2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.security.auth.callback.Callback;
+import javax.security.auth.callback.CallbackHandler;
+import javax.security.auth.callback.UnsupportedCallbackException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.apache.axiom.om.OMException;
+import org.apache.axiom.om.OMMetaFactory;
+import org.apache.axiom.om.OMXMLBuilderFactory;
+import org.apache.axiom.soap.SOAPMessage;
+import org.apache.wss4j.common.ConfigurationConstants;
+import org.apache.wss4j.common.crypto.Crypto;
+import org.apache.wss4j.common.ext.WSPasswordCallback;
+import org.apache.wss4j.common.ext.WSSecurityException;
+import org.apache.wss4j.stax.ext.WSSSecurityProperties;
+import org.apache.wss4j.stax.securityEvent.WSSecurityEventConstants;
+import org.apache.wss4j.stax.setup.ConfigurationConverter;
+import org.apache.wss4j.stax.setup.InboundWSSec;
+import org.apache.wss4j.stax.setup.OutboundWSSec;
+import org.apache.wss4j.stax.setup.WSSec;
+import org.apache.xml.security.stax.securityEvent.SecurityEvent;
+import org.apache.xml.security.stax.securityEvent.SecurityEventConstants;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.FastByteArrayOutputStream;
+import org.springframework.util.StringUtils;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapHeader;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.axiom.AxiomSoapMessage;
+import org.springframework.ws.soap.security.AbstractWsSecurityInterceptor;
+import org.springframework.ws.soap.security.WsSecuritySecurementException;
+import org.springframework.ws.soap.security.WsSecurityValidationException;
+import org.springframework.ws.soap.security.callback.CleanupCallback;
+
+/**
+ * A WS-Security endpoint interceptor based on the streaming (StAX) API of Apache WSS4J.
+ * This interceptor only supports messages created by
+ * {@link org.springframework.ws.soap.axiom.AxiomSoapMessageFactory}.
+ * <p>
+ * Contrary to {@link Wss4jSecurityInterceptor}, the envelope is never converted to a DOM
+ * {@link org.w3c.dom.Document}. Incoming messages are read through the WSS4J inbound
+ * stream reader while the Axiom tree is built, so they are validated in a single pass.
+ * <p>
+ * Outgoing messages are <em>not</em> streamed to the transport. They are serialized
+ * through the WSS4J outbound stream writer into an in-memory buffer, and the message is
+ * then rebuilt from the secured bytes. Securing a message therefore holds the secured
+ * bytes and a new Axiom tree in memory at the same time. The original tree is serialized
+ * without being cached, since it is replaced afterwards.
+ * <p>
+ * The configuration properties are named after their {@link Wss4jSecurityInterceptor}
+ * counterpart. The supported actions are {@code UsernameToken}, {@code Timestamp},
+ * {@code Signature}, and {@code Encrypt}, both for securement and validation. Additional
+ * WSS4J options can be set with {@link #setSecurementOption(String, Object)} and
+ * {@link #setValidationOption(String, Object)}.
+ * <p>
+ * Configuration is applied when the interceptor is {@linkplain #afterPropertiesSet()
+ * initialized}; properties set afterwards are ignored.
+ *
+ * @author Stephane Nicoll
+ * @since 5.1.0
+ * @see <a href="https://ws.apache.org/wss4j/streaming.html">Apache WSS4J Streaming</a>
+ */
+public class Wss4jStaxSecurityInterceptor extends AbstractWsSecurityInterceptor implements InitializingBean {
+
+	private static final String ENCODING = "UTF-8";
+
+	private final Map<String, Object> securementOptions = new HashMap<>();
+
+	private final Map<String, Object> validationOptions = new HashMap<>();
+
+	private @Nullable String securementActions;
+
+	private @Nullable String securementUsername;
+
+	private @Nullable String securementPassword;
+
+	private @Nullable Crypto securementSignatureCrypto;
+
+	private @Nullable Crypto securementEncryptionCrypto;
+
+	private @Nullable String validationActions;
+
+	private Set<Action> validationActionSet = EnumSet.noneOf(Action.class);
+
+	private @Nullable CallbackHandler validationCallbackHandler;
+
+	private @Nullable Crypto validationSignatureCrypto;
+
+	private @Nullable Crypto validationDecryptionCrypto;
+
+	private boolean strictActionChecking = true;
+
+	private boolean removeSecurityHeader = true;
+
+	private @Nullable OutboundWSSec outboundWSSec;
+
+	private @Nullable InboundWSSec inboundWSSec;
+
+	/**
+	 * Whether the interceptor should strictly check the validation actions.
+	 * <p>
+	 * Set this to {@code false} to allow extra security actions in the incoming message.
+	 */
+	public void setStrictActionChecking(boolean strictActionChecking) {
+		this.strictActionChecking = strictActionChecking;
+	}
+
+	public void setSecurementActions(String securementActions) {
+		this.securementActions = securementActions;
+	}
+
+	/**
+	 * Set a WSS4J option used to secure outgoing messages.
+	 * @param key the id of the option as defined in {@link ConfigurationConstants}
+	 * @param value the value of the option
+	 */
+	public void setSecurementOption(String key, Object value) {
+		this.securementOptions.put(key, value);
+	}
+
+	/**
+	 * Set a WSS4J option used to validate incoming messages.
+	 * @param key the id of the option as defined in {@link ConfigurationConstants}
+	 * @param value the value of the option
+	 */
+	public void setValidationOption(String key, Object value) {
+		this.validationOptions.put(key, value);
+	}
+
+	/**
+	 * The actor name of the {@code wsse:Security} header.
+	 */
+	public void setSecurementActor(String securementActor) {
+		setSecurementOption(ConfigurationConstants.ACTOR, securementActor);
+	}
+
+	public void setSecurementUsername(String securementUsername) {
+		this.securementUsername = securementUsername;
+	}
+
+	/**
+	 * Set the password of the {@code UsernameToken}, or of the private key used to sign
+	 * outgoing messages.
+	 */
+	public void setSecurementPassword(String securementPassword) {
+		this.securementPassword = securementPassword;
+	}
+
+	/**
+	 * Specific parameter for UsernameToken action to define the encoding of the password.
+	 * @see org.apache.wss4j.common.WSS4JConstants#PW_DIGEST
+	 * @see org.apache.wss4j.common.WSS4JConstants#PW_TEXT
+	 */
+	public void setSecurementPasswordType(String securementUsernameTokenPasswordType) {
+		setSecurementOption(ConfigurationConstants.PASSWORD_TYPE, securementUsernameTokenPasswordType);
+	}
+
+	/**
+	 * Sets whether a {@code Nonce} element is added to the {@code UsernameToken}s.
+	 */
+	public void setSecurementUsernameTokenNonce(boolean securementUsernameTokenNonce) {
+		setSecurementOption(ConfigurationConstants.ADD_USERNAMETOKEN_NONCE,
+				Boolean.toString(securementUsernameTokenNonce));
+	}
+
+	/**
+	 * Sets whether a {@code Created} element is added to the {@code UsernameToken}s.
+	 */
+	public void setSecurementUsernameTokenCreated(boolean securementUsernameTokenCreated) {
+		setSecurementOption(ConfigurationConstants.ADD_USERNAMETOKEN_CREATED,
+				Boolean.toString(securementUsernameTokenCreated));
+	}
+
+	/**
+	 * Sets the time to live, in seconds, of the timestamp added to outgoing messages.
+	 */
+	public void setSecurementTimeToLive(int securementTimeToLive) {
+		Assert.isTrue(securementTimeToLive > 0, "securementTimeToLive must be positive");
+		setSecurementOption(ConfigurationConstants.TTL_TIMESTAMP, Integer.toString(securementTimeToLive));
+	}
+
+	/**
+	 * Enables the {@code mustUnderstand} attribute on WS-Security headers on outgoing
+	 * messages.
+	 */
+	public void setSecurementMustUnderstand(boolean securementMustUnderstand) {
+		setSecurementOption(ConfigurationConstants.MUST_UNDERSTAND, Boolean.toString(securementMustUnderstand));
+	}
+
+	public void setSecurementSignatureCrypto(Crypto securementSignatureCrypto) {
+		this.securementSignatureCrypto = securementSignatureCrypto;
+	}
+
+	public void setSecurementSignatureUser(String securementSignatureUser) {
+		setSecurementOption(ConfigurationConstants.SIGNATURE_USER, securementSignatureUser);
+	}
+
+	public void setSecurementSignatureAlgorithm(String securementSignatureAlgorithm) {
+		setSecurementOption(ConfigurationConstants.SIG_ALGO, securementSignatureAlgorithm);
+	}
+
+	public void setSecurementSignatureDigestAlgorithm(String digestAlgorithm) {
+		setSecurementOption(ConfigurationConstants.SIG_DIGEST_ALGO, digestAlgorithm);
+	}
+
+	public void setSecurementSignatureKeyIdentifier(String securementSignatureKeyIdentifier) {
+		setSecurementOption(ConfigurationConstants.SIG_KEY_ID, securementSignatureKeyIdentifier);
+	}
+
+	public void setSecurementSignatureParts(String securementSignatureParts) {
+		setSecurementOption(ConfigurationConstants.SIGNATURE_PARTS, securementSignatureParts);
+	}
+
+	public void setSecurementEncryptionCrypto(Crypto securementEncryptionCrypto) {
+		this.securementEncryptionCrypto = securementEncryptionCrypto;
+	}
+
+	public void setSecurementEncryptionUser(String securementEncryptionUser) {
+		setSecurementOption(ConfigurationConstants.ENCRYPTION_USER, securementEncryptionUser);
+	}
+
+	public void setSecurementEncryptionKeyIdentifier(String securementEncryptionKeyIdentifier) {
+		setSecurementOption(ConfigurationConstants.ENC_KEY_ID, securementEncryptionKeyIdentifier);
+	}
+
+	public void setSecurementEncryptionKeyTransportAlgorithm(String securementEncryptionKeyTransportAlgorithm) {
+		setSecurementOption(ConfigurationConstants.ENC_KEY_TRANSPORT, securementEncryptionKeyTransportAlgorithm);
+	}
+
+	public void setSecurementEncryptionSymAlgorithm(String securementEncryptionSymAlgorithm) {
+		setSecurementOption(ConfigurationConstants.ENC_SYM_ALGO, securementEncryptionSymAlgorithm);
+	}
+
+	public void setSecurementEncryptionParts(String securementEncryptionParts) {
+		setSecurementOption(ConfigurationConstants.ENCRYPTION_PARTS, securementEncryptionParts);
+	}
+
+	public void setValidationActions(String validationActions) {
+		this.validationActions = validationActions;
+	}
+
+	/**
+	 * Sets the {@link CallbackHandler} to use when validating messages, for instance to
+	 * look up the password of a {@code UsernameToken}.
+	 */
+	public void setValidationCallbackHandler(CallbackHandler callbackHandler) {
+		this.validationCallbackHandler = callbackHandler;
+	}
+
+	/**
+	 * Sets the Crypto to use to verify the signature of incoming messages.
+	 */
+	public void setValidationSignatureCrypto(Crypto signatureCrypto) {
+		this.validationSignatureCrypto = signatureCrypto;
+	}
+
+	/**
+	 * Sets the Crypto to use to decrypt incoming messages.
+	 */
+	public void setValidationDecryptionCrypto(Crypto decryptionCrypto) {
+		this.validationDecryptionCrypto = decryptionCrypto;
+	}
+
+	/**
+	 * Sets the time to live, in seconds, of the timestamp of incoming messages.
+	 */
+	public void setValidationTimeToLive(int validationTimeToLive) {
+		Assert.isTrue(validationTimeToLive > 0, "validationTimeToLive must be positive");
+		setValidationOption(ConfigurationConstants.TTL_TIMESTAMP, Integer.toString(validationTimeToLive));
+	}
+
+	/**
+	 * Sets the time in seconds in the future within which the Created time of an incoming
+	 * Timestamp is valid.
+	 */
+	public void setFutureTimeToLive(int futureTimeToLive) {
+		Assert.isTrue(futureTimeToLive > 0, "futureTimeToLive must be positive");
+		setValidationOption(ConfigurationConstants.TTL_FUTURE_TIMESTAMP, Integer.toString(futureTimeToLive));
+	}
+
+	/**
+	 * Sets whether timestamp verification is done with the server-side time to live.
+	 */
+	public void setTimestampStrict(boolean timestampStrict) {
+		setValidationOption(ConfigurationConstants.TIMESTAMP_STRICT, Boolean.toString(timestampStrict));
+	}
+
+	/**
+	 * Sets whether the RSA PKCS#1 v1.5 key transport algorithm is allowed when
+	 * <strong>validating</strong> encrypted messages.
+	 */
+	public void setAllowRSA15KeyTransportAlgorithm(boolean allow) {
+		setValidationOption(ConfigurationConstants.ALLOW_RSA15_KEY_TRANSPORT_ALGORITHM, Boolean.toString(allow));
+	}
+
+	public boolean getRemoveSecurityHeader() {
+		return this.removeSecurityHeader;
+	}
+
+	public void setRemoveSecurityHeader(boolean removeSecurityHeader) {
+		this.removeSecurityHeader = removeSecurityHeader;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		if (StringUtils.hasText(this.securementActions)) {
+			this.outboundWSSec = createOutboundWSSec(this.securementUsername);
+		}
+		this.validationActionSet = Action.parse(this.validationActions);
+		if (!this.validationActionSet.isEmpty()) {
+			if (this.validationActionSet.contains(Action.USERNAME_TOKEN)) {
+				Assert.notNull(this.validationCallbackHandler, "validationCallbackHandler is required");
+			}
+			if (this.validationActionSet.contains(Action.SIGNATURE)) {
+				Assert.notNull(this.validationSignatureCrypto, "validationSignatureCrypto is required");
+			}
+			this.inboundWSSec = createInboundWSSec();
+		}
+	}
+
+	private OutboundWSSec createOutboundWSSec(@Nullable String username) throws WSSecurityException {
+		Map<String, Object> options = new HashMap<>(this.securementOptions);
+		options.put(ConfigurationConstants.ACTION, this.securementActions);
+		if (username != null) {
+			options.put(ConfigurationConstants.USER, username);
+		}
+		WSSSecurityProperties properties = ConfigurationConverter.convert(options);
+		properties.setCallbackHandler(this::handleSecurementCallbacks);
+		if (this.securementSignatureCrypto != null) {
+			properties.setSignatureCrypto(this.securementSignatureCrypto);
+		}
+		if (this.securementEncryptionCrypto != null) {
+			properties.setEncryptionCrypto(this.securementEncryptionCrypto);
+		}
+		return WSSec.getOutboundWSSec(properties);
+	}
+
+	private void handleSecurementCallbacks(Callback[] callbacks) throws UnsupportedCallbackException {
+		for (Callback callback : callbacks) {
+			if (callback instanceof WSPasswordCallback passwordCallback) {
+				passwordCallback.setPassword(this.securementPassword);
+			}
+			else {
+				throw new UnsupportedCallbackException(callback);
+			}
+		}
+	}
+
+	private InboundWSSec createInboundWSSec() throws WSSecurityException {
+		WSSSecurityProperties properties = ConfigurationConverter.convert(this.validationOptions);
+		if (this.validationCallbackHandler != null) {
+			properties.setCallbackHandler(this.validationCallbackHandler);
+		}
+		if (this.validationSignatureCrypto != null) {
+			properties.setSignatureVerificationCrypto(this.validationSignatureCrypto);
+		}
+		if (this.validationDecryptionCrypto != null) {
+			properties.setDecryptionCrypto(this.validationDecryptionCrypto);
+		}
+		return WSSec.getInboundWSSec(properties);
+	}
+
+	@Override
+	protected void secureMessage(SoapMessage soapMessage, MessageContext messageContext)
+			throws WsSecuritySecurementException {
+		if (!StringUtils.hasText(this.securementActions)) {
+			return;
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Securing message [" + soapMessage + "] with actions [" + this.securementActions + "]");
+		}
+		AxiomSoapMessage axiomSoapMessage = asAxiomSoapMessage(soapMessage);
+		FastByteArrayOutputStream buffer = new FastByteArrayOutputStream();
+		try {
+			XMLStreamWriter writer = getOutboundWSSec(messageContext).processOutMessage(buffer,
+					ENCODING, new ArrayList<>());
+			// the message is replaced below, no need to cache the original tree
+			axiomSoapMessage.getAxiomMessage().serialize(writer, false);
+			writer.close();
+		}
+		catch (WSSecurityException | XMLStreamException | OMException ex) {
+			throw new Wss4jSecuritySecurementException(ex.getMessage(), ex);
+		}
+		replaceAxiomMessage(axiomSoapMessage, buildAxiomMessage(axiomSoapMessage, buffer.getInputStream()));
+	}
+
+	private OutboundWSSec getOutboundWSSec(MessageContext messageContext) throws WSSecurityException {
+		String contextUsername = (String) messageContext
+			.getProperty(Wss4jSecurityInterceptor.SECUREMENT_USER_PROPERTY_NAME);
+		if (StringUtils.hasLength(contextUsername)) {
+			return createOutboundWSSec(contextUsername);
+		}
+		OutboundWSSec outbound = this.outboundWSSec;
+		if (outbound == null) {
+			outbound = createOutboundWSSec(this.securementUsername);
+			this.outboundWSSec = outbound;
+		}
+		return outbound;
+	}
+
+	@Override
+	protected void validateMessage(SoapMessage soapMessage, MessageContext messageContext)
+			throws WsSecurityValidationException {
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Validating message [" + soapMessage + "] with actions [" + this.validationActions + "]");
+		}
+		if (this.validationActionSet.isEmpty()) {
+			return;
+		}
+		AxiomSoapMessage axiomSoapMessage = asAxiomSoapMessage(soapMessage);
+		List<SecurityEvent> securityEvents = new ArrayList<>();
+		try {
+			XMLStreamReader reader = getInboundWSSec().processInMessage(
+					axiomSoapMessage.getAxiomMessage().getXMLStreamReaderWithoutCaching(), null,
+					securityEvents::add);
+			SOAPMessage validatedMessage = OMXMLBuilderFactory
+				.createStAXSOAPModelBuilder(getMetaFactory(axiomSoapMessage), reader)
+				.getSOAPMessage();
+			// building the whole tree drives the inbound processing to completion
+			validatedMessage.build();
+			replaceAxiomMessage(axiomSoapMessage, validatedMessage);
+		}
+		catch (WSSecurityException | XMLStreamException | OMException ex) {
+			throw new Wss4jSecurityValidationException(ex.getMessage(), ex);
+		}
+
+		checkSecurityEvents(securityEvents);
+
+		if (getRemoveSecurityHeader()) {
+			SoapHeader header = soapMessage.getEnvelope().getHeader();
+			if (header != null) {
+				header.removeHeaderElement(WS_SECURITY_NAME);
+			}
+		}
+	}
+
+	private InboundWSSec getInboundWSSec() throws WSSecurityException {
+		InboundWSSec inbound = this.inboundWSSec;
+		if (inbound == null) {
+			inbound = createInboundWSSec();
+			this.inboundWSSec = inbound;
+		}
+		return inbound;
+	}
+
+	/**
+	 * Checks whether the security events raised while processing an incoming message
+	 * match the configured validation actions. Subclasses could override this method for
+	 * custom verification behavior.
+	 * @param securityEvents the security events raised by WSS4J
+	 * @throws Wss4jSecurityValidationException if the events are deemed invalid
+	 */
+	protected void checkSecurityEvents(List<SecurityEvent> securityEvents) throws Wss4jSecurityValidationException {
+		Set<Action> actions = EnumSet.noneOf(Action.class);
+		for (SecurityEvent securityEvent : securityEvents) {
+			Action action = Action.forEvent(securityEvent.getSecurityEventType());
+			if (action != null) {
+				actions.add(action);
+			}
+		}
+		if (actions.isEmpty()) {
+			throw new Wss4jSecurityValidationException("No WS-Security header found");
+		}
+		boolean match = (this.strictActionChecking) ? actions.equals(this.validationActionSet)
+				: actions.containsAll(this.validationActionSet);
+		if (!match) {
+			throw new Wss4jSecurityValidationException("Security processing failed (actions mismatch)");
+		}
+	}
+
+	@Override
+	protected void cleanUp() {
+		if (this.validationCallbackHandler != null) {
+			try {
+				this.validationCallbackHandler.handle(new Callback[] { new CleanupCallback() });
+			}
+			catch (IOException ex) {
+				this.logger.warn("Cleanup callback resulted in IOException", ex);
+			}
+			catch (UnsupportedCallbackException ex) {
+				// ignore
+			}
+		}
+	}
+
+	private static AxiomSoapMessage asAxiomSoapMessage(SoapMessage soapMessage) {
+		Assert.isInstanceOf(AxiomSoapMessage.class, soapMessage,
+				"Wss4jStaxSecurityInterceptor requires an AxiomSoapMessage");
+		return (AxiomSoapMessage) soapMessage;
+	}
+
+	private static OMMetaFactory getMetaFactory(AxiomSoapMessage axiomSoapMessage) {
+		return axiomSoapMessage.getAxiomMessage().getOMFactory().getMetaFactory();
+	}
+
+	private static SOAPMessage buildAxiomMessage(AxiomSoapMessage axiomSoapMessage, InputStream inputStream) {
+		return OMXMLBuilderFactory
+			.createSOAPModelBuilder(getMetaFactory(axiomSoapMessage), inputStream, ENCODING)
+			.getSOAPMessage();
+	}
+
+	private static void replaceAxiomMessage(AxiomSoapMessage axiomSoapMessage, SOAPMessage axiomMessage) {
+		String soapAction = axiomSoapMessage.getSoapAction();
+		axiomSoapMessage.setAxiomMessage(axiomMessage);
+		axiomSoapMessage.setSoapAction(soapAction);
+	}
+
+	/**
+	 * The actions supported by this interceptor.
+	 */
+	private enum Action {
+
+		USERNAME_TOKEN(WSSecurityEventConstants.USERNAME_TOKEN),
+
+		TIMESTAMP(WSSecurityEventConstants.TIMESTAMP),
+
+		SIGNATURE(WSSecurityEventConstants.SIGNED_PART, SecurityEventConstants.SignedElement),
+
+		ENCRYPT(WSSecurityEventConstants.ENCRYPTED_PART, SecurityEventConstants.EncryptedElement,
+				SecurityEventConstants.ContentEncrypted);
+
+		private final SecurityEventConstants.Event[] events;
+
+		Action(SecurityEventConstants.Event... events) {
+			this.events = events;
+		}
+
+		static Set<Action> parse(@Nullable String actions) {
+			Set<Action> result = EnumSet.noneOf(Action.class);
+			for (String action : StringUtils.tokenizeToStringArray(actions, " ")) {
+				switch (action) {
+					case ConfigurationConstants.USERNAME_TOKEN -> result.add(USERNAME_TOKEN);
+					case ConfigurationConstants.TIMESTAMP -> result.add(TIMESTAMP);
+					case ConfigurationConstants.SIGNATURE -> result.add(SIGNATURE);
+					case ConfigurationConstants.ENCRYPT, ConfigurationConstants.ENCRYPTION -> result.add(ENCRYPT);
+					case ConfigurationConstants.NO_SECURITY -> {
+					}
+					default -> throw new IllegalArgumentException("Unsupported validation action [" + action + "]");
+				}
+			}
+			return result;
+		}
+
+		static @Nullable Action forEvent(SecurityEventConstants.Event event) {
+			for (Action action : values()) {
+				for (SecurityEventConstants.Event candidate : action.events) {
+					if (candidate.equals(event)) {
+						return action;
+					}
+				}
+			}
+			return null;
+		}
+
+	}
+
+}
@@ -17,17 +17,29 @@
 package org.springframework.ws.soap.security.wss4j2.cache;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Comparator;
 import java.util.Map;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.util.Assert;
 
 /**
- * {@link SpringReplayCache} backed by an internal {@link ConcurrentMapCache} that sweeps
- * all expired entries on cache access so keys that are never read again are still removed
- * once they expire.
+ * {@link SpringReplayCache} backed by an internal {@link ConcurrentMapCache}. Entries are
+ * also indexed by expiry, so that expired entries are removed incrementally on cache
+ * access, including keys that are never read again.
+ * <p>
+ * The number of entries is capped by {@code maxEntries}. Valid entries are never removed
+ * before their expiry, as doing so would allow the corresponding messages to be replayed.
+ * Rather, the cache fails closed: once the cap is reached and no entry has expired,
+ * {@link #contains} reports any unknown identifier as present, so that new messages are
+ * rejected as replays until capacity is available again. As an identifier is only added
+ * after such a lookup, the cap can be exceeded by the number of concurrent requests at
+ * most. Hit, eviction, and rejection counts are available for monitoring.
  * <p>
  * Use this implementation only with single host deployment. Services that are deployment
  * on multiple hosts should use a distributed cache, see {@link SpringReplayCache} for
@@ -38,30 +50,176 @@ import org.springframework.cache.concurrent.ConcurrentMapCache;
  */
 public class ConcurrentMapReplayCache extends SpringReplayCache {
 
+	/**
+	 * Default maximum number of entries.
+	 * @since 5.1.0
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1_000_000;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder rejectionCount = new LongAdder();
+
 	public ConcurrentMapReplayCache() {
 		this(DEFAULT_TTL, MAX_TTL);
 	}
 
 	public ConcurrentMapReplayCache(long defaultTtlSeconds, long maxTtlSeconds) {
-		super(new ConcurrentMapCache("wss4j-replay"), defaultTtlSeconds, maxTtlSeconds);
+		this(defaultTtlSeconds, maxTtlSeconds, DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create an instance with the given TTLs and maximum number of entries.
+	 * @param defaultTtlSeconds the default TTL in seconds
+	 * @param maxTtlSeconds the maximum TTL in seconds
+	 * @param maxEntries the maximum number of entries
+	 * @since 5.1.0
+	 */
+	public ConcurrentMapReplayCache(long defaultTtlSeconds, long maxTtlSeconds, int maxEntries) {
+		super(new ExpiryIndexedCache("wss4j-replay", maxEntries), defaultTtlSeconds, maxTtlSeconds);
+	}
+
+	@Override
+	public boolean contains(String identifier) {
+		boolean found = super.contains(identifier);
+		if (found) {
+			this.hitCount.increment();
+			return true;
+		}
+		if (identifier != null && !identifier.isEmpty() && getExpiryIndexedCache().isFull()) {
+			this.rejectionCount.increment();
+			return true;
+		}
+		return false;
 	}
 
 	@Override
 	protected void onCacheAccess() {
-		Instant now = Instant.now();
-		ConcurrentMapCache mapCache = (ConcurrentMapCache) getCache();
-		ConcurrentMap<Object, Object> store = mapCache.getNativeCache();
-		List<Object> keysToRemove = new ArrayList<>();
-		for (Map.Entry<Object, Object> entry : store.entrySet()) {
-			Object key = entry.getKey();
-			Object value = entry.getValue();
-			if (value instanceof Instant instant && instant.isBefore(now)) {
-				keysToRemove.add(key);
+		getExpiryIndexedCache().evictExpired(Instant.now());
+	}
+
+	/**
+	 * Return the number of lookups that found a valid entry.
+	 * @return the hit count
+	 * @since 5.1.0
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of entries that have been removed because they expired.
+	 * @return the eviction count
+	 * @since 5.1.0
+	 */
+	public long getEvictionCount() {
+		return getExpiryIndexedCache().evictionCount.sum();
+	}
+
+	/**
+	 * Return the number of lookups of unknown identifiers that have been reported as
+	 * present because the maximum number of entries was reached.
+	 * @return the rejection count
+	 * @since 5.1.0
+	 */
+	public long getRejectionCount() {
+		return this.rejectionCount.sum();
+	}
+
+	private ExpiryIndexedCache getExpiryIndexedCache() {
+		return (ExpiryIndexedCache) getCache();
+	}
+
+	/**
+	 * {@link ConcurrentMapCache} that keeps an index of its entries ordered by expiry.
+	 * <p>
+	 * Replacing an entry leaves its previous index entry behind. Such stale index entries
+	 * are discarded when they reach the head of the index, as the backing store is only
+	 * updated if it still holds the indexed expiry.
+	 */
+	private static final class ExpiryIndexedCache extends ConcurrentMapCache {
+
+		private static final Comparator<IndexEntry> ORDER = Comparator.comparing(IndexEntry::expiry)
+			.thenComparingLong(IndexEntry::sequence);
+
+		private final ConcurrentSkipListMap<IndexEntry, Boolean> index = new ConcurrentSkipListMap<>(ORDER);
+
+		private final AtomicLong sequence = new AtomicLong();
+
+		private final int maxEntries;
+
+		private final LongAdder evictionCount = new LongAdder();
+
+		ExpiryIndexedCache(String name, int maxEntries) {
+			super(name);
+			Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+			this.maxEntries = maxEntries;
+		}
+
+		@Override
+		public void put(Object key, @Nullable Object value) {
+			super.put(key, value);
+			if (value instanceof Instant expiry) {
+				index(key, expiry);
+			}
+		}
+
+		@Override
+		public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+			ValueWrapper existing = super.putIfAbsent(key, value);
+			if (existing == null && value instanceof Instant expiry) {
+				index(key, expiry);
+			}
+			return existing;
+		}
+
+		@Override
+		public void clear() {
+			super.clear();
+			this.index.clear();
+		}
+
+		private void index(Object key, Instant expiry) {
+			this.index.put(new IndexEntry(expiry, this.sequence.getAndIncrement(), key), Boolean.TRUE);
+		}
+
+		/**
+		 * Return whether the maximum number of entries has been reached.
+		 */
+		boolean isFull() {
+			return getNativeCache().size() >= this.maxEntries;
+		}
+
+		/**
+		 * Remove entries that expired before the given instant. Each entry is removed
+		 * once, so the cost is amortized over the entries that have been added.
+		 */
+		void evictExpired(Instant now) {
+			Map.Entry<IndexEntry, Boolean> head;
+			while ((head = this.index.firstEntry()) != null && head.getKey().expiry().isBefore(now)) {
+				if (remove(head.getKey())) {
+					this.evictionCount.increment();
+				}
 			}
 		}
-		for (Object key : keysToRemove) {
-			mapCache.evict(key);
+
+		/**
+		 * Remove the given index entry, as well as the cache entry if it still holds the
+		 * indexed expiry.
+		 * @return whether a cache entry has been removed
+		 */
+		private boolean remove(IndexEntry entry) {
+			if (this.index.remove(entry) == null) {
+				// removed concurrently
+				return false;
+			}
+			return getNativeCache().remove(entry.key(), entry.expiry());
 		}
+
+	}
+
+	private record IndexEntry(Instant expiry, long sequence, Object key) {
+
 	}
 
 }
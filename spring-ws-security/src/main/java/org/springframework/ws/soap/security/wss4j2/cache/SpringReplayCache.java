@@ -34,7 +34,7 @@ import org.springframework.util.Assert;
  * This does not rely on the backing cache's own TTL configuration.
  * <p>
  * Subclasses may override {@link #onCacheAccess()} and to perform additional eviction,
- * for example, a full sweep over an in-memory cache.
+ * for example, removing expired entries from an in-memory cache.
  * <p>
  * For multi hosts deployment in production, make sure to use a {@link Cache}
  * implementation that is distributed, as each host needs to access the same data. For
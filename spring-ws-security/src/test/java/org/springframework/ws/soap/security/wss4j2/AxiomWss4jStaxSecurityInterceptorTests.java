@@ -0,0 +1,210 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.soap.security.wss4j2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.apache.wss4j.common.crypto.Crypto;
+import org.apache.wss4j.dom.WSConstants;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.soap.security.WsSecurityValidationException;
+import org.springframework.ws.soap.security.wss4j2.callback.KeyStoreCallbackHandler;
+import org.springframework.ws.soap.security.wss4j2.callback.SimplePasswordValidationCallbackHandler;
+import org.springframework.ws.soap.security.wss4j2.support.CryptoFactoryBean;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link Wss4jStaxSecurityInterceptor}.
+ *
+ * @author Stephane Nicoll
+ */
+class AxiomWss4jStaxSecurityInterceptorTests extends Wss4jTests {
+
+	@Test
+	void secureAndValidateUsernameTokenAndTimestamp() throws Exception {
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		MessageContext messageContext = getSoap11MessageContext(message);
+		createSecuringInterceptor("Timestamp UsernameToken", "Ernie").secureMessage(message, messageContext);
+
+		Document document = getDocument(message);
+		assertXpathEvaluatesTo("Invalid Username", "Bert",
+				"/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security/wsse:UsernameToken/wsse:Username/text()", document);
+		assertXpathExists("No Timestamp", "/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security/wsu:Timestamp",
+				document);
+
+		createValidatingInterceptor("Timestamp UsernameToken").validateMessage(message, messageContext);
+
+		document = getDocument(message);
+		assertXpathNotExists("Security Header not removed", "/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security",
+				document);
+		assertXpathEvaluatesTo("Invalid payload", "QQQ", "/SOAP-ENV:Envelope/SOAP-ENV:Body/*/text()", document);
+	}
+
+	@Test
+	void validateUsernameTokenWithInvalidPassword() throws Exception {
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		MessageContext messageContext = getSoap11MessageContext(message);
+		createSecuringInterceptor("UsernameToken", "Oscar").secureMessage(message, messageContext);
+
+		Wss4jStaxSecurityInterceptor interceptor = createValidatingInterceptor("UsernameToken");
+		assertThatExceptionOfType(WsSecurityValidationException.class)
+			.isThrownBy(() -> interceptor.validateMessage(message, messageContext));
+	}
+
+	@Test
+	void validateWithMissingAction() throws Exception {
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		MessageContext messageContext = getSoap11MessageContext(message);
+		createSecuringInterceptor("UsernameToken", "Ernie").secureMessage(message, messageContext);
+
+		Wss4jStaxSecurityInterceptor interceptor = createValidatingInterceptor("Timestamp UsernameToken");
+		assertThatExceptionOfType(WsSecurityValidationException.class)
+			.isThrownBy(() -> interceptor.validateMessage(message, messageContext))
+			.withMessage("Security processing failed (actions mismatch)");
+	}
+
+	@Test
+	void signAndValidateSignature() throws Exception {
+		Crypto crypto = createCrypto();
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		MessageContext messageContext = getSoap11MessageContext(message);
+		Wss4jStaxSecurityInterceptor securingInterceptor = new Wss4jStaxSecurityInterceptor();
+		securingInterceptor.setSecurementActions("Signature");
+		securingInterceptor.setSecurementUsername("rsaKey");
+		securingInterceptor.setSecurementPassword("123456");
+		securingInterceptor.setSecurementSignatureCrypto(crypto);
+		securingInterceptor.afterPropertiesSet();
+		securingInterceptor.secureMessage(message, messageContext);
+
+		Document document = getDocument(message);
+		assertXpathExists("No Signature", "/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security/ds:Signature", document);
+
+		Wss4jStaxSecurityInterceptor validatingInterceptor = new Wss4jStaxSecurityInterceptor();
+		validatingInterceptor.setValidationActions("Signature");
+		validatingInterceptor.setValidationSignatureCrypto(crypto);
+		validatingInterceptor.afterPropertiesSet();
+		validatingInterceptor.validateMessage(message, messageContext);
+
+		document = getDocument(message);
+		assertXpathNotExists("Security Header not removed", "/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security",
+				document);
+		assertXpathEvaluatesTo("Invalid payload", "QQQ", "/SOAP-ENV:Envelope/SOAP-ENV:Body/*/text()", document);
+	}
+
+	@Test
+	void validateSignatureOfTamperedMessage() throws Exception {
+		Crypto crypto = createCrypto();
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		MessageContext messageContext = getSoap11MessageContext(message);
+		Wss4jStaxSecurityInterceptor securingInterceptor = new Wss4jStaxSecurityInterceptor();
+		securingInterceptor.setSecurementActions("Signature");
+		securingInterceptor.setSecurementUsername("rsaKey");
+		securingInterceptor.setSecurementPassword("123456");
+		securingInterceptor.setSecurementSignatureCrypto(crypto);
+		securingInterceptor.afterPropertiesSet();
+		securingInterceptor.secureMessage(message, messageContext);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		message.writeTo(out);
+		byte[] tamperedContent = out.toString(StandardCharsets.UTF_8)
+			.replace(">QQQ<", ">RRR<")
+			.getBytes(StandardCharsets.UTF_8);
+		SoapMessage tampered = getSoap11MessageFactory()
+			.createWebServiceMessage(new ByteArrayInputStream(tamperedContent));
+
+		Wss4jStaxSecurityInterceptor validatingInterceptor = new Wss4jStaxSecurityInterceptor();
+		validatingInterceptor.setValidationActions("Signature");
+		validatingInterceptor.setValidationSignatureCrypto(crypto);
+		validatingInterceptor.afterPropertiesSet();
+		assertThatExceptionOfType(WsSecurityValidationException.class)
+			.isThrownBy(() -> validatingInterceptor.validateMessage(tampered, getSoap11MessageContext(tampered)));
+	}
+
+	@Test
+	void encryptAndDecrypt() throws Exception {
+		Crypto crypto = createCrypto();
+		SoapMessage message = loadSoap11Message("empty-soap.xml");
+		MessageContext messageContext = getSoap11MessageContext(message);
+		Wss4jStaxSecurityInterceptor securingInterceptor = new Wss4jStaxSecurityInterceptor();
+		securingInterceptor.setSecurementActions("Encrypt");
+		securingInterceptor.setSecurementEncryptionUser("rsakey");
+		securingInterceptor.setSecurementEncryptionCrypto(crypto);
+		securingInterceptor.afterPropertiesSet();
+		securingInterceptor.secureMessage(message, messageContext);
+
+		Document document = getDocument(message);
+		assertXpathExists("No EncryptedKey", "/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security/xenc:EncryptedKey",
+				document);
+		assertXpathNotExists("Payload not encrypted", "/SOAP-ENV:Envelope/SOAP-ENV:Body/*[text()='QQQ']", document);
+
+		KeyStoreCallbackHandler callbackHandler = new KeyStoreCallbackHandler();
+		callbackHandler.setPrivateKeyPassword("123456");
+		Wss4jStaxSecurityInterceptor validatingInterceptor = new Wss4jStaxSecurityInterceptor();
+		validatingInterceptor.setValidationActions("Encrypt");
+		validatingInterceptor.setValidationCallbackHandler(callbackHandler);
+		validatingInterceptor.setValidationDecryptionCrypto(crypto);
+		validatingInterceptor.afterPropertiesSet();
+		validatingInterceptor.validateMessage(message, messageContext);
+
+		document = getDocument(message);
+		assertXpathNotExists("Security Header not removed", "/SOAP-ENV:Envelope/SOAP-ENV:Header/wsse:Security",
+				document);
+		assertXpathEvaluatesTo("Decryption error", "QQQ", "/SOAP-ENV:Envelope/SOAP-ENV:Body/*/text()", document);
+	}
+
+	private Wss4jStaxSecurityInterceptor createSecuringInterceptor(String actions, String password) throws Exception {
+		Wss4jStaxSecurityInterceptor interceptor = new Wss4jStaxSecurityInterceptor();
+		interceptor.setSecurementActions(actions);
+		interceptor.setSecurementUsername("Bert");
+		interceptor.setSecurementPassword(password);
+		interceptor.setSecurementPasswordType(WSConstants.PW_TEXT);
+		interceptor.afterPropertiesSet();
+		return interceptor;
+	}
+
+	private Wss4jStaxSecurityInterceptor createValidatingInterceptor(String actions) throws Exception {
+		Properties users = new Properties();
+		users.setProperty("Bert", "Ernie");
+		SimplePasswordValidationCallbackHandler callbackHandler = new SimplePasswordValidationCallbackHandler();
+		callbackHandler.setUsers(users);
+		Wss4jStaxSecurityInterceptor interceptor = new Wss4jStaxSecurityInterceptor();
+		interceptor.setValidationActions(actions);
+		interceptor.setValidationCallbackHandler(callbackHandler);
+		interceptor.afterPropertiesSet();
+		return interceptor;
+	}
+
+	private static Crypto createCrypto() throws Exception {
+		CryptoFactoryBean cryptoFactoryBean = new CryptoFactoryBean();
+		Properties cryptoFactoryBeanConfig = new Properties();
+		cryptoFactoryBeanConfig.setProperty("org.apache.ws.security.crypto.provider",
+				"org.apache.ws.security.components.crypto.Merlin");
+		cryptoFactoryBeanConfig.setProperty("org.apache.ws.security.crypto.merlin.keystore.type", "jceks");
+		cryptoFactoryBeanConfig.setProperty("org.apache.ws.security.crypto.merlin.keystore.password", "123456");
+		cryptoFactoryBeanConfig.setProperty("org.apache.ws.security.crypto.merlin.file", "private.jks");
+		cryptoFactoryBean.setConfiguration(cryptoFactoryBeanConfig);
+		cryptoFactoryBean.afterPropertiesSet();
+		return cryptoFactoryBean.getObject();
+	}
+
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * Tests for {@link ConcurrentMapReplayCache}.
@@ -73,4 +74,74 @@ class ConcurrentMapReplayCacheTests {
 		assertThat(replayCache.contains("nonce-4")).isFalse();
 	}
 
+	@Test
+	void createWithZeroMaxEntriesFails() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ConcurrentMapReplayCache(60, 120, 0))
+			.withMessage("maxEntries must be positive");
+	}
+
+	@Test
+	void expiredEntriesAreEvictedOnAdd() {
+		ConcurrentMapReplayCache replayCache = new ConcurrentMapReplayCache();
+		ConcurrentMapCache backing = (ConcurrentMapCache) replayCache.getCache();
+		backing.put("stale-1", Instant.now().minusSeconds(30));
+		backing.put("stale-2", Instant.now().minusSeconds(10));
+		replayCache.add("nonce-5");
+		assertThat(backing.getNativeCache()).containsOnlyKeys("nonce-5");
+		assertThat(replayCache.getEvictionCount()).isEqualTo(2);
+	}
+
+	@Test
+	void replacedEntryIsNotEvictedWithPreviousExpiry() {
+		ConcurrentMapReplayCache replayCache = new ConcurrentMapReplayCache();
+		ConcurrentMapCache backing = (ConcurrentMapCache) replayCache.getCache();
+		backing.put("nonce-6", Instant.now().minusSeconds(30));
+		replayCache.add("nonce-6");
+		assertThat(replayCache.contains("nonce-6")).isTrue();
+		assertThat(replayCache.getEvictionCount()).isZero();
+	}
+
+	@Test
+	void unknownIdentifiersAreRejectedWhenFull() {
+		ConcurrentMapReplayCache replayCache = new ConcurrentMapReplayCache(60, 600, 2);
+		replayCache.add("nonce-7");
+		replayCache.add("nonce-8");
+		assertThat(replayCache.contains("nonce-9")).isTrue();
+		assertThat(replayCache.contains("nonce-7")).isTrue();
+		assertThat(replayCache.contains("nonce-8")).isTrue();
+		assertThat(replayCache.getRejectionCount()).isEqualTo(1);
+		assertThat(replayCache.getHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	void validEntriesAreNotRemovedWhenFull() {
+		ConcurrentMapReplayCache replayCache = new ConcurrentMapReplayCache(60, 600, 2);
+		Instant now = Instant.now();
+		replayCache.add("nonce-7", now.plusSeconds(300));
+		replayCache.add("nonce-8", now.plusSeconds(100));
+		replayCache.add("nonce-9", now.plusSeconds(200));
+		ConcurrentMapCache backing = (ConcurrentMapCache) replayCache.getCache();
+		assertThat(backing.getNativeCache()).containsOnlyKeys("nonce-7", "nonce-8", "nonce-9");
+	}
+
+	@Test
+	void unknownIdentifiersAreAcceptedOnceEntriesExpire() {
+		ConcurrentMapReplayCache replayCache = new ConcurrentMapReplayCache(60, 600, 2);
+		ConcurrentMapCache backing = (ConcurrentMapCache) replayCache.getCache();
+		backing.put("stale-1", Instant.now().minusSeconds(30));
+		backing.put("stale-2", Instant.now().minusSeconds(10));
+		assertThat(replayCache.contains("nonce-10")).isFalse();
+		assertThat(replayCache.getRejectionCount()).isZero();
+	}
+
+	@Test
+	void hitCountIsIncrementedOnlyForValidEntries() {
+		ConcurrentMapReplayCache replayCache = new ConcurrentMapReplayCache();
+		replayCache.add("nonce-10");
+		assertThat(replayCache.contains("nonce-10")).isTrue();
+		assertThat(replayCache.contains("nonce-10")).isTrue();
+		assertThat(replayCache.contains("other")).isFalse();
+		assertThat(replayCache.getHitCount()).isEqualTo(2);
+	}
+
 }
@@ -30,7 +30,10 @@ import jakarta.jms.Session;
 import jakarta.jms.Topic;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jms.connection.CachingConnectionFactory;
 import org.springframework.jms.connection.ConnectionFactoryUtils;
+import org.springframework.jms.connection.SingleConnectionFactory;
 import org.springframework.jms.core.MessagePostProcessor;
 import org.springframework.jms.support.JmsUtils;
 import org.springframework.jms.support.destination.JmsDestinationAccessor;
@@ -85,7 +88,9 @@ import org.springframework.ws.transport.jms.support.JmsTransportUtils;
  * </table>
  * <p>
  * If the {@code replyToName} is not set, a {@link Session#createTemporaryQueue()
- * temporary queue} is used.
+ * temporary queue} is used. By default, a temporary queue is created for each request.
+ * Alternatively, a {@linkplain #setSharedReplyConsumer(boolean) shared reply consumer}
+ * can receive the replies to all requests on a single temporary queue.
  * <p>
  * This class uses {@link jakarta.jms.BytesMessage} messages by default, but can be
  * configured to send {@link jakarta.jms.TextMessage} messages instead. <b>Note</b> that
@@ -110,7 +115,7 @@ import org.springframework.ws.transport.jms.support.JmsTransportUtils;
  * @see <a href="https://datatracker.ietf.org/doc/rfc6167">IRI Scheme for Java(tm) Message
  * Service 1.0</a>
  */
-public class JmsMessageSender extends JmsDestinationAccessor implements WebServiceMessageSender {
+public class JmsMessageSender extends JmsDestinationAccessor implements WebServiceMessageSender, DisposableBean {
 
 	/**
 	 * Default timeout for receive operations: -1 indicates a blocking receive without
@@ -132,6 +137,14 @@ public class JmsMessageSender extends JmsDestinationAccessor implements WebServi
 
 	private @Nullable DestinationPolicy<JmsDestinationDescriptor> destinationPolicy;
 
+	private boolean sharedReplyConsumer = false;
+
+	private final Object sharedResourcesMonitor = new Object();
+
+	private @Nullable ConnectionFactory requestConnectionFactory;
+
+	private @Nullable JmsReplyDispatcher replyDispatcher;
+
 	/**
 	 * Create a new {@code JmsMessageSender}
 	 * <p>
@@ -186,14 +199,39 @@ public class JmsMessageSender extends JmsDestinationAccessor implements WebServi
 		this.destinationPolicy = destinationPolicy;
 	}
 
+	/**
+	 * Set whether replies to requests without a {@code replyToName} should be received by
+	 * a single consumer shared by all requests, rather than by creating a temporary queue
+	 * and a consumer for each request. Default is {@code false}.
+	 * <p>
+	 * When enabled, this sender listens on a long-lived temporary queue, using a
+	 * dedicated connection. Each request is sent with a unique {@code JMSCorrelationID},
+	 * and the reply carrying that correlation id is routed to the caller waiting for it.
+	 * Requests are sent using a {@link CachingConnectionFactory} so that the connection,
+	 * sessions and producers are reused, unless the configured connection factory is
+	 * already a {@link SingleConnectionFactory}.
+	 * @param sharedReplyConsumer whether to use a shared reply consumer
+	 * @since 5.1.0
+	 */
+	public void setSharedReplyConsumer(boolean sharedReplyConsumer) {
+		this.sharedReplyConsumer = sharedReplyConsumer;
+	}
+
 	@Override
 	public WebServiceConnection createConnection(URI uri) throws IOException {
 		ConnectionFactory connectionFactory = getConnectionFactory();
 		Assert.notNull(connectionFactory, "ConnectionFactory is required");
+		JmsReplyDispatcher replyDispatcher = null;
+		if (this.sharedReplyConsumer) {
+			synchronized (this.sharedResourcesMonitor) {
+				connectionFactory = getRequestConnectionFactory(connectionFactory);
+				replyDispatcher = getReplyDispatcher();
+			}
+		}
 		Connection jmsConnection = null;
 		Session jmsSession = null;
 		try {
-			jmsConnection = createConnection();
+			jmsConnection = (replyDispatcher != null) ? connectionFactory.createConnection() : createConnection();
 			jmsSession = createSession(jmsConnection);
 			Destination requestDestination = resolveRequestDestination(jmsSession, uri);
 			Message requestMessage = createRequestMessage(jmsSession, uri);
@@ -207,15 +245,52 @@ public class JmsMessageSender extends JmsDestinationAccessor implements WebServi
 			wsConnection.setTextMessageEncoding(this.textMessageEncoding);
 			wsConnection.setSessionTransacted(isSessionTransacted());
 			wsConnection.setPostProcessor(this.postProcessor);
+			wsConnection.setReplyDispatcher(replyDispatcher);
 			return wsConnection;
 		}
 		catch (JMSException ex) {
 			JmsUtils.closeSession(jmsSession);
-			ConnectionFactoryUtils.releaseConnection(jmsConnection, getConnectionFactory(), true);
+			ConnectionFactoryUtils.releaseConnection(jmsConnection, connectionFactory, true);
 			throw new JmsTransportException(ex);
 		}
 	}
 
+	private ConnectionFactory getRequestConnectionFactory(ConnectionFactory connectionFactory) {
+		if (connectionFactory instanceof SingleConnectionFactory) {
+			return connectionFactory;
+		}
+		if (this.requestConnectionFactory == null) {
+			this.requestConnectionFactory = new CachingConnectionFactory(connectionFactory);
+		}
+		return this.requestConnectionFactory;
+	}
+
+	private JmsReplyDispatcher getReplyDispatcher() {
+		if (this.replyDispatcher == null) {
+			this.replyDispatcher = new JmsReplyDispatcher(obtainConnectionFactory());
+		}
+		return this.replyDispatcher;
+	}
+
+	/**
+	 * Close the shared reply consumer and the cached connection used to send requests, if
+	 * any.
+	 * @see #setSharedReplyConsumer(boolean)
+	 */
+	@Override
+	public void destroy() {
+		synchronized (this.sharedResourcesMonitor) {
+			if (this.replyDispatcher != null) {
+				this.replyDispatcher.destroy();
+				this.replyDispatcher = null;
+			}
+			if (this.requestConnectionFactory instanceof CachingConnectionFactory cachingConnectionFactory) {
+				cachingConnectionFactory.destroy();
+			}
+			this.requestConnectionFactory = null;
+		}
+	}
+
 	@Override
 	public boolean supports(URI uri, UriSource uriSource) {
 		if (!uri.getScheme().equals(JmsTransportConstants.JMS_URI_SCHEME)) {
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.jms;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.Session;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.jms.support.JmsUtils;
+
+/**
+ * Receives the replies of all requests sent by a {@link JmsMessageSender} on a single,
+ * long-lived temporary queue, and routes each of them to the caller waiting for it based
+ * on its {@code JMSCorrelationID}.
+ * <p>
+ * Uses a dedicated JMS {@link Connection} that is created on first use. If that
+ * connection fails, pending callers are notified and a new connection is created for the
+ * next request.
+ *
+ * @author Stephane Nicoll
+ */
+final class JmsReplyDispatcher implements MessageListener, ExceptionListener {
+
+	private static final Log logger = LogFactory.getLog(JmsReplyDispatcher.class);
+
+	private final ConnectionFactory connectionFactory;
+
+	private final Map<String, CompletableFuture<Message>> pendingReplies = new ConcurrentHashMap<>();
+
+	private final Object lifecycleMonitor = new Object();
+
+	private @Nullable Connection connection;
+
+	private @Nullable Session session;
+
+	private @Nullable Destination replyDestination;
+
+	JmsReplyDispatcher(ConnectionFactory connectionFactory) {
+		this.connectionFactory = connectionFactory;
+	}
+
+	/**
+	 * Return the destination replies should be sent to, starting to listen to it if
+	 * necessary.
+	 * @return the reply destination
+	 * @throws JMSException if the reply consumer could not be started
+	 */
+	Destination getReplyDestination() throws JMSException {
+		synchronized (this.lifecycleMonitor) {
+			Destination replyDestination = this.replyDestination;
+			if (replyDestination == null) {
+				replyDestination = start();
+			}
+			return replyDestination;
+		}
+	}
+
+	private Destination start() throws JMSException {
+		Connection connection = this.connectionFactory.createConnection();
+		try {
+			connection.setExceptionListener(this);
+			Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+			Destination replyDestination = session.createTemporaryQueue();
+			MessageConsumer consumer = session.createConsumer(replyDestination);
+			consumer.setMessageListener(this);
+			connection.start();
+			this.connection = connection;
+			this.session = session;
+			this.replyDestination = replyDestination;
+			return replyDestination;
+		}
+		catch (JMSException ex) {
+			JmsUtils.closeConnection(connection);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Register a caller waiting for the reply with the given correlation id. Must be
+	 * called before the request is sent.
+	 * @param correlationId the correlation id of the request
+	 * @return a future completed with the reply
+	 */
+	CompletableFuture<Message> register(String correlationId) {
+		CompletableFuture<Message> reply = new CompletableFuture<>();
+		this.pendingReplies.put(correlationId, reply);
+		return reply;
+	}
+
+	/**
+	 * Stop waiting for the reply with the given correlation id.
+	 * @param correlationId the correlation id of the request
+	 */
+	void unregister(String correlationId) {
+		this.pendingReplies.remove(correlationId);
+	}
+
+	@Override
+	public void onMessage(Message message) {
+		try {
+			String correlationId = message.getJMSCorrelationID();
+			CompletableFuture<Message> reply = (correlationId != null) ? this.pendingReplies.remove(correlationId)
+					: null;
+			if (reply != null) {
+				reply.complete(message);
+			}
+			else if (logger.isDebugEnabled()) {
+				logger.debug("Discarding reply with correlation id [" + correlationId + "]: no caller waiting");
+			}
+		}
+		catch (JMSException ex) {
+			logger.warn("Could not read correlation id of reply", ex);
+		}
+	}
+
+	@Override
+	public void onException(JMSException ex) {
+		logger.warn("Reply connection failed, will reconnect on next request", ex);
+		synchronized (this.lifecycleMonitor) {
+			close();
+		}
+		failPendingReplies(ex);
+	}
+
+	/**
+	 * Stop listening for replies and notify the callers that are still waiting.
+	 */
+	void destroy() {
+		synchronized (this.lifecycleMonitor) {
+			close();
+		}
+		failPendingReplies(new JMSException("Reply dispatcher has been shut down"));
+	}
+
+	private void close() {
+		JmsUtils.closeSession(this.session);
+		JmsUtils.closeConnection(this.connection, true);
+		this.connection = null;
+		this.session = null;
+		this.replyDestination = null;
+	}
+
+	private void failPendingReplies(JMSException ex) {
+		for (String correlationId : this.pendingReplies.keySet()) {
+			CompletableFuture<Message> reply = this.pendingReplies.remove(correlationId);
+			if (reply != null) {
+				reply.completeExceptionally(ex);
+			}
+		}
+	}
+
+}
@@ -18,10 +18,16 @@ package org.springframework.ws.transport.jms;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import jakarta.jms.BytesMessage;
 import jakarta.jms.Connection;
@@ -85,6 +91,12 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 
 	private boolean temporaryResponseQueueCreated = false;
 
+	private @Nullable JmsReplyDispatcher replyDispatcher;
+
+	private @Nullable String correlationId;
+
+	private @Nullable CompletableFuture<Message> pendingReply;
+
 	/** Constructs a new JMS connection with the given parameters. */
 	protected JmsSenderConnection(ConnectionFactory connectionFactory, Connection connection, Session session,
 			Destination requestDestination, Message requestMessage) throws JMSException {
@@ -152,6 +164,10 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 		this.sessionTransacted = sessionTransacted;
 	}
 
+	void setReplyDispatcher(@Nullable JmsReplyDispatcher replyDispatcher) {
+		this.replyDispatcher = replyDispatcher;
+	}
+
 	/*
 	 * URI
 	 */
@@ -212,19 +228,33 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 	@Override
 	protected void onSendAfterWrite(WebServiceMessage message) throws IOException {
 		MessageProducer messageProducer = null;
+		JmsReplyDispatcher replyDispatcher = null;
 		try {
 			messageProducer = this.session.createProducer(this.requestDestination);
 			messageProducer.setDeliveryMode(this.deliveryMode);
 			messageProducer.setTimeToLive(this.timeToLive);
 			messageProducer.setPriority(this.priority);
 			if (this.responseDestination == null) {
-				this.responseDestination = this.session.createTemporaryQueue();
-				this.temporaryResponseQueueCreated = true;
+				if (this.replyDispatcher != null) {
+					replyDispatcher = this.replyDispatcher;
+					this.responseDestination = replyDispatcher.getReplyDestination();
+					this.requestMessage.setJMSCorrelationID(UUID.randomUUID().toString());
+				}
+				else {
+					this.responseDestination = this.session.createTemporaryQueue();
+					this.temporaryResponseQueueCreated = true;
+				}
 			}
 			this.requestMessage.setJMSReplyTo(this.responseDestination);
 			if (this.postProcessor != null) {
 				this.requestMessage = this.postProcessor.postProcessMessage(this.requestMessage);
 			}
+			if (replyDispatcher != null) {
+				String correlationId = this.requestMessage.getJMSCorrelationID();
+				Assert.state(correlationId != null, "JMSCorrelationID is required to correlate the reply");
+				this.correlationId = correlationId;
+				this.pendingReply = replyDispatcher.register(correlationId);
+			}
 			this.connection.start();
 			messageProducer.send(this.requestMessage);
 			if (this.session.getTransacted() && isSessionLocallyTransacted(this.session)) {
@@ -232,6 +262,7 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 			}
 		}
 		catch (JMSException ex) {
+			cancelPendingReply();
 			throw new JmsTransportException(ex);
 		}
 		finally {
@@ -254,6 +285,10 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 
 	@Override
 	protected void onReceiveBeforeRead() throws IOException {
+		if (this.pendingReply != null) {
+			receivePendingReply(this.pendingReply);
+			return;
+		}
 		MessageConsumer messageConsumer = null;
 		try {
 			if (this.temporaryResponseQueueCreated) {
@@ -266,13 +301,7 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 			}
 			Message message = (this.receiveTimeout >= 0) ? messageConsumer.receive(this.receiveTimeout)
 					: messageConsumer.receive();
-			if (message instanceof BytesMessage || message instanceof TextMessage) {
-				this.responseMessage = message;
-			}
-			else if (message != null) {
-				throw new IllegalArgumentException("Wrong message type: [" + message.getClass() + "]. "
-						+ "Only BytesMessages or TextMessages can be handled.");
-			}
+			setResponseMessage(message);
 		}
 		catch (JMSException ex) {
 			throw new JmsTransportException(ex);
@@ -291,6 +320,47 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 		}
 	}
 
+	private void receivePendingReply(CompletableFuture<Message> pendingReply) throws IOException {
+		try {
+			Message message = (this.receiveTimeout > 0)
+					? pendingReply.get(this.receiveTimeout, TimeUnit.MILLISECONDS) : pendingReply.get();
+			setResponseMessage(message);
+		}
+		catch (TimeoutException ex) {
+			// no response, as when a consumer receive times out
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for reply");
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof JMSException jmsException) {
+				throw new JmsTransportException(jmsException);
+			}
+			throw new IOException("Could not receive reply", ex.getCause());
+		}
+		finally {
+			cancelPendingReply();
+		}
+	}
+
+	private void setResponseMessage(@Nullable Message message) {
+		if (message instanceof BytesMessage || message instanceof TextMessage) {
+			this.responseMessage = message;
+		}
+		else if (message != null) {
+			throw new IllegalArgumentException("Wrong message type: [" + message.getClass() + "]. "
+					+ "Only BytesMessages or TextMessages can be handled.");
+		}
+	}
+
+	private void cancelPendingReply() {
+		if (this.replyDispatcher != null && this.correlationId != null) {
+			this.replyDispatcher.unregister(this.correlationId);
+		}
+		this.pendingReply = null;
+	}
+
 	@Override
 	protected boolean hasResponse() throws IOException {
 		return this.responseMessage != null;
@@ -335,6 +405,7 @@ public class JmsSenderConnection extends AbstractSenderConnection {
 
 	@Override
 	protected void onClose() throws IOException {
+		cancelPendingReply();
 		JmsUtils.closeSession(this.session);
 		ConnectionFactoryUtils.releaseConnection(this.connection, this.connectionFactory, true);
 	}
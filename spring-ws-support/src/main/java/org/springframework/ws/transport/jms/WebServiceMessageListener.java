@@ -33,6 +33,13 @@ import org.springframework.ws.transport.WebServiceMessageReceiver;
  * {@link jakarta.jms.BytesMessage} into a {@link WebServiceMessage}, and passes that to
  * the {@link WebServiceMessageReceiver}
  * {@link #setMessageReceiver(WebServiceMessageReceiver) registered}.
+ * <p>
+ * Messages are handled on the thread of the listener container that invokes this
+ * listener, as the reply must be sent using the same JMS {@link Session}. Concurrency is
+ * therefore configured on the container: for instance, a
+ * {@link org.springframework.jms.listener.DefaultMessageListenerContainer} can be given a
+ * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} that uses virtual threads,
+ * with its maximum number of concurrent consumers acting as the concurrency limit.
  *
  * @author Arjen Poutsma
  * @since 1.5.0
@@ -28,6 +28,7 @@ import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 import org.springframework.ws.WebServiceMessageFactory;
@@ -51,6 +52,15 @@ import org.springframework.ws.transport.mail.support.MailTransportUtils;
  * {@link PollingMonitoringStrategy#setPollingInterval(long) pollingInterval} property of
  * the server-side message receiver polling strategy.
  * <p>
+ * Alternatively, when responses are retrieved from an IMAP server that supports the
+ * IDLE command, a {@linkplain #setUseImapIdle(boolean) shared reply watcher} can be
+ * used. Each response is then picked up as soon as it arrives, and the
+ * {@code receiveSleepTime} is the maximum amount of time to wait for it.
+ * <p>
+ * By default, a new connection to the mail server is established to send each request.
+ * Consider setting a {@linkplain #setTransportPoolSize(int) transport pool size} to
+ * reuse connections across requests.
+ * <p>
  * This message sender supports URI's of the following format: <blockquote>
  * {@code mailto:<to>[?param-name=param-value][&param-name=param-value]*} </blockquote>
  * where the characters {@code :}, {@code ?}, and {@code &} stand for themselves. The
@@ -83,7 +93,7 @@ import org.springframework.ws.transport.mail.support.MailTransportUtils;
  * @see <a href="http://www.ietf.org/rfc/rfc2368.txt">The mailto URL scheme</a>
  */
 public class MailMessageSender extends AbstractWebServiceMessageSender<MailDestinationDescriptor>
-		implements InitializingBean {
+		implements InitializingBean, DisposableBean {
 
 	/**
 	 * Default timeout for receive operations. Set to 1000 * 60 milliseconds (i.e. 1
@@ -101,6 +111,16 @@ public class MailMessageSender extends AbstractWebServiceMessageSender<MailDesti
 
 	private @Nullable InternetAddress from;
 
+	private boolean useImapIdle = false;
+
+	private int transportPoolSize = 0;
+
+	private final Object sharedResourcesMonitor = new Object();
+
+	private @Nullable MailTransportPool transportPool;
+
+	private @Nullable MailReplyWatcher replyWatcher;
+
 	public MailMessageSender() {
 		super((uri) -> uri.getScheme().equals(MailTransportConstants.MAIL_URI_SCHEME));
 	}
@@ -132,6 +152,39 @@ public class MailMessageSender extends AbstractWebServiceMessageSender<MailDesti
 		this.receiveSleepTime = receiveSleepTime;
 	}
 
+	/**
+	 * Set whether responses should be picked up by a single watcher shared by all
+	 * requests, that uses the IMAP IDLE command to be notified of new messages. Default
+	 * is {@code false}, sleeping for the {@link #setReceiveSleepTime(long)
+	 * receiveSleepTime} before searching the store for the response.
+	 * <p>
+	 * When enabled, the watcher keeps a dedicated connection to the
+	 * {@link #setStoreUri(String) store}, and completes the request as soon as a message
+	 * with a matching {@code In-Reply-To} header arrives. The {@code receiveSleepTime}
+	 * then is the maximum amount of time to wait for a response. The store must be an
+	 * IMAP server that supports the IDLE command.
+	 * @param useImapIdle whether to use the IMAP IDLE command to pick up responses
+	 * @since 5.1.0
+	 * @see org.springframework.ws.transport.mail.monitor.ImapIdleMonitoringStrategy
+	 */
+	public void setUseImapIdle(boolean useImapIdle) {
+		this.useImapIdle = useImapIdle;
+	}
+
+	/**
+	 * Set the maximum number of connected transports that are kept for reuse once a
+	 * request has been sent. Default is {@code 0}, connecting a new transport for each
+	 * request.
+	 * <p>
+	 * An idle transport is checked to still be connected before it is reused.
+	 * @param transportPoolSize the maximum number of idle transports to keep
+	 * @since 5.1.0
+	 */
+	public void setTransportPoolSize(int transportPoolSize) {
+		Assert.isTrue(transportPoolSize >= 0, "transportPoolSize must not be negative");
+		this.transportPoolSize = transportPoolSize;
+	}
+
 	/**
 	 * Set the JavaMail {@code Session}, possibly pulled from JNDI.
 	 * <p>
@@ -175,6 +228,11 @@ public class MailMessageSender extends AbstractWebServiceMessageSender<MailDesti
 	public void afterPropertiesSet() throws Exception {
 		Assert.notNull(this.transportUri, "'transportUri' is required");
 		Assert.notNull(this.storeUri, "'storeUri' is required");
+		if (this.useImapIdle) {
+			String protocol = this.storeUri.getProtocol();
+			Assert.isTrue("imap".equals(protocol) || "imaps".equals(protocol),
+					() -> "IMAP IDLE requires an IMAP store, not \"" + protocol + "\"");
+		}
 	}
 
 	@Override
@@ -185,6 +243,23 @@ public class MailMessageSender extends AbstractWebServiceMessageSender<MailDesti
 		Assert.notNull(to, "No TO address found for '" + uri + "'");
 		MailSenderConnection connection = new MailSenderConnection(this.session, this.transportUri, this.storeUri, to,
 				this.receiveSleepTime);
+		if (this.transportPoolSize > 0 || this.useImapIdle) {
+			synchronized (this.sharedResourcesMonitor) {
+				if (this.transportPoolSize > 0) {
+					if (this.transportPool == null) {
+						this.transportPool = new MailTransportPool(this.session, this.transportUri,
+								this.transportPoolSize);
+					}
+					connection.setTransportPool(this.transportPool);
+				}
+				if (this.useImapIdle) {
+					if (this.replyWatcher == null) {
+						this.replyWatcher = new MailReplyWatcher(this.session, this.storeUri);
+					}
+					connection.setReplyWatcher(this.replyWatcher);
+				}
+			}
+		}
 		if (this.from != null) {
 			connection.setFrom(this.from);
 		}
@@ -195,6 +270,25 @@ public class MailMessageSender extends AbstractWebServiceMessageSender<MailDesti
 		return connection;
 	}
 
+	/**
+	 * Close the shared reply watcher and the idle transports, if any.
+	 * @see #setUseImapIdle(boolean)
+	 * @see #setTransportPoolSize(int)
+	 */
+	@Override
+	public void destroy() {
+		synchronized (this.sharedResourcesMonitor) {
+			if (this.replyWatcher != null) {
+				this.replyWatcher.destroy();
+				this.replyWatcher = null;
+			}
+			if (this.transportPool != null) {
+				this.transportPool.destroy();
+				this.transportPool = null;
+			}
+		}
+	}
+
 	@Override
 	protected MailDestinationDescriptor createDescriptor(URI uri, UriSource uriSource) {
 		return MailDestinationDescriptor.of(uri, uriSource);
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.mail;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.mail.Folder;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Store;
+import jakarta.mail.URLName;
+import jakarta.mail.event.MessageCountAdapter;
+import jakarta.mail.event.MessageCountEvent;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.search.HeaderTerm;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.eclipse.angus.mail.imap.IMAPFolder;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ws.transport.mail.support.MailTransportUtils;
+
+/**
+ * Watches an IMAP folder for the replies of all requests sent by a
+ * {@link MailMessageSender}, and routes each of them to the caller waiting for it based
+ * on its {@code In-Reply-To} header.
+ * <p>
+ * Uses the IMAP IDLE command on a dedicated store connection, so that a reply is picked
+ * up as soon as it arrives. The watcher thread is started on first use. If the connection
+ * fails, pending callers are notified and a new watcher is started for the next request.
+ *
+ * @author Stephane Nicoll
+ * @see org.springframework.ws.transport.mail.monitor.ImapIdleMonitoringStrategy
+ */
+final class MailReplyWatcher {
+
+	private static final Log logger = LogFactory.getLog(MailReplyWatcher.class);
+
+	private final Session session;
+
+	private final URLName storeUri;
+
+	private final Map<String, CompletableFuture<Message>> pendingReplies = new ConcurrentHashMap<>();
+
+	private final Object lifecycleMonitor = new Object();
+
+	private volatile @Nullable Thread watcher;
+
+	private volatile @Nullable Store store;
+
+	MailReplyWatcher(Session session, URLName storeUri) {
+		this.session = session;
+		this.storeUri = storeUri;
+	}
+
+	/**
+	 * Register a caller waiting for the reply to the request with the given message id,
+	 * starting to watch the folder if necessary. Must be called before the request is
+	 * sent.
+	 * @param messageId the {@code Message-ID} of the request
+	 * @return a future completed with the reply
+	 */
+	CompletableFuture<Message> register(String messageId) {
+		CompletableFuture<Message> reply = new CompletableFuture<>();
+		synchronized (this.lifecycleMonitor) {
+			this.pendingReplies.put(messageId, reply);
+			if (this.watcher == null) {
+				Thread watcher = new Thread(this::watch, "mail-reply-watcher");
+				watcher.setDaemon(true);
+				this.watcher = watcher;
+				watcher.start();
+			}
+		}
+		return reply;
+	}
+
+	/**
+	 * Stop waiting for the reply to the request with the given message id.
+	 * @param messageId the {@code Message-ID} of the request
+	 */
+	void unregister(String messageId) {
+		this.pendingReplies.remove(messageId);
+	}
+
+	private boolean isWatching() {
+		return this.watcher == Thread.currentThread();
+	}
+
+	private void watch() {
+		Store store = null;
+		Folder folder = null;
+		try {
+			store = this.session.getStore(this.storeUri);
+			this.store = store;
+			if (logger.isDebugEnabled()) {
+				logger.debug("Watching for replies in [" + MailTransportUtils.toPasswordProtectedString(this.storeUri)
+						+ "]");
+			}
+			store.connect();
+			folder = store.getFolder(this.storeUri);
+			if (!(folder instanceof IMAPFolder imapFolder) || !folder.exists()) {
+				throw new IllegalStateException("No IMAP folder to watch for replies");
+			}
+			folder.open(Folder.READ_ONLY);
+			folder.addMessageCountListener(new MessageCountAdapter() {
+				@Override
+				public void messagesAdded(MessageCountEvent event) {
+					// reading the headers will return the flow to the idle call, below
+					dispatch(event.getMessages());
+				}
+			});
+			// retrieve replies that arrived before the folder was opened
+			for (String messageId : this.pendingReplies.keySet()) {
+				dispatch(folder.search(new HeaderTerm(MailTransportConstants.HEADER_IN_REPLY_TO, messageId)));
+			}
+			while (isWatching()) {
+				imapFolder.idle();
+			}
+		}
+		catch (MessagingException | RuntimeException ex) {
+			if (isWatching()) {
+				logger.warn("Could not watch for replies, will reconnect on next request", ex);
+				synchronized (this.lifecycleMonitor) {
+					this.watcher = null;
+					failPendingReplies(ex);
+				}
+			}
+		}
+		finally {
+			MailTransportUtils.closeFolder(folder, false);
+			MailTransportUtils.closeService(store);
+		}
+	}
+
+	private void dispatch(Message[] messages) {
+		for (Message message : messages) {
+			try {
+				String[] inReplyTo = message.getHeader(MailTransportConstants.HEADER_IN_REPLY_TO);
+				if (inReplyTo == null) {
+					continue;
+				}
+				for (String messageId : inReplyTo) {
+					CompletableFuture<Message> reply = this.pendingReplies.remove(messageId.trim());
+					if (reply != null) {
+						// detach the reply from the folder, which is used by this watcher only
+						reply.complete((message instanceof MimeMessage mimeMessage) ? new MimeMessage(mimeMessage)
+								: message);
+					}
+					else if (logger.isDebugEnabled()) {
+						logger.debug("Ignoring reply to [" + messageId + "]: no caller waiting");
+					}
+				}
+			}
+			catch (MessagingException ex) {
+				logger.warn("Could not read reply", ex);
+			}
+		}
+	}
+
+	/**
+	 * Stop watching for replies and notify the callers that are still waiting.
+	 */
+	void destroy() {
+		synchronized (this.lifecycleMonitor) {
+			this.watcher = null;
+			failPendingReplies(new IllegalStateException("Reply watcher has been shut down"));
+		}
+		// aborts the idle call, if any
+		MailTransportUtils.closeService(this.store);
+	}
+
+	private void failPendingReplies(Exception ex) {
+		for (String messageId : this.pendingReplies.keySet()) {
+			CompletableFuture<Message> reply = this.pendingReplies.remove(messageId);
+			if (reply != null) {
+				reply.completeExceptionally(ex);
+			}
+		}
+	}
+
+}
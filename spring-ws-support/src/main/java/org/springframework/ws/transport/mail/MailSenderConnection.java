@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -29,6 +30,10 @@ import java.util.Date;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
@@ -97,6 +102,14 @@ public class MailSenderConnection extends AbstractSenderConnection {
 
 	private @Nullable Folder folder;
 
+	private @Nullable MailTransportPool transportPool;
+
+	private @Nullable MailReplyWatcher replyWatcher;
+
+	private @Nullable String requestMessageId;
+
+	private @Nullable CompletableFuture<Message> pendingReply;
+
 	/** Constructs a new Mail connection with the given parameters. */
 	protected MailSenderConnection(Session session, URLName transportUri, URLName storeUri, InternetAddress to,
 			long receiveTimeout) {
@@ -135,6 +148,14 @@ public class MailSenderConnection extends AbstractSenderConnection {
 		this.subject = subject;
 	}
 
+	void setTransportPool(@Nullable MailTransportPool transportPool) {
+		this.transportPool = transportPool;
+	}
+
+	void setReplyWatcher(@Nullable MailReplyWatcher replyWatcher) {
+		this.replyWatcher = replyWatcher;
+	}
+
 	/*
 	 * URI
 	 */
@@ -189,30 +210,54 @@ public class MailSenderConnection extends AbstractSenderConnection {
 		Assert.state(this.requestMessage != null, "onSendBeforeWrite has not been called");
 		Assert.state(this.requestBuffer != null, "onSendBeforeWrite has not been called");
 		Transport transport = null;
+		boolean sent = false;
 		try {
 			this.requestMessage.setDataHandler(new DataHandler(
 					new ByteArrayDataSource(this.requestBuffer.toByteArray(), this.requestContentType)));
-			transport = this.session.getTransport(this.transportUri);
-			transport.connect();
+			transport = (this.transportPool != null) ? this.transportPool.getTransport() : connectTransport();
 			this.requestMessage.saveChanges();
+			if (this.replyWatcher != null) {
+				String requestMessageId = this.requestMessage.getMessageID();
+				Assert.hasLength(requestMessageId,
+						"No Message-ID found on request message [" + this.requestMessage + "]");
+				this.requestMessageId = requestMessageId;
+				this.pendingReply = this.replyWatcher.register(requestMessageId);
+			}
 			transport.sendMessage(this.requestMessage, this.requestMessage.getAllRecipients());
+			sent = true;
 		}
 		catch (MessagingException ex) {
+			cancelPendingReply();
 			throw new MailTransportException(ex);
 		}
 		finally {
 			if (transport != null) {
-				MailTransportUtils.closeService(transport);
+				if (sent && this.transportPool != null) {
+					this.transportPool.release(transport);
+				}
+				else {
+					MailTransportUtils.closeService(transport);
+				}
 			}
 		}
 	}
 
+	private Transport connectTransport() throws MessagingException {
+		Transport transport = this.session.getTransport(this.transportUri);
+		transport.connect();
+		return transport;
+	}
+
 	/*
 	 * Receiving
 	 */
 
 	@Override
 	protected void onReceiveBeforeRead() throws IOException {
+		if (this.pendingReply != null) {
+			receivePendingReply(this.pendingReply);
+			return;
+		}
 		Assert.state(this.requestMessage != null, "onSendBeforeWrite has not been called");
 		try {
 			String requestMessageId = this.requestMessage.getMessageID();
@@ -242,6 +287,36 @@ public class MailSenderConnection extends AbstractSenderConnection {
 		}
 	}
 
+	private void receivePendingReply(CompletableFuture<Message> pendingReply) throws IOException {
+		try {
+			this.responseMessage = (this.receiveTimeout > 0)
+					? pendingReply.get(this.receiveTimeout, TimeUnit.MILLISECONDS) : pendingReply.get();
+		}
+		catch (TimeoutException ex) {
+			// no response, as when no reply is found after sleeping
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for reply");
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof MessagingException messagingException) {
+				throw new MailTransportException(messagingException);
+			}
+			throw new IOException("Could not receive reply", ex.getCause());
+		}
+		finally {
+			cancelPendingReply();
+		}
+	}
+
+	private void cancelPendingReply() {
+		if (this.replyWatcher != null && this.requestMessageId != null) {
+			this.replyWatcher.unregister(this.requestMessageId);
+		}
+		this.pendingReply = null;
+	}
+
 	private Folder openFolder() throws MessagingException {
 		this.store = this.session.getStore(this.storeUri);
 		this.store.connect();
@@ -313,6 +388,7 @@ public class MailSenderConnection extends AbstractSenderConnection {
 
 	@Override
 	public void onClose() throws IOException {
+		cancelPendingReply();
 		if (this.folder != null) {
 			MailTransportUtils.closeFolder(this.folder, this.deleteAfterReceive);
 		}
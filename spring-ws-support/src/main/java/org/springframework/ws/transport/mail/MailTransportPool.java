@@ -0,0 +1,110 @@
+/*
+ * Copyright 2005-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ws.transport.mail;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.URLName;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ws.transport.mail.support.MailTransportUtils;
+
+/**
+ * Keeps connected JavaMail {@link Transport transports} for reuse across requests, so
+ * that a connection does not have to be established for each message.
+ * <p>
+ * An idle transport is checked with {@link Transport#isConnected()} before it is reused,
+ * which for SMTP issues a {@code NOOP} command. Transports that have been closed by the
+ * server are discarded, and a new one is connected instead.
+ *
+ * @author Stephane Nicoll
+ */
+final class MailTransportPool {
+
+	private final Session session;
+
+	private final URLName transportUri;
+
+	private final int maxIdleTransports;
+
+	private final Deque<Transport> idleTransports = new ArrayDeque<>();
+
+	private boolean destroyed;
+
+	MailTransportPool(Session session, URLName transportUri, int maxIdleTransports) {
+		this.session = session;
+		this.transportUri = transportUri;
+		this.maxIdleTransports = maxIdleTransports;
+	}
+
+	/**
+	 * Return a connected transport, either an idle one or a new one.
+	 * @return a connected transport
+	 * @throws MessagingException if a new transport could not be connected
+	 */
+	Transport getTransport() throws MessagingException {
+		Transport transport = pollIdleTransport();
+		while (transport != null) {
+			if (transport.isConnected()) {
+				return transport;
+			}
+			MailTransportUtils.closeService(transport);
+			transport = pollIdleTransport();
+		}
+		transport = this.session.getTransport(this.transportUri);
+		transport.connect();
+		return transport;
+	}
+
+	private synchronized @Nullable Transport pollIdleTransport() {
+		return this.idleTransports.pollFirst();
+	}
+
+	/**
+	 * Give back a transport that has been used successfully, closing it if the pool is
+	 * full.
+	 * @param transport the transport to release
+	 */
+	void release(Transport transport) {
+		synchronized (this) {
+			if (!this.destroyed && this.idleTransports.size() < this.maxIdleTransports) {
+				this.idleTransports.addFirst(transport);
+				return;
+			}
+		}
+		MailTransportUtils.closeService(transport);
+	}
+
+	/**
+	 * Close all idle transports.
+	 */
+	void destroy() {
+		Transport[] transports;
+		synchronized (this) {
+			this.destroyed = true;
+			transports = this.idleTransports.toArray(new Transport[0]);
+			this.idleTransports.clear();
+		}
+		for (Transport transport : transports) {
+			MailTransportUtils.closeService(transport);
+		}
+	}
+
+}
@@ -28,6 +28,7 @@ import org.jivesoftware.smack.packet.Stanza;
 import org.jivesoftware.smack.tcp.XMPPTCPConnection;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.ws.transport.support.AbstractStandaloneMessageReceiver;
 
@@ -38,6 +39,10 @@ import org.springframework.ws.transport.support.AbstractStandaloneMessageReceive
  * messageFactory} and
  * {@link #setMessageReceiver(org.springframework.ws.transport.WebServiceMessageReceiver)
  * messageReceiver} required by the base class.
+ * <p>
+ * Incoming messages are handled on the thread of the XMPP connection, in the order they
+ * are received. A {@linkplain #setTaskExecutor(TaskExecutor) task executor} can be set to
+ * handle them asynchronously instead.
  *
  * @author Gildas Cuisinier
  * @author Arjen Poutsma
@@ -59,6 +64,8 @@ public class XmppMessageReceiver extends AbstractStandaloneMessageReceiver {
 
 	private final String messageEncoding = DEFAULT_MESSAGE_ENCODING;
 
+	private @Nullable TaskExecutor taskExecutor;
+
 	public XmppMessageReceiver() {
 	}
 
@@ -67,6 +74,23 @@ public class XmppMessageReceiver extends AbstractStandaloneMessageReceiver {
 		this.connection = connection;
 	}
 
+	/**
+	 * Set the {@link TaskExecutor} to use for handling incoming messages. By default,
+	 * messages are handled synchronously on the thread of the XMPP connection.
+	 * <p>
+	 * Note that an asynchronous executor does not preserve the order of messages. To
+	 * bound the number of messages handled concurrently, use an executor with a
+	 * concurrency limit, such as a
+	 * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} configured with
+	 * {@link org.springframework.core.task.SimpleAsyncTaskExecutor#setConcurrencyLimit(int)}.
+	 * @param taskExecutor the task executor to use, or {@code null} to handle messages
+	 * synchronously
+	 * @since 5.1.0
+	 */
+	public void setTaskExecutor(@Nullable TaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
 	private XMPPTCPConnection getConnection() {
 		Assert.state(this.connection != null, "Connection is required");
 		return this.connection;
@@ -119,17 +143,27 @@ public class XmppMessageReceiver extends AbstractStandaloneMessageReceiver {
 		public void processStanza(Stanza packet) {
 			XmppMessageReceiver.this.logger.info("Received " + packet);
 			if (packet instanceof Message message) {
-				try {
-					XmppReceiverConnection wsConnection = new XmppReceiverConnection(getConnection(), message);
-					wsConnection.setMessageEncoding(XmppMessageReceiver.this.messageEncoding);
-					handleConnection(wsConnection);
+				TaskExecutor taskExecutor = XmppMessageReceiver.this.taskExecutor;
+				if (taskExecutor != null) {
+					taskExecutor.execute(() -> handleMessage(message));
 				}
-				catch (Exception ex) {
-					XmppMessageReceiver.this.logger.error(ex);
+				else {
+					handleMessage(message);
 				}
 			}
 		}
 
+		private void handleMessage(Message message) {
+			try {
+				XmppReceiverConnection wsConnection = new XmppReceiverConnection(getConnection(), message);
+				wsConnection.setMessageEncoding(XmppMessageReceiver.this.messageEncoding);
+				handleConnection(wsConnection);
+			}
+			catch (Exception ex) {
+				XmppMessageReceiver.this.logger.error(ex);
+			}
+		}
+
 	}
 
 }
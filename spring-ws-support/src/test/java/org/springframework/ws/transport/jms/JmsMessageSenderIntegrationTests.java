@@ -21,9 +21,12 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.jms.BytesMessage;
 import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.QueueBrowser;
@@ -140,6 +143,39 @@ class JmsMessageSenderIntegrationTests {
 		}
 	}
 
+	@Test
+	void sendAndReceiveWithSharedReplyConsumer() throws Exception {
+		JmsMessageSender sharedMessageSender = new JmsMessageSender(this.connectionFactory);
+		sharedMessageSender.setReceiveTimeout(Duration.ofSeconds(5).toMillis());
+		sharedMessageSender.setSharedReplyConsumer(true);
+		List<Destination> replyDestinations = new CopyOnWriteArrayList<>();
+		this.testJmsListener.handleMessage((message) -> {
+			assertThat(message.getJMSCorrelationID()).isNotNull();
+			replyDestinations.add(message.getJMSReplyTo());
+			return createEmptySoapMessage();
+		});
+		try {
+			URI uri = new URI("jms:SenderRequestQueue?deliveryMode=NON_PERSISTENT");
+			for (int i = 0; i < 3; i++) {
+				try (WebServiceConnection connection = sharedMessageSender.createConnection(uri)) {
+					SoapMessage soapRequest = new SaajSoapMessage(messageFactory.createMessage());
+					soapRequest.setSoapAction(SOAP_ACTION);
+					connection.send(soapRequest);
+
+					SoapMessage response = (SoapMessage) connection
+						.receive(new SaajSoapMessageFactory(messageFactory));
+					assertThat(response).isNotNull();
+					assertThat(response.getSoapAction()).isEqualTo(SOAP_ACTION);
+				}
+			}
+			assertThat(replyDestinations).hasSize(3);
+			assertThat(replyDestinations).containsOnly(replyDestinations.get(0));
+		}
+		finally {
+			sharedMessageSender.destroy();
+		}
+	}
+
 	@Test
 	void testSendNoResponse() throws Exception {
 		URI uri = new URI("jms:SenderRequestQueue?deliveryMode=NON_PERSISTENT");
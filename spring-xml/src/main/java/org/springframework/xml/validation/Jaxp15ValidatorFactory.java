@@ -19,9 +19,14 @@ package org.springframework.xml.validation;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.Source;
+import javax.xml.transform.stax.StAXSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.Validator;
 
@@ -34,10 +39,16 @@ import org.xml.sax.SAXNotSupportedException;
 import org.xml.sax.SAXParseException;
 
 import org.springframework.core.io.Resource;
+import org.springframework.util.xml.StaxUtils;
 
 /**
  * Internal class that uses JAXP 1.5 features to create an {@code XmlValidator} with
  * settings to prevent external entity access.
+ * <p>
+ * The created {@code XmlValidator} keeps a bounded pool of JAXP {@link Validator}
+ * instances, which are {@link Validator#reset() reset} after use, rather than creating a
+ * new one for each validation. StAX sources are validated by pulling events from their
+ * {@link XMLStreamReader} directly.
  *
  * @author Arjen Poutsma
  * @author Greg Turnquist
@@ -59,8 +70,12 @@ abstract class Jaxp15ValidatorFactory {
 
 	private static final class Jaxp15Validator implements XmlValidator {
 
+		private static final int MAX_POOLED_VALIDATORS = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+
 		private final Schema schema;
 
+		private final Queue<Validator> validators = new ArrayBlockingQueue<>(MAX_POOLED_VALIDATORS);
+
 		Jaxp15Validator(Schema schema) {
 			this.schema = schema;
 		}
@@ -76,36 +91,70 @@ abstract class Jaxp15ValidatorFactory {
 			if (errorHandler == null) {
 				errorHandler = new DefaultValidationErrorHandler();
 			}
-			Validator validator = this.schema.newValidator();
-
+			Validator validator = obtainValidator();
+			boolean reusable = false;
+			validator.setErrorHandler(errorHandler);
 			try {
-				validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+				validator.validate(getValidationSource(source));
+				reusable = true;
+				return errorHandler.getErrors();
 			}
-			catch (SAXNotRecognizedException | SAXNotSupportedException ex) {
-				if (log.isWarnEnabled()) {
-					log.warn(XMLConstants.ACCESS_EXTERNAL_DTD + " property not supported by "
-							+ validator.getClass().getCanonicalName());
+			catch (SAXException ex) {
+				throw new XmlValidationException("Could not validate source: " + ex.getMessage(), ex);
+			}
+			finally {
+				if (reusable) {
+					releaseValidator(validator);
 				}
 			}
+		}
+
+		private Validator obtainValidator() {
+			Validator validator = this.validators.poll();
+			if (validator == null) {
+				validator = this.schema.newValidator();
+				setSecureProperties(validator, true);
+			}
+			return validator;
+		}
 
+		private void releaseValidator(Validator validator) {
+			// restore the configuration of a new validator, without the error handler
+			validator.reset();
+			setSecureProperties(validator, false);
+			this.validators.offer(validator);
+		}
+
+		private static void setSecureProperties(Validator validator, boolean logUnsupported) {
+			setProperty(validator, XMLConstants.ACCESS_EXTERNAL_DTD, logUnsupported);
+			setProperty(validator, XMLConstants.ACCESS_EXTERNAL_SCHEMA, logUnsupported);
+		}
+
+		private static void setProperty(Validator validator, String name, boolean logUnsupported) {
 			try {
-				validator.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+				validator.setProperty(name, "");
 			}
 			catch (SAXNotRecognizedException | SAXNotSupportedException ex) {
-				if (log.isWarnEnabled()) {
-					log.warn(XMLConstants.ACCESS_EXTERNAL_SCHEMA + " property not supported by "
-							+ validator.getClass().getCanonicalName());
+				if (logUnsupported && log.isWarnEnabled()) {
+					log.warn(name + " property not supported by " + validator.getClass().getCanonicalName());
 				}
 			}
+		}
 
-			validator.setErrorHandler(errorHandler);
-			try {
-				validator.validate(source);
-				return errorHandler.getErrors();
-			}
-			catch (SAXException ex) {
-				throw new XmlValidationException("Could not validate source: " + ex.getMessage(), ex);
+		/**
+		 * Return a {@link StAXSource} for the stream reader of the given StAX source, so
+		 * that the validator pulls events from it rather than having them converted to
+		 * SAX events first.
+		 */
+		private static Source getValidationSource(Source source) {
+			if (StaxUtils.isStaxSource(source) && !(source instanceof StAXSource)) {
+				XMLStreamReader streamReader = StaxUtils.getXMLStreamReader(source);
+				if (streamReader != null && (streamReader.getEventType() == XMLStreamConstants.START_DOCUMENT
+						|| streamReader.getEventType() == XMLStreamConstants.START_ELEMENT)) {
+					return new StAXSource(streamReader);
+				}
 			}
+			return source;
 		}
 
 	}
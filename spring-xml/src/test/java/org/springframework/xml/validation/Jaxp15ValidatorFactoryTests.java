@@ -17,8 +17,20 @@
 package org.springframework.xml.validation;
 
 import java.io.IOException;
+import java.io.InputStream;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXParseException;
+
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.xml.StaxUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 class Jaxp15ValidatorFactoryTests extends AbstractValidatorFactoryTests {
 
@@ -27,4 +39,42 @@ class Jaxp15ValidatorFactoryTests extends AbstractValidatorFactoryTests {
 		return Jaxp15ValidatorFactory.createValidator(schemaResources, schemaLanguage);
 	}
 
+	@Test
+	void validateWithReusedValidator() throws Exception {
+		XmlValidator validator = createSchemaValidator();
+		for (int i = 0; i < 3; i++) {
+			try (InputStream invalid = getClass().getResourceAsStream("invalidDocument.xml")) {
+				assertThat(validator.validate(new StreamSource(invalid))).hasSize(3);
+			}
+			try (InputStream valid = getClass().getResourceAsStream("validDocument.xml")) {
+				assertThat(validator.validate(new StreamSource(valid))).isEmpty();
+			}
+		}
+	}
+
+	@Test
+	void validateValidStaxSource() throws Exception {
+		XmlValidator validator = createSchemaValidator();
+		try (InputStream valid = getClass().getResourceAsStream("validDocument.xml")) {
+			XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(valid);
+			SAXParseException[] errors = validator.validate(StaxUtils.createCustomStaxSource(streamReader));
+			assertThat(errors).isEmpty();
+		}
+	}
+
+	@Test
+	void validateInvalidStaxSource() throws Exception {
+		XmlValidator validator = createSchemaValidator();
+		try (InputStream invalid = getClass().getResourceAsStream("invalidDocument.xml")) {
+			XMLStreamReader streamReader = XMLInputFactory.newInstance().createXMLStreamReader(invalid);
+			SAXParseException[] errors = validator.validate(StaxUtils.createCustomStaxSource(streamReader));
+			assertThat(errors).isNotEmpty();
+		}
+	}
+
+	private XmlValidator createSchemaValidator() throws IOException {
+		return createValidator(new Resource[] { new ClassPathResource("schema.xsd", getClass()) },
+				XmlValidatorFactory.SCHEMA_W3C_XML);
+	}
+
 }